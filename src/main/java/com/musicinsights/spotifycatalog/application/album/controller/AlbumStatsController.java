@@ -4,16 +4,32 @@ import com.musicinsights.spotifycatalog.application.album.dto.response.*;
 import com.musicinsights.spotifycatalog.application.album.service.AlbumStatsService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /**
  * 앨범 통계/아티스트 앨범 목록 조회 REST 컨트롤러.
  *
  * <p>쿼리 파라미터 검증을 위해 {@link Validated}를 사용하며,
  * 서비스로 요청을 위임한다.</p>
+ *
+ * <p>통계/앨범 목록 조회는 카탈로그 버전과 요청 파라미터로 ETag를 만들고,
+ * {@code If-None-Match}가 일치하면 서비스 호출 없이 304를 반환한다.
+ * 응답에는 CDN이 재검증 전까지 보관할 수 있도록 {@code Cache-Control: s-maxage}를 붙인다.</p>
  */
 @RestController
 @RequestMapping("/api/album")
@@ -21,8 +37,17 @@ import reactor.core.publisher.Mono;
 public class AlbumStatsController {
     private final AlbumStatsService service;
 
-    public AlbumStatsController(AlbumStatsService service) {
+    /** 통계 응답 Cache-Control (브라우저는 매번 재검증, 공유 캐시는 s-maxage 동안 보관) */
+    private final CacheControl cacheControl;
+
+    public AlbumStatsController(
+            AlbumStatsService service,
+            @Value("${catalog.http-cache-s-maxage-seconds:60}") long sMaxAgeSeconds
+    ) {
         this.service = service;
+        this.cacheControl = CacheControl.maxAge(Duration.ZERO)
+                .sMaxAge(Duration.ofSeconds(sMaxAgeSeconds))
+                .cachePublic();
     }
 
     /**
@@ -31,15 +56,24 @@ public class AlbumStatsController {
      * @param year   조회 연도(없으면 전체)
      * @param cursor keyset pagination 커서
      * @param size   페이지 크기(기본 20)
-     * @return 통계 결과
+     * @param includeName 항목에 artistName을 포함할지 여부(기본 true).
+     *                    false면 artist JOIN 없이 조회하고 JSON에서도 뺀다. (artistId/albumCount는 항상 포함)
+     * @param exchange 조건부 요청(If-None-Match) 확인용
+     * @return 통계 결과 (ETag 일치 시 304)
      */
     @GetMapping("/stats/artist")
-    public Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> getArtistAlbumStats(
+    public Mono<ResponseEntity<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse>> getArtistAlbumStats(
             @RequestParam(required = false) @Min(1900) @Max(2100) Integer year,
             @RequestParam(required = false) String cursor,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size,
+            @RequestParam(defaultValue = "true") boolean includeName,
+            ServerWebExchange exchange
     ) {
-        return service.getArtistAlbumStats(year, cursor, size);
+        return conditional(
+                exchange,
+                etag(includeName ? "stats" : "stats-without-name", null, year, cursor, size),
+                () -> service.getArtistAlbumStats(year, cursor, size, includeName)
+        );
     }
 
 
@@ -50,17 +84,145 @@ public class AlbumStatsController {
      * @param year     조회 연도(없으면 전체)
      * @param cursor   keyset pagination 커서
      * @param size     페이지 크기(기본 20)
-     * @return 아티스트 앨범 목록 결과
+     * @param exchange 조건부 요청(If-None-Match) 확인용
+     * @return 아티스트 앨범 목록 결과 (ETag 일치 시 304)
      */
     @GetMapping("/stats/artist/{artistId}")
-    public Mono<ArtistAlbumsResponse.ArtistAlbumsResultResponse> getArtistAlbums(
+    public Mono<ResponseEntity<ArtistAlbumsResponse.ArtistAlbumsResultResponse>> getArtistAlbums(
             @PathVariable @Positive Long artistId,
             @RequestParam(required = false) @Min(1900) @Max(2100) Integer year,
             @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size,
+            ServerWebExchange exchange
+    ) {
+        return conditional(
+                exchange,
+                etag("albums", artistId, year, cursor, size),
+                () -> service.getArtistAlbums(artistId, year, cursor, size)
+        );
+    }
+
+    /**
+     * 여러 아티스트의 앨범 목록 첫 페이지를 한 번에 조회한다. (아티스트 비교 화면용)
+     *
+     * @param artistIds 아티스트 ID 목록(최대 50개)
+     * @param year      조회 연도(없으면 전체)
+     * @param size      아티스트별 페이지 크기(기본 20)
+     * @return 아티스트별 첫 페이지와 존재하지 않는 아티스트 ID
+     */
+    @GetMapping("/stats/artist/albums")
+    public Mono<ArtistAlbumsResponse.ArtistAlbumsBatchResultResponse> getArtistAlbumsBatch(
+            @RequestParam @NotEmpty @Size(max = 50) List<@Positive Long> artistIds,
+            @RequestParam(required = false) @Min(1900) @Max(2100) Integer year,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size
+    ) {
+        return service.getArtistAlbumsBatch(artistIds, year, size);
+    }
+
+    /**
+     * 아티스트별 앨범 수 순위의 임의 페이지를 조회한다.
+     *
+     * @param year 조회 연도(없으면 전체)
+     * @param page 페이지 번호(1부터)
+     * @param size 페이지 크기(기본 20)
+     * @return 해당 페이지 순위 목록
+     */
+    @GetMapping("/stats/artist/ranking")
+    public Mono<ArtistRankResponse.ArtistRankPageResponse> getArtistRankPage(
+            @RequestParam(required = false) @Min(1900) @Max(2100) Integer year,
+            @RequestParam(defaultValue = "1") @Min(1) @Max(10_000_000) long page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size
     ) {
-        return service.getArtistAlbums(artistId, year, cursor, size);
+        return service.getArtistRankPage(year, page, size);
     }
 
+    /**
+     * 특정 아티스트의 전체/연도별 순위를 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 전체 및 연도별 순위
+     */
+    @GetMapping("/stats/artist/{artistId}/ranks")
+    public Mono<ArtistRankResponse.ArtistRanksResponse> getArtistRanks(
+            @PathVariable @Positive Long artistId
+    ) {
+        return service.getArtistRanks(artistId);
+    }
 
+    /**
+     * 특정 아티스트의 연도별 앨범 수 이력을 조회한다. (추이 차트용)
+     *
+     * @param artistId 아티스트 ID
+     * @return 연도별 앨범 수 이력
+     */
+    @GetMapping("/stats/artist/{artistId}/years")
+    public Mono<ArtistYearHistoryResponse.ArtistYearHistoryResultResponse> getArtistYearHistory(
+            @PathVariable @Positive Long artistId
+    ) {
+        return service.getArtistYearHistory(artistId);
+    }
+
+    /**
+     * 앨범 상세(메타데이터, 수록 트랙, 트랙 아티스트, 오디오 특성)를 조회한다. (가사 제외)
+     *
+     * @param albumId  앨범 ID
+     * @param exchange 조건부 요청(If-None-Match) 확인용
+     * @return 앨범 상세 (ETag 일치 시 304)
+     */
+    @GetMapping("/{albumId}")
+    public Mono<ResponseEntity<AlbumDetailResponse.AlbumDetailResultResponse>> getAlbumDetail(
+            @PathVariable @Positive Long albumId,
+            ServerWebExchange exchange
+    ) {
+        return conditional(
+                exchange,
+                etag("album", albumId, null, null, 0),
+                () -> service.getAlbumDetail(albumId)
+        );
+    }
+
+    /**
+     * 카탈로그 버전과 요청 파라미터로 ETag를 만든다.
+     *
+     * <p>버전은 응답 캐시가 쓰는 버전({@link AlbumStatsService#catalogVersion()})이다.
+     * 응답 캐시는 스냅샷/읽기 모델이 새 집계를 읽은 뒤에만 버전을 올리므로, 이 버전을 본 요청의 본문은
+     * 항상 그 버전 이상의 데이터로 만들어진다. 본문보다 먼저 읽으므로 ETag가 본문보다 새 버전을 가리키는 일은 없다.
+     * (본문 조회 중 버전이 오르면 ETag가 더 낮아 다음 요청이 200으로 새 본문을 받는다)</p>
+     *
+     * @return ETag 값, 아직 카탈로그 버전이 없으면 null (조건부 응답 생략)
+     */
+    private String etag(String endpoint, Long id, Integer year, String cursor, int size) {
+        long version = service.catalogVersion();
+        if (version <= 0) return null;
+
+        int params = Objects.hash(endpoint, id, year, cursor, size);
+        return "\"" + version + "-" + Integer.toHexString(params) + "\"";
+    }
+
+    /**
+     * If-None-Match가 ETag와 일치하면 서비스 호출 없이 304를, 아니면 ETag/Cache-Control과 함께 본문을 반환한다.
+     *
+     * @param exchange 현재 요청
+     * @param etag     ETag (null이면 조건부 처리 없이 본문만 반환)
+     * @param body     본문 조회 (304이면 호출하지 않음)
+     */
+    private <T> Mono<ResponseEntity<T>> conditional(
+            ServerWebExchange exchange,
+            String etag,
+            Supplier<Mono<T>> body
+    ) {
+        if (etag == null) {
+            return body.get().map(ResponseEntity::ok);
+        }
+        if (exchange.checkNotModified(etag)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build());
+        }
+        return body.get().map(b -> ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(b));
+    }
 }
@@ -0,0 +1,68 @@
+package com.musicinsights.spotifycatalog.application.album.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 앨범 상세(트랙/아티스트/오디오 특성) 조회 API 응답 DTO 모음.
+ *
+ * <p>가사(track_lyrics)는 포함하지 않는다.</p>
+ */
+public class AlbumDetailResponse {
+
+    /**
+     * 앨범 상세 조회 결과.
+     *
+     * @param albumId     앨범 ID
+     * @param albumName   앨범명
+     * @param releaseDate 발매일(없으면 null)
+     * @param releaseYear 발매 연도(없으면 null)
+     * @param artists     앨범 아티스트(album_artist 기준, artistId ASC)
+     * @param tracks      수록 트랙(trackId ASC)
+     */
+    public static record AlbumDetailResultResponse(
+            long albumId,
+            String albumName,
+            LocalDate releaseDate,
+            Integer releaseYear,
+            List<AlbumDetailArtistResponse> artists,
+            List<AlbumDetailTrackResponse> tracks
+    ) {}
+
+    public static record AlbumDetailArtistResponse(
+            long artistId,
+            String artistName
+    ) {}
+
+    /**
+     * 수록 트랙.
+     *
+     * @param artists      트랙 아티스트(artistId ASC)
+     * @param audioFeature 오디오 특성(없으면 null)
+     */
+    public static record AlbumDetailTrackResponse(
+            long trackId,
+            String title,
+            Integer durationMs,
+            String genre,
+            String emotion,
+            boolean explicit,
+            Integer popularity,
+            List<AlbumDetailArtistResponse> artists,
+            AudioFeatureResponse audioFeature
+    ) {}
+
+    public static record AudioFeatureResponse(
+            Double tempo,
+            Double loudness,
+            Integer energy,
+            Integer danceability,
+            Integer positiveness,
+            Integer speechiness,
+            Integer liveness,
+            Integer acousticness,
+            Integer instrumentalness,
+            String musicalKey,
+            String timeSignature
+    ) {}
+}
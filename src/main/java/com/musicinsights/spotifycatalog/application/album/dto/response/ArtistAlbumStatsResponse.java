@@ -1,5 +1,6 @@
 package com.musicinsights.spotifycatalog.application.album.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.musicinsights.spotifycatalog.application.common.pagination.PageResult;
 
 
@@ -13,11 +14,15 @@ public class ArtistAlbumStatsResponse {
     /**
      * keyset pagination 커서.
      *
-     * <p>정렬 키(albumCount DESC, artistId ASC)에 대응하는 커서 값이다.</p>
+     * <p>정렬 키(albumCount DESC, artistId ASC)에 대응하는 커서 값이다.
+     * total은 첫 페이지의 totalAlbums로, 메모리 스냅샷이 없을 때 후속 페이지에서 다시 세지 않도록 함께 싣는다.
+     * version은 total을 계산할 때의 카탈로그 버전이며, 현재 버전과 다르면(또는 없으면) total을 믿지 않고 다시 계산한다.</p>
      */
     public static record ArtistAlbumStatsCursor(
             long albumCount,
-            long artistId
+            long artistId,
+            Long total,
+            Long version
     ) {}
 
     /**
@@ -33,9 +38,20 @@ public class ArtistAlbumStatsResponse {
             PageResult<ArtistAlbumStatsItemResponse> page
     ) {}
 
+    /**
+     * 아티스트별 앨범 수 항목.
+     *
+     * <p>artistName은 {@code includeName=false}로 요청하면 채우지 않으며, 이때는 JSON에서 빠진다.
+     * artistId/albumCount는 커서를 만드는 정렬 키이므로 항상 포함한다.</p>
+     */
     public static record ArtistAlbumStatsItemResponse(
             long artistId,
-            String artistName,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String artistName,
             long albumCount
-    ) {}
+    ) {
+        /** 이름을 뺀 항목 (includeName=false일 때) */
+        public ArtistAlbumStatsItemResponse withoutName() {
+            return (artistName == null) ? this : new ArtistAlbumStatsItemResponse(artistId, null, albumCount);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.musicinsights.spotifycatalog.application.album.dto.response;
 
 import com.musicinsights.spotifycatalog.application.common.pagination.PageResult;
 
+import java.util.List;
+
 /**
  * 특정 아티스트의 앨범 목록 조회 API 응답 DTO 모음.
  */
@@ -10,11 +12,16 @@ public class ArtistAlbumsResponse {
     /**
      * keyset pagination 커서.
      *
-     * <p>year가 없을 때는 (releaseYear, albumId), year가 있을 때는 (albumId) 형태로 사용한다.</p>
+     * <p>year가 없을 때는 (releaseYear, albumId), year가 있을 때는 (albumId) 형태로 사용한다.
+     * total은 첫 페이지에서 계산한 총 앨범 수로, 후속 페이지에서 COUNT 쿼리를 생략하는 데 쓴다.
+     * version은 total을 계산할 때의 카탈로그 버전이며, 현재 버전과 다르면(또는 없으면) total을 믿지 않고 다시 계산한다.
+     * 그래서 버전이 바뀐 뒤의 오래된 total이나 임의로 고친 커서의 total은 다음 rebuild 이후까지 남지 않는다.</p>
      */
     public static record ArtistAlbumsCursor(
             Integer releaseYear,
-            Long albumId
+            Long albumId,
+            Long total,
+            Long version
     ) {}
 
     /**
@@ -44,4 +51,19 @@ public class ArtistAlbumsResponse {
             long totalAlbums,
             PageResult<ArtistAlbumsItemResponse> page
     ) {}
+
+    /**
+     * 여러 아티스트의 앨범 목록 첫 페이지 일괄 조회 결과.
+     *
+     * <p>각 아티스트의 nextCursor는 단건 조회 API에 그대로 넘겨 다음 페이지를 이어서 조회할 수 있다.</p>
+     *
+     * @param year             필터 연도(없으면 null)
+     * @param artists          아티스트별 첫 페이지(요청 순서)
+     * @param missingArtistIds 존재하지 않는 아티스트 ID(요청 순서)
+     */
+    public static record ArtistAlbumsBatchResultResponse(
+            Integer year,
+            List<ArtistAlbumsResultResponse> artists,
+            List<Long> missingArtistIds
+    ) {}
 }
@@ -0,0 +1,71 @@
+package com.musicinsights.spotifycatalog.application.album.dto.response;
+
+import java.util.List;
+
+/**
+ * 아티스트 앨범 수 순위 조회 API 응답 DTO 모음.
+ *
+ * <p>순위는 집계 rebuild 시 미리 계산된 값(row_no, rank_no)을 그대로 사용한다.</p>
+ */
+public class ArtistRankResponse {
+
+    /**
+     * 순위 목록의 한 행.
+     *
+     * @param rowNo      (albumCount DESC, artistId ASC) 기준 1부터의 연속 위치
+     * @param rank       albumCount 기준 dense rank (동률은 같은 순위)
+     * @param artistId   아티스트 ID
+     * @param artistName 아티스트 이름
+     * @param albumCount 발매 앨범 수
+     */
+    public static record ArtistRankItemResponse(
+            long rowNo,
+            long rank,
+            long artistId,
+            String artistName,
+            long albumCount
+    ) {}
+
+    /**
+     * 페이지 번호로 바로 이동한 순위 목록.
+     *
+     * @param year  필터 연도(없으면 전체)
+     * @param page  페이지 번호(1부터)
+     * @param size  페이지 크기
+     * @param items 해당 페이지 항목(row_no 오름차순)
+     */
+    public static record ArtistRankPageResponse(
+            Integer year,
+            long page,
+            int size,
+            List<ArtistRankItemResponse> items
+    ) {}
+
+    /**
+     * 아티스트의 특정 연도(또는 전체) 순위.
+     *
+     * @param year       연도(전체 기준이면 null)
+     * @param albumCount 발매 앨범 수
+     * @param rank       dense rank
+     * @param rowNo      연속 위치
+     */
+    public static record ArtistYearRankResponse(
+            Integer year,
+            long albumCount,
+            long rank,
+            long rowNo
+    ) {}
+
+    /**
+     * 아티스트 순위 조회 결과.
+     *
+     * @param artistId 아티스트 ID
+     * @param total    전체 기준 순위(집계가 없으면 null)
+     * @param years    연도별 순위(연도 DESC)
+     */
+    public static record ArtistRanksResponse(
+            long artistId,
+            ArtistYearRankResponse total,
+            List<ArtistYearRankResponse> years
+    ) {}
+}
@@ -0,0 +1,33 @@
+package com.musicinsights.spotifycatalog.application.album.dto.response;
+
+import java.util.List;
+
+/**
+ * 아티스트 연도별 앨범 수 이력 API 응답 DTO 모음.
+ */
+public class ArtistYearHistoryResponse {
+
+    /**
+     * 연도 하나의 앨범 수.
+     *
+     * @param year       발매 연도
+     * @param albumCount 해당 연도 발매 앨범 수
+     */
+    public static record ArtistYearCountResponse(
+            int year,
+            long albumCount
+    ) {}
+
+    /**
+     * 아티스트 연도별 앨범 수 이력.
+     *
+     * @param artistId    아티스트 ID
+     * @param totalAlbums 연도별 앨범 수 합계
+     * @param years       연도별 앨범 수(연도 오름차순)
+     */
+    public static record ArtistYearHistoryResultResponse(
+            long artistId,
+            long totalAlbums,
+            List<ArtistYearCountResponse> years
+    ) {}
+}
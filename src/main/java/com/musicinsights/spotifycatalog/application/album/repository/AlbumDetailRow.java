@@ -0,0 +1,26 @@
+package com.musicinsights.spotifycatalog.application.album.repository;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.AlbumDetailResponse;
+
+import java.time.LocalDate;
+
+/**
+ * 앨범 상세 조회의 한 행 (앨범 × 트랙 × 트랙 아티스트로 펼쳐진 결과, 또는 album_artist 매핑 행).
+ *
+ * @param albumArtist true면 album_artist 매핑 행(part=1, track은 null)
+ * @param track       트랙(앨범에 트랙이 없거나 매핑 행이면 null, artists는 빈 리스트)
+ * @param artist      트랙 아티스트 또는 앨범 아티스트(없으면 null)
+ */
+record AlbumDetailRow(
+        boolean albumArtist,
+        long albumId,
+        String albumName,
+        LocalDate releaseDate,
+        Integer releaseYear,
+        AlbumDetailResponse.AlbumDetailTrackResponse track,
+        AlbumDetailResponse.AlbumDetailArtistResponse artist
+) {
+
+    /** SQL_ALBUM_DETAIL의 album_artist 매핑 행 part 값 */
+    static final int PART_ALBUM_ARTIST = 1;
+}
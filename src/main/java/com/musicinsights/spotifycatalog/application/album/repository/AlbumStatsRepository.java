@@ -1,11 +1,24 @@
 package com.musicinsights.spotifycatalog.application.album.repository;
 
+import com.musicinsights.spotifycatalog.application.album.dto.response.AlbumDetailResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumsResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistRankResponse;
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistYearHistoryResponse;
+import io.r2dbc.spi.Readable;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsSql.*;
 
@@ -17,22 +30,28 @@ public class AlbumStatsRepository {
         this.db = db;
     }
 
+    /**
+     * 아티스트별 앨범 수를 keyset 페이징으로 조회한다.
+     *
+     * <p>includeArtistName이 false면 artist를 JOIN하지 않는 쿼리를 실행하고 artistName은 null로 채운다.</p>
+     */
     public Flux<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> findArtistAlbumCounts(
             Integer year,
             long cursorAlbumCount,
             long cursorArtistId,
-            int limit
+            int limit,
+            boolean includeArtistName
     ) {
         DatabaseClient.GenericExecuteSpec spec;
 
         if (year == null) {
-            spec = db.sql(SQL_FIND_ALL)
+            spec = db.sql(includeArtistName ? SQL_FIND_ALL : SQL_FIND_ALL_WITHOUT_NAME)
                     .bind(0, cursorAlbumCount)
                     .bind(1, cursorAlbumCount)
                     .bind(2, cursorArtistId)
                     .bind(3, limit);
         } else {
-            spec = db.sql(SQL_FIND_BY_YEAR)
+            spec = db.sql(includeArtistName ? SQL_FIND_BY_YEAR : SQL_FIND_BY_YEAR_WITHOUT_NAME)
                     .bind(0, year)
                     .bind(1, cursorAlbumCount)
                     .bind(2, cursorAlbumCount)
@@ -42,7 +61,7 @@ public class AlbumStatsRepository {
 
         return spec.map((row, meta) -> new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(
                 row.get("artistId", Number.class).longValue(),
-                row.get("artistName", String.class),
+                includeArtistName ? row.get("artistName", String.class) : null,
                 row.get("albumCount", Number.class).longValue()
         )).all();
     }
@@ -97,22 +116,283 @@ public class AlbumStatsRepository {
     }
 
 
-    public Mono<Long> countArtistAlbums(Long artistId, Integer year) {
+    /**
+     * 아티스트 존재 확인, 총 앨범 수, keyset 페이지를 한 번의 쿼리로 조회한다.
+     *
+     * @param artistId          아티스트 ID
+     * @param year              연도(없으면 전체)
+     * @param cursorReleaseYear 커서 발매 연도(year가 없을 때만 사용)
+     * @param cursorAlbumId     커서 앨범 ID
+     * @param limit             가져올 최대 행 수(fetchSize)
+     * @return 총 개수와 페이지 항목, 아티스트가 없으면 empty
+     */
+    public Mono<ArtistAlbumsPageRow> findArtistAlbumsWithTotal(
+            Long artistId,
+            Integer year,
+            Integer cursorReleaseYear,
+            Long cursorAlbumId,
+            int limit
+    ) {
+        long cid = (cursorAlbumId == null) ? 0L : cursorAlbumId;
         DatabaseClient.GenericExecuteSpec spec;
 
         if (year == null) {
-            spec = db.sql(SQL_COUNT_ARTIST_ALBUMS_ALL)
-                    .bind(0, artistId);
+            int cy = (cursorReleaseYear == null) ? Integer.MAX_VALUE : cursorReleaseYear;
+
+            spec = db.sql(SQL_ARTIST_ALBUMS_WITH_TOTAL_ALL)
+                    .bind(0, artistId)
+                    .bind(1, artistId)
+                    .bind(2, cy)
+                    .bind(3, cy)
+                    .bind(4, cid)
+                    .bind(5, limit)
+                    .bind(6, artistId);
         } else {
-            spec = db.sql(SQL_COUNT_ARTIST_ALBUMS_BY_YEAR)
+            spec = db.sql(SQL_ARTIST_ALBUMS_WITH_TOTAL_BY_YEAR)
                     .bind(0, artistId)
-                    .bind(1, year);
+                    .bind(1, year)
+                    .bind(2, artistId)
+                    .bind(3, year)
+                    .bind(4, cid)
+                    .bind(5, limit)
+                    .bind(6, artistId);
         }
 
         return spec.map((row, meta) -> {
-            Number n = row.get("total", Number.class);
-            return (n == null) ? 0L : n.longValue();
-        }).one().defaultIfEmpty(0L);
+                    Long albumId = row.get("albumId", Long.class);
+                    ArtistAlbumsResponse.ArtistAlbumsItemResponse item = (albumId == null)
+                            ? null
+                            : new ArtistAlbumsResponse.ArtistAlbumsItemResponse(
+                                    albumId,
+                                    row.get("albumName", String.class),
+                                    row.get("releaseYear", Integer.class)
+                            );
+                    return Tuples.of(row.get("total", Number.class).longValue(), Optional.ofNullable(item));
+                })
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(rows -> new ArtistAlbumsPageRow(
+                        rows.get(0).getT1(),
+                        rows.stream().flatMap(t -> t.getT2().stream()).toList()
+                ));
+    }
+
+    /**
+     * 여러 아티스트의 첫 페이지와 총 앨범 수를 윈도 함수 쿼리 한 번으로 조회한다.
+     *
+     * @param artistIds 아티스트 ID 목록(비어있지 않음, 중복 없음)
+     * @param year      연도(없으면 전체)
+     * @param limit     아티스트별 가져올 최대 행 수(fetchSize)
+     * @return artistId → 총 개수와 페이지 항목 (존재하지 않는 아티스트는 포함되지 않음)
+     */
+    public Mono<Map<Long, ArtistAlbumsPageRow>> findArtistAlbumsFirstPages(
+            List<Long> artistIds,
+            Integer year,
+            int limit
+    ) {
+        String in = placeholders(artistIds.size());
+        String sql = (year == null)
+                ? SQL_ARTIST_ALBUMS_FIRST_PAGES_ALL.formatted(in, in)
+                : SQL_ARTIST_ALBUMS_FIRST_PAGES_BY_YEAR.formatted(in, in);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql);
+        int idx = 0;
+        for (Long id : artistIds) {
+            spec = spec.bind(idx++, id);
+        }
+        if (year != null) {
+            spec = spec.bind(idx++, year);
+        }
+        spec = spec.bind(idx++, limit);
+        for (Long id : artistIds) {
+            spec = spec.bind(idx++, id);
+        }
+
+        return spec.map((row, meta) -> {
+                    Long albumId = row.get("albumId", Long.class);
+                    ArtistAlbumsResponse.ArtistAlbumsItemResponse item = (albumId == null)
+                            ? null
+                            : new ArtistAlbumsResponse.ArtistAlbumsItemResponse(
+                                    albumId,
+                                    row.get("albumName", String.class),
+                                    row.get("releaseYear", Integer.class)
+                            );
+                    return Tuples.of(
+                            row.get("artistId", Number.class).longValue(),
+                            row.get("total", Number.class).longValue(),
+                            Optional.ofNullable(item)
+                    );
+                })
+                .all()
+                .collect(
+                        () -> new LinkedHashMap<Long, ArtistAlbumsPageRow>(),
+                        (out, t) -> {
+                            ArtistAlbumsPageRow prev = out.get(t.getT1());
+                            List<ArtistAlbumsResponse.ArtistAlbumsItemResponse> items =
+                                    (prev == null) ? new ArrayList<>() : prev.items();
+                            t.getT3().ifPresent(items::add);
+                            if (prev == null) out.put(t.getT1(), new ArtistAlbumsPageRow(t.getT2(), items));
+                        }
+                )
+                .map(out -> (Map<Long, ArtistAlbumsPageRow>) out);
+    }
+
+    /**
+     * album_count_year 요약 전체를 (연도 → 앨범 수) 맵으로 조회한다.
+     *
+     * <p>release_year = 0 키는 발매 연도가 없는 앨범 수이다.</p>
+     *
+     * @return 연도별 앨범 수
+     */
+    public Mono<Map<Integer, Long>> findAlbumCountsByYear() {
+        return db.sql(SQL_ALBUM_COUNTS_BY_YEAR)
+                .map((row, meta) -> Map.entry(
+                        row.get("releaseYear", Number.class).intValue(),
+                        row.get("albumCount", Number.class).longValue()
+                ))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * row_no 구간 [fromRow, toRow]의 순위 목록을 조회한다. (임의 페이지 이동)
+     *
+     * @param year    연도(없으면 전체 기준)
+     * @param fromRow 시작 위치(포함)
+     * @param toRow   끝 위치(포함)
+     * @return 순위 목록(row_no 오름차순)
+     */
+    public Flux<ArtistRankResponse.ArtistRankItemResponse> findRankRange(Integer year, long fromRow, long toRow) {
+        DatabaseClient.GenericExecuteSpec spec = (year == null)
+                ? db.sql(SQL_RANK_RANGE_ALL)
+                        .bind(0, fromRow)
+                        .bind(1, toRow)
+                : db.sql(SQL_RANK_RANGE_BY_YEAR)
+                        .bind(0, year)
+                        .bind(1, fromRow)
+                        .bind(2, toRow);
+
+        return spec.map((row, meta) -> new ArtistRankResponse.ArtistRankItemResponse(
+                row.get("rowNo", Number.class).longValue(),
+                row.get("rankNo", Number.class).longValue(),
+                row.get("artistId", Number.class).longValue(),
+                row.get("artistName", String.class),
+                row.get("albumCount", Number.class).longValue()
+        )).all();
+    }
+
+    /**
+     * 특정 아티스트의 연도별 순위를 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 연도별 순위(연도 DESC)
+     */
+    public Flux<ArtistRankResponse.ArtistYearRankResponse> findArtistYearRanks(Long artistId) {
+        return db.sql(SQL_ARTIST_YEAR_RANKS)
+                .bind(0, artistId)
+                .map((row, meta) -> new ArtistRankResponse.ArtistYearRankResponse(
+                        row.get("releaseYear", Number.class).intValue(),
+                        row.get("albumCount", Number.class).longValue(),
+                        row.get("rankNo", Number.class).longValue(),
+                        row.get("rowNo", Number.class).longValue()
+                ))
+                .all();
+    }
+
+    /**
+     * 특정 아티스트의 전체 기준 순위를 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 전체 기준 순위(집계 행이 없으면 empty)
+     */
+    public Mono<ArtistRankResponse.ArtistYearRankResponse> findArtistTotalRank(Long artistId) {
+        return db.sql(SQL_ARTIST_TOTAL_RANK)
+                .bind(0, artistId)
+                .map((row, meta) -> new ArtistRankResponse.ArtistYearRankResponse(
+                        null,
+                        row.get("albumCount", Number.class).longValue(),
+                        row.get("rankNo", Number.class).longValue(),
+                        row.get("rowNo", Number.class).longValue()
+                ))
+                .one();
+    }
+
+    /**
+     * 특정 아티스트의 연도별 앨범 수를 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 연도별 앨범 수(연도 ASC)
+     */
+    public Flux<ArtistYearHistoryResponse.ArtistYearCountResponse> findArtistYearHistory(Long artistId) {
+        return db.sql(SQL_ARTIST_YEAR_HISTORY)
+                .bind(0, artistId)
+                .map((row, meta) -> new ArtistYearHistoryResponse.ArtistYearCountResponse(
+                        row.get("releaseYear", Number.class).intValue(),
+                        row.get("albumCount", Number.class).longValue()
+                ))
+                .all();
+    }
+
+    /**
+     * 전체 순위 상위 topN명의 연도별 앨범 수를 한 번에 조회한다.
+     *
+     * @param topN 상위 아티스트 수
+     * @return artistId → 연도별 앨범 수(연도 ASC)
+     */
+    public Mono<Map<Long, List<ArtistYearHistoryResponse.ArtistYearCountResponse>>> findTopArtistYearHistory(int topN) {
+        return db.sql(SQL_TOP_ARTIST_YEAR_HISTORY)
+                .bind(0, topN)
+                .map((row, meta) -> Map.entry(
+                        row.get("artistId", Number.class).longValue(),
+                        new ArtistYearHistoryResponse.ArtistYearCountResponse(
+                                row.get("releaseYear", Number.class).intValue(),
+                                row.get("albumCount", Number.class).longValue()
+                        )
+                ))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(byArtist -> {
+                    Map<Long, List<ArtistYearHistoryResponse.ArtistYearCountResponse>> out = new HashMap<>(byArtist.size());
+                    byArtist.forEach((artistId, years) -> out.put(artistId, List.copyOf(years)));
+                    return out;
+                });
+    }
+
+    /**
+     * 연도별 집계 전체를 (연도 ASC, albumCount DESC, artistId ASC) 순서로 스트리밍한다.
+     *
+     * @return 연도별 집계 행
+     */
+    public Flux<ArtistYearStatRow> streamAllYearStats() {
+        return db.sql(SQL_ALL_YEAR_STATS)
+                .map((row, meta) -> new ArtistYearStatRow(
+                        row.get("releaseYear", Number.class).intValue(),
+                        row.get("artistId", Number.class).longValue(),
+                        row.get("artistName", String.class),
+                        row.get("albumCount", Number.class).longValue()
+                ))
+                .all();
+    }
+
+    /**
+     * 여러 아티스트의 이름을 IN 조회 한 번으로 가져온다.
+     *
+     * @param artistIds 아티스트 ID 목록(비어있지 않음)
+     * @return artistId → 이름 (존재하지 않는 아티스트는 포함되지 않음)
+     */
+    public Mono<Map<Long, String>> findArtistNames(List<Long> artistIds) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(SQL_ARTIST_NAMES.formatted(placeholders(artistIds.size())));
+        for (int i = 0; i < artistIds.size(); i++) {
+            spec = spec.bind(i, artistIds.get(i));
+        }
+
+        return spec.map((row, meta) -> Map.entry(
+                        row.get("artistId", Number.class).longValue(),
+                        row.get("artistName", String.class)
+                ))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
     }
 
     public Mono<Boolean> existsArtist(Long artistId) {
@@ -123,4 +403,133 @@ public class AlbumStatsRepository {
                 .defaultIfEmpty(false);
     }
 
+    /**
+     * 앨범 상세(수록 트랙, 트랙 아티스트, 오디오 특성)를 쿼리 한 번으로 조회한다.
+     *
+     * <p>트랙 × 트랙 아티스트로 펼쳐진 행을 trackId 기준으로 다시 묶는다.
+     * 앨범 아티스트는 트랙 아티스트에서 유도하지 않고 album_artist 매핑 행(part=1)에서 읽는다.</p>
+     *
+     * <p>결과는 응답 캐시에 그대로 보관되므로, 트랙 아티스트 리스트까지 불변 리스트로 만들어 반환한다.</p>
+     *
+     * @param albumId 앨범 ID
+     * @return 앨범 상세, 앨범이 없으면 empty
+     */
+    public Mono<AlbumDetailResponse.AlbumDetailResultResponse> findAlbumDetail(Long albumId) {
+        return db.sql(SQL_ALBUM_DETAIL)
+                .bind(0, albumId)
+                .bind(1, albumId)
+                .map((row, meta) -> new AlbumDetailRow(
+                        intOrNull(row, "part") == AlbumDetailRow.PART_ALBUM_ARTIST,
+                        row.get("albumId", Number.class).longValue(),
+                        row.get("albumName", String.class),
+                        row.get("releaseDate", LocalDate.class),
+                        intOrNull(row, "releaseYear"),
+                        toTrack(row),
+                        toArtist(row)
+                ))
+                .all()
+                .collectList()
+                .flatMap(rows -> rows.isEmpty() ? Mono.empty() : Mono.just(toAlbumDetail(rows)));
+    }
+
+    private static AlbumDetailResponse.AlbumDetailTrackResponse toTrack(Readable row) {
+        Long trackId = longOrNull(row, "trackId");
+        if (trackId == null) return null;
+
+        AlbumDetailResponse.AudioFeatureResponse feature = (longOrNull(row, "featureTrackId") == null)
+                ? null
+                : new AlbumDetailResponse.AudioFeatureResponse(
+                        doubleOrNull(row, "tempo"),
+                        doubleOrNull(row, "loudness"),
+                        intOrNull(row, "energy"),
+                        intOrNull(row, "danceability"),
+                        intOrNull(row, "positiveness"),
+                        intOrNull(row, "speechiness"),
+                        intOrNull(row, "liveness"),
+                        intOrNull(row, "acousticness"),
+                        intOrNull(row, "instrumentalness"),
+                        row.get("musicalKey", String.class),
+                        row.get("timeSignature", String.class)
+                );
+
+        return new AlbumDetailResponse.AlbumDetailTrackResponse(
+                trackId,
+                row.get("title", String.class),
+                intOrNull(row, "durationMs"),
+                row.get("genre", String.class),
+                row.get("emotion", String.class),
+                Boolean.TRUE.equals(row.get("explicit", Boolean.class)),
+                intOrNull(row, "popularity"),
+                List.of(),
+                feature
+        );
+    }
+
+    private static AlbumDetailResponse.AlbumDetailArtistResponse toArtist(Readable row) {
+        Long artistId = longOrNull(row, "artistId");
+        return (artistId == null)
+                ? null
+                : new AlbumDetailResponse.AlbumDetailArtistResponse(artistId, row.get("artistName", String.class));
+    }
+
+    /** 펼쳐진 행을 트랙별로 묶고(트랙 아티스트는 불변 리스트로 고정), 앨범 아티스트는 album_artist 행에서 모은다. */
+    private static AlbumDetailResponse.AlbumDetailResultResponse toAlbumDetail(List<AlbumDetailRow> rows) {
+        Map<Long, AlbumDetailResponse.AlbumDetailTrackResponse> tracks = new LinkedHashMap<>();
+        Map<Long, List<AlbumDetailResponse.AlbumDetailArtistResponse>> trackArtists = new HashMap<>();
+        List<AlbumDetailResponse.AlbumDetailArtistResponse> albumArtists = new ArrayList<>();
+
+        for (AlbumDetailRow r : rows) {
+            if (r.albumArtist()) {
+                if (r.artist() != null) albumArtists.add(r.artist());
+                continue;
+            }
+            if (r.track() == null) continue;
+            long trackId = r.track().trackId();
+            tracks.putIfAbsent(trackId, r.track());
+            List<AlbumDetailResponse.AlbumDetailArtistResponse> artists =
+                    trackArtists.computeIfAbsent(trackId, id -> new ArrayList<>());
+            if (r.artist() != null) artists.add(r.artist());
+        }
+
+        List<AlbumDetailResponse.AlbumDetailTrackResponse> frozen = new ArrayList<>(tracks.size());
+        for (AlbumDetailResponse.AlbumDetailTrackResponse t : tracks.values()) {
+            frozen.add(new AlbumDetailResponse.AlbumDetailTrackResponse(
+                    t.trackId(),
+                    t.title(),
+                    t.durationMs(),
+                    t.genre(),
+                    t.emotion(),
+                    t.explicit(),
+                    t.popularity(),
+                    List.copyOf(trackArtists.get(t.trackId())),
+                    t.audioFeature()
+            ));
+        }
+
+        AlbumDetailRow first = rows.get(0);
+        return new AlbumDetailResponse.AlbumDetailResultResponse(
+                first.albumId(),
+                first.albumName(),
+                first.releaseDate(),
+                first.releaseYear(),
+                List.copyOf(albumArtists),
+                List.copyOf(frozen)
+        );
+    }
+
+    private static Integer intOrNull(Readable row, String name) {
+        Number n = row.get(name, Number.class);
+        return (n == null) ? null : n.intValue();
+    }
+
+    private static Long longOrNull(Readable row, String name) {
+        Number n = row.get(name, Number.class);
+        return (n == null) ? null : n.longValue();
+    }
+
+    private static Double doubleOrNull(Readable row, String name) {
+        Number n = row.get(name, Number.class);
+        return (n == null) ? null : n.doubleValue();
+    }
+
 }
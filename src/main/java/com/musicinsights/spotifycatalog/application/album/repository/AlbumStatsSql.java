@@ -1,5 +1,7 @@
 package com.musicinsights.spotifycatalog.application.album.repository;
 
+import java.util.Collections;
+
 /**
  * 앨범 통계/목록 조회에 사용되는 SQL 상수 모음.
  *
@@ -9,25 +11,22 @@ package com.musicinsights.spotifycatalog.application.album.repository;
 final class AlbumStatsSql {
     private AlbumStatsSql() {}
 
-    /** 전체 기준: 아티스트별 발매 앨범 수(집계) + 커서 페이징 조회 */
+    /**
+     * 전체 기준: artist_album_count_total 집계 테이블 기반 조회 + 커서 페이징
+     * (idx_total_count_artist(album_count DESC, artist_id ASC) range scan, 깊은 페이지도 O(size))
+     */
     static final String SQL_FIND_ALL = """
         SELECT
-          t.artist_id AS artistId,
-          ar.name     AS artistName,
-          t.albumCount
-        FROM (
-          SELECT aa.artist_id, COUNT(*) AS albumCount
-          FROM album_artist aa
-          JOIN album al ON al.id = aa.album_id
-          WHERE al.release_year IS NOT NULL
-          GROUP BY aa.artist_id
-        ) t
+          t.artist_id   AS artistId,
+          ar.name       AS artistName,
+          t.album_count AS albumCount
+        FROM artist_album_count_total t
         JOIN artist ar ON ar.id = t.artist_id
         WHERE (
-           t.albumCount < ?
-           OR (t.albumCount = ? AND t.artist_id > ?)
+           t.album_count < ?
+           OR (t.album_count = ? AND t.artist_id > ?)
         )
-        ORDER BY t.albumCount DESC, t.artist_id ASC
+        ORDER BY t.album_count DESC, t.artist_id ASC
         LIMIT ?;
     """;
 
@@ -48,53 +47,136 @@ final class AlbumStatsSql {
         LIMIT ?;
     """;
 
-    /** 전체 기준: 특정 아티스트의 앨범 목록(연도 DESC, id ASC) + (releaseYear, albumId) 커서 페이징 */
+    /**
+     * 전체 기준, 이름 제외({@code includeName=false}): artist JOIN 없이 집계 테이블만 읽는다.
+     */
+    static final String SQL_FIND_ALL_WITHOUT_NAME = """
+        SELECT
+          t.artist_id   AS artistId,
+          t.album_count AS albumCount
+        FROM artist_album_count_total t
+        WHERE (
+           t.album_count < ?
+           OR (t.album_count = ? AND t.artist_id > ?)
+        )
+        ORDER BY t.album_count DESC, t.artist_id ASC
+        LIMIT ?;
+    """;
+
+    /**
+     * 연도 기준, 이름 제외: artist JOIN 없이
+     * idx_year_count_artist(release_year, album_count DESC, artist_id ASC)만으로 응답한다. (covering index)
+     */
+    static final String SQL_FIND_BY_YEAR_WITHOUT_NAME = """
+        SELECT
+          c.artist_id   AS artistId,
+          c.album_count AS albumCount
+        FROM artist_album_count_year c
+        WHERE c.release_year = ?
+          AND (
+             c.album_count < ?
+             OR (c.album_count = ? AND c.artist_id > ?)
+          )
+        ORDER BY c.album_count DESC, c.artist_id ASC
+        LIMIT ?;
+    """;
+
+    /**
+     * 전체 기준: 특정 아티스트의 앨범 목록(연도 DESC, id ASC) + (releaseYear, albumId) 커서 페이징
+     * (album_artist의 (artist_id, release_year DESC, album_id) 인덱스 순서로 읽고, album은 LIMIT 행만 PK 조회)
+     */
     static final String SQL_ARTIST_ALBUMS_ALL = """
         SELECT
-          al.id           AS albumId,
+          aa.album_id     AS albumId,
           al.name         AS albumName,
-          al.release_year AS releaseYear
+          aa.release_year AS releaseYear
         FROM album_artist aa
-        JOIN album al ON al.id = aa.album_id
+        STRAIGHT_JOIN album al ON al.id = aa.album_id
         WHERE aa.artist_id = ?
           AND (
-                al.release_year < ?
-             OR (al.release_year = ? AND al.id > ?)
+                aa.release_year < ?
+             OR (aa.release_year = ? AND aa.album_id > ?)
           )
-        ORDER BY al.release_year DESC, al.id ASC
+        ORDER BY aa.release_year DESC, aa.album_id ASC
         LIMIT ?;
     """;
 
     /** 연도 기준: 특정 아티스트의 특정 연도 앨범 목록(id ASC) + albumId 커서 페이징 */
     static final String SQL_ARTIST_ALBUMS_BY_YEAR = """
         SELECT
-          al.id           AS albumId,
+          aa.album_id     AS albumId,
           al.name         AS albumName,
-          al.release_year AS releaseYear
+          aa.release_year AS releaseYear
         FROM album_artist aa
-        JOIN album al ON al.id = aa.album_id
+        STRAIGHT_JOIN album al ON al.id = aa.album_id
         WHERE aa.artist_id = ?
-          AND al.release_year = ?
-          AND al.id > ?
-        ORDER BY al.id ASC
+          AND aa.release_year = ?
+          AND aa.album_id > ?
+        ORDER BY aa.album_id ASC
         LIMIT ?;
     """;
 
-    /** 전체 기준: 특정 아티스트의 총 앨범 수 */
-    static final String SQL_COUNT_ARTIST_ALBUMS_ALL = """
-        SELECT COUNT(*) AS total
-        FROM album_artist aa
-        JOIN album al ON al.id = aa.album_id
-        WHERE aa.artist_id = ?
+    /**
+     * 전체 기준: 아티스트 존재 확인 + 총 앨범 수 + 페이지를 한 문장으로 조회
+     * (아티스트가 없으면 0행, 앨범이 없으면 album 컬럼이 null인 1행)
+     */
+    static final String SQL_ARTIST_ALBUMS_WITH_TOTAL_ALL = """
+        SELECT
+          c.total         AS total,
+          p.albumId       AS albumId,
+          p.albumName     AS albumName,
+          p.releaseYear   AS releaseYear
+        FROM artist ar
+        CROSS JOIN (
+          SELECT COUNT(*) AS total
+          FROM album_artist aa
+          WHERE aa.artist_id = ?
+        ) c
+        LEFT JOIN (
+          SELECT aa.album_id AS albumId, al.name AS albumName, aa.release_year AS releaseYear
+          FROM album_artist aa
+          STRAIGHT_JOIN album al ON al.id = aa.album_id
+          WHERE aa.artist_id = ?
+            AND (
+                  aa.release_year < ?
+               OR (aa.release_year = ? AND aa.album_id > ?)
+            )
+          ORDER BY aa.release_year DESC, aa.album_id ASC
+          LIMIT ?
+        ) p ON TRUE
+        WHERE ar.id = ?
+        ORDER BY p.releaseYear DESC, p.albumId ASC
     """;
 
-    /** 연도 기준: 특정 아티스트의 특정 연도 앨범 수 */
-    static final String SQL_COUNT_ARTIST_ALBUMS_BY_YEAR = """
-        SELECT COUNT(*) AS total
-        FROM album_artist aa
-        JOIN album al ON al.id = aa.album_id
-        WHERE aa.artist_id = ?
-          AND al.release_year = ?
+    /**
+     * 연도 기준: 아티스트 존재 확인 + 해당 연도 앨범 수 + 페이지를 한 문장으로 조회
+     * (아티스트가 없으면 0행, 앨범이 없으면 album 컬럼이 null인 1행)
+     */
+    static final String SQL_ARTIST_ALBUMS_WITH_TOTAL_BY_YEAR = """
+        SELECT
+          c.total         AS total,
+          p.albumId       AS albumId,
+          p.albumName     AS albumName,
+          p.releaseYear   AS releaseYear
+        FROM artist ar
+        CROSS JOIN (
+          SELECT COUNT(*) AS total
+          FROM album_artist aa
+          WHERE aa.artist_id = ?
+            AND aa.release_year = ?
+        ) c
+        LEFT JOIN (
+          SELECT aa.album_id AS albumId, al.name AS albumName, aa.release_year AS releaseYear
+          FROM album_artist aa
+          STRAIGHT_JOIN album al ON al.id = aa.album_id
+          WHERE aa.artist_id = ?
+            AND aa.release_year = ?
+            AND aa.album_id > ?
+          ORDER BY aa.album_id ASC
+          LIMIT ?
+        ) p ON TRUE
+        WHERE ar.id = ?
+        ORDER BY p.albumId ASC
     """;
 
     /** 아티스트 존재 여부 확인(1행이라도 있으면 존재) */
@@ -105,6 +187,13 @@ final class AlbumStatsSql {
         LIMIT 1
     """;
 
+    /** 아티스트 id → 이름 일괄 조회 (%s = artist id IN 목록, 없는 id는 행 없음) */
+    static final String SQL_ARTIST_NAMES = """
+        SELECT id AS artistId, name AS artistName
+        FROM artist
+        WHERE id IN (%s)
+    """;
+
     /** 전체 앨범 수 */
     static final String SQL_COUNT_ALBUMS_ALL = """
         SELECT COUNT(*) AS total
@@ -118,4 +207,227 @@ final class AlbumStatsSql {
         WHERE release_year = ?
     """;
 
+    /** 연도별 전체 앨범 수 요약 (release_year = 0 은 발매 연도 없음) */
+    static final String SQL_ALBUM_COUNTS_BY_YEAR = """
+        SELECT release_year AS releaseYear, album_count AS albumCount
+        FROM album_count_year
+    """;
+
+    /** 연도 기준: row_no 구간으로 임의 페이지 조회 (idx_year_row) */
+    static final String SQL_RANK_RANGE_BY_YEAR = """
+        SELECT
+          c.row_no      AS rowNo,
+          c.rank_no     AS rankNo,
+          c.artist_id   AS artistId,
+          ar.name       AS artistName,
+          c.album_count AS albumCount
+        FROM artist_album_count_year c
+        JOIN artist ar ON ar.id = c.artist_id
+        WHERE c.release_year = ?
+          AND c.row_no BETWEEN ? AND ?
+        ORDER BY c.row_no ASC
+    """;
+
+    /** 전체 기준: row_no 구간으로 임의 페이지 조회 (idx_total_row) */
+    static final String SQL_RANK_RANGE_ALL = """
+        SELECT
+          t.row_no      AS rowNo,
+          t.rank_no     AS rankNo,
+          t.artist_id   AS artistId,
+          ar.name       AS artistName,
+          t.album_count AS albumCount
+        FROM artist_album_count_total t
+        JOIN artist ar ON ar.id = t.artist_id
+        WHERE t.row_no BETWEEN ? AND ?
+        ORDER BY t.row_no ASC
+    """;
+
+    /** 특정 아티스트의 연도별 순위 (연도 DESC) */
+    static final String SQL_ARTIST_YEAR_RANKS = """
+        SELECT
+          release_year AS releaseYear,
+          album_count  AS albumCount,
+          rank_no      AS rankNo,
+          row_no       AS rowNo
+        FROM artist_album_count_year
+        WHERE artist_id = ?
+        ORDER BY release_year DESC
+    """;
+
+    /** 특정 아티스트의 전체 기준 순위 */
+    static final String SQL_ARTIST_TOTAL_RANK = """
+        SELECT
+          album_count AS albumCount,
+          rank_no     AS rankNo,
+          row_no      AS rowNo
+        FROM artist_album_count_total
+        WHERE artist_id = ?
+    """;
+
+    /** 특정 아티스트의 연도별 앨범 수 (idx_artist_year, 연도 ASC) */
+    static final String SQL_ARTIST_YEAR_HISTORY = """
+        SELECT
+          release_year AS releaseYear,
+          album_count  AS albumCount
+        FROM artist_album_count_year
+        WHERE artist_id = ?
+        ORDER BY release_year ASC
+    """;
+
+    /** 전체 순위 상위 N명의 연도별 앨범 수 (캐시 적재용) */
+    static final String SQL_TOP_ARTIST_YEAR_HISTORY = """
+        SELECT
+          c.artist_id    AS artistId,
+          c.release_year AS releaseYear,
+          c.album_count  AS albumCount
+        FROM artist_album_count_total t
+        JOIN artist_album_count_year c ON c.artist_id = t.artist_id
+        WHERE t.row_no BETWEEN 1 AND ?
+        ORDER BY c.artist_id ASC, c.release_year ASC
+    """;
+
+    /** 연도별 집계 전체 (읽기 모델 적재용, 연도 ASC + keyset 정렬 순서) */
+    static final String SQL_ALL_YEAR_STATS = """
+        SELECT
+          c.release_year AS releaseYear,
+          c.artist_id    AS artistId,
+          ar.name        AS artistName,
+          c.album_count  AS albumCount
+        FROM artist_album_count_year c
+        JOIN artist ar ON ar.id = c.artist_id
+        ORDER BY c.release_year ASC, c.album_count DESC, c.artist_id ASC
+    """;
+
+    /**
+     * 전체 기준: 여러 아티스트의 첫 페이지 + 총 앨범 수를 한 번에 조회 (%s = artist id IN 목록, 두 곳)
+     * <p>
+     * 아티스트별로 ROW_NUMBER()를 매겨 앞의 limit개만 남기고, album은 남은 행만 PK 조회한다.
+     * 단건 첫 페이지와 같게 발매 연도가 없는 앨범은 총 개수에만 포함된다. (album 조인에서 제외되어 albumId가 null)
+     * (존재하지 않는 아티스트는 0행, 앨범이 없는 아티스트는 album 컬럼이 null인 1행)
+     */
+    static final String SQL_ARTIST_ALBUMS_FIRST_PAGES_ALL = """
+        SELECT
+          ar.id                 AS artistId,
+          COALESCE(p.total, 0)  AS total,
+          al.id                 AS albumId,
+          al.name               AS albumName,
+          p.releaseYear         AS releaseYear
+        FROM artist ar
+        LEFT JOIN (
+          SELECT w.artistId, w.albumId, w.releaseYear, w.total, w.rn
+          FROM (
+            SELECT
+              aa.artist_id    AS artistId,
+              aa.album_id     AS albumId,
+              aa.release_year AS releaseYear,
+              ROW_NUMBER() OVER (PARTITION BY aa.artist_id ORDER BY aa.release_year DESC, aa.album_id ASC) AS rn,
+              COUNT(*) OVER (PARTITION BY aa.artist_id) AS total
+            FROM album_artist aa
+            WHERE aa.artist_id IN (%s)
+          ) w
+          WHERE w.rn <= ?
+        ) p ON p.artistId = ar.id
+        LEFT JOIN album al ON al.id = p.albumId AND p.releaseYear IS NOT NULL
+        WHERE ar.id IN (%s)
+        ORDER BY ar.id ASC, p.rn ASC
+    """;
+
+    /**
+     * 연도 기준: 여러 아티스트의 해당 연도 첫 페이지 + 연도 앨범 수를 한 번에 조회 (%s = artist id IN 목록, 두 곳)
+     * (존재하지 않는 아티스트는 0행, 해당 연도 앨범이 없는 아티스트는 album 컬럼이 null인 1행)
+     */
+    static final String SQL_ARTIST_ALBUMS_FIRST_PAGES_BY_YEAR = """
+        SELECT
+          ar.id                 AS artistId,
+          COALESCE(p.total, 0)  AS total,
+          al.id                 AS albumId,
+          al.name               AS albumName,
+          p.releaseYear         AS releaseYear
+        FROM artist ar
+        LEFT JOIN (
+          SELECT w.artistId, w.albumId, w.releaseYear, w.total, w.rn
+          FROM (
+            SELECT
+              aa.artist_id    AS artistId,
+              aa.album_id     AS albumId,
+              aa.release_year AS releaseYear,
+              ROW_NUMBER() OVER (PARTITION BY aa.artist_id ORDER BY aa.album_id ASC) AS rn,
+              COUNT(*) OVER (PARTITION BY aa.artist_id) AS total
+            FROM album_artist aa
+            WHERE aa.artist_id IN (%s)
+              AND aa.release_year = ?
+          ) w
+          WHERE w.rn <= ?
+        ) p ON p.artistId = ar.id
+        LEFT JOIN album al ON al.id = p.albumId
+        WHERE ar.id IN (%s)
+        ORDER BY ar.id ASC, p.rn ASC
+    """;
+
+    /**
+     * 앨범 상세: 앨범 + 수록 트랙(idx_track_album) + 오디오 특성 + 트랙 아티스트를 한 번에 조회한다.
+     * (part=0: 트랙 × 트랙 아티스트 행으로 펼쳐 나오며 track_lyrics는 읽지 않는다. 트랙이 없으면 앨범 행 하나만 나온다)
+     *
+     * <p>part=1 행은 album_artist(PK album_id, artist_id)의 앨범 아티스트다.
+     * 앨범 아티스트는 트랙 아티스트에서 유도하지 않고 이 매핑을 그대로 쓴다. (트랙 컬럼은 NULL)</p>
+     *
+     * <p>바인딩: 1=albumId(part 0), 2=albumId(part 1)</p>
+     */
+    static final String SQL_ALBUM_DETAIL = """
+        SELECT
+          0                   AS part,
+          al.id               AS albumId,
+          al.name             AS albumName,
+          al.release_date     AS releaseDate,
+          al.release_year     AS releaseYear,
+          t.id                AS trackId,
+          t.title             AS title,
+          t.duration_ms       AS durationMs,
+          t.genre             AS genre,
+          t.emotion           AS emotion,
+          t.explicit          AS explicit,
+          t.popularity        AS popularity,
+          af.track_id         AS featureTrackId,
+          af.tempo            AS tempo,
+          af.loudness         AS loudness,
+          af.energy           AS energy,
+          af.danceability     AS danceability,
+          af.positiveness     AS positiveness,
+          af.speechiness      AS speechiness,
+          af.liveness         AS liveness,
+          af.acousticness     AS acousticness,
+          af.instrumentalness AS instrumentalness,
+          af.musical_key      AS musicalKey,
+          af.time_signature   AS timeSignature,
+          ar.id               AS artistId,
+          ar.name             AS artistName
+        FROM album al
+        LEFT JOIN track t          ON t.album_id = al.id
+        LEFT JOIN audio_feature af ON af.track_id = t.id
+        LEFT JOIN track_artist ta  ON ta.track_id = t.id
+        LEFT JOIN artist ar        ON ar.id = ta.artist_id
+        WHERE al.id = ?
+        UNION ALL
+        SELECT
+          1, al.id, al.name, al.release_date, al.release_year,
+          NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+          NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+          ar.id, ar.name
+        FROM album al
+        JOIN album_artist aa ON aa.album_id = al.id
+        JOIN artist ar       ON ar.id = aa.artist_id
+        WHERE al.id = ?
+        ORDER BY part ASC, trackId ASC, artistId ASC
+    """;
+
+    /**
+     * n개의 위치 기반 바인딩 자리표시자("?, ?, ...")를 만든다.
+     *
+     * @param n 자리표시자 수(1 이상)
+     * @return IN 목록 문자열
+     */
+    static String placeholders(int n) {
+        return String.join(", ", Collections.nCopies(n, "?"));
+    }
+
 }
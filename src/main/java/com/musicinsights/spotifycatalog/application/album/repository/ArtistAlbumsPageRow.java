@@ -0,0 +1,16 @@
+package com.musicinsights.spotifycatalog.application.album.repository;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumsResponse;
+
+import java.util.List;
+
+/**
+ * 아티스트 앨범 목록 첫 페이지 조회 결과 (총 개수 + 페이지 항목).
+ *
+ * @param total 필터 기준 전체 앨범 수
+ * @param items 페이지 항목(fetchSize까지)
+ */
+public record ArtistAlbumsPageRow(
+        long total,
+        List<ArtistAlbumsResponse.ArtistAlbumsItemResponse> items
+) {}
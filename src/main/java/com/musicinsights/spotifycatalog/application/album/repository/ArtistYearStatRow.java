@@ -0,0 +1,16 @@
+package com.musicinsights.spotifycatalog.application.album.repository;
+
+/**
+ * 연도별 아티스트 앨범 수 집계의 한 행 (읽기 모델 적재용).
+ *
+ * @param releaseYear 발매 연도
+ * @param artistId    아티스트 ID
+ * @param artistName  아티스트 이름
+ * @param albumCount  해당 연도 발매 앨범 수
+ */
+public record ArtistYearStatRow(
+        int releaseYear,
+        long artistId,
+        String artistName,
+        long albumCount
+) {}
@@ -0,0 +1,110 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 연도별 전체 앨범 수(album_count_year)의 프로세스 내 스냅샷.
+ *
+ * <p>통계 응답의 totalAlbums를 DB 조회 없이 반환하기 위해 사용한다.
+ * 백그라운드에서 주기적으로 catalog_version만 확인하고, 버전이 바뀌었을 때만 요약 테이블을 다시 읽는다.</p>
+ *
+ * <p>아직 한 번도 로드되지 않았으면 {@link #totalAlbums(Integer)}가 null을 반환하며,
+ * 호출 측은 기존 COUNT 쿼리로 대체한다.</p>
+ */
+@Component
+public class AlbumCountSnapshot implements InitializingBean, DisposableBean {
+
+    /** catalog_version에서 이 요약을 가리키는 이름 */
+    static final String VERSION_NAME = "album_count_year";
+
+    private final AlbumStatsRepository albumStatsRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final Duration refreshInterval;
+
+    /** 현재 스냅샷 (로드 전에는 null) */
+    private volatile Snapshot current;
+
+    /** 버전 확인 주기 작업 */
+    private Disposable poller;
+
+    public AlbumCountSnapshot(
+            AlbumStatsRepository albumStatsRepository,
+            CatalogVersionService catalogVersionService,
+            @Value("${catalog.snapshot-refresh-ms:5000}") long refreshMs
+    ) {
+        this.albumStatsRepository = albumStatsRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.refreshInterval = Duration.ofMillis(refreshMs);
+    }
+
+    /**
+     * 연도별(또는 전체) 앨범 수를 스냅샷에서 반환한다.
+     *
+     * @param year 연도(없으면 전체)
+     * @return 앨범 수, 스냅샷이 아직 없으면 null
+     */
+    public Long totalAlbums(Integer year) {
+        Snapshot s = current;
+        if (s == null) return null;
+        if (year == null) return s.total();
+        return s.byYear().getOrDefault(year, 0L);
+    }
+
+    /**
+     * catalog_version이 바뀌었으면 요약 테이블을 다시 읽어 스냅샷을 교체한다.
+     *
+     * @return 교체했으면 true
+     */
+    Mono<Boolean> refreshIfChanged() {
+        return catalogVersionService.currentVersion(VERSION_NAME)
+                .filter(version -> {
+                    Snapshot s = current;
+                    return version > 0 && (s == null || s.version() != version);
+                })
+                .flatMap(version -> albumStatsRepository.findAlbumCountsByYear()
+                        .map(byYear -> new Snapshot(
+                                version,
+                                Map.copyOf(byYear),
+                                byYear.values().stream().mapToLong(Long::longValue).sum()
+                        )))
+                .doOnNext(s -> current = s)
+                .map(s -> true)
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        poller = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refreshIfChanged()
+                        .onErrorResume(e -> {
+                            System.err.println("[WARN] album count snapshot refresh failed: " + e.getMessage());
+                            return Mono.just(false);
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) poller.dispose();
+    }
+
+    /**
+     * 특정 버전의 연도별 앨범 수.
+     *
+     * @param version catalog_version
+     * @param byYear  연도 → 앨범 수 (0 = 발매 연도 없음)
+     * @param total   전체 앨범 수
+     */
+    record Snapshot(long version, Map<Integer, Long> byYear, long total) {}
+}
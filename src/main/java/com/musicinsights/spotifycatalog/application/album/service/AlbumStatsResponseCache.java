@@ -0,0 +1,162 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import com.musicinsights.spotifycatalog.application.common.cache.VersionedLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 앨범 통계 API 응답 캐시.
+ *
+ * <p>(endpoint, id, year, cursor, size)를 키로 응답 전체를 보관하고,
+ * 카탈로그 전체 버전({@code catalog}, ingest 후 rebuild가 끝날 때 증가)을 태그로 붙인다.
+ * 버전이 바뀌면 이전 버전 항목은 더 이상 반환되지 않으며 곧바로 비워진다.</p>
+ *
+ * <p>버전은 {@link AlbumCountSnapshot}과 같은 주기로 확인한다.
+ * 아직 한 번도 rebuild 기록이 없으면(버전 0) 캐시하지 않는다.</p>
+ *
+ * <p>응답은 {@link AlbumCountSnapshot}/{@link ArtistYearStatsReadModel}의 메모리 데이터로도 만들어지는데,
+ * 두 모델은 각자의 집계 버전을 따로 확인한다. 카탈로그 버전은 rebuild에서 모든 집계 버전을 올린 뒤 마지막에 오르므로,
+ * 새 카탈로그 버전을 보면 두 모델을 먼저 새로 읽게 하고, 둘 다 끝난 뒤에만 캐시 버전을 올린다.
+ * 그래서 새 버전으로 저장되는 응답은 항상 새 집계를 읽은 모델로 만들어진다. (모델 갱신이 실패하면 버전을 올리지 않고 다음 주기에 다시 시도)</p>
+ */
+@Component
+public class AlbumStatsResponseCache implements InitializingBean, DisposableBean {
+
+    /** catalog_version에서 카탈로그 전체를 가리키는 이름 */
+    static final String VERSION_NAME = "catalog";
+
+    private final CatalogVersionService catalogVersionService;
+    private final AlbumCountSnapshot albumCountSnapshot;
+    private final ArtistYearStatsReadModel artistYearStatsReadModel;
+    private final VersionedLruCache<Key, Object> cache;
+    private final Duration refreshInterval;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /** 마지막으로 확인한 카탈로그 버전 (0 = 아직 없음) */
+    private volatile long version;
+
+    /** 버전 확인 주기 작업 */
+    private Disposable poller;
+
+    public AlbumStatsResponseCache(
+            CatalogVersionService catalogVersionService,
+            AlbumCountSnapshot albumCountSnapshot,
+            ArtistYearStatsReadModel artistYearStatsReadModel,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.response-cache-max-entries:10000}") int maxEntries,
+            @Value("${catalog.snapshot-refresh-ms:5000}") long refreshMs
+    ) {
+        this.catalogVersionService = catalogVersionService;
+        this.albumCountSnapshot = albumCountSnapshot;
+        this.artistYearStatsReadModel = artistYearStatsReadModel;
+        this.cache = new VersionedLruCache<>(maxEntries);
+        this.refreshInterval = Duration.ofMillis(refreshMs);
+
+        this.hits = Counter.builder("album.stats.response_cache")
+                .description("album stats response cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("album.stats.response_cache")
+                .description("album stats response cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("album.stats.response_cache.size", cache, VersionedLruCache::size)
+                .description("entries held by the album stats response cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 버전의 캐시 값을 반환하고, 없으면 loader로 읽어 저장한다.
+     *
+     * <p>loader가 실패하거나 비어 있으면 저장하지 않는다.</p>
+     *
+     * @param key    응답 키
+     * @param loader 캐시 미스 시 실행할 조회
+     * @return 응답
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> getOrLoad(Key key, Supplier<Mono<T>> loader) {
+        long v = version;
+        if (v <= 0) return loader.get();
+
+        Object cached = cache.get(v, key);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just((T) cached);
+        }
+
+        misses.increment();
+        return loader.get().doOnNext(value -> cache.put(v, key, value));
+    }
+
+    /**
+     * 마지막으로 확인한 카탈로그 버전을 반환한다. (HTTP ETag 기준)
+     *
+     * @return 카탈로그 버전, 아직 확인 전이면 0
+     */
+    public long currentVersion() {
+        return version;
+    }
+
+    /**
+     * 카탈로그 버전을 다시 읽고, 올라갔으면 의존 모델을 새로 읽힌 뒤 이전 버전 항목을 모두 비운다.
+     *
+     * @return 버전이 바뀌었으면 true
+     */
+    Mono<Boolean> refreshVersion() {
+        return catalogVersionService.currentVersion(VERSION_NAME)
+                .flatMap(v -> {
+                    if (v == version) return Mono.just(false);
+                    return Mono.when(
+                                    albumCountSnapshot.refreshIfChanged(),
+                                    artistYearStatsReadModel.refreshIfChanged()
+                            )
+                            .then(Mono.fromCallable(() -> {
+                                cache.advanceTo(v);
+                                version = v;
+                                return true;
+                            }));
+                });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        poller = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refreshVersion()
+                        .onErrorResume(e -> {
+                            System.err.println("[WARN] album stats response cache version check failed: " + e.getMessage());
+                            return Mono.just(false);
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) poller.dispose();
+    }
+
+    /**
+     * 응답 캐시 키.
+     *
+     * @param endpoint 조회 종류 (예: "stats", "albums", "album")
+     * @param id       대상 ID (아티스트/앨범 ID, 없으면 null)
+     * @param year     연도 (없으면 null)
+     * @param cursor   커서 (첫 페이지면 null)
+     * @param size     페이지 크기
+     */
+    public record Key(String endpoint, Long id, Integer year, String cursor, int size) {}
+}
@@ -3,6 +3,8 @@ package com.musicinsights.spotifycatalog.application.album.service;
 import com.musicinsights.spotifycatalog.application.album.dto.response.*;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * 앨범 통계/아티스트 앨범 목록 조회 서비스
  */
@@ -14,12 +16,14 @@ public interface AlbumStatsService {
      * @param year   연도(없으면 전체)
      * @param cursor 다음 페이지 커서
      * @param size   페이지 크기
+     * @param includeArtistName 항목에 아티스트 이름을 포함할지 여부 (false면 artist JOIN 없이 조회)
      * @return 통계 결과(총 앨범 수 + 페이지 정보)
      */
     Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> getArtistAlbumStats(
             Integer year,
             String cursor,
-            int size
+            int size,
+            boolean includeArtistName
     );
 
     /**
@@ -37,4 +41,67 @@ public interface AlbumStatsService {
             String cursor,
             int size
     );
+
+    /**
+     * 여러 아티스트의 앨범 목록 첫 페이지를 한 번에 조회한다.
+     *
+     * @param artistIds 아티스트 ID 목록
+     * @param year      연도(없으면 전체)
+     * @param size      아티스트별 페이지 크기
+     * @return 아티스트별 첫 페이지와 존재하지 않는 아티스트 ID
+     */
+    Mono<ArtistAlbumsResponse.ArtistAlbumsBatchResultResponse> getArtistAlbumsBatch(
+            List<Long> artistIds,
+            Integer year,
+            int size
+    );
+
+    /**
+     * 순위 목록의 임의 페이지를 조회한다.
+     *
+     * <p>커서로 앞에서부터 넘기지 않고, 미리 계산된 row_no 구간으로 바로 이동한다.</p>
+     *
+     * @param year 연도(없으면 전체)
+     * @param page 페이지 번호(1부터)
+     * @param size 페이지 크기
+     * @return 해당 페이지 순위 목록
+     */
+    Mono<ArtistRankResponse.ArtistRankPageResponse> getArtistRankPage(
+            Integer year,
+            long page,
+            int size
+    );
+
+    /**
+     * 특정 아티스트의 전체/연도별 순위를 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 전체 및 연도별 순위
+     */
+    Mono<ArtistRankResponse.ArtistRanksResponse> getArtistRanks(Long artistId);
+
+    /**
+     * 특정 아티스트의 연도별 앨범 수 이력을 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 연도별 앨범 수 이력(연도 ASC)
+     */
+    Mono<ArtistYearHistoryResponse.ArtistYearHistoryResultResponse> getArtistYearHistory(Long artistId);
+
+    /**
+     * 앨범 상세(수록 트랙, 아티스트, 오디오 특성)를 조회한다.
+     *
+     * @param albumId 앨범 ID
+     * @return 앨범 상세 (앨범이 없으면 NotFound 에러)
+     */
+    Mono<AlbumDetailResponse.AlbumDetailResultResponse> getAlbumDetail(Long albumId);
+
+    /**
+     * 응답 캐시/ETag 기준이 되는 현재 카탈로그 버전을 반환한다.
+     *
+     * <p>스냅샷/읽기 모델이 이 버전의 집계를 읽은 뒤에만 오르므로, 이 값을 읽은 뒤 만든 응답은 이 버전 이상의 데이터다.</p>
+     *
+     * @return 카탈로그 버전 (아직 확인 전이면 0)
+     */
+    long catalogVersion();
 }
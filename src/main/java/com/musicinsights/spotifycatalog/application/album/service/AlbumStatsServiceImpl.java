@@ -1,13 +1,25 @@
 package com.musicinsights.spotifycatalog.application.album.service;
 
 import com.musicinsights.spotifycatalog.application.album.dto.response.*;
+import com.musicinsights.spotifycatalog.application.common.cache.SingleFlight;
 import com.musicinsights.spotifycatalog.application.common.pagination.KeysetPageAssembler;
 import com.musicinsights.spotifycatalog.application.common.pagination.PageResult;
 import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.album.repository.ArtistAlbumsPageRow;
 import com.musicinsights.spotifycatalog.application.common.error.NotFoundException;
 import com.musicinsights.spotifycatalog.application.common.pagination.CursorCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * 앨범 통계/아티스트 앨범 목록 조회 서비스 구현체.
@@ -18,54 +30,168 @@ import reactor.core.publisher.Mono;
 public class AlbumStatsServiceImpl implements AlbumStatsService {
 
     private final AlbumStatsRepository albumStatsRepository;
+    private final AlbumCountSnapshot albumCountSnapshot;
+    private final TopArtistYearHistoryCache topArtistYearHistoryCache;
+    private final ArtistYearStatsReadModel artistYearStatsReadModel;
+    private final AlbumStatsResponseCache responseCache;
+    private final ArtistLookupLoader artistLookupLoader;
+    private final ArtistAlbumStatsPrefetcher statsPrefetcher;
+
+    /** 같은 키의 동시 캐시 미스를 하나의 DB 조회로 합침 */
+    private final SingleFlight<AlbumStatsResponseCache.Key, ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> statsFlight;
+    private final SingleFlight<AlbumStatsResponseCache.Key, ArtistAlbumsResponse.ArtistAlbumsResultResponse> albumsFlight;
+    private final SingleFlight<AlbumStatsResponseCache.Key, AlbumDetailResponse.AlbumDetailResultResponse> albumDetailFlight;
+
+    /** 아티스트 앨범 목록 DB 조회 시간 (첫 페이지: 통합 쿼리 / 후속 페이지: keyset 쿼리 / 일괄: 윈도 쿼리) */
+    private final Timer firstPageTimer;
+    private final Timer nextPageTimer;
+    private final Timer batchPageTimer;
 
-    public AlbumStatsServiceImpl(AlbumStatsRepository albumStatsRepository) {
+    public AlbumStatsServiceImpl(
+            AlbumStatsRepository albumStatsRepository,
+            AlbumCountSnapshot albumCountSnapshot,
+            TopArtistYearHistoryCache topArtistYearHistoryCache,
+            ArtistYearStatsReadModel artistYearStatsReadModel,
+            AlbumStatsResponseCache responseCache,
+            ArtistLookupLoader artistLookupLoader,
+            ArtistAlbumStatsPrefetcher statsPrefetcher,
+            MeterRegistry meterRegistry
+    ) {
         this.albumStatsRepository = albumStatsRepository;
+        this.albumCountSnapshot = albumCountSnapshot;
+        this.topArtistYearHistoryCache = topArtistYearHistoryCache;
+        this.artistYearStatsReadModel = artistYearStatsReadModel;
+        this.responseCache = responseCache;
+        this.artistLookupLoader = artistLookupLoader;
+        this.statsPrefetcher = statsPrefetcher;
+        this.statsFlight = new SingleFlight<>("album.stats.artist", meterRegistry);
+        this.albumsFlight = new SingleFlight<>("album.stats.artist_albums", meterRegistry);
+        this.albumDetailFlight = new SingleFlight<>("album.detail", meterRegistry);
+        this.firstPageTimer = artistAlbumsTimer("first", meterRegistry);
+        this.nextPageTimer = artistAlbumsTimer("next", meterRegistry);
+        this.batchPageTimer = artistAlbumsTimer("batch", meterRegistry);
+    }
+
+    private static Timer artistAlbumsTimer(String page, MeterRegistry meterRegistry) {
+        return Timer.builder("album.stats.artist_albums.query")
+                .description("DB time of one artist albums page")
+                .tag("page", page)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 
     /**
      * 아티스트별 발매 앨범 수 통계를 조회한다.
      *
+     * <p>totalAlbums는 {@link AlbumCountSnapshot}에서 DB 조회 없이 가져오고,
+     * 스냅샷이 아직 없을 때만 COUNT 쿼리를 실행한다.
+     * 연도 지정 페이지는 {@link ArtistYearStatsReadModel}이 로드되어 있으면 그것으로 만든다.
+     * 응답 전체는 카탈로그 버전 단위로 {@link AlbumStatsResponseCache}에 보관하고,
+     * 같은 키의 동시 캐시 미스는 {@link SingleFlight}로 한 번만 조회한다.
+     * 이름을 요청하지 않으면 artist JOIN 없는 쿼리로 조회하고, 캐시도 별도 키로 보관한다.
+     * 다음 페이지가 있으면 {@link ArtistAlbumStatsPrefetcher}로 미리 읽어 두어(opt-in) 이어지는 요청이 메모리에서 끝나게 한다.</p>
+     *
      * @param year   연도(없으면 전체)
      * @param cursor 다음 페이지 커서
      * @param size   페이지 크기
+     * @param includeArtistName 항목에 아티스트 이름을 포함할지 여부
      * @return 통계 결과(총 앨범 수 + 페이지 정보)
      */
     public Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> getArtistAlbumStats(
             Integer year,
             String cursor,
-            int size
+            int size,
+            boolean includeArtistName
     ){
+        String endpoint = includeArtistName ? "stats" : "stats-without-name";
+        AlbumStatsResponseCache.Key key = new AlbumStatsResponseCache.Key(endpoint, null, year, cursor, size);
+        return responseCache.getOrLoad(
+                key,
+                () -> statsPrefetcher.getOrLoad(
+                                responseCache.currentVersion(),
+                                key,
+                                () -> statsFlight.execute(key, () -> loadArtistAlbumStats(year, cursor, size, includeArtistName))
+                        )
+                        .doOnNext(res -> prefetchNextStatsPage(endpoint, year, size, includeArtistName, res))
+        );
+    }
+
+    /** hasNext 페이지면 nextCursor로 다음 페이지를 미리 읽는다. */
+    private void prefetchNextStatsPage(
+            String endpoint,
+            Integer year,
+            int size,
+            boolean includeArtistName,
+            ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse res
+    ) {
+        String nextCursor = res.page().nextCursor();
+        if (!res.page().hasNext() || nextCursor == null) return;
+
+        AlbumStatsResponseCache.Key nextKey = new AlbumStatsResponseCache.Key(endpoint, null, year, nextCursor, size);
+        statsPrefetcher.prefetch(
+                responseCache.currentVersion(),
+                nextKey,
+                () -> statsFlight.execute(nextKey, () -> loadArtistAlbumStats(year, nextCursor, size, includeArtistName))
+        );
+    }
+
+    private Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> loadArtistAlbumStats(
+            Integer year,
+            String cursor,
+            int size,
+            boolean includeArtistName
+    ) {
         ArtistAlbumStatsResponse.ArtistAlbumStatsCursor decoded =
                 CursorCodec.decodeOrNull(cursor, ArtistAlbumStatsResponse.ArtistAlbumStatsCursor.class);
 
         long cursorAlbumCount = (decoded == null) ? Long.MAX_VALUE : decoded.albumCount();
         long cursorArtistId   = (decoded == null) ? 0L : decoded.artistId();
+        long version = responseCache.currentVersion();
+        // 커서의 총 개수는 같은 카탈로그 버전에서 계산된 경우에만 쓴다 (버전 확인 전(0)이면 항상 다시 계산)
+        Long cursorTotal = (decoded == null || version <= 0 || !Long.valueOf(version).equals(decoded.version()))
+                ? null
+                : decoded.total();
 
         int fetchSize = KeysetPageAssembler.fetchSize(size);
 
-        Mono<Long> totalAlbumsMono = albumStatsRepository.countAlbums(year);
+        // 메모리 스냅샷(현재 버전과 함께 갱신됨)을 먼저 쓰고, 없을 때만 커서의 총 개수, 그마저 없으면 COUNT
+        Long snapshotTotal = albumCountSnapshot.totalAlbums(year);
+        Long knownTotal = (snapshotTotal != null) ? snapshotTotal : cursorTotal;
+        Mono<Long> totalAlbumsMono = (knownTotal != null)
+                ? Mono.just(knownTotal)
+                : albumStatsRepository.countAlbums(year);
 
-        Mono<PageResult<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse>> pageMono =
-                albumStatsRepository.findArtistAlbumCounts(year, cursorAlbumCount, cursorArtistId, fetchSize)
-                        .collectList()
-                        .map(list -> KeysetPageAssembler.toPage(
-                                list,
-                                size,
-                                last -> CursorCodec.encode(
-                                        new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(last.albumCount(), last.artistId())
-                                )
-                        ));
-
-        return Mono.zip(totalAlbumsMono, pageMono)
-                .map(t -> new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(year, t.getT1(), t.getT2()));
+        List<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> inMemory = (year == null)
+                ? null
+                : artistYearStatsReadModel.page(year, cursorAlbumCount, cursorArtistId, fetchSize);
+        if (inMemory != null && !includeArtistName) {
+            inMemory = inMemory.stream().map(ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse::withoutName).toList();
+        }
+        Mono<List<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse>> fetchedMono = (inMemory != null)
+                ? Mono.just(inMemory)
+                : albumStatsRepository.findArtistAlbumCounts(year, cursorAlbumCount, cursorArtistId, fetchSize, includeArtistName)
+                        .collectList();
 
+        return Mono.zip(totalAlbumsMono, fetchedMono)
+                .map(t -> {
+                    long total = t.getT1();
+                    PageResult<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> page = KeysetPageAssembler.toPage(
+                            t.getT2(),
+                            size,
+                            last -> CursorCodec.encode(
+                                    new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(last.albumCount(), last.artistId(), total, version)
+                            )
+                    );
+                    return new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(year, total, page);
+                });
     }
 
     /**
      * 특정 아티스트의 앨범 목록을 조회한다.
      *
-     * <p>year가 없으면 (releaseYear, albumId) 커서, year가 있으면 (albumId) 커서를 사용한다.</p>
+     * <p>year가 없으면 (releaseYear, albumId) 커서, year가 있으면 (albumId) 커서를 사용한다.
+     * 응답 전체는 카탈로그 버전 단위로 {@link AlbumStatsResponseCache}에 보관하고,
+     * 같은 키의 동시 캐시 미스는 {@link SingleFlight}로 한 번만 조회한다.</p>
      *
      * @param artistId 아티스트 ID
      * @param year     연도(없으면 전체)
@@ -79,50 +205,250 @@ public class AlbumStatsServiceImpl implements AlbumStatsService {
             Integer year,
             String cursor,
             int size
+    ) {
+        AlbumStatsResponseCache.Key key = new AlbumStatsResponseCache.Key("albums", artistId, year, cursor, size);
+        return responseCache.getOrLoad(
+                key,
+                () -> albumsFlight.execute(key, () -> loadArtistAlbums(artistId, year, cursor, size))
+        );
+    }
+
+    private Mono<ArtistAlbumsResponse.ArtistAlbumsResultResponse> loadArtistAlbums(
+            Long artistId,
+            Integer year,
+            String cursor,
+            int size
     ) {
         ArtistAlbumsResponse.ArtistAlbumsCursor decoded =
                 CursorCodec.decodeOrNull(cursor, ArtistAlbumsResponse.ArtistAlbumsCursor.class);
 
         Integer cursorReleaseYear = (decoded == null) ? null : decoded.releaseYear();
         Long cursorAlbumId = (decoded == null) ? null : decoded.albumId();
+        long version = responseCache.currentVersion();
+        // 커서의 총 개수는 같은 카탈로그 버전에서 계산된 경우에만 쓴다 (버전 확인 전(0)이면 항상 다시 계산)
+        Long cursorTotal = (decoded == null || version <= 0 || !Long.valueOf(version).equals(decoded.version()))
+                ? null
+                : decoded.total();
+
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+
+        Mono<Tuple2<Long, List<ArtistAlbumsResponse.ArtistAlbumsItemResponse>>> totalAndItems;
+        if (cursorTotal == null) {
+            // 첫 페이지(또는 버전이 다른 커서): 존재 확인 + 총 개수 + 페이지를 한 문장으로 (0행이면 아티스트 없음)
+            totalAndItems = albumStatsRepository.findArtistAlbumsWithTotal(artistId, year, cursorReleaseYear, cursorAlbumId, fetchSize)
+                    .switchIfEmpty(Mono.error(() -> artistNotFound()))
+                    .map(row -> Tuples.of(row.total(), row.items()))
+                    .transform(timed(firstPageTimer));
+        } else {
+            // 후속 페이지: 커서의 총 개수를 쓰고 페이지 쿼리 하나만 실행 (비었을 때만 존재 확인)
+            totalAndItems = albumStatsRepository.findArtistAlbumsKeyset(artistId, year, cursorReleaseYear, cursorAlbumId, fetchSize)
+                    .collectList()
+                    .flatMap(list -> list.isEmpty()
+                            ? requireArtistExists(artistId).thenReturn(Tuples.of(cursorTotal, list))
+                            : Mono.just(Tuples.of(cursorTotal, list)))
+                    .transform(timed(nextPageTimer));
+        }
+
+        return totalAndItems
+                .map(t -> toArtistAlbumsResult(artistId, year, t.getT1(), t.getT2(), size, version));
+    }
 
+    /**
+     * 여러 아티스트의 앨범 목록 첫 페이지를 한 번에 조회한다.
+     *
+     * <p>아티스트마다 호출하지 않고 윈도 함수 쿼리 하나로 첫 페이지와 총 개수를 가져온다.
+     * 다음 페이지 커서는 단건 조회와 같은 형식이라 단건 API로 이어서 조회할 수 있다.</p>
+     *
+     * @param artistIds 아티스트 ID 목록(중복은 한 번만 조회)
+     * @param year      연도(없으면 전체)
+     * @param size      아티스트별 페이지 크기
+     * @return 아티스트별 첫 페이지와 존재하지 않는 아티스트 ID
+     */
+    @Override
+    public Mono<ArtistAlbumsResponse.ArtistAlbumsBatchResultResponse> getArtistAlbumsBatch(
+            List<Long> artistIds,
+            Integer year,
+            int size
+    ) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(artistIds));
         int fetchSize = KeysetPageAssembler.fetchSize(size);
+        long version = responseCache.currentVersion();
+
+        return albumStatsRepository.findArtistAlbumsFirstPages(ids, year, fetchSize)
+                .transform(timed(batchPageTimer))
+                .map(pages -> {
+                    List<ArtistAlbumsResponse.ArtistAlbumsResultResponse> artists = new ArrayList<>(pages.size());
+                    List<Long> missing = new ArrayList<>();
+                    for (Long id : ids) {
+                        ArtistAlbumsPageRow row = pages.get(id);
+                        if (row == null) {
+                            missing.add(id);
+                        } else {
+                            artists.add(toArtistAlbumsResult(id, year, row.total(), row.items(), size, version));
+                        }
+                    }
+                    return new ArtistAlbumsResponse.ArtistAlbumsBatchResultResponse(year, artists, missing);
+                });
+    }
+
+    /**
+     * fetchSize로 조회한 앨범 목록을 페이지로 조립하고, 다음 페이지 커서에 총 개수와 카탈로그 버전을 싣는다.
+     *
+     * <p>year가 없으면 (releaseYear, albumId) 커서, year가 있으면 (albumId) 커서를 만든다.
+     * 버전은 총 개수를 계산하기 전에 읽은 값이라, 총 개수는 항상 그 버전 이상의 데이터로 계산된 것이다.</p>
+     */
+    private static ArtistAlbumsResponse.ArtistAlbumsResultResponse toArtistAlbumsResult(
+            Long artistId,
+            Integer year,
+            long total,
+            List<ArtistAlbumsResponse.ArtistAlbumsItemResponse> fetched,
+            int size,
+            long version
+    ) {
+        PageResult<ArtistAlbumsResponse.ArtistAlbumsItemResponse> page = KeysetPageAssembler.toPage(
+                fetched,
+                size,
+                last -> {
+                    ArtistAlbumsResponse.ArtistAlbumsCursor nc = (year == null)
+                            ? new ArtistAlbumsResponse.ArtistAlbumsCursor(last.releaseYear(), last.albumId(), total, version)
+                            : new ArtistAlbumsResponse.ArtistAlbumsCursor(null, last.albumId(), total, version);
 
-        Mono<Long> totalMono = albumStatsRepository.countArtistAlbums(artistId, year);
+                    return CursorCodec.encode(nc);
+                }
+        );
+        return new ArtistAlbumsResponse.ArtistAlbumsResultResponse(artistId, year, total, page);
+    }
+
+    /**
+     * 순위 목록의 임의 페이지를 조회한다.
+     *
+     * <p>page번째 페이지는 row_no [(page-1)*size+1, page*size] 구간이므로 인덱스 range 조회 한 번으로 끝난다.</p>
+     *
+     * @param year 연도(없으면 전체)
+     * @param page 페이지 번호(1부터)
+     * @param size 페이지 크기
+     * @return 해당 페이지 순위 목록
+     */
+    @Override
+    public Mono<ArtistRankResponse.ArtistRankPageResponse> getArtistRankPage(
+            Integer year,
+            long page,
+            int size
+    ) {
+        long fromRow = (page - 1) * size + 1;
+        long toRow = page * size;
+
+        return albumStatsRepository.findRankRange(year, fromRow, toRow)
+                .collectList()
+                .map(items -> new ArtistRankResponse.ArtistRankPageResponse(year, page, size, items));
+    }
 
-        Mono<PageResult<ArtistAlbumsResponse.ArtistAlbumsItemResponse>> pageMono =
-                albumStatsRepository.findArtistAlbumsKeyset(artistId, year, cursorReleaseYear, cursorAlbumId, fetchSize)
-                        .collectList()
-                        .map(list -> KeysetPageAssembler.toPage(
-                                list,
-                                size,
-                                last -> {
-                                    ArtistAlbumsResponse.ArtistAlbumsCursor nc = (year == null)
-                                            ? new ArtistAlbumsResponse.ArtistAlbumsCursor(last.releaseYear(), last.albumId())
-                                            : new ArtistAlbumsResponse.ArtistAlbumsCursor(null, last.albumId());
+    /**
+     * 특정 아티스트의 전체/연도별 순위를 조회한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 전체 및 연도별 순위
+     */
+    @Override
+    public Mono<ArtistRankResponse.ArtistRanksResponse> getArtistRanks(Long artistId) {
+        Mono<Optional<ArtistRankResponse.ArtistYearRankResponse>> totalMono =
+                albumStatsRepository.findArtistTotalRank(artistId)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty());
+
+        Mono<List<ArtistRankResponse.ArtistYearRankResponse>> yearsMono =
+                albumStatsRepository.findArtistYearRanks(artistId).collectList();
+
+        return requireArtistExists(artistId)
+                .then(Mono.zip(totalMono, yearsMono))
+                .map(t -> new ArtistRankResponse.ArtistRanksResponse(artistId, t.getT1().orElse(null), t.getT2()));
+    }
+
+    /**
+     * 앨범 상세(수록 트랙, 아티스트, 오디오 특성)를 조회한다.
+     *
+     * <p>앨범/트랙/오디오 특성/트랙 아티스트를 쿼리 한 번으로 읽는다.
+     * 자주 조회되는 앨범은 카탈로그 버전 단위로 {@link AlbumStatsResponseCache}(LRU)에 남고,
+     * 같은 앨범의 동시 캐시 미스는 {@link SingleFlight}로 한 번만 조회한다.</p>
+     *
+     * @param albumId 앨범 ID
+     * @return 앨범 상세
+     */
+    @Override
+    public Mono<AlbumDetailResponse.AlbumDetailResultResponse> getAlbumDetail(Long albumId) {
+        AlbumStatsResponseCache.Key key = new AlbumStatsResponseCache.Key("album", albumId, null, null, 0);
+        return responseCache.getOrLoad(
+                key,
+                () -> albumDetailFlight.execute(key, () -> albumStatsRepository.findAlbumDetail(albumId)
+                        .switchIfEmpty(Mono.error(() -> albumNotFound())))
+        );
+    }
 
-                                    return CursorCodec.encode(nc);
-                                }
-                        ));
+    /**
+     * 특정 아티스트의 연도별 앨범 수 이력을 조회한다.
+     *
+     * <p>상위 아티스트는 {@link TopArtistYearHistoryCache}에서 DB 조회 없이 반환하고,
+     * 그 외에는 (artist_id, release_year) 인덱스로 한 번에 조회한다.</p>
+     *
+     * @param artistId 아티스트 ID
+     * @return 연도별 앨범 수 이력
+     */
+    @Override
+    public Mono<ArtistYearHistoryResponse.ArtistYearHistoryResultResponse> getArtistYearHistory(Long artistId) {
+        List<ArtistYearHistoryResponse.ArtistYearCountResponse> cached = topArtistYearHistoryCache.find(artistId);
+        if (cached != null) {
+            return Mono.just(toYearHistory(artistId, cached));
+        }
 
         return requireArtistExists(artistId)
-                .then(Mono.zip(totalMono, pageMono))
-                .map(t -> new ArtistAlbumsResponse.ArtistAlbumsResultResponse(artistId, year, t.getT1(), t.getT2()));
+                .then(albumStatsRepository.findArtistYearHistory(artistId).collectList())
+                .map(years -> toYearHistory(artistId, years));
+    }
 
+    private static ArtistYearHistoryResponse.ArtistYearHistoryResultResponse toYearHistory(
+            Long artistId,
+            List<ArtistYearHistoryResponse.ArtistYearCountResponse> years
+    ) {
+        long total = years.stream().mapToLong(ArtistYearHistoryResponse.ArtistYearCountResponse::albumCount).sum();
+        return new ArtistYearHistoryResponse.ArtistYearHistoryResultResponse(artistId, total, years);
+    }
 
+    @Override
+    public long catalogVersion() {
+        return responseCache.currentVersion();
     }
 
     /**
      * artistId가 존재하지 않으면 {@link NotFoundException}을 발생시킨다.
      *
+     * <p>존재 확인은 {@link ArtistLookupLoader}가 다른 요청의 확인과 모아 한 번에 조회한다.</p>
+     *
      * @param artistId 아티스트 ID
      * @return 존재 시 완료(빈 Mono), 미존재 시 에러
      */
     private Mono<Void> requireArtistExists(Long artistId) {
-        return albumStatsRepository.existsArtist(artistId)
+        return artistLookupLoader.exists(artistId)
                 .flatMap(exists -> exists
                         ? Mono.empty()
-                        : Mono.error(new NotFoundException("ARTIST_NOT_FOUND", "artist not found")));
+                        : Mono.error(artistNotFound()));
+    }
+
+    private static NotFoundException artistNotFound() {
+        return new NotFoundException("ARTIST_NOT_FOUND", "artist not found");
+    }
+
+    private static NotFoundException albumNotFound() {
+        return new NotFoundException("ALBUM_NOT_FOUND", "album not found");
+    }
+
+    /**
+     * 구독부터 종료(성공/에러)까지의 시간을 타이머에 기록한다.
+     */
+    private static <T> Function<Mono<T>, Mono<T>> timed(Timer timer) {
+        return mono -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return mono.doFinally(signal -> sample.stop(timer));
+        });
     }
 
 }
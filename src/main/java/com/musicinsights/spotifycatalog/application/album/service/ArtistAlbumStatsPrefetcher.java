@@ -0,0 +1,85 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
+import com.musicinsights.spotifycatalog.application.common.pagination.KeysetPagePrefetcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 아티스트별 앨범 수 통계의 다음 페이지를 미리 읽어 두는 prefetcher.
+ *
+ * <p>통계 목록을 넘기는 클라이언트는 방금 받은 nextCursor로 바로 다음 페이지를 요청하므로,
+ * hasNext 페이지를 응답할 때 다음 페이지를 {@link KeysetPagePrefetcher}로 미리 읽어 둔다.
+ * {@code catalog.stats-prefetch-enabled}가 true일 때만 동작하고(opt-in), 꺼져 있으면 매번 바로 조회한다.</p>
+ *
+ * <p>미리 읽은 페이지는 읽을 때의 카탈로그 버전과 함께 보관한다.
+ * 버전이 바뀐 뒤의 요청은 이전 버전 페이지를 꺼내지 않으므로, 응답 캐시에 새 버전으로 이전 데이터가 저장되지 않는다.</p>
+ */
+@Component
+public class ArtistAlbumStatsPrefetcher {
+
+    /** (카탈로그 버전, 응답 키) → 미리 읽은 페이지 (꺼져 있으면 null) */
+    private final KeysetPagePrefetcher<VersionedKey, ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> prefetcher;
+
+    public ArtistAlbumStatsPrefetcher(
+            MeterRegistry meterRegistry,
+            @Value("${catalog.stats-prefetch-enabled:false}") boolean enabled,
+            @Value("${catalog.stats-prefetch-ttl-ms:30000}") long ttlMs,
+            @Value("${catalog.stats-prefetch-max-concurrency:2}") int maxConcurrency,
+            @Value("${catalog.stats-prefetch-max-entries:1000}") int maxEntries
+    ) {
+        this.prefetcher = !enabled
+                ? null
+                : new KeysetPagePrefetcher<>(
+                        "album.stats.artist",
+                        Duration.ofMillis(ttlMs),
+                        maxConcurrency,
+                        maxEntries,
+                        meterRegistry
+                );
+    }
+
+    /**
+     * 같은 카탈로그 버전에서 미리 읽은 페이지가 있으면 반환하고, 없으면 loader로 조회한다.
+     *
+     * @param version 현재 카탈로그 버전
+     * @param key     응답 키
+     * @param loader  조회
+     * @return 통계 결과
+     */
+    public Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> getOrLoad(
+            long version,
+            AlbumStatsResponseCache.Key key,
+            Supplier<Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse>> loader
+    ) {
+        if (prefetcher == null) {
+            return loader.get();
+        }
+        return prefetcher.getOrLoad(new VersionedKey(version, key), loader);
+    }
+
+    /**
+     * 다음 페이지를 비동기로 미리 읽는다. (꺼져 있으면 아무것도 하지 않음)
+     *
+     * @param version 현재 카탈로그 버전 (prefetch 시작 전에 읽은 값)
+     * @param nextKey 다음 페이지 응답 키
+     * @param loader  다음 페이지 조회
+     */
+    public void prefetch(
+            long version,
+            AlbumStatsResponseCache.Key nextKey,
+            Supplier<Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse>> loader
+    ) {
+        if (prefetcher != null) {
+            prefetcher.prefetch(new VersionedKey(version, nextKey), loader);
+        }
+    }
+
+    /** 미리 읽은 페이지의 보관 키 */
+    private record VersionedKey(long version, AlbumStatsResponseCache.Key key) {}
+}
@@ -0,0 +1,58 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.common.batch.MicroBatchLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 아티스트 존재 확인을 요청 간에 모아 처리하는 로더.
+ *
+ * <p>동시에 처리 중인 여러 요청이 각각 아티스트 몇 명씩을 확인하므로,
+ * {@code catalog.artist-lookup-window-ms} 동안 들어온 id를 {@link MicroBatchLoader}로 모아
+ * {@code WHERE id IN (...)} 한 번으로 조회한다.
+ * 창이 0이면 모으지 않고 요청마다 바로 조회한다.</p>
+ */
+@Component
+public class ArtistLookupLoader {
+
+    private final AlbumStatsRepository albumStatsRepository;
+
+    /** id → 이름 일괄 로더, 결과가 있으면 존재 (창이 0이면 null) */
+    private final MicroBatchLoader<Long, String> loader;
+
+    public ArtistLookupLoader(
+            AlbumStatsRepository albumStatsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.artist-lookup-window-ms:2}") long windowMs,
+            @Value("${catalog.artist-lookup-max-batch-size:100}") int maxBatchSize
+    ) {
+        this.albumStatsRepository = albumStatsRepository;
+        this.loader = (windowMs <= 0)
+                ? null
+                : new MicroBatchLoader<>(
+                        "artist.lookup",
+                        Duration.ofMillis(windowMs),
+                        maxBatchSize,
+                        albumStatsRepository::findArtistNames,
+                        meterRegistry
+                );
+    }
+
+    /**
+     * 아티스트가 존재하는지 확인한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 존재 여부
+     */
+    public Mono<Boolean> exists(Long artistId) {
+        if (loader == null) {
+            return albumStatsRepository.existsArtist(artistId);
+        }
+        return loader.load(artistId).hasElement();
+    }
+}
@@ -0,0 +1,271 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.album.repository.ArtistYearStatRow;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연도별 아티스트 앨범 수 통계(artist_album_count_year)의 프로세스 내 읽기 모델.
+ *
+ * <p>연도마다 (albumCount DESC, artistId ASC) 순서로 정렬된 {@code int[]}/{@code long[]} 배열과
+ * artistId 오름차순의 이름 사전만 보관하고, keyset 커서 위치는 이진 탐색으로 찾는다.
+ * 따라서 연도 지정 통계 페이지는 DB 조회 없이 O(log n + size)로 만들어진다.</p>
+ *
+ * <p>{@link AlbumCountSnapshot}과 같이 catalog_version만 주기적으로 확인하고,
+ * 버전이 바뀌면 새 모델을 모두 만든 뒤 참조 하나로 교체한다. (요청은 항상 한 버전 전체를 본다)</p>
+ *
+ * <p>로드 전이거나 비활성화 상태이면 {@link #page}가 null을 반환하며, 호출 측은 DB 쿼리로 대체한다.</p>
+ */
+@Component
+public class ArtistYearStatsReadModel implements InitializingBean, DisposableBean {
+
+    /** catalog_version에서 연도별 집계를 가리키는 이름 */
+    static final String VERSION_NAME = "artist_album_count_year";
+
+    private final AlbumStatsRepository albumStatsRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+
+    /** 현재 모델 (로드 전에는 null) */
+    private volatile Snapshot current;
+
+    /** 버전 확인 주기 작업 */
+    private Disposable poller;
+
+    public ArtistYearStatsReadModel(
+            AlbumStatsRepository albumStatsRepository,
+            CatalogVersionService catalogVersionService,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.year-read-model:true}") boolean enabled,
+            @Value("${catalog.snapshot-refresh-ms:5000}") long refreshMs
+    ) {
+        this.albumStatsRepository = albumStatsRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.enabled = enabled;
+        this.refreshInterval = Duration.ofMillis(refreshMs);
+
+        Gauge.builder("album.stats.read_model.bytes", this, m -> m.footprintBytes())
+                .description("approximate heap footprint of the year-level artist stats read model")
+                .register(meterRegistry);
+        Gauge.builder("album.stats.read_model.rows", this, m -> m.rowCount())
+                .description("rows held by the year-level artist stats read model")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연도 지정 통계의 keyset 페이지를 읽기 모델에서 만든다.
+     *
+     * @param year             연도
+     * @param cursorAlbumCount 커서 albumCount (첫 페이지면 Long.MAX_VALUE)
+     * @param cursorArtistId   커서 artistId (첫 페이지면 0)
+     * @param limit            가져올 최대 행 수(fetchSize)
+     * @return 커서 다음부터의 항목, 모델이 아직 없으면 null
+     */
+    public List<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> page(
+            int year,
+            long cursorAlbumCount,
+            long cursorArtistId,
+            int limit
+    ) {
+        Snapshot s = current;
+        if (s == null) return null;
+
+        YearSlice slice = s.byYear().get(year);
+        if (slice == null) return List.of();
+
+        int from = slice.firstAfter(cursorAlbumCount, cursorArtistId);
+        int to = Math.min(slice.size(), from + limit);
+
+        List<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> out = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            long artistId = slice.artistIds()[i];
+            out.add(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(
+                    artistId, s.nameOf(artistId), slice.albumCounts()[i]));
+        }
+        return out;
+    }
+
+    /**
+     * catalog_version이 바뀌었으면 집계 전체를 다시 읽어 모델을 교체한다.
+     *
+     * @return 교체했으면 true
+     */
+    Mono<Boolean> refreshIfChanged() {
+        if (!enabled) return Mono.just(false);
+
+        return catalogVersionService.currentVersion(VERSION_NAME)
+                .filter(version -> {
+                    Snapshot s = current;
+                    return version > 0 && (s == null || s.version() != version);
+                })
+                .flatMap(version -> albumStatsRepository.streamAllYearStats()
+                        .collect(Builder::new, Builder::add)
+                        .map(b -> b.build(version)))
+                .doOnNext(s -> {
+                    current = s;
+                    System.out.println("Year stats read model loaded. version=" + s.version()
+                            + " rows=" + s.rows() + " bytes~" + s.footprintBytes());
+                })
+                .map(s -> true)
+                .defaultIfEmpty(false);
+    }
+
+    /** 현재 모델의 대략적인 힙 사용량(byte). 로드 전이면 0. */
+    long footprintBytes() {
+        Snapshot s = current;
+        return (s == null) ? 0L : s.footprintBytes();
+    }
+
+    /** 현재 모델의 행 수. 로드 전이면 0. */
+    long rowCount() {
+        Snapshot s = current;
+        return (s == null) ? 0L : s.rows();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) return;
+
+        poller = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refreshIfChanged()
+                        .onErrorResume(e -> {
+                            System.err.println("[WARN] year stats read model refresh failed: " + e.getMessage());
+                            return Mono.just(false);
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) poller.dispose();
+    }
+
+    /**
+     * 한 연도의 집계. 두 배열은 같은 인덱스끼리 한 행이며 (albumCount DESC, artistId ASC)로 정렬되어 있다.
+     *
+     * @param albumCounts 앨범 수
+     * @param artistIds   아티스트 ID
+     */
+    record YearSlice(int[] albumCounts, long[] artistIds) {
+
+        int size() {
+            return artistIds.length;
+        }
+
+        /**
+         * 커서 (albumCount, artistId) 바로 다음 위치를 이진 탐색으로 찾는다.
+         * SQL의 {@code album_count < ? OR (album_count = ? AND artist_id > ?)}와 같은 조건이다.
+         */
+        int firstAfter(long cursorAlbumCount, long cursorArtistId) {
+            int lo = 0;
+            int hi = artistIds.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                long count = albumCounts[mid];
+                boolean after = count < cursorAlbumCount
+                        || (count == cursorAlbumCount && artistIds[mid] > cursorArtistId);
+                if (after) hi = mid;
+                else lo = mid + 1;
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * 특정 버전의 읽기 모델.
+     *
+     * @param version        catalog_version
+     * @param byYear         연도 → 집계
+     * @param nameIds        이름 사전 키(artistId 오름차순)
+     * @param names          nameIds와 같은 인덱스의 아티스트 이름
+     * @param rows           전체 행 수
+     * @param footprintBytes 대략적인 힙 사용량
+     */
+    record Snapshot(
+            long version,
+            Map<Integer, YearSlice> byYear,
+            long[] nameIds,
+            String[] names,
+            long rows,
+            long footprintBytes
+    ) {
+        String nameOf(long artistId) {
+            int idx = Arrays.binarySearch(nameIds, artistId);
+            return (idx >= 0) ? names[idx] : null;
+        }
+    }
+
+    /**
+     * 정렬된 행 스트림을 받아 연도별 배열과 이름 사전을 만든다.
+     * 행은 (연도 ASC, albumCount DESC, artistId ASC) 순서로 들어온다고 가정한다.
+     */
+    static final class Builder {
+        private final Map<Integer, YearSlice> byYear = new HashMap<>();
+        private final Map<Long, String> names = new HashMap<>();
+        private long rows;
+
+        private int year;
+        private int size;
+        private int[] counts = new int[0];
+        private long[] ids = new long[0];
+
+        void add(ArtistYearStatRow row) {
+            if (size > 0 && row.releaseYear() != year) flushYear();
+            year = row.releaseYear();
+
+            if (size == ids.length) {
+                int cap = Math.max(16, size * 2);
+                counts = Arrays.copyOf(counts, cap);
+                ids = Arrays.copyOf(ids, cap);
+            }
+            counts[size] = (int) row.albumCount();
+            ids[size] = row.artistId();
+            size++;
+            rows++;
+
+            names.putIfAbsent(row.artistId(), row.artistName());
+        }
+
+        private void flushYear() {
+            byYear.put(year, new YearSlice(Arrays.copyOf(counts, size), Arrays.copyOf(ids, size)));
+            size = 0;
+        }
+
+        Snapshot build(long version) {
+            if (size > 0) flushYear();
+
+            long[] nameIds = names.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            String[] nameArr = new String[nameIds.length];
+            long bytes = 0;
+            for (int i = 0; i < nameIds.length; i++) {
+                nameArr[i] = names.get(nameIds[i]);
+                // long 키 + 참조 + String 헤더/배열 (문자당 최대 2byte)
+                bytes += 8 + 8 + 40 + (nameArr[i] == null ? 0 : 2L * nameArr[i].length());
+            }
+            for (YearSlice slice : byYear.values()) {
+                // int + long 배열 + 배열 헤더
+                bytes += 12L * slice.size() + 64;
+            }
+
+            return new Snapshot(version, Map.copyOf(byYear), nameIds, nameArr, rows, bytes);
+        }
+    }
+}
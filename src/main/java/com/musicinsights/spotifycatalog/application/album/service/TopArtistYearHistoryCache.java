@@ -0,0 +1,110 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistYearHistoryResponse;
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 순위 상위 아티스트의 연도별 앨범 수 이력 캐시.
+ *
+ * <p>추이 차트 요청은 상위 아티스트에 몰리므로, 상위 N명의 이력을 한 번에 읽어 프로세스 내에 보관한다.
+ * {@link AlbumCountSnapshot}과 같이 catalog_version만 주기적으로 확인하고, 버전이 바뀌었을 때만 다시 읽는다.</p>
+ *
+ * <p>캐시에 없는 아티스트는 {@link #find(Long)}가 null을 반환하며, 호출 측은 DB에서 조회한다.</p>
+ */
+@Component
+public class TopArtistYearHistoryCache implements InitializingBean, DisposableBean {
+
+    /** 연도별 집계 이후 갱신되는 artist_album_count_total의 버전 이름 */
+    static final String VERSION_NAME = "artist_album_count_total";
+
+    private final AlbumStatsRepository albumStatsRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final int topN;
+    private final Duration refreshInterval;
+
+    /** 현재 캐시 (로드 전에는 null) */
+    private volatile Snapshot current;
+
+    /** 버전 확인 주기 작업 */
+    private Disposable poller;
+
+    public TopArtistYearHistoryCache(
+            AlbumStatsRepository albumStatsRepository,
+            CatalogVersionService catalogVersionService,
+            @Value("${catalog.top-artist-history-size:1000}") int topN,
+            @Value("${catalog.snapshot-refresh-ms:5000}") long refreshMs
+    ) {
+        this.albumStatsRepository = albumStatsRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.topN = topN;
+        this.refreshInterval = Duration.ofMillis(refreshMs);
+    }
+
+    /**
+     * 캐시된 아티스트의 연도별 앨범 수를 반환한다.
+     *
+     * @param artistId 아티스트 ID
+     * @return 연도별 앨범 수(연도 ASC), 캐시에 없으면 null
+     */
+    public List<ArtistYearHistoryResponse.ArtistYearCountResponse> find(Long artistId) {
+        Snapshot s = current;
+        if (s == null) return null;
+        return s.byArtist().get(artistId);
+    }
+
+    /**
+     * catalog_version이 바뀌었으면 상위 아티스트 이력을 다시 읽어 캐시를 교체한다.
+     *
+     * @return 교체했으면 true
+     */
+    Mono<Boolean> refreshIfChanged() {
+        if (topN <= 0) return Mono.just(false);
+
+        return catalogVersionService.currentVersion(VERSION_NAME)
+                .filter(version -> {
+                    Snapshot s = current;
+                    return version > 0 && (s == null || s.version() != version);
+                })
+                .flatMap(version -> albumStatsRepository.findTopArtistYearHistory(topN)
+                        .map(byArtist -> new Snapshot(version, Map.copyOf(byArtist))))
+                .doOnNext(s -> current = s)
+                .map(s -> true)
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        poller = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refreshIfChanged()
+                        .onErrorResume(e -> {
+                            System.err.println("[WARN] top artist history cache refresh failed: " + e.getMessage());
+                            return Mono.just(false);
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) poller.dispose();
+    }
+
+    /**
+     * 특정 버전의 상위 아티스트 이력.
+     *
+     * @param version  catalog_version
+     * @param byArtist artistId → 연도별 앨범 수
+     */
+    record Snapshot(long version, Map<Long, List<ArtistYearHistoryResponse.ArtistYearCountResponse>> byArtist) {}
+}
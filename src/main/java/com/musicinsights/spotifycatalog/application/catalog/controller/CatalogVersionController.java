@@ -0,0 +1,33 @@
+package com.musicinsights.spotifycatalog.application.catalog.controller;
+
+import com.musicinsights.spotifycatalog.application.catalog.dto.response.CatalogVersionResponse;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 집계 테이블 버전 조회 API 컨트롤러.
+ *
+ * <p>집계별 버전, 마지막 rebuild 완료 시각과 소요 시간을 제공한다.</p>
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogVersionController {
+    private final CatalogVersionService service;
+
+    public CatalogVersionController(CatalogVersionService service) {
+        this.service = service;
+    }
+
+    /**
+     * 모든 집계 테이블의 버전 정보를 조회한다.
+     *
+     * @return 집계 버전 목록
+     */
+    @GetMapping("/versions")
+    public Flux<CatalogVersionResponse> versions() {
+        return service.getVersions();
+    }
+}
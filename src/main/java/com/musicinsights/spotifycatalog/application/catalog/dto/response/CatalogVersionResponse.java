@@ -0,0 +1,17 @@
+package com.musicinsights.spotifycatalog.application.catalog.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 테이블 버전 응답 DTO.
+ *
+ * @param name      집계 이름(테이블명)
+ * @param version   rebuild 완료 시마다 1씩 증가하는 버전
+ * @param rebuiltAt 마지막 rebuild(swap) 완료 시각
+ * @param rebuildMs 마지막 rebuild 소요 시간(ms)
+ */
+public record CatalogVersionResponse(String name,
+                                     long version,
+                                     LocalDateTime rebuiltAt,
+                                     long rebuildMs
+) {}
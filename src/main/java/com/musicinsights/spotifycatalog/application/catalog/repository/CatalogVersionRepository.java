@@ -0,0 +1,67 @@
+package com.musicinsights.spotifycatalog.application.catalog.repository;
+
+import com.musicinsights.spotifycatalog.application.catalog.dto.response.CatalogVersionResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 테이블 버전(catalog_version) 조회 저장소.
+ *
+ * <p>버전은 ingest의 집계 rebuild가 기록하며, 여기서는 읽기만 한다.</p>
+ */
+@Component
+public class CatalogVersionRepository {
+    private final DatabaseClient db;
+
+    public CatalogVersionRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /**
+     * 모든 집계의 버전 정보를 이름 순으로 조회한다.
+     *
+     * @return 집계 버전 목록
+     */
+    public Flux<CatalogVersionResponse> findAll() {
+        String sql = """
+            SELECT name, version, rebuilt_at, rebuild_ms
+            FROM catalog_version
+            ORDER BY name
+        """;
+
+        return db.sql(sql)
+                .map((row, meta) -> new CatalogVersionResponse(
+                        row.get("name", String.class),
+                        row.get("version", Number.class).longValue(),
+                        row.get("rebuilt_at", LocalDateTime.class),
+                        row.get("rebuild_ms", Number.class).longValue()
+                ))
+                .all();
+    }
+
+    /**
+     * 특정 집계의 현재 버전을 조회한다.
+     *
+     * <p>아직 한 번도 rebuild 되지 않았으면 0을 반환한다.</p>
+     *
+     * @param name 집계 이름
+     * @return 현재 버전(없으면 0)
+     */
+    public Mono<Long> findVersion(String name) {
+        String sql = """
+            SELECT version
+            FROM catalog_version
+            WHERE name = ?
+        """;
+
+        return db.sql(sql)
+                .bind(0, name)
+                .map((row, meta) -> row.get("version", Number.class).longValue())
+                .one()
+                .defaultIfEmpty(0L);
+    }
+}
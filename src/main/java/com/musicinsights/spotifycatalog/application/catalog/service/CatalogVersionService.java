@@ -0,0 +1,28 @@
+package com.musicinsights.spotifycatalog.application.catalog.service;
+
+import com.musicinsights.spotifycatalog.application.catalog.dto.response.CatalogVersionResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 집계 테이블 버전 조회 서비스.
+ *
+ * <p>집계가 rebuild(swap)될 때마다 버전이 바뀌므로, 조회 응답 캐시의 키로 사용할 수 있다.</p>
+ */
+public interface CatalogVersionService {
+
+    /**
+     * 모든 집계의 버전 정보를 조회한다.
+     *
+     * @return 집계 버전 목록
+     */
+    Flux<CatalogVersionResponse> getVersions();
+
+    /**
+     * 특정 집계의 현재 버전을 조회한다.
+     *
+     * @param name 집계 이름
+     * @return 현재 버전(없으면 0)
+     */
+    Mono<Long> currentVersion(String name);
+}
@@ -0,0 +1,30 @@
+package com.musicinsights.spotifycatalog.application.catalog.service;
+
+import com.musicinsights.spotifycatalog.application.catalog.dto.response.CatalogVersionResponse;
+import com.musicinsights.spotifycatalog.application.catalog.repository.CatalogVersionRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 집계 테이블 버전 조회 서비스 구현체.
+ */
+@Service
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    public CatalogVersionServiceImpl(CatalogVersionRepository catalogVersionRepository) {
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    @Override
+    public Flux<CatalogVersionResponse> getVersions() {
+        return catalogVersionRepository.findAll();
+    }
+
+    @Override
+    public Mono<Long> currentVersion(String name) {
+        return catalogVersionRepository.findVersion(name);
+    }
+}
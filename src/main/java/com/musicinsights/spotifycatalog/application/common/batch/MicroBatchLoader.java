@@ -0,0 +1,180 @@
+package com.musicinsights.spotifycatalog.application.common.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 창 동안 들어온 단건 조회를 모아 한 번의 일괄 조회로 처리하는 micro-batch 로더. (DataLoader 방식)
+ *
+ * <p>첫 키가 들어오면 {@code window} 뒤에 일괄 조회가 예약되고, 그 사이 다른 요청에서 들어온 키는 같은 배치에 합류한다.
+ * 배치가 {@code maxBatchSize}개의 서로 다른 키로 차면 창을 기다리지 않고 바로 조회한다.
+ * 같은 키를 여러 요청이 기다리면 한 번만 조회해 결과를 나눠 준다.</p>
+ *
+ * <p>일괄 조회 결과에 없는 키는 빈 {@link Mono}로, 일괄 조회가 실패하면 배치의 모든 요청이 같은 에러로 끝난다.</p>
+ *
+ * <p>{@code micro_batch.size{name}}(배치당 키 수), {@code micro_batch.fill_ratio{name}}(키 수 / maxBatchSize),
+ * {@code micro_batch.flushes{name, trigger=window|full}}로 배치가 얼마나 채워지는지 기록한다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public final class MicroBatchLoader<K, V> {
+
+    private final Function<List<K>, Mono<Map<K, V>>> batchLoader;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+
+    private final DistributionSummary batchSize;
+    private final DistributionSummary fillRatio;
+    private final Counter windowFlushes;
+    private final Counter fullFlushes;
+
+    /** 다음 배치에 모인 키 → 결과를 기다리는 요청들 (this로 보호) */
+    private Map<K, List<Sinks.One<V>>> pending = new LinkedHashMap<>();
+
+    /** 예약된 창 종료 flush (없으면 null, this로 보호) */
+    private Disposable scheduledFlush;
+
+    /**
+     * @param name          메트릭 태그에 쓸 이름
+     * @param window        첫 키 이후 배치를 모으는 시간
+     * @param maxBatchSize  한 배치의 최대 키 수
+     * @param batchLoader   키 목록을 받아 키 → 결과 맵을 돌려주는 일괄 조회
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public MicroBatchLoader(
+            String name,
+            Duration window,
+            int maxBatchSize,
+            Function<List<K>, Mono<Map<K, V>>> batchLoader,
+            MeterRegistry meterRegistry
+    ) {
+        this(name, window, maxBatchSize, batchLoader, meterRegistry, Schedulers.parallel());
+    }
+
+    /**
+     * @param scheduler 창 종료 flush를 예약할 스케줄러 (테스트에서는 가상 시간 스케줄러)
+     */
+    public MicroBatchLoader(
+            String name,
+            Duration window,
+            int maxBatchSize,
+            Function<List<K>, Mono<Map<K, V>>> batchLoader,
+            MeterRegistry meterRegistry,
+            Scheduler scheduler
+    ) {
+        this.batchLoader = batchLoader;
+        this.window = window;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduler = scheduler;
+
+        this.batchSize = DistributionSummary.builder("micro_batch.size")
+                .description("distinct keys per batch query")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.fillRatio = DistributionSummary.builder("micro_batch.fill_ratio")
+                .description("distinct keys per batch divided by max batch size")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.windowFlushes = Counter.builder("micro_batch.flushes")
+                .description("batches sent when the window elapsed")
+                .tag("name", name)
+                .tag("trigger", "window")
+                .register(meterRegistry);
+        this.fullFlushes = Counter.builder("micro_batch.flushes")
+                .description("batches sent early because they reached max batch size")
+                .tag("name", name)
+                .tag("trigger", "full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 하나를 다음 배치에 넣고 결과를 기다린다.
+     *
+     * @param key 조회 키
+     * @return 결과 (일괄 조회 결과에 없으면 empty)
+     */
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            Sinks.One<V> sink = Sinks.one();
+            Map<K, List<Sinks.One<V>>> full = null;
+
+            synchronized (this) {
+                pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(sink);
+                if (pending.size() >= maxBatchSize) {
+                    full = takePending();
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = scheduler.schedule(this::flushWindow, window.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+
+            if (full != null) {
+                fullFlushes.increment();
+                dispatch(full);
+            }
+            return sink.asMono();
+        });
+    }
+
+    /** 창이 끝나면 그때까지 모인 키를 조회한다. */
+    private void flushWindow() {
+        Map<K, List<Sinks.One<V>>> batch;
+        synchronized (this) {
+            scheduledFlush = null;
+            if (pending.isEmpty()) return;
+            batch = takePending();
+        }
+        windowFlushes.increment();
+        dispatch(batch);
+    }
+
+    /** 모인 키를 꺼내고 예약된 flush를 취소한다. (this 잠금 안에서 호출) */
+    private Map<K, List<Sinks.One<V>>> takePending() {
+        Map<K, List<Sinks.One<V>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    /** 일괄 조회를 실행하고 결과를 키별 요청으로 나눠 준다. */
+    private void dispatch(Map<K, List<Sinks.One<V>>> batch) {
+        batchSize.record(batch.size());
+        fillRatio.record((double) batch.size() / maxBatchSize);
+
+        Mono.defer(() -> batchLoader.apply(List.copyOf(batch.keySet())))
+                .defaultIfEmpty(Map.of())
+                .subscribe(
+                        found -> batch.forEach((key, sinks) -> {
+                            V value = found.get(key);
+                            for (Sinks.One<V> sink : sinks) {
+                                if (value == null) sink.tryEmitEmpty();
+                                else sink.tryEmitValue(value);
+                            }
+                        }),
+                        err -> batch.values().forEach(sinks -> sinks.forEach(sink -> sink.tryEmitError(err)))
+                );
+    }
+
+    /** 아직 조회되지 않고 모여 있는 키 수 */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+}
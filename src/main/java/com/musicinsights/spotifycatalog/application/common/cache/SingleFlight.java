@@ -0,0 +1,76 @@
+package com.musicinsights.spotifycatalog.application.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 single-flight 실행기.
+ *
+ * <p>키별로 진행 중인 {@link Mono}가 있으면 새 조회를 시작하지 않고 그 결과를 함께 받는다.
+ * 조회가 끝나면(성공/실패 모두) 키를 비우므로, 결과를 보관하는 캐시가 아니라 동시 요청만 합친다.</p>
+ *
+ * <p>{@code single_flight.calls{name, result=executed|shared}}로 실제 실행 수와 합쳐진(절약된) 호출 수를 기록한다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter shared;
+
+    /**
+     * @param name          메트릭 태그에 쓸 이름
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("single_flight.calls")
+                .description("calls that actually ran the loader")
+                .tag("name", name)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.shared = Counter.builder("single_flight.calls")
+                .description("calls that joined an in-flight loader (saved DB calls)")
+                .tag("name", name)
+                .tag("result", "shared")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 조회가 진행 중이면 그 결과를 공유하고, 없으면 loader를 실행한다.
+     *
+     * @param key    조회 키
+     * @param loader 실제 조회
+     * @return 조회 결과
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            AtomicReference<Mono<V>> created = new AtomicReference<>();
+
+            Mono<V> flight = inFlight.computeIfAbsent(key, k -> {
+                Mono<V> m = Mono.defer(loader)
+                        .doFinally(signal -> inFlight.remove(k, created.get()))
+                        .cache();
+                created.set(m);
+                return m;
+            });
+
+            if (flight == created.get()) executed.increment();
+            else shared.increment();
+
+            return flight;
+        });
+    }
+
+    /** 현재 진행 중인 키 수 */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
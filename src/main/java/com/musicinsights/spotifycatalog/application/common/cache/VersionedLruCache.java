@@ -0,0 +1,81 @@
+package com.musicinsights.spotifycatalog.application.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 버전 태그가 붙은 크기 제한 LRU 캐시.
+ *
+ * <p>모든 항목은 하나의 버전에 속한다. 다른 버전으로는 조회되지 않고, 새 버전으로 저장하면 기존 항목을 모두 비우므로,
+ * 데이터 버전이 바뀐 뒤 이전 버전 값이 반환되는 일은 없다. (TTL에 의존하지 않는 정확한 무효화)</p>
+ *
+ * <p>최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다. 모든 메서드는 스레드 안전하다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class VersionedLruCache<K, V> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, V> entries;
+
+    /** 현재 항목들이 속한 버전 */
+    private long version = -1;
+
+    /**
+     * @param maxEntries 최대 항목 수 (0 이하이면 아무것도 저장하지 않음)
+     */
+    public VersionedLruCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > VersionedLruCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 주어진 버전의 값을 조회한다.
+     *
+     * @param version 현재 데이터 버전
+     * @param key     키
+     * @return 같은 버전으로 저장된 값, 없으면 null
+     */
+    public synchronized V get(long version, K key) {
+        if (this.version != version) return null;
+        return entries.get(key);
+    }
+
+    /**
+     * 주어진 버전으로 값을 저장한다.
+     *
+     * <p>더 새로운 버전이면 기존 항목을 모두 비우고, 이미 지난 버전의 값은 저장하지 않는다.</p>
+     *
+     * @param version 값을 읽을 때의 데이터 버전
+     * @param key     키
+     * @param value   값
+     */
+    public synchronized void put(long version, K key, V value) {
+        if (maxEntries <= 0 || version < this.version) return;
+        advanceTo(version);
+        entries.put(key, value);
+    }
+
+    /**
+     * 데이터 버전이 올라갔음을 알린다. 더 새로운 버전이면 기존 항목을 즉시 모두 비운다.
+     *
+     * @param version 새 데이터 버전
+     */
+    public synchronized void advanceTo(long version) {
+        if (version > this.version) {
+            entries.clear();
+            this.version = version;
+        }
+    }
+
+    /** 현재 항목 수 */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -8,6 +8,8 @@ import java.util.function.Function;
  *
  * <p>size+1(fetchSize)로 조회한 결과를 기준으로 hasNext를 판단하고,
  * hasNext인 경우 nextCursor를 생성한다.</p>
+ *
+ * <p>다음 페이지를 미리 읽어 두려면(opt-in) nextCursor로 만든 키를 {@link KeysetPagePrefetcher}에 넘긴다.</p>
  */
 public final class KeysetPageAssembler {
 
@@ -0,0 +1,188 @@
+package com.musicinsights.spotifycatalog.application.common.pagination;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * keyset pagination 다음 페이지를 미리 읽어 두는 prefetcher.
+ *
+ * <p>{@link KeysetPageAssembler}가 hasNext 페이지를 만들면, 호출 측이 nextCursor로 만든 키를 {@link #prefetch}에 넘긴다.
+ * 다음 페이지는 별도 스케줄러에서 비동기로 조회해 {@code ttl} 동안 보관하고,
+ * 같은 키의 다음 요청은 {@link #getOrLoad}에서 DB 없이 메모리로 응답한다. (한 번 꺼내면 비운다)</p>
+ *
+ * <p>동시에 진행하는 prefetch는 {@code maxConcurrency}개로 제한하고, 자리가 없으면 기다리지 않고 건너뛴다.
+ * 그래서 prefetch가 포그라운드 조회와 커넥션을 다투지 않는다.
+ * 보관 항목이 {@code maxEntries}에 이르면 더 보관하지 않는다.</p>
+ *
+ * <p>{@code keyset_prefetch.requests{name, result=hit|miss}}, {@code keyset_prefetch.loads{name, result=parked|skipped|failed}},
+ * {@code keyset_prefetch.hit_ratio{name}}(보관한 페이지 중 실제로 요청된 비율)을 기록한다.</p>
+ *
+ * @param <K> 키 타입 (다음 페이지 커서를 포함한 요청 키)
+ * @param <V> 페이지 응답 타입
+ */
+public final class KeysetPagePrefetcher<K, V> {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Semaphore permits;
+    private final Scheduler scheduler;
+
+    private final ConcurrentHashMap<K, Parked<V>> parked = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter parkedLoads;
+    private final Counter skippedLoads;
+    private final Counter failedLoads;
+
+    /**
+     * @param name           메트릭 태그에 쓸 이름
+     * @param ttl            미리 읽은 페이지 보관 시간
+     * @param maxConcurrency 동시에 진행할 수 있는 prefetch 수
+     * @param maxEntries     최대 보관 페이지 수
+     * @param meterRegistry  메트릭 레지스트리
+     */
+    public KeysetPagePrefetcher(
+            String name,
+            Duration ttl,
+            int maxConcurrency,
+            int maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this(name, ttl, maxConcurrency, maxEntries, meterRegistry, Schedulers.parallel());
+    }
+
+    /**
+     * @param scheduler prefetch를 시작하고 만료 시각을 잴 스케줄러 (테스트에서는 가상 시간 스케줄러)
+     */
+    public KeysetPagePrefetcher(
+            String name,
+            Duration ttl,
+            int maxConcurrency,
+            int maxEntries,
+            MeterRegistry meterRegistry,
+            Scheduler scheduler
+    ) {
+        this.ttl = ttl;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.scheduler = scheduler;
+
+        this.hits = Counter.builder("keyset_prefetch.requests")
+                .description("page requests answered from a prefetched page")
+                .tag("name", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("keyset_prefetch.requests")
+                .description("page requests that had to query")
+                .tag("name", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.parkedLoads = Counter.builder("keyset_prefetch.loads")
+                .description("prefetched pages parked for the next request")
+                .tag("name", name)
+                .tag("result", "parked")
+                .register(meterRegistry);
+        this.skippedLoads = Counter.builder("keyset_prefetch.loads")
+                .description("prefetches skipped because all permits or entries were in use")
+                .tag("name", name)
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.failedLoads = Counter.builder("keyset_prefetch.loads")
+                .description("prefetches that failed")
+                .tag("name", name)
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("keyset_prefetch.hit_ratio", this, KeysetPagePrefetcher::hitRatio)
+                .description("prefetched pages that were requested divided by pages parked")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미리 읽어 둔 페이지가 있으면 꺼내 반환하고, 없으면 loader로 조회한다.
+     *
+     * @param key    페이지 키
+     * @param loader 보관된 페이지가 없을 때 실행할 조회
+     * @return 페이지 응답
+     */
+    public Mono<V> getOrLoad(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Parked<V> p = parked.remove(key);
+            if (p != null && p.expiresAtNanos() > now()) {
+                hits.increment();
+                return Mono.just(p.value());
+            }
+            misses.increment();
+            return loader.get();
+        });
+    }
+
+    /**
+     * 다음 페이지를 비동기로 미리 읽어 보관한다.
+     *
+     * <p>이미 보관 중이거나 진행 중인 prefetch가 {@code maxConcurrency}개면 아무것도 하지 않는다.
+     * 실패해도 요청에는 영향이 없으며 다음 요청이 직접 조회한다.</p>
+     *
+     * @param key    다음 페이지 키
+     * @param loader 다음 페이지 조회
+     */
+    public void prefetch(K key, Supplier<Mono<V>> loader) {
+        if (parked.containsKey(key)) return;
+        if (!permits.tryAcquire()) {
+            skippedLoads.increment();
+            return;
+        }
+
+        try {
+            scheduler.schedule(() -> Mono.defer(loader)
+                    .doFinally(signal -> permits.release())
+                    .subscribe(
+                            value -> park(key, value),
+                            err -> failedLoads.increment()
+                    ));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            failedLoads.increment();
+        }
+    }
+
+    /** 만료된 항목을 비우고, 자리가 있으면 페이지를 보관한다. */
+    private void park(K key, V value) {
+        long now = now();
+        parked.values().removeIf(p -> p.expiresAtNanos() <= now);
+        if (parked.size() >= maxEntries) {
+            skippedLoads.increment();
+            return;
+        }
+        parked.put(key, new Parked<>(value, now + ttl.toNanos()));
+        parkedLoads.increment();
+    }
+
+    private long now() {
+        return scheduler.now(TimeUnit.NANOSECONDS);
+    }
+
+    private double hitRatio() {
+        double parkedCount = parkedLoads.count();
+        return (parkedCount == 0) ? 0.0 : hits.count() / parkedCount;
+    }
+
+    /** 보관 중인 페이지 수 (만료 전 항목 포함) */
+    public int parkedCount() {
+        return parked.size();
+    }
+
+    private record Parked<V>(V value, long expiresAtNanos) {}
+}
@@ -0,0 +1,74 @@
+package com.musicinsights.spotifycatalog.application.export.controller;
+
+import com.musicinsights.spotifycatalog.application.export.dto.response.ExportResponse;
+import com.musicinsights.spotifycatalog.application.export.service.ExportService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 카탈로그/통계 NDJSON 내보내기 API 컨트롤러.
+ *
+ * <p>오프라인 분석 작업이 커서 페이지를 반복 조회하지 않도록, 데이터셋 전체를
+ * {@code application/x-ndjson}(한 줄에 JSON 하나)으로 스트리밍한다.
+ * 행은 DB에서 읽히는 대로 응답에 쓰이며, 클라이언트가 느리면 그만큼 천천히 읽는다.</p>
+ */
+@RestController
+@RequestMapping("/api/export")
+@Validated
+public class ExportController {
+    private final ExportService service;
+
+    public ExportController(ExportService service) {
+        this.service = service;
+    }
+
+    /**
+     * 아티스트 전체를 내보낸다.
+     *
+     * @return 아티스트 행 스트림
+     */
+    @GetMapping(value = "/artists", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ExportResponse.ArtistExportRow> artists() {
+        return service.exportArtists();
+    }
+
+    /**
+     * 앨범 전체를 내보낸다.
+     *
+     * @return 앨범 행 스트림
+     */
+    @GetMapping(value = "/albums", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ExportResponse.AlbumExportRow> albums() {
+        return service.exportAlbums();
+    }
+
+    /**
+     * (연도, 아티스트)별 앨범 수를 내보낸다.
+     *
+     * @param year 조회 연도(없으면 전체)
+     * @return 연도별 앨범 수 행 스트림
+     */
+    @GetMapping(value = "/stats/artist-year-counts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ExportResponse.ArtistYearCountExportRow> artistYearCounts(
+            @RequestParam(required = false) @Min(1900) @Max(2100) Integer year
+    ) {
+        return service.exportArtistYearCounts(year);
+    }
+
+    /**
+     * 트랙과 오디오 특성을 내보낸다.
+     *
+     * @return 트랙 행 스트림
+     */
+    @GetMapping(value = "/tracks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ExportResponse.TrackExportRow> tracks() {
+        return service.exportTracks();
+    }
+}
@@ -0,0 +1,95 @@
+package com.musicinsights.spotifycatalog.application.export.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * NDJSON 내보내기 API의 행(한 줄) DTO 모음.
+ */
+public class ExportResponse {
+
+    /**
+     * 아티스트 한 행.
+     *
+     * @param artistId   아티스트 ID
+     * @param artistName 아티스트 이름
+     */
+    public static record ArtistExportRow(
+            long artistId,
+            String artistName
+    ) {}
+
+    /**
+     * 앨범 한 행.
+     *
+     * @param albumId     앨범 ID
+     * @param albumName   앨범 이름
+     * @param releaseDate 발매일(없으면 null)
+     * @param releaseYear 발매 연도(없으면 null)
+     */
+    public static record AlbumExportRow(
+            long albumId,
+            String albumName,
+            LocalDate releaseDate,
+            Integer releaseYear
+    ) {}
+
+    /**
+     * (연도, 아티스트)별 앨범 수 한 행.
+     *
+     * @param releaseYear 발매 연도
+     * @param artistId    아티스트 ID
+     * @param artistName  아티스트 이름
+     * @param albumCount  해당 연도 앨범 수
+     */
+    public static record ArtistYearCountExportRow(
+            int releaseYear,
+            long artistId,
+            String artistName,
+            long albumCount
+    ) {}
+
+    /**
+     * 트랙 + 오디오 특성 한 행. (오디오 특성이 없으면 해당 값은 null)
+     *
+     * @param trackId          트랙 ID
+     * @param title            제목
+     * @param albumId          앨범 ID(없으면 null)
+     * @param durationMs       재생 시간(ms)
+     * @param genre            장르
+     * @param emotion          감정
+     * @param explicit         선정성 여부
+     * @param popularity       인기도
+     * @param tempo            템포
+     * @param loudness         음량
+     * @param energy           에너지(0~100)
+     * @param danceability     댄서빌리티(0~100)
+     * @param positiveness     긍정성(0~100)
+     * @param speechiness      스피치니스(0~100)
+     * @param liveness         라이브니스(0~100)
+     * @param acousticness     어쿠스틱니스(0~100)
+     * @param instrumentalness 인스트루멘탈니스(0~100)
+     * @param musicalKey       조성
+     * @param timeSignature    박자
+     */
+    public static record TrackExportRow(
+            long trackId,
+            String title,
+            Long albumId,
+            Integer durationMs,
+            String genre,
+            String emotion,
+            boolean explicit,
+            Integer popularity,
+            Double tempo,
+            Double loudness,
+            Integer energy,
+            Integer danceability,
+            Integer positiveness,
+            Integer speechiness,
+            Integer liveness,
+            Integer acousticness,
+            Integer instrumentalness,
+            String musicalKey,
+            String timeSignature
+    ) {}
+}
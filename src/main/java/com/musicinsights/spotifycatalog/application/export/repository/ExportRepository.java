@@ -0,0 +1,137 @@
+package com.musicinsights.spotifycatalog.application.export.repository;
+
+import com.musicinsights.spotifycatalog.application.export.dto.response.ExportResponse;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+import static com.musicinsights.spotifycatalog.application.export.repository.ExportSql.*;
+
+/**
+ * NDJSON 내보내기용 스트리밍 조회 저장소.
+ *
+ * <p>각 메서드는 쿼리 하나의 결과를 {@link Flux}로 그대로 흘려보낸다. 결과를 모으지 않으므로
+ * 메모리 사용량은 테이블 크기와 무관하고, 구독자(HTTP 응답)가 느리면 요청량(backpressure)에 맞춰 행을 읽는다.
+ * 드라이버가 지원하면 {@code export.fetch-size}행씩 커서로 가져와 한 번에 받는 행 수도 제한한다.</p>
+ */
+@Component
+public class ExportRepository {
+    private final DatabaseClient db;
+
+    /** 커서 조회 시 한 번에 가져올 행 수 */
+    private final int fetchSize;
+
+    public ExportRepository(
+            DatabaseClient db,
+            @Value("${export.fetch-size:1000}") int fetchSize
+    ) {
+        this.db = db;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 아티스트 전체를 id 순서로 스트리밍한다.
+     *
+     * @return 아티스트 행
+     */
+    public Flux<ExportResponse.ArtistExportRow> streamArtists() {
+        return stream(db.sql(SQL_EXPORT_ARTISTS))
+                .map((row, meta) -> new ExportResponse.ArtistExportRow(
+                        row.get("artistId", Number.class).longValue(),
+                        row.get("artistName", String.class)
+                ))
+                .all();
+    }
+
+    /**
+     * 앨범 전체를 id 순서로 스트리밍한다.
+     *
+     * @return 앨범 행
+     */
+    public Flux<ExportResponse.AlbumExportRow> streamAlbums() {
+        return stream(db.sql(SQL_EXPORT_ALBUMS))
+                .map((row, meta) -> new ExportResponse.AlbumExportRow(
+                        row.get("albumId", Number.class).longValue(),
+                        row.get("albumName", String.class),
+                        row.get("releaseDate", LocalDate.class),
+                        intOrNull(row, "releaseYear")
+                ))
+                .all();
+    }
+
+    /**
+     * (연도, 아티스트)별 앨범 수를 (연도, 아티스트 id) 순서로 스트리밍한다.
+     *
+     * @param year 연도(없으면 전체)
+     * @return 연도별 앨범 수 행
+     */
+    public Flux<ExportResponse.ArtistYearCountExportRow> streamArtistYearCounts(Integer year) {
+        DatabaseClient.GenericExecuteSpec spec = (year == null)
+                ? db.sql(SQL_EXPORT_ARTIST_YEAR_COUNTS)
+                : db.sql(SQL_EXPORT_ARTIST_YEAR_COUNTS_BY_YEAR).bind(0, year);
+
+        return stream(spec)
+                .map((row, meta) -> new ExportResponse.ArtistYearCountExportRow(
+                        row.get("releaseYear", Number.class).intValue(),
+                        row.get("artistId", Number.class).longValue(),
+                        row.get("artistName", String.class),
+                        row.get("albumCount", Number.class).longValue()
+                ))
+                .all();
+    }
+
+    /**
+     * 트랙과 오디오 특성을 track id 순서로 스트리밍한다.
+     *
+     * @return 트랙 행
+     */
+    public Flux<ExportResponse.TrackExportRow> streamTracks() {
+        return stream(db.sql(SQL_EXPORT_TRACKS))
+                .map((row, meta) -> new ExportResponse.TrackExportRow(
+                        row.get("trackId", Number.class).longValue(),
+                        row.get("title", String.class),
+                        longOrNull(row, "albumId"),
+                        intOrNull(row, "durationMs"),
+                        row.get("genre", String.class),
+                        row.get("emotion", String.class),
+                        Boolean.TRUE.equals(row.get("explicit", Boolean.class)),
+                        intOrNull(row, "popularity"),
+                        doubleOrNull(row, "tempo"),
+                        doubleOrNull(row, "loudness"),
+                        intOrNull(row, "energy"),
+                        intOrNull(row, "danceability"),
+                        intOrNull(row, "positiveness"),
+                        intOrNull(row, "speechiness"),
+                        intOrNull(row, "liveness"),
+                        intOrNull(row, "acousticness"),
+                        intOrNull(row, "instrumentalness"),
+                        row.get("musicalKey", String.class),
+                        row.get("timeSignature", String.class)
+                ))
+                .all();
+    }
+
+    /** 드라이버에 fetch size 힌트를 넘겨 결과를 나눠 가져오게 한다. */
+    private DatabaseClient.GenericExecuteSpec stream(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)));
+    }
+
+    private static Integer intOrNull(Readable row, String name) {
+        Number n = row.get(name, Number.class);
+        return (n == null) ? null : n.intValue();
+    }
+
+    private static Long longOrNull(Readable row, String name) {
+        Number n = row.get(name, Number.class);
+        return (n == null) ? null : n.longValue();
+    }
+
+    private static Double doubleOrNull(Readable row, String name) {
+        Number n = row.get(name, Number.class);
+        return (n == null) ? null : n.doubleValue();
+    }
+}
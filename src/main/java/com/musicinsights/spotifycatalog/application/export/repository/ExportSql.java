@@ -0,0 +1,80 @@
+package com.musicinsights.spotifycatalog.application.export.repository;
+
+/**
+ * NDJSON 내보내기에 사용되는 SQL 상수 모음.
+ *
+ * <p>내보내기 하나는 쿼리 하나이며, 모두 PK(또는 PK 접두) 순서로 읽어 정렬 버퍼 없이 행을 그대로 흘려보낸다.</p>
+ */
+final class ExportSql {
+    private ExportSql() {}
+
+    /** 아티스트 전체 (id ASC) */
+    static final String SQL_EXPORT_ARTISTS = """
+        SELECT id AS artistId, name AS artistName
+        FROM artist
+        ORDER BY id ASC
+    """;
+
+    /** 앨범 전체 (id ASC) */
+    static final String SQL_EXPORT_ALBUMS = """
+        SELECT
+          id           AS albumId,
+          name         AS albumName,
+          release_date AS releaseDate,
+          release_year AS releaseYear
+        FROM album
+        ORDER BY id ASC
+    """;
+
+    /** (연도, 아티스트)별 앨범 수 전체 (PK(release_year, artist_id) 순서) */
+    static final String SQL_EXPORT_ARTIST_YEAR_COUNTS = """
+        SELECT
+          c.release_year AS releaseYear,
+          c.artist_id    AS artistId,
+          ar.name        AS artistName,
+          c.album_count  AS albumCount
+        FROM artist_album_count_year c
+        JOIN artist ar ON ar.id = c.artist_id
+        ORDER BY c.release_year ASC, c.artist_id ASC
+    """;
+
+    /** 특정 연도의 (아티스트)별 앨범 수 (PK 접두 range) */
+    static final String SQL_EXPORT_ARTIST_YEAR_COUNTS_BY_YEAR = """
+        SELECT
+          c.release_year AS releaseYear,
+          c.artist_id    AS artistId,
+          ar.name        AS artistName,
+          c.album_count  AS albumCount
+        FROM artist_album_count_year c
+        JOIN artist ar ON ar.id = c.artist_id
+        WHERE c.release_year = ?
+        ORDER BY c.artist_id ASC
+    """;
+
+    /** 트랙 + 오디오 특성 전체 (track id ASC, audio_feature는 PK 1:1 조인) */
+    static final String SQL_EXPORT_TRACKS = """
+        SELECT
+          t.id               AS trackId,
+          t.title            AS title,
+          t.album_id         AS albumId,
+          t.duration_ms      AS durationMs,
+          t.genre            AS genre,
+          t.emotion          AS emotion,
+          t.explicit         AS explicit,
+          t.popularity       AS popularity,
+          af.tempo           AS tempo,
+          af.loudness        AS loudness,
+          af.energy          AS energy,
+          af.danceability    AS danceability,
+          af.positiveness    AS positiveness,
+          af.speechiness     AS speechiness,
+          af.liveness        AS liveness,
+          af.acousticness    AS acousticness,
+          af.instrumentalness AS instrumentalness,
+          af.musical_key     AS musicalKey,
+          af.time_signature  AS timeSignature
+        FROM track t
+        LEFT JOIN audio_feature af ON af.track_id = t.id
+        ORDER BY t.id ASC
+    """;
+}
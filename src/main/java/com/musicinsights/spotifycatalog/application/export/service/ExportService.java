@@ -0,0 +1,41 @@
+package com.musicinsights.spotifycatalog.application.export.service;
+
+import com.musicinsights.spotifycatalog.application.export.dto.response.ExportResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * 카탈로그/통계 NDJSON 내보내기 서비스.
+ *
+ * <p>페이지 없이 테이블 전체를 쿼리 하나로 스트리밍한다. (오프라인 분석 작업용)</p>
+ */
+public interface ExportService {
+
+    /**
+     * 아티스트 전체를 내보낸다.
+     *
+     * @return 아티스트 행 스트림(id ASC)
+     */
+    Flux<ExportResponse.ArtistExportRow> exportArtists();
+
+    /**
+     * 앨범 전체를 내보낸다.
+     *
+     * @return 앨범 행 스트림(id ASC)
+     */
+    Flux<ExportResponse.AlbumExportRow> exportAlbums();
+
+    /**
+     * (연도, 아티스트)별 앨범 수를 내보낸다.
+     *
+     * @param year 연도(없으면 전체)
+     * @return 연도별 앨범 수 행 스트림(연도 ASC, 아티스트 id ASC)
+     */
+    Flux<ExportResponse.ArtistYearCountExportRow> exportArtistYearCounts(Integer year);
+
+    /**
+     * 트랙과 오디오 특성을 내보낸다.
+     *
+     * @return 트랙 행 스트림(id ASC)
+     */
+    Flux<ExportResponse.TrackExportRow> exportTracks();
+}
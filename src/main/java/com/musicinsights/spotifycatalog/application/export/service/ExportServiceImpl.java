@@ -0,0 +1,53 @@
+package com.musicinsights.spotifycatalog.application.export.service;
+
+import com.musicinsights.spotifycatalog.application.export.dto.response.ExportResponse;
+import com.musicinsights.spotifycatalog.application.export.repository.ExportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * 카탈로그/통계 NDJSON 내보내기 서비스 구현체.
+ *
+ * <p>저장소의 스트림을 그대로 넘기고, 내보낸 행 수를 {@code export.rows{dataset}}로 기록한다.</p>
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private final ExportRepository exportRepository;
+    private final MeterRegistry meterRegistry;
+
+    public ExportServiceImpl(ExportRepository exportRepository, MeterRegistry meterRegistry) {
+        this.exportRepository = exportRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Flux<ExportResponse.ArtistExportRow> exportArtists() {
+        return counted("artists", exportRepository.streamArtists());
+    }
+
+    @Override
+    public Flux<ExportResponse.AlbumExportRow> exportAlbums() {
+        return counted("albums", exportRepository.streamAlbums());
+    }
+
+    @Override
+    public Flux<ExportResponse.ArtistYearCountExportRow> exportArtistYearCounts(Integer year) {
+        return counted("artist_year_counts", exportRepository.streamArtistYearCounts(year));
+    }
+
+    @Override
+    public Flux<ExportResponse.TrackExportRow> exportTracks() {
+        return counted("tracks", exportRepository.streamTracks());
+    }
+
+    private <T> Flux<T> counted(String dataset, Flux<T> rows) {
+        Counter counter = Counter.builder("export.rows")
+                .description("rows streamed by NDJSON export")
+                .tag("dataset", dataset)
+                .register(meterRegistry);
+        return rows.doOnNext(row -> counter.increment());
+    }
+}
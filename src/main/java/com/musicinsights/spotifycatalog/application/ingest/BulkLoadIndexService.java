@@ -0,0 +1,130 @@
+package com.musicinsights.spotifycatalog.application.ingest;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.SecondaryIndexRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.SecondaryIndexRow;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 적재(cold load) 동안 보조 인덱스를 내려두었다가 적재 후 한 번에 다시 만드는 서비스입니다.
+ * <p>
+ * {@code ingest.manage-indexes=true}이고 track 테이블이 비어 있을 때만 동작합니다.
+ * 적재 중에는 UNIQUE 인덱스(upsert 중복 판정용)와 FK 인덱스만 유지되어 insert마다 갱신되는
+ * 인덱스 수가 줄고, 적재 후에는 테이블별 ALTER 1회로 정렬 기반 bulk build를 수행합니다.
+ */
+@Service
+public class BulkLoadIndexService {
+
+    /** 인덱스를 관리할 ingest 대상 테이블 (좋아요/집계 테이블은 제외) */
+    static final List<String> TABLES = List.of(
+            "artist", "album", "album_artist", "track", "track_artist", "track_lyrics", "audio_feature"
+    );
+
+    /** 보조 인덱스 조회/삭제/복구 Repo */
+    private final SecondaryIndexRepo indexRepo;
+
+    /** ingest 모드 설정 */
+    private final IngestProperties properties;
+
+    public BulkLoadIndexService(SecondaryIndexRepo indexRepo, IngestProperties properties) {
+        this.indexRepo = indexRepo;
+        this.properties = properties;
+    }
+
+    /**
+     * 적재 전에 보조 인덱스를 삭제합니다.
+     * <p>
+     * 이전 실행에서 복구되지 못한 정의가 남아 있으면 추가 삭제 없이 그대로 둡니다
+     * ({@link #afterLoad()}에서 함께 복구).
+     *
+     * @return 완료 신호
+     */
+    public Mono<Void> beforeLoad() {
+        if (!properties.isManageIndexes()) return Mono.empty();
+
+        return indexRepo.findDropped().hasElements()
+                .flatMap(leftover -> {
+                    if (leftover) {
+                        System.out.println("Index management: previous dropped indexes found, restore after load");
+                        return Mono.<Void>empty();
+                    }
+                    return indexRepo.isTrackEmpty().flatMap(cold -> {
+                        if (!cold) {
+                            System.out.println("Index management: warm load, keep secondary indexes");
+                            return Mono.<Void>empty();
+                        }
+                        return reportSizes("before drop").then(dropAll());
+                    });
+                });
+    }
+
+    /**
+     * 적재 후 삭제해 둔 보조 인덱스를 테이블별로 한 번에 다시 생성합니다.
+     *
+     * @return 완료 신호
+     */
+    public Mono<Void> afterLoad() {
+        if (!properties.isManageIndexes()) return Mono.empty();
+
+        return indexRepo.findDropped().collectList()
+                .flatMap(rows -> {
+                    if (rows.isEmpty()) return Mono.<Void>empty();
+
+                    long started = System.nanoTime();
+                    return Flux.fromIterable(groupByTable(rows).entrySet())
+                            .concatMap(e -> indexRepo.addIndexes(e.getKey(), e.getValue()))
+                            .then(Mono.<Void>fromRunnable(() -> System.out.println(
+                                    "Index management: restored " + rows.size() + " indexes in "
+                                            + (System.nanoTime() - started) / 1_000_000 + " ms")))
+                            .then(reportSizes("after restore"));
+                });
+    }
+
+    /**
+     * 삭제 가능한 보조 인덱스를 조회해 정의를 보관한 뒤 삭제합니다.
+     */
+    private Mono<Void> dropAll() {
+        return indexRepo.findDroppableIndexes(TABLES).collectList()
+                .flatMap(rows -> {
+                    if (rows.isEmpty()) return Mono.<Void>empty();
+
+                    return indexRepo.saveDropped(rows)
+                            .thenMany(Flux.fromIterable(groupByTable(rows).entrySet()))
+                            .concatMap(e -> indexRepo.dropIndexes(e.getKey(), e.getValue()))
+                            .then(Mono.<Void>fromRunnable(() -> System.out.println(
+                                    "Index management: dropped " + rows.size() + " secondary indexes "
+                                            + rows.stream()
+                                            .map(r -> r.tableName() + "." + r.indexName())
+                                            .toList())));
+                });
+    }
+
+    /**
+     * 대상 테이블들의 인덱스 크기를 출력합니다. 통계 조회 권한이 없으면 건너뜁니다.
+     *
+     * @param label 출력 구분용 라벨
+     */
+    private Mono<Void> reportSizes(String label) {
+        return indexRepo.fetchIndexSizes(TABLES)
+                .doOnNext(sizes -> {
+                    long total = sizes.values().stream().mapToLong(Long::longValue).sum();
+                    System.out.println("Index size (" + label + "): total=" + total + " bytes " + sizes);
+                })
+                .onErrorResume(e -> {
+                    System.err.println("Index size report skipped: " + e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Map<String, List<SecondaryIndexRow>> groupByTable(List<SecondaryIndexRow> rows) {
+        return rows.stream().collect(Collectors.groupingBy(
+                SecondaryIndexRow::tableName, LinkedHashMap::new, Collectors.toList()));
+    }
+}
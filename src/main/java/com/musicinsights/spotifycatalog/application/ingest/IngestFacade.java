@@ -32,6 +32,15 @@ public class IngestFacade {
     /** audio_feature 테이블 관련 작업 */
     public final AudioRepo audioFeature;
 
+    /** artist_album_count_year 집계 테이블 관련 작업 */
+    public final ArtistAlbumCountYearRepo artistAlbumCountYear;
+
+    /** artist_album_count_total 집계 테이블 관련 작업 */
+    public final ArtistAlbumCountTotalRepo artistAlbumCountTotal;
+
+    /** album_count_year 요약 테이블 관련 작업 */
+    public final AlbumCountYearRepo albumCountYear;
+
     /**
      * ingest에 필요한 모든 Repository를 주입받아 초기화합니다.
      *
@@ -42,6 +51,9 @@ public class IngestFacade {
      * @param trackArtist track-artist repo
      * @param trackLyrics track-lyrics repo
      * @param audioFeature audio-feature repo
+     * @param artistAlbumCountYear 연도별 아티스트 앨범 수 집계 repo
+     * @param artistAlbumCountTotal 아티스트별 전체 앨범 수 집계 repo
+     * @param albumCountYear 연도별 전체 앨범 수 요약 repo
      */
     public IngestFacade(
             ArtistRepo artist,
@@ -50,7 +62,10 @@ public class IngestFacade {
             TrackRepo track,
             TrackArtistRepo trackArtist,
             TrackLyricsRepo trackLyrics,
-            AudioRepo audioFeature
+            AudioRepo audioFeature,
+            ArtistAlbumCountYearRepo artistAlbumCountYear,
+            ArtistAlbumCountTotalRepo artistAlbumCountTotal,
+            AlbumCountYearRepo albumCountYear
     ) {
         this.artist = artist;
         this.album = album;
@@ -61,5 +76,9 @@ public class IngestFacade {
 
         this.trackLyrics = trackLyrics;
         this.audioFeature = audioFeature;
+
+        this.artistAlbumCountYear = artistAlbumCountYear;
+        this.artistAlbumCountTotal = artistAlbumCountTotal;
+        this.albumCountYear = albumCountYear;
     }
 }
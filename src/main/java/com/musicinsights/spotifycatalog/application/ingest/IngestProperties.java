@@ -0,0 +1,177 @@
+package com.musicinsights.spotifycatalog.application.ingest;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.TrackLyricsRepo;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ingest 동작 모드 설정값입니다.
+ * <p>
+ * {@code ingest.*} 프로퍼티로 바인딩되며, 값을 지정하지 않으면 기존(직렬, 단일 트랜잭션) 동작을 따릅니다.
+ * 함께 쓸 수 없는 조합은 바인딩 직후 {@link #afterPropertiesSet()}에서 실패시켜 시작 시점에 드러냅니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ingest")
+public class IngestProperties implements InitializingBean {
+
+    /**
+     * track id 확보 이후 관계 테이블(track_artist, track_lyrics, audio_feature)과
+     * album_artist 쓰기를 서로 다른 커넥션에서 동시에 수행할지 여부
+     */
+    private boolean parallelRelations = false;
+
+    /** 병렬 모드에서 개별 쓰기가 실패했을 때 재시도 횟수 (모든 쓰기는 멱등) */
+    private int relationRetries = 2;
+
+    /**
+     * 메인 적재 패스에서 가사(text)를 파싱하지 않고 건너뛸지 여부.
+     * true이면 메인 적재/집계 이후 {@link LyricsBackfillService}가 백그라운드로 가사를 채웁니다.
+     */
+    private boolean deferLyrics = false;
+
+    /** 가사 backfill 배치 사이의 대기 시간(ms) */
+    private long lyricsBackfillPauseMs = 50;
+
+    /**
+     * 가사 저장 방식 ({@link TrackLyricsRepo.Storage}).
+     * 알 수 없는 값은 바인딩 단계에서 실패하므로 다른 모드 설정처럼 시작 시점에 드러납니다.
+     */
+    private TrackLyricsRepo.Storage lyricsStorage = TrackLyricsRepo.Storage.RAW;
+
+    /**
+     * cold load(track 테이블이 빈 상태)일 때 보조 인덱스를 적재 전에 삭제하고
+     * 적재 후 한 번에 다시 만들지 여부 ({@link BulkLoadIndexService})
+     */
+    private boolean manageIndexes = false;
+
+    /**
+     * 직렬 모드에서 배치마다 새로 생긴 album_artist 매핑만큼 artist_album_count_year,
+     * artist_album_count_total, album_count_year를 같은 트랜잭션에서 증분 갱신할지 여부.
+     * true이면 적재 후 전체 rebuild 대신 순위만 다시 계산합니다.
+     * 병렬 모드({@link #parallelRelations})와 함께 쓸 수 없습니다.
+     */
+    private boolean incrementalStats = false;
+
+    /**
+     * 증분 모드에서 적재 후 증분으로 유지한 세 집계(연도별/전체/연도 요약)를 각각의 재계산 결과와 비교할지 여부.
+     * 비교는 전체 카탈로그 GROUP BY라 기본은 끄고, 필요할 때(주기 점검 등)만 켭니다.
+     * 어느 하나라도 불일치가 있으면 세 집계를 모두 rebuild로 복구합니다.
+     */
+    private boolean verifyIncrementalStats = false;
+
+    /**
+     * 집계 rebuild를 TRUNCATE 후 재삽입 대신 shadow 테이블 재생성 + {@code RENAME TABLE} 교체로 수행할지 여부.
+     * true이면 rebuild 중에도 조회 API가 비어 있거나 일부만 채워진 집계를 보지 않습니다.
+     */
+    private boolean swapRebuild = false;
+
+    /**
+     * 집계 rebuild를 나눌 발매 연도 구간 수. 1이면 단일 {@code INSERT ... SELECT}로 수행하고,
+     * 2 이상이면 연도 구간별 {@code INSERT ... SELECT}를 {@link #rebuildParallelism}개까지 동시에 실행합니다.
+     */
+    private int rebuildPartitions = 1;
+
+    /** 연도 구간 rebuild 동시 실행 수 (커넥션 풀 크기 이하로) */
+    private int rebuildParallelism = 4;
+
+    public boolean isParallelRelations() {
+        return parallelRelations;
+    }
+
+    public void setParallelRelations(boolean parallelRelations) {
+        this.parallelRelations = parallelRelations;
+    }
+
+    public int getRelationRetries() {
+        return relationRetries;
+    }
+
+    public void setRelationRetries(int relationRetries) {
+        this.relationRetries = relationRetries;
+    }
+
+    public boolean isDeferLyrics() {
+        return deferLyrics;
+    }
+
+    public void setDeferLyrics(boolean deferLyrics) {
+        this.deferLyrics = deferLyrics;
+    }
+
+    public long getLyricsBackfillPauseMs() {
+        return lyricsBackfillPauseMs;
+    }
+
+    public void setLyricsBackfillPauseMs(long lyricsBackfillPauseMs) {
+        this.lyricsBackfillPauseMs = lyricsBackfillPauseMs;
+    }
+
+    public TrackLyricsRepo.Storage getLyricsStorage() {
+        return lyricsStorage;
+    }
+
+    public void setLyricsStorage(TrackLyricsRepo.Storage lyricsStorage) {
+        this.lyricsStorage = lyricsStorage;
+    }
+
+    public boolean isManageIndexes() {
+        return manageIndexes;
+    }
+
+    public void setManageIndexes(boolean manageIndexes) {
+        this.manageIndexes = manageIndexes;
+    }
+
+    public boolean isIncrementalStats() {
+        return incrementalStats;
+    }
+
+    public void setIncrementalStats(boolean incrementalStats) {
+        this.incrementalStats = incrementalStats;
+    }
+
+    public boolean isVerifyIncrementalStats() {
+        return verifyIncrementalStats;
+    }
+
+    public void setVerifyIncrementalStats(boolean verifyIncrementalStats) {
+        this.verifyIncrementalStats = verifyIncrementalStats;
+    }
+
+    public boolean isSwapRebuild() {
+        return swapRebuild;
+    }
+
+    public void setSwapRebuild(boolean swapRebuild) {
+        this.swapRebuild = swapRebuild;
+    }
+
+    public int getRebuildPartitions() {
+        return rebuildPartitions;
+    }
+
+    public void setRebuildPartitions(int rebuildPartitions) {
+        this.rebuildPartitions = rebuildPartitions;
+    }
+
+    public int getRebuildParallelism() {
+        return rebuildParallelism;
+    }
+
+    public void setRebuildParallelism(int rebuildParallelism) {
+        this.rebuildParallelism = rebuildParallelism;
+    }
+
+    /**
+     * 병렬 모드는 매핑을 배치 트랜잭션 밖에서 쓰므로 증분 집계를 적용할 수 없다.
+     * 둘 다 켜면 증분 설정이 조용히 무시되므로 시작 시 실패시킨다.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (incrementalStats && parallelRelations) {
+            throw new IllegalStateException(
+                    "ingest.incremental-stats=true cannot be combined with ingest.parallel-relations=true");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.musicinsights.spotifycatalog.application.ingest;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ingest 실행 동안 테이블별 inserted / changed / unchanged 건수를 누적합니다.
+ * <p>
+ * 병렬 모드에서도 여러 배치가 동시에 기록할 수 있도록 thread-safe 하게 합산합니다.
+ */
+public class IngestSummary {
+
+    /** 테이블명 → 누적 결과 */
+    private final Map<String, UpsertStats> byTable = new ConcurrentHashMap<>();
+
+    /**
+     * 테이블별 결과를 누적합니다.
+     *
+     * @param table 테이블명
+     * @param stats 한 번의 upsert 결과
+     */
+    public void record(String table, UpsertStats stats) {
+        byTable.merge(table, stats, UpsertStats::plus);
+    }
+
+    /**
+     * 테이블의 누적 결과를 반환합니다.
+     *
+     * @param table 테이블명
+     * @return 누적 결과(기록이 없으면 {@link UpsertStats#EMPTY})
+     */
+    public UpsertStats get(String table) {
+        return byTable.getOrDefault(table, UpsertStats.EMPTY);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        byTable.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> {
+                    if (!sb.isEmpty()) sb.append(", ");
+                    UpsertStats s = e.getValue();
+                    sb.append(e.getKey())
+                            .append("{inserted=").append(s.inserted())
+                            .append(", changed=").append(s.changed())
+                            .append(", unchanged=").append(s.unchanged())
+                            .append("}");
+                });
+        return sb.toString();
+    }
+}
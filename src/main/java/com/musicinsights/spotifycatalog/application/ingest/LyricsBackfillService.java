@@ -0,0 +1,114 @@
+package com.musicinsights.spotifycatalog.application.ingest;
+
+import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.NdjsonLineReader;
+import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRaw;
+import com.musicinsights.spotifycatalog.infrastructure.mapper.TrackRawBatchMapper;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackLyricsRow;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메인 적재에서 건너뛴 가사(track_lyrics)를 나중에 채워 넣는 backfill 서비스입니다.
+ * <p>
+ * {@code ingest.defer-lyrics=true}로 메인 패스를 끝낸 뒤, 데이터셋을 다시 읽어
+ * track_hash로 track_id를 찾아 {@code track_lyrics}를 upsert 합니다.
+ * <p>
+ * 조회 API(통계/좋아요)와 커넥션을 다투지 않도록 배치를 하나씩 순차 처리하고,
+ * 배치 사이에 {@code ingest.lyrics-backfill-pause-ms}만큼 쉬어 갑니다.
+ */
+@Service
+public class LyricsBackfillService {
+
+    /** 한 번에 처리할 라인 수 (가사는 크기가 커서 메인 배치보다 작게) */
+    private static final int BATCH = 400;
+
+    /** classpath 데이터셋을 한 줄씩 읽는 리더 */
+    private final NdjsonLineReader lineReader;
+
+    /** 라인(JSON) → {@link TrackRaw} 변환용 ObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /** track_hash 계산을 위한 배치 매퍼 */
+    private final TrackRawBatchMapper mapper;
+
+    /** track / track_lyrics Repo 파사드 */
+    private final IngestFacade ingestDb;
+
+    /** ingest 모드 설정 */
+    private final IngestProperties properties;
+
+    public LyricsBackfillService(
+            NdjsonLineReader lineReader,
+            ObjectMapper objectMapper,
+            TrackRawBatchMapper mapper,
+            IngestFacade ingestDb,
+            IngestProperties properties
+    ) {
+        this.lineReader = lineReader;
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+        this.ingestDb = ingestDb;
+        this.properties = properties;
+    }
+
+    /**
+     * 데이터셋 파일에서 가사를 읽어 track_lyrics를 채웁니다.
+     *
+     * @param path classpath 데이터셋 경로
+     * @return upsert된 행 수 합계
+     */
+    public Mono<Long> backfill(String path) {
+        Duration pause = Duration.ofMillis(properties.getLyricsBackfillPauseMs());
+
+        return lineReader.readLines(path)
+                .filter(line -> line != null && !line.isBlank())
+                .map(this::parse)
+                .buffer(BATCH)
+                .concatMap(batch -> backfillBatch(batch).delaySubscription(pause))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 한 배치의 가사를 track_hash → track_id로 매핑해 upsert 합니다.
+     * <p>
+     * 아직 적재되지 않은 track(hash 미존재)은 건너뜁니다.
+     *
+     * @param batch TrackRaw 배치
+     * @return upsert된 행 수
+     */
+    Mono<Long> backfillBatch(List<TrackRaw> batch) {
+        Map<String, String> lyricsByHash = mapper.buildLyricsByHash(batch);
+        if (lyricsByHash.isEmpty()) return Mono.just(0L);
+
+        return ingestDb.track.fetchTrackIdsByHash(new ArrayList<>(lyricsByHash.keySet()))
+                .flatMap(trackIdMap -> {
+                    List<TrackLyricsRow> rows = new ArrayList<>(trackIdMap.size());
+                    lyricsByHash.forEach((hash, lyrics) -> {
+                        Long trackId = trackIdMap.get(hash);
+                        if (trackId != null) rows.add(new TrackLyricsRow(trackId, lyrics));
+                    });
+                    return ingestDb.trackLyrics.upsert(rows);
+                });
+    }
+
+    /**
+     * NDJSON의 한 줄(JSON 문자열)을 {@link TrackRaw}로 파싱합니다.
+     *
+     * @param line JSON 한 줄 문자열
+     * @return 파싱된 TrackRaw
+     * @throws IllegalStateException JSON 파싱 실패 시
+     */
+    private TrackRaw parse(String line) {
+        try {
+            return objectMapper.readValue(line, TrackRaw.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("JSON parse error", e);
+        }
+    }
+}
@@ -1,26 +1,310 @@
 package com.musicinsights.spotifycatalog.application.ingest;
 
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.AlbumCountYearRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.ArtistAlbumCountTotalRepo;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.ArtistAlbumCountYearRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.CatalogVersionRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.YearCountRow;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.YearRangeRow;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * ingest 이후 집계(통계) 테이블을 재생성하는 서비스.
+ * <p>
+ * {@code ingest.incremental-stats=true}(직렬 모드)이면 세 집계(연도별/전체/연도 요약)는 적재 중 같은 증분으로
+ * 이미 갱신되었으므로, 전체 재생성 없이 순위만 다시 계산한다.
+ * 세 집계와 재계산 결과의 비교는 전체 카탈로그 GROUP BY라 {@code ingest.verify-incremental-stats=true}일 때만 수행하고,
+ * 불일치가 있으면 rebuild로 복구한다.
+ * <p>
+ * {@code ingest.swap-rebuild=true}이면 rebuild를 shadow 테이블 + {@code RENAME TABLE} 교체로 수행한다.
+ * 어느 경로든 완료 시 소요 시간과 함께 catalog_version을 올려, 조회 쪽 캐시가 집계 버전을 키로 쓸 수 있게 한다.
+ * <p>
+ * {@code ingest.rebuild-partitions}가 2 이상이면 단일 {@code INSERT ... SELECT} 대신
+ * 발매 연도 구간별 {@code INSERT ... SELECT}를 동시에 실행해 MySQL 여러 스레드로 집계한다.
+ * 구간은 연도별 앨범 수 누적치로 나눠 구간마다 비슷한 양을 맡긴다.
+ * <p>
+ * rebuild 경로에서는 연도 미지정 통계용 artist_album_count_total을 연도별 집계를 합산해 함께 갱신하고,
+ * 통계 응답의 totalAlbums용 album_count_year도 이어서 갱신한다.
+ * 모든 갱신이 끝나면 카탈로그 전체 버전({@code catalog})을 올려 조회 응답 캐시를 무효화한다.
  */
 @Service
 public class SpotifyIngestRebuildService {
     public final ArtistAlbumCountYearRepo artistAlbumCountYearRepo;
 
-    public SpotifyIngestRebuildService(ArtistAlbumCountYearRepo artistAlbumCountYearRepo) {
+    /** 아티스트별 전체 앨범 수 집계 (연도별 집계 합산) */
+    private final ArtistAlbumCountTotalRepo artistAlbumCountTotalRepo;
+
+    /** 연도별 전체 앨범 수 요약 (통계 응답 totalAlbums) */
+    private final AlbumCountYearRepo albumCountYearRepo;
+
+    /** 집계 버전 기록 */
+    private final CatalogVersionRepo catalogVersionRepo;
+
+    /** ingest 모드 설정 */
+    private final IngestProperties properties;
+
+    public SpotifyIngestRebuildService(
+            ArtistAlbumCountYearRepo artistAlbumCountYearRepo,
+            ArtistAlbumCountTotalRepo artistAlbumCountTotalRepo,
+            AlbumCountYearRepo albumCountYearRepo,
+            CatalogVersionRepo catalogVersionRepo,
+            IngestProperties properties
+    ) {
         this.artistAlbumCountYearRepo = artistAlbumCountYearRepo;
+        this.artistAlbumCountTotalRepo = artistAlbumCountTotalRepo;
+        this.albumCountYearRepo = albumCountYearRepo;
+        this.catalogVersionRepo = catalogVersionRepo;
+        this.properties = properties;
     }
 
     /**
-     * 집계 테이블을 rebuild 한다.
+     * 집계 테이블을 rebuild 하고 catalog_version을 갱신한다.
+     * <p>
+     * 증분 모드에서 (검증을 켰다면 검증 결과가 일치하면) 0을 반환하고 순위만 다시 계산한다.
+     * (적재 중 증분이 반영되었으므로 각 집계 버전은 그대로 올린다.)
+     * 그 밖에는 연도별 집계를 다시 만든 뒤 그 합계로 artist_album_count_total을, album 기준으로 album_count_year를 다시 만든다.
+     * 마지막으로 카탈로그 전체 버전을 올린다.
      *
-     * @return 처리된(갱신/삽입된) 행 수
+     * @return 연도별 집계에서 처리된(갱신/삽입된) 행 수
      */
     public Mono<Long> rebuild() {
-        return artistAlbumCountYearRepo.rebuild();
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return incrementalUpToDate()
+                    .flatMap(upToDate -> upToDate ? refreshIncremental() : rebuildAll(start))
+                    .flatMap(rows -> catalogVersionRepo.recordRebuild(
+                                    CatalogVersionRepo.CATALOG, (System.nanoTime() - start) / 1_000_000)
+                            .thenReturn(rows));
+        });
+    }
+
+    /**
+     * 세 집계를 모두 다시 만들고 각 버전을 기록한다.
+     *
+     * @param start rebuild 시작 시각(nanoTime)
+     * @return 연도별 집계에서 처리된 행 수
+     */
+    private Mono<Long> rebuildAll(long start) {
+        return fullRebuild()
+                .flatMap(rows -> {
+                    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                    return catalogVersionRepo.recordRebuild(CatalogVersionRepo.ARTIST_ALBUM_COUNT_YEAR, elapsedMs)
+                            .doOnNext(version -> System.out.println(
+                                    "Year stats rebuild done. mode=" + (properties.isSwapRebuild() ? "swap" : "truncate")
+                                            + " rows=" + rows + " elapsed=" + elapsedMs + "ms version=" + version))
+                            .then(rebuildTotal())
+                            .then(rebuildAlbumCounts())
+                            .thenReturn(rows);
+                });
+    }
+
+    /**
+     * 증분으로 유지된 집계의 순위만 다시 계산하고 각 버전을 기록한다.
+     * <p>
+     * 증분은 album_count만 바꾸므로 두 아티스트 집계는 row_no/rank_no를 다시 매기고,
+     * album_count_year는 순위가 없어 버전만 올린다.
+     *
+     * @return 0 (rebuild 하지 않음)
+     */
+    private Mono<Long> refreshIncremental() {
+        return recordTimed(
+                CatalogVersionRepo.ARTIST_ALBUM_COUNT_YEAR,
+                "Stats ranks refreshed.",
+                Mono.defer(artistAlbumCountYearRepo::refreshRanks)
+        )
+                .then(recordTimed(
+                        CatalogVersionRepo.ARTIST_ALBUM_COUNT_TOTAL,
+                        "Total stats ranks refreshed.",
+                        Mono.defer(artistAlbumCountTotalRepo::refreshRanks)
+                ))
+                .then(recordTimed(
+                        CatalogVersionRepo.ALBUM_COUNT_YEAR,
+                        "Album counts kept incrementally.",
+                        Mono.just(0L)
+                ))
+                .thenReturn(0L);
+    }
+
+    /**
+     * 증분 집계를 그대로 쓸 수 있는지 판단한다.
+     * <p>
+     * 증분 모드가 아니면 false, 검증이 꺼져 있으면 true,
+     * 켜져 있으면 증분으로 유지한 세 집계를 각각의 재계산 결과와 비교해 어느 쪽에도 불일치가 없을 때만 true를 반환한다.
+     * (하나라도 어긋나면 세 집계 모두 rebuild 한다)
+     */
+    private Mono<Boolean> incrementalUpToDate() {
+        if (!properties.isIncrementalStats()) {
+            return Mono.just(false);
+        }
+        if (!properties.isVerifyIncrementalStats()) {
+            return Mono.just(true);
+        }
+
+        return Mono.zip(
+                        artistAlbumCountYearRepo.countMismatches(),
+                        artistAlbumCountTotalRepo.countMismatches(),
+                        albumCountYearRepo.countMismatches()
+                )
+                .map(m -> {
+                    if (m.getT1() + m.getT2() + m.getT3() == 0L) {
+                        System.out.println("Stats verified: incremental aggregates match");
+                        return true;
+                    }
+                    System.err.println("[WARN] Stats mismatch year=" + m.getT1() + " total=" + m.getT2()
+                            + " albumCount=" + m.getT3() + ", repairing by full rebuild");
+                    return false;
+                });
+    }
+
+    /**
+     * 연도별 집계를 합산해 artist_album_count_total을 다시 만들고 버전을 기록한다.
+     *
+     * @return 삽입된 집계 행 수
+     */
+    private Mono<Long> rebuildTotal() {
+        return recordTimed(
+                CatalogVersionRepo.ARTIST_ALBUM_COUNT_TOTAL,
+                "Total stats rebuild done.",
+                Mono.defer(() -> properties.isSwapRebuild()
+                        ? artistAlbumCountTotalRepo.rebuildWithSwap()
+                        : artistAlbumCountTotalRepo.rebuild())
+        );
+    }
+
+    /**
+     * album 기준 연도별 전체 앨범 수(album_count_year)를 다시 계산하고 버전을 기록한다.
+     *
+     * @return upsert된 행 수
+     */
+    private Mono<Long> rebuildAlbumCounts() {
+        return recordTimed(
+                CatalogVersionRepo.ALBUM_COUNT_YEAR,
+                "Album count rebuild done.",
+                Mono.defer(albumCountYearRepo::rebuild)
+        );
+    }
+
+    /**
+     * 작업 소요 시간을 재고, 완료되면 해당 집계의 버전을 기록한 뒤 결과를 출력한다.
+     *
+     * @param name catalog_version 이름
+     * @param label 출력 메시지 앞부분
+     * @param work 실행할 rebuild 작업
+     * @return 작업 결과(행 수)
+     */
+    private Mono<Long> recordTimed(String name, String label, Mono<Long> work) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return work.flatMap(rows -> {
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                return catalogVersionRepo.recordRebuild(name, elapsedMs)
+                        .doOnNext(version -> System.out.println(
+                                label + " rows=" + rows + " elapsed=" + elapsedMs + "ms version=" + version))
+                        .thenReturn(rows);
+            });
+        });
+    }
+
+    /**
+     * 설정에 따라 TRUNCATE 기반 또는 shadow swap 기반으로 전체 rebuild 한다.
+     * 연도 구간 분할이 설정되어 있으면 구간별로 나눠 동시에 채운다.
+     */
+    private Mono<Long> fullRebuild() {
+        boolean swap = properties.isSwapRebuild();
+        int partitions = properties.getRebuildPartitions();
+
+        if (partitions <= 1) {
+            return swap
+                    ? artistAlbumCountYearRepo.rebuildWithSwap()
+                    : artistAlbumCountYearRepo.rebuild();
+        }
+
+        Mono<Void> prepare = swap
+                ? artistAlbumCountYearRepo.prepareShadow()
+                : artistAlbumCountYearRepo.truncate();
+
+        return prepare
+                .then(artistAlbumCountYearRepo.findReleaseYearCounts()
+                        .collectList()
+                        .flatMap(counts -> counts.isEmpty()
+                                ? Mono.just(0L)
+                                : insertPartitions(splitYears(counts, partitions), swap)))
+                .flatMap(rows -> swap
+                        ? artistAlbumCountYearRepo.swapShadow().thenReturn(rows)
+                        : Mono.just(rows));
+    }
+
+    /**
+     * 연도 구간들을 최대 {@code rebuild-parallelism}개까지 동시에 INSERT 한다.
+     *
+     * @param ranges 서로 겹치지 않는 연도 구간
+     * @param swap shadow 테이블에 채울지 여부
+     * @return 삽입된 집계 행 수 합계
+     */
+    private Mono<Long> insertPartitions(List<YearRangeRow> ranges, boolean swap) {
+        int parallelism = Math.max(1, properties.getRebuildParallelism());
+
+        return Flux.fromIterable(ranges)
+                .flatMap(range -> insertPartition(range, swap), parallelism)
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 연도 구간 하나를 INSERT 하고 구간별 소요 시간을 출력한다.
+     */
+    private Mono<Long> insertPartition(YearRangeRow range, boolean swap) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Mono<Long> insert = swap
+                    ? artistAlbumCountYearRepo.insertYearRangeIntoShadow(range.minYear(), range.maxYear())
+                    : artistAlbumCountYearRepo.insertYearRange(range.minYear(), range.maxYear());
+
+            return insert.doOnNext(rows -> System.out.println(
+                    "Stats partition [" + range.minYear() + "-" + range.maxYear() + "] rows=" + rows
+                            + " elapsed=" + (System.nanoTime() - start) / 1_000_000 + "ms"));
+        });
+    }
+
+    /**
+     * 연도별 앨범 수를 누적해 최대 partitions개의 연속 연도 구간으로 나눈다.
+     * <p>
+     * 발매 연도 분포는 최근 연도에 몰려 있어 같은 폭으로 나누면 마지막 구간 하나가 대부분을 맡는다.
+     * 그래서 누적 앨범 수가 전체의 k/partitions를 넘는 연도에서 구간을 끊고,
+     * 남은 연도가 남은 구간 수와 같아지면 연도마다 끊어 연도 수보다 많이 나누지 않는다.
+     * 구간은 이어 붙여 첫 연도부터 마지막 연도까지 빈틈없이 덮는다.
+     *
+     * @param counts 연도별 앨범 수(연도 오름차순, 비어 있지 않음)
+     * @param partitions 원하는 구간 수
+     * @return 겹치지 않고 전체를 덮는 구간 목록(연도 오름차순)
+     */
+    static List<YearRangeRow> splitYears(List<YearCountRow> counts, int partitions) {
+        int years = counts.size();
+        int n = Math.max(1, Math.min(partitions, years));
+        long total = counts.stream().mapToLong(YearCountRow::albumCount).sum();
+
+        List<YearRangeRow> out = new ArrayList<>(n);
+        int from = counts.get(0).releaseYear();
+        long cumulative = 0;
+        for (int i = 0; i < years; i++) {
+            cumulative += counts.get(i).albumCount();
+            int year = counts.get(i).releaseYear();
+            int remainingParts = n - out.size() - 1;
+
+            boolean last = (i == years - 1);
+            boolean cut = remainingParts > 0
+                    && (cumulative * n >= total * (out.size() + 1) || years - i - 1 == remainingParts);
+            if (last || cut) {
+                out.add(new YearRangeRow(from, year));
+                from = year + 1;
+            }
+        }
+        return out;
     }
 }
@@ -1,14 +1,25 @@
 package com.musicinsights.spotifycatalog.application.ingest;
 
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.AlbumArtistRow;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.AudioRow;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackRow;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRaw;
 import com.musicinsights.spotifycatalog.infrastructure.mapper.TrackRawBatchMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * TrackRaw 배치를 관계형 스키마로 변환하여 DB에 적재(ingest)하는 서비스입니다.
@@ -16,7 +27,20 @@ import java.util.Map;
  * 한 배치 단위로 다음 순서로 저장합니다:
  * artist → album → album_artist → track → (track_artist, track_lyrics, audio_feature)
  * <p>
- * 전체 배치 작업은 {@link TransactionalOperator}로 하나의 리액티브 트랜잭션으로 감쌉니다.
+ * 기본 모드에서는 전체 배치 작업을 {@link TransactionalOperator}로 하나의 리액티브 트랜잭션으로 감쌉니다.
+ * <p>
+ * {@code ingest.parallel-relations=true}이면 artist/album id 확보까지만 트랜잭션으로 묶고,
+ * 이후 서로 다른 테이블에 대한 쓰기(album_artist, track_artist, track_lyrics, audio_feature)를
+ * 풀의 서로 다른 커넥션에서 동시에 실행합니다. 각 쓰기는 멱등(INSERT IGNORE/UPSERT)이므로
+ * 실패 시 트랜잭션 롤백 대신 재시도로 복구합니다.
+ * <p>
+ * 배치별 wall time은 {@code ingest.batch} 타이머(mode=serial|parallel)로 기록합니다.
+ * <p>
+ * track / audio_feature는 content fingerprint가 바뀐 row만 쓰며,
+ * 누적 inserted / changed / unchanged 건수는 {@link #summary()}로 확인할 수 있습니다.
+ * <p>
+ * {@code ingest.incremental-stats=true}(직렬 모드)이면 배치 트랜잭션 안에서
+ * 새 album_artist 매핑만큼 artist_album_count_year/artist_album_count_total/album_count_year를 증분 갱신합니다.
  */
 @Service
 public class SpotifyIngestService {
@@ -30,21 +54,39 @@ public class SpotifyIngestService {
     /** TrackRaw → Row 변환을 담당하는 배치 매퍼 */
     private final TrackRawBatchMapper mapper;
 
+    /** ingest 모드 설정 */
+    private final IngestProperties properties;
+
+    /** 배치별 wall time 타이머 */
+    private final Timer batchTimer;
+
+    /** 테이블별 inserted / changed / unchanged 누적 */
+    private final IngestSummary summary = new IngestSummary();
+
     /**
      * 의존성을 주입받아 서비스를 초기화합니다.
      *
      * @param ingestDb Repo 파사드
      * @param tx 리액티브 트랜잭션 오퍼레이터
      * @param mapper 배치 매퍼
+     * @param properties ingest 모드 설정
+     * @param meterRegistry 배치 타이머 등록용 레지스트리
      */
     public SpotifyIngestService(
             IngestFacade ingestDb,
             TransactionalOperator tx,
-            TrackRawBatchMapper mapper
+            TrackRawBatchMapper mapper,
+            IngestProperties properties,
+            MeterRegistry meterRegistry
     ) {
         this.ingestDb = ingestDb;
         this.tx = tx;
         this.mapper = mapper;
+        this.properties = properties;
+        this.batchTimer = Timer.builder("ingest.batch")
+                .description("wall time of one ingest batch")
+                .tag("mode", properties.isParallelRelations() ? "parallel" : "serial")
+                .register(meterRegistry);
     }
 
     /**
@@ -57,21 +99,84 @@ public class SpotifyIngestService {
      * @return 배치 처리 결과(rowsUpdated 등) 값(최종 단계의 결과)
      */
     public Mono<Long> ingestBatch(List<TrackRaw> batch) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            Mono<Long> work = properties.isParallelRelations()
+                    ? ingestBatchParallel(batch)
+                    : ingestBatchSerial(batch);
+            return work.doFinally(signal -> sample.stop(batchTimer));
+        });
+    }
+
+    /**
+     * 배치 전체를 하나의 트랜잭션 안에서 순차적으로 적재합니다.
+     *
+     * @param batch TrackRaw 배치
+     * @return 최종 단계의 처리 결과
+     */
+    private Mono<Long> ingestBatchSerial(List<TrackRaw> batch) {
         var ex = mapper.extract(batch);
 
         Mono<Long> work =
+                ingestDb.artist.insertIgnoreByKey(ex.artists())
+                        .then(ingestDb.artist.fetchArtistIdsByKey(ex.artistKeys()))
+                        .flatMap(artistIdByKey -> knownAlbumKeys(ex)
+                                .flatMap(knownAlbumKeys -> ingestDb.album.upsertByKey(ex.albums())
+                                        .then(ingestDb.album.fetchAlbumIdsByKey(ex.albumKeys()))
+                                        .flatMap(albumIdByKey -> {
+                                            Mono<Long> albumArtist = properties.isIncrementalStats()
+                                                    ? ingestAlbumArtistWithStats(batch, ex, knownAlbumKeys, artistIdByKey, albumIdByKey)
+                                                    : ingestAlbumArtist(batch, artistIdByKey, albumIdByKey);
+
+                                            return albumArtist
+                                                    .then(ingestTracksAndRelations(batch, artistIdByKey, albumIdByKey));
+                                        }))
+                        );
+
+        return tx.transactional(work);
+    }
+
+    /**
+     * artist/album id 확보까지만 트랜잭션으로 수행하고,
+     * 이후 관계 테이블 쓰기를 동시에 실행합니다.
+     *
+     * @param batch TrackRaw 배치
+     * @return 동시 실행된 쓰기들의 처리 결과 합계
+     */
+    private Mono<Long> ingestBatchParallel(List<TrackRaw> batch) {
+        var ex = mapper.extract(batch);
+
+        Mono<Tuple2<Map<String, Long>, Map<String, Long>>> ids =
                 ingestDb.artist.insertIgnoreByKey(ex.artists())
                         .then(ingestDb.artist.fetchArtistIdsByKey(ex.artistKeys()))
                         .flatMap(artistIdByKey ->
                                 ingestDb.album.upsertByKey(ex.albums())
                                         .then(ingestDb.album.fetchAlbumIdsByKey(ex.albumKeys()))
-                                        .flatMap(albumIdByKey ->
-                                                ingestAlbumArtist(batch, artistIdByKey, albumIdByKey)
-                                                        .then(ingestTracksAndRelations(batch, artistIdByKey, albumIdByKey))
-                                        )
+                                        .map(albumIdByKey -> Tuples.of(artistIdByKey, albumIdByKey))
                         );
 
-        return tx.transactional(work);
+        return tx.transactional(ids)
+                .flatMap(t -> Mono.zip(
+                        idempotent(ingestAlbumArtist(batch, t.getT1(), t.getT2())),
+                        ingestTracksAndRelationsParallel(batch, t.getT1(), t.getT2())
+                ).map(r -> r.getT1() + r.getT2()));
+    }
+
+    /**
+     * 증분 집계 모드에서 album upsert 전에 이미 있던 album_key를 조회합니다.
+     * <p>
+     * album_count_year 증분은 이번 배치에서 새로 생긴 album 행만 세야 하므로 upsert 전에 확인합니다.
+     * 증분 모드가 아니면 조회하지 않습니다.
+     *
+     * @param ex 배치 extract 결과(album seed)
+     * @return 이미 있던 album_key 집합
+     */
+    private Mono<Set<String>> knownAlbumKeys(TrackRawBatchMapper.BatchExtract ex) {
+        if (!properties.isIncrementalStats()) {
+            return Mono.just(Set.of());
+        }
+        return ingestDb.album.fetchAlbumIdsByKey(ex.albumKeys())
+                .map(idByKey -> Set.copyOf(idByKey.keySet()));
     }
 
     /**
@@ -91,6 +196,62 @@ public class SpotifyIngestService {
         return ingestDb.albumArtist.insertIgnore(aaRows);
     }
 
+    /**
+     * 이번 배치에서 새로 생긴 album_artist 매핑만 저장하고,
+     * 그만큼 artist_album_count_year, artist_album_count_total을 증분 갱신합니다.
+     * album_count_year는 매핑이 아니라 이번 배치에서 새로 생긴 album 행만큼 더합니다.
+     * <p>
+     * 직렬 모드의 배치 트랜잭션 안에서 실행되므로 매핑 삽입과 집계 증분이 함께 커밋/롤백됩니다.
+     * 세 집계가 같은 증분으로 유지되므로 적재 후에는 전체 재계산 없이 순위만 다시 계산합니다.
+     *
+     * @param batch TrackRaw 배치
+     * @param ex 배치 extract 결과(album seed)
+     * @param knownAlbumKeys album upsert 전에 이미 있던 album_key
+     * @param artistIdByKey artistKey -> artistId 매핑
+     * @param albumIdByKey albumKey -> albumId 매핑
+     * @return 새로 저장된 album_artist 행 수
+     */
+    private Mono<Long> ingestAlbumArtistWithStats(
+            List<TrackRaw> batch,
+            TrackRawBatchMapper.BatchExtract ex,
+            Set<String> knownAlbumKeys,
+            Map<String, Long> artistIdByKey,
+            Map<String, Long> albumIdByKey
+    ) {
+        List<AlbumArtistRow> aaRows = mapper.buildAlbumArtistRows(batch, artistIdByKey, albumIdByKey);
+
+        return ingestDb.albumArtist.findExisting(aaRows)
+                .flatMap(existing -> {
+                    Set<AlbumArtistRow> existingPairs = existing.stream()
+                            .map(SpotifyIngestService::pairOf)
+                            .collect(Collectors.toSet());
+                    List<AlbumArtistRow> newRows = aaRows.stream()
+                            .distinct()
+                            .filter(r -> !existingPairs.contains(pairOf(r)))
+                            .toList();
+                    var deltas = mapper.buildYearDeltas(newRows, ex, albumIdByKey);
+                    var albumDeltas = mapper.buildAlbumYearDeltas(knownAlbumKeys, ex, albumIdByKey);
+
+                    return ingestDb.albumArtist.insertIgnore(newRows)
+                            .flatMap(n -> ingestDb.artistAlbumCountYear.applyDeltas(deltas)
+                                    .then(ingestDb.artistAlbumCountTotal.applyDeltas(deltas))
+                                    .then(ingestDb.albumCountYear.applyDeltas(albumDeltas))
+                                    .thenReturn(n));
+                });
+    }
+
+    /**
+     * 매핑 비교용 (album_id, artist_id) 키를 만듭니다.
+     * <p>
+     * 저장된 release_year는 앨범 발매일이 바뀐 뒤의 입력 Row와 다를 수 있으므로 비교에서 제외합니다.
+     *
+     * @param row album_artist 매핑
+     * @return release_year를 비운 매핑
+     */
+    private static AlbumArtistRow pairOf(AlbumArtistRow row) {
+        return new AlbumArtistRow(row.albumId(), row.artistId());
+    }
+
     /**
      * 트랙(track)을 저장한 뒤, track_id를 조회하여 관계/부가 데이터(track_artist, lyrics, audio_feature)를 저장합니다.
      *
@@ -106,14 +267,87 @@ public class SpotifyIngestService {
     ) {
         var tb = mapper.buildTrackRows(batch, albumIdByKey);
 
-        return ingestDb.track.upsert(tb.trackRows())
+        return upsertTracks(tb.trackRows())
                 .then(ingestDb.track.fetchTrackIdsByHash(tb.hashes()))
                 .flatMap(trackIdMap -> {
                     var rel = mapper.buildTrackRelations(batch, tb.trackRows(), trackIdMap, artistIdByKey);
 
                     return ingestDb.trackArtist.insertIgnore(rel.trackArtistRows())
                             .then(ingestDb.trackLyrics.upsert(rel.lyricsRows()))
-                            .then(ingestDb.audioFeature.upsertAudioFeatures(rel.audioRows()));
+                            .then(upsertAudio(rel.audioRows()));
+                });
+    }
+
+    /**
+     * 트랙 저장 및 track_id 조회 후, 서로 겹치지 않는 세 관계 테이블 쓰기를 동시에 실행합니다.
+     *
+     * @param batch TrackRaw 배치
+     * @param artistIdByKey artistName -> artistId 매핑
+     * @param albumIdByKey AlbumRow -> albumId 매핑
+     * @return 관계 쓰기 처리 결과 합계
+     */
+    private Mono<Long> ingestTracksAndRelationsParallel(
+            List<TrackRaw> batch,
+            Map<String, Long> artistIdByKey,
+            Map<String, Long> albumIdByKey
+    ) {
+        var tb = mapper.buildTrackRows(batch, albumIdByKey);
+
+        return idempotent(upsertTracks(tb.trackRows()))
+                .then(ingestDb.track.fetchTrackIdsByHash(tb.hashes()))
+                .flatMap(trackIdMap -> {
+                    var rel = mapper.buildTrackRelations(batch, tb.trackRows(), trackIdMap, artistIdByKey);
+
+                    return Mono.zip(
+                            idempotent(ingestDb.trackArtist.insertIgnore(rel.trackArtistRows())),
+                            idempotent(ingestDb.trackLyrics.upsert(rel.lyricsRows())),
+                            idempotent(upsertAudio(rel.audioRows()))
+                    ).map(r -> r.getT1() + r.getT2() + r.getT3());
                 });
     }
+
+    /**
+     * fingerprint가 바뀐 track row만 쓰고 결과를 summary에 누적합니다.
+     *
+     * @param rows track row 목록
+     * @return 실제로 쓴 row 수
+     */
+    private Mono<Long> upsertTracks(List<TrackRow> rows) {
+        return ingestDb.track.upsertChanged(rows)
+                .doOnNext(stats -> summary.record("track", stats))
+                .map(UpsertStats::written);
+    }
+
+    /**
+     * fingerprint가 바뀐 audio_feature row만 쓰고 결과를 summary에 누적합니다.
+     *
+     * @param rows audio_feature row 목록
+     * @return 실제로 쓴 row 수
+     */
+    private Mono<Long> upsertAudio(List<AudioRow> rows) {
+        return ingestDb.audioFeature.upsertChanged(rows)
+                .doOnNext(stats -> summary.record("audio_feature", stats))
+                .map(UpsertStats::written);
+    }
+
+    /**
+     * 지금까지 적재한 배치들의 테이블별 inserted / changed / unchanged 누적 결과를 반환합니다.
+     *
+     * @return ingest summary
+     */
+    public IngestSummary summary() {
+        return summary;
+    }
+
+    /**
+     * 멱등 쓰기에 재시도 정책을 적용합니다.
+     * <p>
+     * 병렬 모드에서는 배치 전체를 롤백할 트랜잭션이 없으므로, 실패한 쓰기만 다시 실행해 복구합니다.
+     *
+     * @param write 멱등 쓰기
+     * @return 재시도 정책이 적용된 쓰기
+     */
+    private Mono<Long> idempotent(Mono<Long> write) {
+        return write.retryWhen(Retry.backoff(properties.getRelationRetries(), Duration.ofMillis(100)));
+    }
 }
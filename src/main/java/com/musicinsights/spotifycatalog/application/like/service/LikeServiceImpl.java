@@ -1,14 +1,18 @@
 package com.musicinsights.spotifycatalog.application.like.service;
 
+import com.musicinsights.spotifycatalog.application.common.cache.SingleFlight;
 import com.musicinsights.spotifycatalog.application.like.dto.response.LikeResponse;
 import com.musicinsights.spotifycatalog.application.like.dto.response.TopLikeResponse;
 import com.musicinsights.spotifycatalog.application.like.repository.LikeCounterRepository;
 import com.musicinsights.spotifycatalog.application.like.repository.LikeEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * 좋아요 서비스.
  *
@@ -20,12 +24,17 @@ public class LikeServiceImpl implements LikeService {
     private final LikeEventRepository likeEventRepository;
     private final TransactionalOperator tx;
 
+    /** 같은 (windowMinutes, limit)의 동시 Top N 집계를 하나의 쿼리로 합침 */
+    private final SingleFlight<List<Integer>, List<TopLikeResponse>> topFlight;
+
     public LikeServiceImpl(LikeCounterRepository likeCounterRepository,
                            LikeEventRepository likeEventRepository,
-                           TransactionalOperator tx) {
+                           TransactionalOperator tx,
+                           MeterRegistry meterRegistry) {
         this.likeCounterRepository = likeCounterRepository;
         this.likeEventRepository = likeEventRepository;
         this.tx = tx;
+        this.topFlight = new SingleFlight<>("like.top_increased", meterRegistry);
     }
 
     /**
@@ -59,12 +68,18 @@ public class LikeServiceImpl implements LikeService {
     /**
      * 최근 windowMinutes 구간에서 좋아요 증가량 Top N을 조회한다.
      *
+     * <p>같은 조건의 요청이 동시에 들어오면 진행 중인 집계 쿼리 결과를 함께 받는다.</p>
+     *
      * @param windowMinutes 집계 시간(분)
      * @param limit         조회 개수
      * @return 증가량 집계 결과
      */
     @Override
     public Flux<TopLikeResponse> topIncreased(int windowMinutes, int limit) {
-        return likeEventRepository.findTopIncreased(windowMinutes, limit);
+        return topFlight.execute(
+                        List.of(windowMinutes, limit),
+                        () -> likeEventRepository.findTopIncreased(windowMinutes, limit).collectList()
+                )
+                .flatMapIterable(list -> list);
     }
 }
@@ -1,9 +1,13 @@
 package com.musicinsights.spotifycatalog.bootstrap;
 
+import com.musicinsights.spotifycatalog.application.ingest.BulkLoadIndexService;
+import com.musicinsights.spotifycatalog.application.ingest.IngestProperties;
+import com.musicinsights.spotifycatalog.application.ingest.LyricsBackfillService;
 import com.musicinsights.spotifycatalog.application.ingest.SpotifyIngestRebuildService;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.NdjsonLineReader;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRaw;
 import com.musicinsights.spotifycatalog.application.ingest.SpotifyIngestService;
+import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRawWithoutLyrics;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -15,6 +19,9 @@ import tools.jackson.databind.ObjectMapper;
  *
  * <p>Profile이 {@code ingest}일 때만 활성화된다.</p>
  * <p>흐름: 라인 읽기 → JSON 파싱 → 800개 버퍼링 → 배치 ingest → 집계 rebuild</p>
+ * <p>{@code ingest.defer-lyrics=true}이면 파싱 시 가사를 건너뛰고,
+ * rebuild 이후 가사 backfill을 백그라운드로 시작한다.</p>
+ * <p>{@code ingest.manage-indexes=true}이면 cold load 전후로 보조 인덱스를 삭제/재생성한다.</p>
  */
 @Component
 @Profile("ingest")
@@ -32,6 +39,15 @@ public class SpotifyNdjsonIngestRunner implements CommandLineRunner {
     /** 적재 후 통계/집계 rebuild 서비스 */
     private final SpotifyIngestRebuildService ingestRebuildService;
 
+    /** ingest 모드 설정 */
+    private final IngestProperties properties;
+
+    /** 지연된 가사 backfill 서비스 */
+    private final LyricsBackfillService lyricsBackfillService;
+
+    /** 대량 적재 시 보조 인덱스 삭제/재생성 서비스 */
+    private final BulkLoadIndexService bulkLoadIndexService;
+
     /**
      * 의존성을 주입받아 러너를 초기화합니다.
      *
@@ -39,17 +55,26 @@ public class SpotifyNdjsonIngestRunner implements CommandLineRunner {
      * @param mapper JSON 파서(ObjectMapper)
      * @param ingestService 배치 적재 서비스
      * @param spotifyIngestRebuildService 통계 rebuild 서비스
+     * @param properties ingest 모드 설정
+     * @param lyricsBackfillService 가사 backfill 서비스
+     * @param bulkLoadIndexService 보조 인덱스 관리 서비스
      */
     public SpotifyNdjsonIngestRunner(
             NdjsonLineReader lineReader,
             ObjectMapper mapper,
             SpotifyIngestService ingestService,
-            SpotifyIngestRebuildService spotifyIngestRebuildService
+            SpotifyIngestRebuildService spotifyIngestRebuildService,
+            IngestProperties properties,
+            LyricsBackfillService lyricsBackfillService,
+            BulkLoadIndexService bulkLoadIndexService
     ) {
         this.lineReader = lineReader;
         this.mapper = mapper;
         this.ingestService = ingestService;
         this.ingestRebuildService=spotifyIngestRebuildService;
+        this.properties = properties;
+        this.lyricsBackfillService = lyricsBackfillService;
+        this.bulkLoadIndexService = bulkLoadIndexService;
     }
 
     /**
@@ -64,19 +89,50 @@ public class SpotifyNdjsonIngestRunner implements CommandLineRunner {
     public void run(String... args) {
         String path = "dataset/900k Definitive Spotify Dataset.json";
 
-        lineReader.readLines(path)
+        long started = System.nanoTime();
+
+        Mono<Void> load = lineReader.readLines(path)
                 .filter(line -> line != null && !line.isBlank())
                 .map(this::parse)
                 .buffer(800)
                 .concatMap(ingestService::ingestBatch)
                 .doOnNext(n -> System.out.println("Batch done. affected=" + n))
                 .doOnError(e -> System.err.println("Ingest failed: " + e.getMessage()))
+                .then(Mono.fromRunnable(() -> {
+                    System.out.println("Ingest done. elapsed=" + (System.nanoTime() - started) / 1_000_000 + "ms");
+                    System.out.println("Ingest summary: " + ingestService.summary());
+                }));
+
+        bulkLoadIndexService.beforeLoad()
+                // 적재가 실패해도 삭제한 인덱스는 복구한 뒤 에러를 전파
+                .then(load.onErrorResume(e -> bulkLoadIndexService.afterLoad().then(Mono.error(e))))
+                .then(Mono.defer(bulkLoadIndexService::afterLoad))
                 .then(Mono.defer(() ->
                         ingestRebuildService.rebuild()
                                 .doOnSuccess(n -> System.out.println("Stats rebuild done. affected=" + n))
                 ))
                 .then()
                 .block();
+
+        if (properties.isDeferLyrics()) {
+            startLyricsBackfill(path);
+        }
+    }
+
+    /**
+     * 가사 backfill을 백그라운드로 시작합니다.
+     * <p>
+     * 메인 적재/집계는 이미 끝났으므로 API는 이 시점부터 조회 가능하며,
+     * backfill 실패는 로그만 남기고 애플리케이션을 중단시키지 않습니다.
+     *
+     * @param path classpath 데이터셋 경로
+     */
+    private void startLyricsBackfill(String path) {
+        lyricsBackfillService.backfill(path)
+                .subscribe(
+                        n -> System.out.println("Lyrics backfill done. affected=" + n),
+                        e -> System.err.println("Lyrics backfill failed: " + e.getMessage())
+                );
     }
 
     /**
@@ -88,6 +144,9 @@ public class SpotifyNdjsonIngestRunner implements CommandLineRunner {
      */
     private TrackRaw parse(String line) {
         try {
+            if (properties.isDeferLyrics()) {
+                return mapper.readValue(line, TrackRawWithoutLyrics.class);
+            }
             return mapper.readValue(line, TrackRaw.class);
         } catch (Exception e) {
             throw new IllegalStateException("JSON parse error", e);
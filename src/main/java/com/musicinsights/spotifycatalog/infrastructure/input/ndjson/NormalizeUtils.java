@@ -179,4 +179,22 @@ public class NormalizeUtils {
             throw new IllegalStateException(e);
         }
     }
+
+    /**
+     * 여러 컬럼 값을 하나의 내용 fingerprint(SHA-256 hex)로 만듭니다.
+     * <p>
+     * 값 사이는 unit separator(U+001F)로 구분하고 null은 별도 표식(U+0000)으로 표현해
+     * {@code ("a", null)}과 {@code ("a", "")}가 서로 다른 fingerprint를 갖도록 합니다.
+     *
+     * @param values 컬럼 값(순서 중요, Nullable)
+     * @return fingerprint(hex 64자)
+     */
+    public static String fingerprint(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append('\u001F');
+            sb.append(values[i] == null ? "\u0000" : values[i].toString());
+        }
+        return sha256Hex(sb.toString());
+    }
 }
@@ -0,0 +1,14 @@
+package com.musicinsights.spotifycatalog.infrastructure.input.ndjson;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 가사(text) 필드를 건너뛰고 역직렬화하는 {@link TrackRaw} 변형입니다.
+ * <p>
+ * 무시 대상 필드는 파서가 문자열로 만들지 않고 토큰만 건너뛰므로,
+ * 입력 바이트의 대부분을 차지하는 가사를 메인 적재 패스에서 할당 없이 지나칠 수 있습니다.
+ * 결과 객체의 {@code text}는 항상 null입니다.
+ */
+@JsonIgnoreProperties(value = {"text"}, ignoreUnknown = true)
+public class TrackRawWithoutLyrics extends TrackRaw {
+}
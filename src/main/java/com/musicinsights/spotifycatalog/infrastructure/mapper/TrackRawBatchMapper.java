@@ -76,6 +76,8 @@ public class TrackRawBatchMapper {
 
     /**
      * albumId/artistId 맵을 사용해 album_artist row를 생성한다.
+     * <p>
+     * 발매 연도는 album_key를 만든 발매일에서 가져와 함께 담는다. (album.release_year와 같은 값)
      *
      * @param batch 입력 배치
      * @param artistIdByKey artistKey -> id
@@ -104,19 +106,89 @@ public class TrackRawBatchMapper {
                 continue;
             }
 
+            Integer releaseYear = (rd == null) ? null : rd.getYear();
             for (String rawArtist : splitArtists(r.artists)) {
                 String artistK = artistKey(rawArtist);
                 Long artistId = (artistK == null) ? null : artistIdByKey.get(artistK);
                 if (artistId != null) {
-                    rows.add(new AlbumArtistRow(albumId, artistId));
+                    rows.add(new AlbumArtistRow(albumId, artistId, releaseYear));
                 }
             }
         }
         return rows;
     }
 
+    /**
+     * 새로 추가된 album_artist 매핑으로부터 (연도, 아티스트)별 앨범 수 증분을 계산한다.
+     * <p>
+     * 앨범 연도는 배치의 album seed(발매일)에서 가져오며, 발매일이 없는 앨범은 집계 대상이 아니므로 제외한다.
+     *
+     * @param newPairs 이번 배치에서 새로 생긴 album_artist 매핑
+     * @param ex 배치 extract 결과(album seed)
+     * @param albumIdByKey albumKey -> id
+     * @return (연도, 아티스트)별 증분
+     */
+    public List<ArtistYearDeltaRow> buildYearDeltas(
+            List<AlbumArtistRow> newPairs,
+            BatchExtract ex,
+            Map<String, Long> albumIdByKey
+    ) {
+        Map<Long, Integer> yearByAlbumId = new HashMap<>();
+        for (IngestSeeds.AlbumSeed seed : ex.albums()) {
+            Long albumId = albumIdByKey.get(seed.key());
+            LocalDate rd = seed.album().releaseDate();
+            if (albumId != null && rd != null) yearByAlbumId.put(albumId, rd.getYear());
+        }
+
+        // year -> (artistId -> count)
+        Map<Integer, Map<Long, Long>> countByYear = new LinkedHashMap<>();
+        for (AlbumArtistRow p : newPairs) {
+            Integer year = yearByAlbumId.get(p.albumId());
+            if (year == null) continue;
+            countByYear.computeIfAbsent(year, y -> new LinkedHashMap<>())
+                    .merge(p.artistId(), 1L, Long::sum);
+        }
+
+        List<ArtistYearDeltaRow> out = new ArrayList<>();
+        countByYear.forEach((year, byArtist) ->
+                byArtist.forEach((artistId, n) -> out.add(new ArtistYearDeltaRow(year, artistId, n))));
+        return out;
+    }
+
+    /**
+     * 이번 배치에서 새로 생긴 album 행으로부터 연도별 전체 앨범 수 증분을 계산한다.
+     * <p>
+     * album_key(이름 + 발매일)가 같은 앨범은 여러 아티스트가 한 행을 공유하므로,
+     * 매핑이 아니라 album upsert 전에 없던 album_key만 새 앨범으로 센다.
+     * album_count_year와 같이 발매일이 없는 앨범은 연도 0으로 모은다.
+     *
+     * @param knownAlbumKeys album upsert 전에 이미 있던 album_key
+     * @param ex 배치 extract 결과(album seed, key 기준 중복 제거됨)
+     * @param albumIdByKey albumKey -> id (upsert 후)
+     * @return 연도별 증분
+     */
+    public List<AlbumYearDeltaRow> buildAlbumYearDeltas(
+            Set<String> knownAlbumKeys,
+            BatchExtract ex,
+            Map<String, Long> albumIdByKey
+    ) {
+        // year -> count
+        Map<Integer, Long> countByYear = new LinkedHashMap<>();
+        for (IngestSeeds.AlbumSeed seed : ex.albums()) {
+            if (knownAlbumKeys.contains(seed.key()) || !albumIdByKey.containsKey(seed.key())) continue;
+            LocalDate rd = seed.album().releaseDate();
+            countByYear.merge(rd == null ? 0 : rd.getYear(), 1L, Long::sum);
+        }
+
+        List<AlbumYearDeltaRow> out = new ArrayList<>();
+        countByYear.forEach((year, n) -> out.add(new AlbumYearDeltaRow(year, n)));
+        return out;
+    }
+
     /**
      * track row와 track_hash 목록을 생성한다.
+     * <p>
+     * 각 row에는 재적재 시 변경 여부를 판단하기 위한 내용 fingerprint가 포함된다.
      *
      * @param batch 입력 배치
      * @param albumIdByKey albumKey -> id
@@ -141,23 +213,29 @@ public class TrackRawBatchMapper {
                 System.err.println("[WARN] albumId not found (track.album_id): " + albumName + " / " + r.releaseDate);
             }
 
-            String keyStr = trackKey(r.song, r.album, rd, splitArtists(r.artists));
-            String h = sha256Hex(keyStr);
+            String h = trackHash(r, rd);
             hashes.add(h);
 
             String title = norm(r.song);
             if (title == null) title = "";
 
+            Integer durationMs = parseDurationMsOrNull(r.length);
+            String durationStr = norm(r.length);
+            String genre = norm(r.genre);
+            String emotion = norm(r.emotion);
+            Boolean explicit = parseExplicit(r.explicit);
+
             trackRows.add(new TrackRow(
                     h,
                     title,
-                    parseDurationMsOrNull(r.length),
-                    norm(r.length),
-                    norm(r.genre),
-                    norm(r.emotion),
-                    parseExplicit(r.explicit),
+                    durationMs,
+                    durationStr,
+                    genre,
+                    emotion,
+                    explicit,
                     r.popularity,
-                    albumId
+                    albumId,
+                    fingerprint(title, durationMs, durationStr, genre, emotion, explicit, r.popularity, albumId)
             ));
         }
 
@@ -165,6 +243,27 @@ public class TrackRawBatchMapper {
     }
 
 
+    /**
+     * 가사 backfill용으로 track_hash -> 가사 매핑을 생성한다.
+     * <p>
+     * 가사가 비어있는 row는 제외하며, 같은 hash가 여러 번 나오면 마지막 값을 사용한다
+     * (메인 적재 시 upsert가 마지막 값으로 덮어쓰는 것과 동일).
+     *
+     * @param batch 입력 배치(text 포함)
+     * @return track_hash -> 가사
+     */
+    public Map<String, String> buildLyricsByHash(List<TrackRaw> batch) {
+        Map<String, String> out = new LinkedHashMap<>();
+
+        for (TrackRaw r : batch) {
+            String lyrics = norm(r.text);
+            if (lyrics == null) continue;
+
+            out.put(trackHash(r, parseDateOrNull(r.releaseDate)), lyrics);
+        }
+        return out;
+    }
+
     /**
      * trackId/artistId 맵을 사용해 track_artist/lyrics/audio row를 생성한다.
      *
@@ -200,6 +299,9 @@ public class TrackRawBatchMapper {
             String lyrics = norm(r.text);
             if (lyrics != null) lyricRows.add(new TrackLyricsRow(trackId, lyrics));
 
+            String musicalKey = norm(r.key);
+            String timeSignature = norm(r.timeSignature);
+
             afRows.add(new AudioRow(
                     trackId,
                     r.tempo,
@@ -211,11 +313,19 @@ public class TrackRawBatchMapper {
                     r.liveness,
                     r.acousticness,
                     r.instrumentalness,
-                    norm(r.key),
-                    norm(r.timeSignature)
+                    musicalKey,
+                    timeSignature,
+                    fingerprint(r.tempo, r.loudnessDb, r.energy, r.danceability, r.positiveness,
+                            r.speechiness, r.liveness, r.acousticness, r.instrumentalness,
+                            musicalKey, timeSignature)
             ));
         }
 
         return new TrackRelations(taRows, lyricRows, afRows);
     }
+
+    /** track 자연키(제목/앨범/발매일/아티스트)의 SHA-256 hash */
+    private static String trackHash(TrackRaw r, LocalDate releaseDate) {
+        return sha256Hex(trackKey(r.song, r.album, releaseDate, splitArtists(r.artists)));
+    }
 }
@@ -0,0 +1,82 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * lyrics_blob 저장용 가사 압축/해제 유틸리티입니다.
+ * <p>
+ * 별도 의존성 없이 JDK 내장 deflate(zlib 포맷)를 사용합니다.
+ * 저장 시 codec 이름을 함께 기록하므로, 이후 다른 codec을 추가해도 기존 blob을 그대로 읽을 수 있습니다.
+ */
+public final class LyricsCodec {
+
+    /** JDK {@link Deflater} 기반 codec 이름 */
+    public static final String DEFLATE = "deflate";
+
+    private LyricsCodec() {}
+
+    /**
+     * 가사 원문을 UTF-8 바이트로 변환해 deflate 압축합니다.
+     *
+     * @param lyrics 가사 원문(non-null)
+     * @return 압축된 바이트 배열
+     */
+    public static byte[] compress(String lyrics) {
+        byte[] raw = lyrics.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 3));
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buf);
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 저장된 blob을 가사 원문으로 복원합니다.
+     *
+     * @param codec     저장 시 기록된 codec 이름
+     * @param body      압축된 바이트 배열
+     * @param rawLength 원문 UTF-8 바이트 수
+     * @return 가사 원문
+     * @throws IllegalStateException 지원하지 않는 codec이거나 데이터가 손상된 경우
+     */
+    public static String decompress(String codec, byte[] body, int rawLength) {
+        if (!DEFLATE.equals(codec)) {
+            throw new IllegalStateException("unsupported lyrics codec: " + codec);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body);
+            byte[] raw = new byte[rawLength];
+            int off = 0;
+            while (off < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, off, rawLength - off);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                off += n;
+            }
+            if (off != rawLength) {
+                throw new IllegalStateException("corrupted lyrics blob: expected " + rawLength + " bytes, got " + off);
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupted lyrics blob", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc;
+
+/**
+ * fingerprint 기반 upsert의 분류 결과입니다.
+ *
+ * @param inserted  DB에 없어 새로 삽입한 row 수
+ * @param changed   fingerprint가 달라 갱신한 row 수
+ * @param unchanged fingerprint가 같아 쓰기를 건너뛴 row 수
+ */
+public record UpsertStats(long inserted, long changed, long unchanged) {
+
+    /** 빈 결과 */
+    public static final UpsertStats EMPTY = new UpsertStats(0, 0, 0);
+
+    /**
+     * 실제로 쓰기가 발생한 row 수(inserted + changed)를 반환합니다.
+     *
+     * @return 쓰기 row 수
+     */
+    public long written() {
+        return inserted + changed;
+    }
+
+    /**
+     * 두 결과를 합산합니다.
+     *
+     * @param other 더할 결과
+     * @return 합산 결과
+     */
+    public UpsertStats plus(UpsertStats other) {
+        return new UpsertStats(inserted + other.inserted, changed + other.changed, unchanged + other.unchanged);
+    }
+}
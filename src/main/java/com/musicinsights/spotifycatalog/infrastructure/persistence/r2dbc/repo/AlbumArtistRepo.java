@@ -4,15 +4,21 @@ import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.Alb
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * album_artist(앨범-아티스트 조인 테이블) 배치 저장을 담당하는 Repository입니다.
  * <p>
  * 대량 입력 시 메모리/쿼리 크기 부담을 줄이기 위해 CHUNK 단위로 분할 처리합니다.
  * 중복(PK 충돌) 발생 시에는 무시(INSERT IGNORE 유사)하도록 설계되어 있습니다.
+ * <p>
+ * 매핑과 함께 album의 release_year를 저장해, 아티스트별 앨범 목록이
+ * (artist_id, release_year DESC, album_id) 인덱스만으로 정렬/페이징되도록 합니다.
  */
 @Component
 public class AlbumArtistRepo extends BatchSqlSupport {
@@ -33,6 +39,7 @@ public class AlbumArtistRepo extends BatchSqlSupport {
      * album-artist 매핑을 배치로 저장합니다.
      * <p>
      * PK 중복이 발생하면 해당 행은 업데이트 없이 무시됩니다.
+     * (release_year는 album_key에서 정해지는 값이라 기존 행과 다를 수 없습니다.)
      *
      * @param rows 저장할 매핑 목록
      * @return 영향을 받은 행 수(배치 합계)
@@ -41,6 +48,57 @@ public class AlbumArtistRepo extends BatchSqlSupport {
         return chunkedSum(rows, CHUNK, this::insertOnce);
     }
 
+    /**
+     * 주어진 매핑 중 album_artist에 이미 존재하는 것을 조회합니다.
+     * <p>
+     * 증분 집계에서 "이번 배치에서 새로 생긴 매핑"만 골라내기 위해 사용합니다.
+     * 반환 Row의 release_year는 저장 당시 값이라 입력 Row와 다를 수 있으므로, 호출 측은 (album_id, artist_id)로만 비교해야 합니다.
+     *
+     * @param rows 확인할 매핑 목록
+     * @return 이미 존재하는 매핑 집합
+     */
+    public Mono<Set<AlbumArtistRow>> findExisting(List<AlbumArtistRow> rows) {
+        if (rows == null || rows.isEmpty()) return Mono.just(Set.of());
+
+        return Flux.fromIterable(rows)
+                .buffer(CHUNK)
+                .concatMap(this::findExistingOnce)
+                .collect(HashSet::new, Set::add);
+    }
+
+    /**
+     * 한 chunk에 대해 (album_id, artist_id) IN (...) 조회를 실행합니다.
+     *
+     * @param rows 확인할 매핑 목록(비어있지 않음)
+     * @return 존재하는 매핑
+     */
+    private Flux<AlbumArtistRow> findExistingOnce(List<AlbumArtistRow> rows) {
+        StringBuilder sql = new StringBuilder("""
+        SELECT album_id, artist_id, release_year
+        FROM album_artist
+        WHERE (album_id, artist_id) IN (
+    """);
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:alb").append(i).append(", :art").append(i).append(")");
+        }
+        sql.append(")");
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            AlbumArtistRow r = rows.get(i);
+            spec = spec.bind("alb" + i, r.albumId())
+                    .bind("art" + i, r.artistId());
+        }
+
+        return spec.map((row, meta) -> new AlbumArtistRow(
+                        row.get("album_id", Long.class),
+                        row.get("artist_id", Long.class),
+                        row.get("release_year", Integer.class)))
+                .all();
+    }
+
     /**
      * 주어진 rows를 단일 INSERT 문으로 실행합니다.
      *
@@ -56,12 +114,12 @@ public class AlbumArtistRepo extends BatchSqlSupport {
         if (safe.isEmpty()) return Mono.just(0L);
 
         StringBuilder sql = new StringBuilder("""
-        INSERT INTO album_artist (album_id, artist_id) VALUES
+        INSERT INTO album_artist (album_id, artist_id, release_year) VALUES
     """);
 
         for (int i = 0; i < safe.size(); i++) {
             if (i > 0) sql.append(",");
-            sql.append("(:alb").append(i).append(", :art").append(i).append(")");
+            sql.append("(:alb").append(i).append(", :art").append(i).append(", :yr").append(i).append(")");
         }
 
         sql.append("""
@@ -74,6 +132,7 @@ public class AlbumArtistRepo extends BatchSqlSupport {
             AlbumArtistRow r = safe.get(i);
             spec = spec.bind("alb" + i, r.albumId())
                     .bind("art" + i, r.artistId());
+            spec = bindOrNull(spec, "yr" + i, r.releaseYear(), Integer.class);
         }
 
         return spec.fetch().rowsUpdated();
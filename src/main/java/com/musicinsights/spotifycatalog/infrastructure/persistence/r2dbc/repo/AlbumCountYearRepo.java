@@ -0,0 +1,122 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.AlbumYearDeltaRow;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * album_count_year(연도별 전체 앨범 수) 요약 테이블을 관리하는 Repository입니다.
+ * <p>
+ * 발매 연도가 없는 앨범은 release_year = 0 행에 모읍니다.
+ * 행 수가 연도 수 정도로 작으므로 TRUNCATE 없이 upsert 후 사라진 연도만 지워,
+ * 갱신 중에도 조회 쪽이 빈 테이블을 보지 않게 합니다.
+ * <p>
+ * 증분 모드에서는 배치마다 새 앨범 수만큼 {@link #applyDeltas(List)}로 더하고 다시 계산하지 않습니다.
+ * 검증을 켜면 적재 후 {@link #countMismatches()}로 album 테이블 재계산 결과와 비교합니다.
+ */
+@Component
+public class AlbumCountYearRepo extends BatchSqlSupport {
+
+    /**
+     * {@link DatabaseClient}를 주입받아 초기화합니다.
+     *
+     * @param db R2DBC DatabaseClient
+     */
+    public AlbumCountYearRepo(DatabaseClient db) {
+        super(db);
+    }
+
+    /**
+     * album 테이블 기준으로 연도별 앨범 수를 다시 계산해 반영합니다.
+     *
+     * @return upsert된 행 수(rowsUpdated 기준)
+     */
+    public Mono<Long> rebuild() {
+        return db.sql("""
+                INSERT INTO album_count_year (release_year, album_count)
+                SELECT COALESCE(release_year, 0) AS y, COUNT(*) AS album_count
+                FROM album
+                GROUP BY y
+                ON DUPLICATE KEY UPDATE
+                  album_count = VALUES(album_count)
+            """)
+                .fetch().rowsUpdated()
+                .flatMap(upserted ->
+                        db.sql("""
+                                DELETE c
+                                FROM album_count_year c
+                                LEFT JOIN (SELECT DISTINCT COALESCE(release_year, 0) AS y FROM album) a
+                                  ON a.y = c.release_year
+                                WHERE a.y IS NULL
+                            """)
+                                .fetch().rowsUpdated()
+                                .thenReturn(upserted)
+                );
+    }
+
+    /**
+     * 연도별 새 앨범 수를 요약 테이블에 더합니다.
+     * <p>
+     * 행 수가 연도 수 이하이므로 한 문장으로 실행합니다.
+     *
+     * @param rows 연도별 증분 목록
+     * @return 영향을 받은 행 수
+     */
+    public Mono<Long> applyDeltas(List<AlbumYearDeltaRow> rows) {
+        if (rows.isEmpty()) return Mono.just(0L);
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO album_count_year (release_year, album_count) VALUES
+        """);
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:y").append(i).append(", :d").append(i).append(")");
+        }
+
+        sql.append("""
+            ON DUPLICATE KEY UPDATE
+              album_count = album_count + VALUES(album_count)
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            AlbumYearDeltaRow r = rows.get(i);
+            spec = spec.bind("y" + i, r.releaseYear())
+                    .bind("d" + i, r.delta());
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * 요약 테이블과 album 테이블 재계산 결과가 다른 연도 수를 반환합니다.
+     * <p>
+     * 값이 다르거나 한쪽에만 존재하는 연도를 모두 셉니다. 0이면 증분 유지가 정확한 상태입니다.
+     *
+     * @return 불일치 연도 수
+     */
+    public Mono<Long> countMismatches() {
+        return db.sql("""
+                SELECT COUNT(*) AS c
+                FROM (
+                  SELECT u.release_year
+                  FROM (
+                    SELECT COALESCE(release_year, 0) AS release_year, COUNT(*) AS album_count
+                    FROM album
+                    GROUP BY COALESCE(release_year, 0)
+                    UNION ALL
+                    SELECT release_year, album_count FROM album_count_year
+                  ) u
+                  GROUP BY u.release_year
+                  HAVING COUNT(*) <> 2 OR MIN(u.album_count) <> MAX(u.album_count)
+                ) m
+            """)
+                .map((row, meta) -> row.get("c", Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,187 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.ArtistYearDeltaRow;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * artist_album_count_total(아티스트별 전체 발매 앨범 수) 집계 테이블을 관리하는 Repository입니다.
+ * <p>
+ * 원천 조인을 다시 집계하지 않고, 이미 만들어진 artist_album_count_year를 artist_id로 합산합니다.
+ * 따라서 연도별 집계 rebuild(또는 검증)가 끝난 뒤에 호출해야 합니다.
+ * <p>
+ * 증분 모드에서는 연도별 집계와 같은 증분({@link #applyDeltas(List)})을 같은 트랜잭션에서 더하고,
+ * 적재 후 {@link #refreshRanks()}로 순위만 다시 계산합니다.
+ */
+@Component
+public class ArtistAlbumCountTotalRepo extends BatchSqlSupport {
+
+    /** shadow 재생성 + 교체 (artist FK 포함) */
+    private final ShadowTableSwap swap;
+
+    /** 연도별 집계 → 아티스트별 합계 + 순위(row_no: 연속 위치, rank_no: dense rank) */
+    private static final String SQL_EXPECTED = """
+            SELECT e.artist_id, e.album_count,
+                   ROW_NUMBER() OVER (ORDER BY e.album_count DESC, e.artist_id ASC) AS row_no,
+                   DENSE_RANK() OVER (ORDER BY e.album_count DESC) AS rank_no
+            FROM (
+              SELECT artist_id, SUM(album_count) AS album_count
+              FROM artist_album_count_year
+              GROUP BY artist_id
+            ) e
+        """;
+
+    /** 증분 upsert 시 한 번에 처리할 최대 행 수 */
+    private static final int CHUNK = 800;
+
+    /** 집계 INSERT 대상 컬럼 */
+    private static final String COLUMNS = "(artist_id, album_count, row_no, rank_no)";
+
+    /**
+     * {@link DatabaseClient}를 주입받아 초기화합니다.
+     *
+     * @param db R2DBC DatabaseClient
+     */
+    public ArtistAlbumCountTotalRepo(DatabaseClient db) {
+        super(db);
+        this.swap = new ShadowTableSwap(
+                db,
+                "artist_album_count_total",
+                "fk_aact_artist",
+                "FOREIGN KEY (artist_id) REFERENCES artist(id) ON DELETE CASCADE"
+        );
+    }
+
+    /**
+     * 집계 테이블을 비운 뒤 연도별 집계 합계로 다시 채웁니다.
+     *
+     * @return 삽입된 집계 행 수
+     */
+    public Mono<Long> rebuild() {
+        return db.sql("TRUNCATE TABLE artist_album_count_total")
+                .fetch().rowsUpdated()
+                .then(db.sql("INSERT INTO artist_album_count_total" + COLUMNS + "\n" + SQL_EXPECTED)
+                        .fetch().rowsUpdated());
+    }
+
+    /**
+     * shadow 테이블에 집계를 만든 뒤 {@code RENAME TABLE} 한 문장으로 live 테이블과 교체합니다.
+     * <p>
+     * {@link ArtistAlbumCountYearRepo#rebuildWithSwap()}과 같은 방식이며,
+     * 교체 직전에 artist FK({@code fk_aact_artist})를 shadow로 옮겨 교체 후에도 마이그레이션과 같은 스키마를 유지합니다.
+     *
+     * @return 삽입된 집계 행 수
+     */
+    public Mono<Long> rebuildWithSwap() {
+        return swap.prepare()
+                .then(db.sql("INSERT INTO " + swap.shadow() + COLUMNS + "\n" + SQL_EXPECTED)
+                        .fetch().rowsUpdated())
+                .flatMap(inserted -> swap.swap().thenReturn(inserted));
+    }
+
+    /**
+     * 현재 album_count 기준으로 row_no/rank_no를 다시 계산합니다.
+     * <p>
+     * 증분 갱신({@link #applyDeltas(List)})은 album_count만 바꾸므로, 적재가 끝난 뒤 한 번 호출합니다.
+     *
+     * @return 순위가 바뀐 행 수
+     */
+    public Mono<Long> refreshRanks() {
+        return db.sql("""
+                UPDATE artist_album_count_total s
+                JOIN (
+                  SELECT artist_id,
+                         ROW_NUMBER() OVER (ORDER BY album_count DESC, artist_id ASC) AS rn,
+                         DENSE_RANK() OVER (ORDER BY album_count DESC) AS rk
+                  FROM artist_album_count_total
+                ) r ON r.artist_id = s.artist_id
+                SET s.row_no = r.rn, s.rank_no = r.rk
+            """)
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * (연도, 아티스트)별 증분을 아티스트별로 합산해 집계 테이블에 더합니다.
+     * <p>
+     * {@link ArtistAlbumCountYearRepo#applyDeltas(List)}와 같은 증분을 같은 트랜잭션에서 넘겨야
+     * 전체 합계가 연도별 집계의 합과 어긋나지 않습니다.
+     *
+     * @param rows 연도별 증분 목록
+     * @return 영향을 받은 행 수(배치 합계)
+     */
+    public Mono<Long> applyDeltas(List<ArtistYearDeltaRow> rows) {
+        Map<Long, Long> byArtist = new LinkedHashMap<>();
+        for (ArtistYearDeltaRow r : rows) {
+            byArtist.merge(r.artistId(), r.delta(), Long::sum);
+        }
+        return chunkedSum(new ArrayList<>(byArtist.entrySet()), CHUNK, this::applyDeltasOnce);
+    }
+
+    /**
+     * 아티스트별 증분을 단일 INSERT ... ON DUPLICATE KEY UPDATE로 실행합니다.
+     *
+     * @param rows (artistId, delta) 목록(비어있지 않음)
+     * @return 영향을 받은 행 수
+     */
+    private Mono<Long> applyDeltasOnce(List<Map.Entry<Long, Long>> rows) {
+        if (rows.isEmpty()) return Mono.just(0L);
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO artist_album_count_total (artist_id, album_count) VALUES
+        """);
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:a").append(i).append(", :d").append(i).append(")");
+        }
+
+        sql.append("""
+            ON DUPLICATE KEY UPDATE
+              album_count = album_count + VALUES(album_count)
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            Map.Entry<Long, Long> r = rows.get(i);
+            spec = spec.bind("a" + i, r.getKey())
+                    .bind("d" + i, r.getValue());
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * 집계 테이블과 연도별 집계(artist_album_count_year)의 아티스트별 합계가 다른 아티스트 수를 반환합니다.
+     * <p>
+     * 값이 다르거나 한쪽에만 존재하는 아티스트를 모두 센다. 순위(row_no/rank_no)는 적재 후 다시 계산하므로 비교하지 않습니다.
+     * 연도별 집계가 원천과 일치({@link ArtistAlbumCountYearRepo#countMismatches()} = 0)할 때 0이면 이 집계도 정확한 상태입니다.
+     *
+     * @return 불일치 아티스트 수
+     */
+    public Mono<Long> countMismatches() {
+        return db.sql("""
+                SELECT COUNT(*) AS c
+                FROM (
+                  SELECT u.artist_id
+                  FROM (
+                    SELECT artist_id, SUM(album_count) AS album_count
+                    FROM artist_album_count_year
+                    GROUP BY artist_id
+                    UNION ALL
+                    SELECT artist_id, album_count FROM artist_album_count_total
+                  ) u
+                  GROUP BY u.artist_id
+                  HAVING COUNT(*) <> 2 OR MIN(u.album_count) <> MAX(u.album_count)
+                ) m
+            """)
+                .map((row, meta) -> row.get("c", Long.class))
+                .one();
+    }
+}
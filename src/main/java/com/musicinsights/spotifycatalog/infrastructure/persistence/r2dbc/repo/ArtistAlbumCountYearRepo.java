@@ -1,13 +1,47 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.ArtistYearDeltaRow;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.YearCountRow;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
+/**
+ * artist_album_count_year(연도 × 아티스트별 앨범 수) 집계 테이블을 관리하는 Repository입니다.
+ * <p>
+ * 전체 재생성({@link #rebuild()}) 외에, ingest 중 새로 생긴 album_artist 매핑만큼
+ * 증분을 더하는 {@link #applyDeltas(List)}와 두 결과를 비교하는 {@link #countMismatches()}를 제공합니다.
+ * <p>
+ * {@link #rebuildWithSwap()}은 shadow 테이블을 채운 뒤 {@code RENAME TABLE}로 원자적으로 교체하므로,
+ * 재생성 중에도 조회 쿼리는 항상 완성된 이전 집계를 읽습니다.
+ * <p>
+ * 모든 재생성 경로는 연도별 순위(row_no: 연속 위치, rank_no: dense rank)를 윈도 함수로 함께 계산합니다.
+ * 증분 갱신 뒤에는 {@link #refreshRanks()}로 순위만 다시 계산합니다.
+ */
 @Component
 public class ArtistAlbumCountYearRepo extends BatchSqlSupport {
 
+    /** 증분 upsert 시 한 번에 처리할 최대 행 수 */
+    private static final int CHUNK = 800;
+
+    /** shadow 재생성 + 교체 (artist FK 포함) */
+    private final ShadowTableSwap swap;
+
+    /** album_artist ⋈ album 기준 (연도, 아티스트)별 앨범 수 */
+    private static final String SQL_EXPECTED = """
+            SELECT al.release_year, aa.artist_id, COUNT(*) AS album_count
+            FROM album_artist aa
+            JOIN album al ON al.id = aa.album_id
+            WHERE al.release_year IS NOT NULL
+            GROUP BY al.release_year, aa.artist_id
+        """;
+
+    /** 집계 INSERT 대상 컬럼 */
+    private static final String COLUMNS = "(release_year, artist_id, album_count, row_no, rank_no)";
 
     /**
      * {@link DatabaseClient}를 주입받아 초기화합니다.
@@ -16,26 +50,246 @@ public class ArtistAlbumCountYearRepo extends BatchSqlSupport {
      */
     protected ArtistAlbumCountYearRepo(DatabaseClient db) {
         super(db);
+        this.swap = new ShadowTableSwap(
+                db,
+                "artist_album_count_year",
+                "fk_aacy_artist",
+                "FOREIGN KEY (artist_id) REFERENCES artist(id) ON DELETE CASCADE"
+        );
     }
 
     public Mono<Long> rebuild() {
 
-        return db.sql("TRUNCATE TABLE artist_album_count_year")
-                .fetch().rowsUpdated()
+        return truncate()
                 .then(
-                        db.sql("""
-                            INSERT INTO artist_album_count_year(release_year, artist_id, album_count)
-                            SELECT
-                              al.release_year,
-                              aa.artist_id,
-                              COUNT(*) AS album_count
-                            FROM album_artist aa
-                            JOIN album al ON al.id = aa.album_id
-                            WHERE al.release_year IS NOT NULL
-                            GROUP BY al.release_year, aa.artist_id
-                        """)
+                        db.sql("INSERT INTO artist_album_count_year" + COLUMNS + "\n" + ranked(SQL_EXPECTED))
                                 .fetch().rowsUpdated()
 
                 );
     }
+
+    /**
+     * shadow 테이블에 집계를 새로 만든 뒤 live 테이블과 원자적으로 교체합니다.
+     * <p>
+     * {@code TRUNCATE} 기반 {@link #rebuild()}와 달리 재생성 중에도 live 테이블은 그대로 남아 있고,
+     * {@code RENAME TABLE live TO old, shadow TO live}는 한 문장으로 수행되어
+     * 조회 쪽에서는 이전 집계 또는 새 집계 중 하나만 보입니다.
+     * INSERT가 실패하면 live 테이블은 건드리지 않습니다.
+     * <p>
+     * {@code CREATE TABLE ... LIKE}는 FK를 복사하지 않으므로, 교체 직전에 artist FK({@code fk_aacy_artist})를
+     * shadow로 옮겨 교체 후에도 마이그레이션과 같은 스키마를 유지합니다. ({@link ShadowTableSwap})
+     *
+     * @return shadow 테이블에 삽입된 집계 행 수
+     */
+    public Mono<Long> rebuildWithSwap() {
+        return prepareShadow()
+                .then(db.sql("INSERT INTO " + swap.shadow() + COLUMNS + "\n" + ranked(SQL_EXPECTED))
+                        .fetch().rowsUpdated())
+                .flatMap(inserted -> swapShadow().thenReturn(inserted));
+    }
+
+    /**
+     * live 집계 테이블을 비웁니다. (연도 구간 분할 rebuild의 첫 단계)
+     *
+     * @return 완료 신호
+     */
+    public Mono<Void> truncate() {
+        return db.sql("TRUNCATE TABLE artist_album_count_year")
+                .fetch().rowsUpdated()
+                .then();
+    }
+
+    /**
+     * 이전 실행의 잔여 테이블을 지우고 빈 shadow 테이블을 만듭니다.
+     *
+     * @return 완료 신호
+     */
+    public Mono<Void> prepareShadow() {
+        return swap.prepare();
+    }
+
+    /**
+     * 채워진 shadow 테이블에 artist FK를 옮긴 뒤 live 테이블과 {@code RENAME TABLE} 한 문장으로 교체하고 이전 테이블을 삭제합니다.
+     *
+     * @return 완료 신호
+     */
+    public Mono<Void> swapShadow() {
+        return swap.swap();
+    }
+
+    /**
+     * 집계 대상 앨범의 발매 연도별 앨범 수를 연도 오름차순으로 조회합니다.
+     * <p>
+     * 연도 구간 rebuild의 분할 기준(누적 행 수)으로 씁니다.
+     * {@code idx_album_year_id}만 읽는 GROUP BY라 album_count_year와 달리 rebuild 전에도 항상 현재 값입니다.
+     *
+     * @return 연도별 앨범 수 (집계 대상 앨범이 없으면 빈 Flux)
+     */
+    public Flux<YearCountRow> findReleaseYearCounts() {
+        return db.sql("""
+                SELECT release_year, COUNT(*) AS album_count
+                FROM album
+                WHERE release_year IS NOT NULL
+                GROUP BY release_year
+                ORDER BY release_year ASC
+            """)
+                .map((row, meta) -> new YearCountRow(
+                        row.get("release_year", Number.class).intValue(),
+                        row.get("album_count", Number.class).longValue()))
+                .all();
+    }
+
+    /**
+     * [fromYear, toYear] 구간의 집계를 live 테이블에 삽입합니다.
+     * <p>
+     * 구간끼리는 PK(release_year, ...) 범위가 겹치지 않으므로 여러 구간을 동시에 실행해도 충돌하지 않습니다.
+     *
+     * @param fromYear 시작 연도(포함)
+     * @param toYear 끝 연도(포함)
+     * @return 삽입된 집계 행 수
+     */
+    public Mono<Long> insertYearRange(int fromYear, int toYear) {
+        return insertYearRangeInto("artist_album_count_year", fromYear, toYear);
+    }
+
+    /**
+     * [fromYear, toYear] 구간의 집계를 shadow 테이블에 삽입합니다.
+     *
+     * @param fromYear 시작 연도(포함)
+     * @param toYear 끝 연도(포함)
+     * @return 삽입된 집계 행 수
+     */
+    public Mono<Long> insertYearRangeIntoShadow(int fromYear, int toYear) {
+        return insertYearRangeInto(swap.shadow(), fromYear, toYear);
+    }
+
+    /**
+     * 연도 구간 하나를 {@code INSERT ... SELECT}로 집계합니다.
+     * <p>
+     * album의 {@code idx_album_year_id(release_year, id)}로 구간을 range scan 한 뒤
+     * album_artist PK(album_id, ...)로 조인하도록 조인 순서와 인덱스를 고정합니다.
+     */
+    private Mono<Long> insertYearRangeInto(String table, int fromYear, int toYear) {
+        return db.sql("INSERT INTO " + table + COLUMNS + "\n" + ranked("""
+                SELECT al.release_year, aa.artist_id, COUNT(*) AS album_count
+                FROM album al FORCE INDEX (idx_album_year_id)
+                STRAIGHT_JOIN album_artist aa ON aa.album_id = al.id
+                WHERE al.release_year BETWEEN :fromYear AND :toYear
+                GROUP BY al.release_year, aa.artist_id
+            """))
+                .bind("fromYear", fromYear)
+                .bind("toYear", toYear)
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * (release_year, artist_id, album_count)를 내는 SELECT에 연도별 순위 컬럼을 붙입니다.
+     * <p>
+     * 순위는 연도 안에서만 매기므로, 연도 단위로 나눈 구간 INSERT에도 그대로 쓸 수 있습니다.
+     *
+     * @param select 집계 SELECT
+     * @return row_no/rank_no가 추가된 SELECT
+     */
+    private static String ranked(String select) {
+        return """
+                SELECT e.release_year, e.artist_id, e.album_count,
+                       ROW_NUMBER() OVER (PARTITION BY e.release_year ORDER BY e.album_count DESC, e.artist_id ASC) AS row_no,
+                       DENSE_RANK() OVER (PARTITION BY e.release_year ORDER BY e.album_count DESC) AS rank_no
+                FROM (%s) e
+            """.formatted(select);
+    }
+
+    /**
+     * 현재 album_count 기준으로 연도별 row_no/rank_no를 다시 계산합니다.
+     * <p>
+     * 증분 갱신({@link #applyDeltas(List)})은 album_count만 바꾸므로, 적재가 끝난 뒤 한 번 호출합니다.
+     *
+     * @return 순위가 바뀐 행 수
+     */
+    public Mono<Long> refreshRanks() {
+        return db.sql("""
+                UPDATE artist_album_count_year s
+                JOIN (
+                  SELECT release_year, artist_id,
+                         ROW_NUMBER() OVER (PARTITION BY release_year ORDER BY album_count DESC, artist_id ASC) AS rn,
+                         DENSE_RANK() OVER (PARTITION BY release_year ORDER BY album_count DESC) AS rk
+                  FROM artist_album_count_year
+                ) r ON r.release_year = s.release_year AND r.artist_id = s.artist_id
+                SET s.row_no = r.rn, s.rank_no = r.rk
+            """)
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * (연도, 아티스트)별 증분을 집계 테이블에 더합니다.
+     * <p>
+     * 행이 없으면 삽입하고, 있으면 {@code album_count = album_count + delta}로 갱신합니다.
+     * 새 album_artist 매핑 삽입과 같은 트랜잭션에서 호출해야 집계가 어긋나지 않습니다.
+     *
+     * @param rows 증분 목록
+     * @return 영향을 받은 행 수(배치 합계)
+     */
+    public Mono<Long> applyDeltas(List<ArtistYearDeltaRow> rows) {
+        return chunkedSum(rows, CHUNK, this::applyDeltasOnce);
+    }
+
+    /**
+     * 주어진 증분을 단일 INSERT ... ON DUPLICATE KEY UPDATE로 실행합니다.
+     *
+     * @param rows 증분 목록(비어있지 않음)
+     * @return 영향을 받은 행 수
+     */
+    private Mono<Long> applyDeltasOnce(List<ArtistYearDeltaRow> rows) {
+        if (rows.isEmpty()) return Mono.just(0L);
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO artist_album_count_year (release_year, artist_id, album_count) VALUES
+        """);
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:y").append(i).append(", :a").append(i).append(", :d").append(i).append(")");
+        }
+
+        sql.append("""
+            ON DUPLICATE KEY UPDATE
+              album_count = album_count + VALUES(album_count)
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            ArtistYearDeltaRow r = rows.get(i);
+            spec = spec.bind("y" + i, r.releaseYear())
+                    .bind("a" + i, r.artistId())
+                    .bind("d" + i, r.delta());
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * 집계 테이블과 album_artist ⋈ album 재계산 결과가 다른 (연도, 아티스트) 수를 반환합니다.
+     * <p>
+     * 값이 다르거나, 한쪽에만 존재하는 행을 모두 센다. 0이면 증분 유지가 정확한 상태입니다.
+     * 두 결과를 UNION ALL로 붙여 (연도, 아티스트)별로 한 번만 묶으므로 재계산 쿼리는 한 번만 실행됩니다.
+     *
+     * @return 불일치 행 수
+     */
+    public Mono<Long> countMismatches() {
+        return db.sql("""
+                SELECT COUNT(*) AS c
+                FROM (
+                  SELECT u.release_year, u.artist_id
+                  FROM (
+                    SELECT e.release_year, e.artist_id, e.album_count FROM (%s) e
+                    UNION ALL
+                    SELECT s.release_year, s.artist_id, s.album_count FROM artist_album_count_year s
+                  ) u
+                  GROUP BY u.release_year, u.artist_id
+                  HAVING COUNT(*) <> 2 OR MIN(u.album_count) <> MAX(u.album_count)
+                ) m
+            """.formatted(SQL_EXPECTED))
+                .map((row, meta) -> row.get("c", Long.class))
+                .one();
+    }
 }
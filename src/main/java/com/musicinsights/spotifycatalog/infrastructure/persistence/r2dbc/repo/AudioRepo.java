@@ -1,17 +1,23 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.AudioRow;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * audio_feature 테이블에 대한 배치 upsert 기능을 제공하는 Repository입니다.
  * <p>
  * 트랙별 오디오 특성(tempo, loudness 등)을 대량 입력할 때 CHUNK 단위로 분할하여 처리합니다.
+ * <p>
+ * 재적재 시에는 {@link #upsertChanged(List)}로 content_fp가 달라진 row만 갱신합니다.
  */
 @Component
 public class AudioRepo extends BatchSqlSupport {
@@ -40,6 +46,42 @@ public class AudioRepo extends BatchSqlSupport {
         return chunkedSum(rows, CHUNK, this::upsertOnce);
     }
 
+    /**
+     * 기존 content_fp와 비교해 새 row와 내용이 바뀐 row만 upsert 합니다.
+     * <p>
+     * 같은 track_id가 여러 번 나오면 마지막 row를 사용합니다.
+     *
+     * @param rows upsert할 오디오 특성 목록
+     * @return inserted / changed / unchanged 분류 결과
+     */
+    public Mono<UpsertStats> upsertChanged(List<AudioRow> rows) {
+        if (rows == null || rows.isEmpty()) return Mono.just(UpsertStats.EMPTY);
+
+        Map<Long, AudioRow> byTrackId = new LinkedHashMap<>();
+        for (AudioRow r : rows) byTrackId.put(r.trackId(), r);
+
+        return fetchFingerprintsByTrackId(new ArrayList<>(byTrackId.keySet()))
+                .flatMap(existing -> {
+                    List<AudioRow> toWrite = new ArrayList<>();
+                    long inserted = 0, changed = 0, unchanged = 0;
+
+                    for (AudioRow r : byTrackId.values()) {
+                        String fp = existing.get(r.trackId());
+                        if (fp == null) {
+                            inserted++;
+                            toWrite.add(r);
+                        } else if (r.contentFp() != null && r.contentFp().equals(fp)) {
+                            unchanged++;
+                        } else {
+                            changed++;
+                            toWrite.add(r);
+                        }
+                    }
+
+                    return upsertAudioFeatures(toWrite).thenReturn(new UpsertStats(inserted, changed, unchanged));
+                });
+    }
+
     /**
      * 주어진 rows를 단일 INSERT ... ON DUPLICATE KEY UPDATE로 실행합니다.
      *
@@ -52,7 +94,7 @@ public class AudioRepo extends BatchSqlSupport {
         StringBuilder sql = new StringBuilder("""
             INSERT INTO audio_feature(
               track_id, tempo, loudness, energy, danceability, positiveness,
-              speechiness, liveness, acousticness, instrumentalness, musical_key, time_signature
+              speechiness, liveness, acousticness, instrumentalness, musical_key, time_signature, content_fp
             ) VALUES
         """);
 
@@ -70,6 +112,7 @@ public class AudioRepo extends BatchSqlSupport {
                     .append(", :in").append(i)
                     .append(", :mk").append(i)
                     .append(", :ts").append(i)
+                    .append(", :fp").append(i)
                     .append(")");
         }
 
@@ -85,7 +128,8 @@ public class AudioRepo extends BatchSqlSupport {
               acousticness = VALUES(acousticness),
               instrumentalness = VALUES(instrumentalness),
               musical_key = VALUES(musical_key),
-              time_signature = VALUES(time_signature)
+              time_signature = VALUES(time_signature),
+              content_fp = VALUES(content_fp)
         """);
 
         DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
@@ -105,8 +149,44 @@ public class AudioRepo extends BatchSqlSupport {
             spec = bindOrNull(spec, "in" + i, r.instrumentalness(), Integer.class);
             spec = bindOrNull(spec, "mk" + i, r.musicalKey(), String.class);
             spec = bindOrNull(spec, "ts" + i, r.timeSignature(), String.class);
+            spec = bindOrNull(spec, "fp" + i, r.contentFp(), String.class);
         }
 
         return spec.fetch().rowsUpdated();
     }
+
+    /**
+     * track_id 목록으로 기존 row의 content_fp를 조회합니다.
+     * <p>
+     * fingerprint가 NULL인 기존 row는 빈 문자열로 매핑되어 "존재하지만 변경됨"으로 분류됩니다.
+     *
+     * @param trackIds 조회할 track_id 목록(중복 없음)
+     * @return track_id -> content_fp (존재하지 않는 track_id는 포함되지 않음)
+     */
+    private Mono<Map<Long, String>> fetchFingerprintsByTrackId(List<Long> trackIds) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT track_id, content_fp
+            FROM audio_feature
+            WHERE track_id IN (
+        """);
+
+        for (int i = 0; i < trackIds.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append(":id").append(i);
+        }
+        sql.append(")");
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < trackIds.size(); i++) {
+            spec = spec.bind("id" + i, trackIds.get(i));
+        }
+
+        return spec
+                .map((row, meta) -> {
+                    String fp = row.get("content_fp", String.class);
+                    return Map.entry(row.get("track_id", Long.class), fp == null ? "" : fp);
+                })
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
 }
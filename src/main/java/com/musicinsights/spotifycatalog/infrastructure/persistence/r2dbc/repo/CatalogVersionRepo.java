@@ -0,0 +1,64 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * catalog_version(집계 테이블 버전) 기록용 Repository입니다.
+ * <p>
+ * 집계 rebuild가 끝날 때마다 version을 1 올리고, 완료 시각과 소요 시간을 남깁니다.
+ * 조회 쪽은 {@code application.catalog}에서 읽어 응답 캐시 키로 사용합니다.
+ */
+@Component
+public class CatalogVersionRepo extends BatchSqlSupport {
+
+    /** artist_album_count_year 집계의 버전 이름 */
+    public static final String ARTIST_ALBUM_COUNT_YEAR = "artist_album_count_year";
+
+    /** artist_album_count_total 집계의 버전 이름 */
+    public static final String ARTIST_ALBUM_COUNT_TOTAL = "artist_album_count_total";
+
+    /** album_count_year 요약의 버전 이름 */
+    public static final String ALBUM_COUNT_YEAR = "album_count_year";
+
+    /** ingest 후 모든 집계 갱신이 끝났음을 나타내는 카탈로그 전체 버전 이름 (응답 캐시 무효화 기준) */
+    public static final String CATALOG = "catalog";
+
+    /**
+     * {@link DatabaseClient}를 주입받아 초기화합니다.
+     *
+     * @param db R2DBC DatabaseClient
+     */
+    public CatalogVersionRepo(DatabaseClient db) {
+        super(db);
+    }
+
+    /**
+     * 집계 rebuild 완료를 기록하고 새 버전을 반환합니다.
+     * <p>
+     * 처음 기록하는 이름이면 version 1로 생성합니다.
+     *
+     * @param name 집계 이름
+     * @param rebuildMs rebuild 소요 시간(ms)
+     * @return 기록 후 version
+     */
+    public Mono<Long> recordRebuild(String name, long rebuildMs) {
+        return db.sql("""
+                INSERT INTO catalog_version (name, version, rebuilt_at, rebuild_ms)
+                VALUES (:name, 1, CURRENT_TIMESTAMP(3), :ms)
+                ON DUPLICATE KEY UPDATE
+                  version    = version + 1,
+                  rebuilt_at = VALUES(rebuilt_at),
+                  rebuild_ms = VALUES(rebuild_ms)
+            """)
+                .bind("name", name)
+                .bind("ms", rebuildMs)
+                .fetch().rowsUpdated()
+                .then(db.sql("SELECT version FROM catalog_version WHERE name = :name")
+                        .bind("name", name)
+                        .map((row, meta) -> row.get("version", Long.class))
+                        .one());
+    }
+}
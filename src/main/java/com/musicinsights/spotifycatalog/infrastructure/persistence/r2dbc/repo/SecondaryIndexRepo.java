@@ -0,0 +1,255 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.SecondaryIndexRow;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 적재(cold load) 시 보조 인덱스를 삭제/복구하기 위한 Repository입니다.
+ * <p>
+ * 삭제 대상은 information_schema에서 조회하며, UNIQUE/PRIMARY 인덱스와
+ * FK가 의존하는 인덱스(첫 컬럼이 FK 컬럼)는 제외합니다.
+ * 삭제한 정의는 {@code ingest_dropped_index}에 보관해 적재 중 실패해도 복구할 수 있게 합니다.
+ */
+@Component
+public class SecondaryIndexRepo extends BatchSqlSupport {
+
+    /**
+     * {@link DatabaseClient}를 주입받아 초기화합니다.
+     *
+     * @param db R2DBC DatabaseClient
+     */
+    public SecondaryIndexRepo(DatabaseClient db) {
+        super(db);
+    }
+
+    /**
+     * track 테이블이 비어 있는지(cold load 여부) 확인합니다.
+     *
+     * @return 비어 있으면 true
+     */
+    public Mono<Boolean> isTrackEmpty() {
+        return db.sql("SELECT NOT EXISTS(SELECT 1 FROM track) AS is_empty")
+                // MySQL은 boolean 표현식을 0/1(Integer/Long)로 줌
+                .map((row, meta) -> {
+                    Integer v = row.get("is_empty", Integer.class);
+                    if (v == null) {
+                        Long l = row.get("is_empty", Long.class);
+                        return l != null && l == 1L;
+                    }
+                    return v == 1;
+                })
+                .one();
+    }
+
+    /**
+     * 주어진 테이블들에서 적재 전에 삭제해도 되는 보조 인덱스 정의를 조회합니다.
+     *
+     * @param tables 대상 테이블명 목록
+     * @return 삭제 가능한 인덱스 정의
+     */
+    public Flux<SecondaryIndexRow> findDroppableIndexes(List<String> tables) {
+        if (tables.isEmpty()) return Flux.empty();
+
+        StringBuilder sql = new StringBuilder("""
+            SELECT s.table_name, s.index_name, s.columns_sql
+            FROM (
+              SELECT
+                TABLE_NAME AS table_name,
+                INDEX_NAME AS index_name,
+                MAX(IF(SEQ_IN_INDEX = 1, COLUMN_NAME, NULL)) AS first_column,
+                SUM(COLUMN_NAME IS NULL) AS expr_parts,
+                GROUP_CONCAT(
+                  CONCAT('`', COLUMN_NAME, '`',
+                         IF(SUB_PART IS NULL, '', CONCAT('(', SUB_PART, ')')),
+                         IF(COLLATION = 'D', ' DESC', ''))
+                  ORDER BY SEQ_IN_INDEX SEPARATOR ', '
+                ) AS columns_sql
+              FROM information_schema.STATISTICS
+              WHERE TABLE_SCHEMA = DATABASE()
+                AND NON_UNIQUE = 1
+                AND INDEX_TYPE = 'BTREE'
+                AND TABLE_NAME IN (
+        """);
+        appendPlaceholders(sql, "t", tables.size());
+        sql.append("""
+                )
+              GROUP BY TABLE_NAME, INDEX_NAME
+            ) s
+            WHERE s.expr_parts = 0
+              AND NOT EXISTS (
+                SELECT 1
+                FROM information_schema.KEY_COLUMN_USAGE k
+                WHERE k.TABLE_SCHEMA = DATABASE()
+                  AND k.TABLE_NAME = s.table_name
+                  AND k.COLUMN_NAME = s.first_column
+                  AND k.ORDINAL_POSITION = 1
+                  AND k.REFERENCED_TABLE_NAME IS NOT NULL
+              )
+            ORDER BY s.table_name, s.index_name
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < tables.size(); i++) {
+            spec = spec.bind("t" + i, tables.get(i));
+        }
+
+        return spec.map((row, meta) -> new SecondaryIndexRow(
+                        row.get("table_name", String.class),
+                        row.get("index_name", String.class),
+                        row.get("columns_sql", String.class)))
+                .all();
+    }
+
+    /**
+     * 삭제할 인덱스 정의를 보관 테이블에 저장합니다.
+     *
+     * @param rows 인덱스 정의 목록
+     * @return 저장된 행 수
+     */
+    public Mono<Long> saveDropped(List<SecondaryIndexRow> rows) {
+        if (rows.isEmpty()) return Mono.just(0L);
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO ingest_dropped_index (table_name, index_name, columns_sql) VALUES
+        """);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:t").append(i).append(", :i").append(i).append(", :c").append(i).append(")");
+        }
+        sql.append("""
+            ON DUPLICATE KEY UPDATE
+              columns_sql = VALUES(columns_sql)
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            SecondaryIndexRow r = rows.get(i);
+            spec = spec.bind("t" + i, r.tableName())
+                    .bind("i" + i, r.indexName())
+                    .bind("c" + i, r.columnsSql());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * 보관 중인(아직 복구되지 않은) 인덱스 정의를 조회합니다.
+     *
+     * @return 인덱스 정의
+     */
+    public Flux<SecondaryIndexRow> findDropped() {
+        return db.sql("""
+                SELECT table_name, index_name, columns_sql
+                FROM ingest_dropped_index
+                ORDER BY table_name, index_name
+            """)
+                .map((row, meta) -> new SecondaryIndexRow(
+                        row.get("table_name", String.class),
+                        row.get("index_name", String.class),
+                        row.get("columns_sql", String.class)))
+                .all();
+    }
+
+    /**
+     * 한 테이블의 인덱스들을 단일 ALTER TABLE로 삭제합니다.
+     *
+     * @param table 테이블명
+     * @param rows  삭제할 인덱스 정의(같은 테이블)
+     * @return 완료 신호
+     */
+    public Mono<Void> dropIndexes(String table, List<SecondaryIndexRow> rows) {
+        if (rows.isEmpty()) return Mono.empty();
+
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(quote(table));
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? " " : ", ").append("DROP INDEX ").append(quote(rows.get(i).indexName()));
+        }
+        return db.sql(sql.toString()).then();
+    }
+
+    /**
+     * 한 테이블의 인덱스들을 단일 ALTER TABLE로 생성합니다.
+     * <p>
+     * InnoDB는 같은 ALTER에 포함된 인덱스들을 클러스터 인덱스 1회 스캔 + 정렬 기반 bulk build로 만듭니다.
+     * 생성이 끝나면 해당 테이블의 보관 정의를 삭제합니다.
+     *
+     * @param table 테이블명
+     * @param rows  생성할 인덱스 정의(같은 테이블)
+     * @return 완료 신호
+     */
+    public Mono<Void> addIndexes(String table, List<SecondaryIndexRow> rows) {
+        if (rows.isEmpty()) return Mono.empty();
+
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(quote(table));
+        for (int i = 0; i < rows.size(); i++) {
+            SecondaryIndexRow r = rows.get(i);
+            sql.append(i == 0 ? " " : ", ")
+                    .append("ADD INDEX ").append(quote(r.indexName()))
+                    .append(" (").append(r.columnsSql()).append(")");
+        }
+
+        return db.sql(sql.toString()).then()
+                .then(db.sql("DELETE FROM ingest_dropped_index WHERE table_name = :t")
+                        .bind("t", table)
+                        .then());
+    }
+
+    /**
+     * 주어진 테이블들의 인덱스별 크기(bytes)를 조회합니다.
+     * <p>
+     * {@code mysql.innodb_index_stats}의 size(페이지 수) × innodb_page_size로 계산하며,
+     * 조회 권한이 없으면 에러가 전파됩니다.
+     *
+     * @param tables 대상 테이블명 목록
+     * @return "table.index" → bytes (정렬 유지)
+     */
+    public Mono<Map<String, Long>> fetchIndexSizes(List<String> tables) {
+        if (tables.isEmpty()) return Mono.just(Map.of());
+
+        StringBuilder sql = new StringBuilder("""
+            SELECT CONCAT(table_name, '.', index_name) AS idx,
+                   CAST(stat_value * @@innodb_page_size AS SIGNED) AS bytes
+            FROM mysql.innodb_index_stats
+            WHERE database_name = DATABASE()
+              AND stat_name = 'size'
+              AND table_name IN (
+        """);
+        appendPlaceholders(sql, "t", tables.size());
+        sql.append(") ORDER BY table_name, index_name");
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < tables.size(); i++) {
+            spec = spec.bind("t" + i, tables.get(i));
+        }
+
+        return spec.map((row, meta) -> Map.entry(
+                        row.get("idx", String.class),
+                        row.get("bytes", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
+
+    /**
+     * {@code :p0, :p1, ...} 형태의 named placeholder를 추가합니다.
+     */
+    private static void appendPlaceholders(StringBuilder sql, String prefix, int n) {
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sql.append(",");
+            sql.append(":").append(prefix).append(i);
+        }
+    }
+
+    /**
+     * MySQL 식별자를 backtick으로 감쌉니다.
+     */
+    private static String quote(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+}
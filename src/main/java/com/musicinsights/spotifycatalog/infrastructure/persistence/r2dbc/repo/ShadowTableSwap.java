@@ -0,0 +1,124 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * 집계 테이블의 shadow 재생성 + {@code RENAME TABLE} 교체를 FK까지 포함해 수행하는 헬퍼입니다.
+ * <p>
+ * {@code CREATE TABLE ... LIKE}는 FK를 복사하지 않고, FK 이름은 스키마 안에서 하나뿐이라
+ * live 테이블이 쓰는 이름을 shadow에 그대로 만들 수 없습니다.
+ * 그래서 교체 직전에 live의 FK를 지워 이름을 비우고, 채워진 shadow에 같은 이름으로 FK를 추가한 뒤 교체합니다.
+ * 교체 후 live 테이블은 Flyway 마이그레이션과 같은 FK를 가집니다.
+ * <p>
+ * FK 추가(shadow 테이블 복사)는 조회 쪽에 보이지 않는 shadow에서 일어나며,
+ * 그 사이 live에 FK가 없는 구간은 교체 직전의 짧은 시간뿐입니다.
+ * 추가나 교체가 실패하면 shadow를 지우고 live에 FK를 되돌린 뒤 원래 에러를 전파합니다.
+ */
+final class ShadowTableSwap {
+
+    private final DatabaseClient db;
+
+    /** 조회 쪽이 읽는 live 테이블 */
+    private final String live;
+
+    /** 새 집계를 채우는 임시 테이블 */
+    private final String shadow;
+
+    /** swap 직후 이전 집계가 잠시 머무는 테이블 (곧바로 DROP) */
+    private final String retired;
+
+    /** live 테이블 FK 이름 (마이그레이션과 같은 이름) */
+    private final String foreignKey;
+
+    /** FK 정의 ({@code FOREIGN KEY (...) REFERENCES ...}) */
+    private final String foreignKeyDefinition;
+
+    /**
+     * @param db                   R2DBC DatabaseClient
+     * @param live                 live 테이블명 (shadow/retired는 {@code _shadow}/{@code _old}를 붙인 이름)
+     * @param foreignKey           FK 이름
+     * @param foreignKeyDefinition FK 정의
+     */
+    ShadowTableSwap(DatabaseClient db, String live, String foreignKey, String foreignKeyDefinition) {
+        this.db = db;
+        this.live = live;
+        this.shadow = live + "_shadow";
+        this.retired = live + "_old";
+        this.foreignKey = foreignKey;
+        this.foreignKeyDefinition = foreignKeyDefinition;
+    }
+
+    /** shadow 테이블명 */
+    String shadow() {
+        return shadow;
+    }
+
+    /**
+     * 이전 실행의 잔여 테이블을 지우고 live와 같은 구조의 빈 shadow 테이블을 만듭니다. (FK는 교체 시 추가)
+     *
+     * @return 완료 신호
+     */
+    Mono<Void> prepare() {
+        return db.sql("DROP TABLE IF EXISTS " + shadow + ", " + retired)
+                .fetch().rowsUpdated()
+                .then(db.sql("CREATE TABLE " + shadow + " LIKE " + live)
+                        .fetch().rowsUpdated())
+                .then();
+    }
+
+    /**
+     * live의 FK를 shadow로 옮긴 뒤 {@code RENAME TABLE} 한 문장으로 교체하고 이전 테이블을 삭제합니다.
+     * <p>
+     * live에 FK가 없으면(이전 버전 swap으로 사라진 경우) 지우지 않고 shadow에만 추가하므로, 교체 후에는 FK가 복구됩니다.
+     *
+     * @return 완료 신호
+     */
+    Mono<Void> swap() {
+        return hasForeignKey(live)
+                .flatMap(present -> (present ? dropForeignKey(live) : Mono.<Void>empty())
+                        .then(addForeignKey(shadow))
+                        .then(db.sql("RENAME TABLE " + live + " TO " + retired + ", " + shadow + " TO " + live)
+                                .fetch().rowsUpdated())
+                        .onErrorResume(e -> restoreLive().then(Mono.error(e))))
+                .then(db.sql("DROP TABLE " + retired).fetch().rowsUpdated())
+                .then();
+    }
+
+    /** 교체 실패 시 shadow를 지워 FK 이름을 비우고, live에 FK가 없으면 다시 추가합니다. (복구 실패는 무시) */
+    private Mono<Void> restoreLive() {
+        return db.sql("DROP TABLE IF EXISTS " + shadow)
+                .fetch().rowsUpdated()
+                .then(hasForeignKey(live))
+                .flatMap(present -> present ? Mono.<Void>empty() : addForeignKey(live))
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private Mono<Boolean> hasForeignKey(String table) {
+        return db.sql("""
+                SELECT COUNT(*) AS c
+                FROM information_schema.TABLE_CONSTRAINTS
+                WHERE CONSTRAINT_SCHEMA = DATABASE()
+                  AND TABLE_NAME = :table
+                  AND CONSTRAINT_NAME = :fk
+                  AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+            """)
+                .bind("table", table)
+                .bind("fk", foreignKey)
+                .map((row, meta) -> row.get("c", Long.class))
+                .one()
+                .map(c -> c > 0);
+    }
+
+    private Mono<Void> dropForeignKey(String table) {
+        return db.sql("ALTER TABLE " + table + " DROP FOREIGN KEY " + foreignKey)
+                .fetch().rowsUpdated()
+                .then();
+    }
+
+    private Mono<Void> addForeignKey(String table) {
+        return db.sql("ALTER TABLE " + table + " ADD CONSTRAINT " + foreignKey + " " + foreignKeyDefinition)
+                .fetch().rowsUpdated()
+                .then();
+    }
+}
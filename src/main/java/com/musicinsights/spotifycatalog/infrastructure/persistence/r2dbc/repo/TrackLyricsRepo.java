@@ -1,18 +1,34 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
+import com.musicinsights.spotifycatalog.application.ingest.IngestProperties;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.LyricsCodec;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackLyricsRow;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.musicinsights.spotifycatalog.infrastructure.input.ndjson.NormalizeUtils.sha256Hex;
 
 /**
  * track_lyrics 테이블에 대한 배치 upsert 기능을 제공하는 Repository입니다.
  * <p>
  * 가사(lyrics)는 LONGTEXT로 크기가 클 수 있어, SQL 길이/메모리 부담을 줄이기 위해
  * 비교적 작은 CHUNK 단위로 분할 처리합니다.
+ * <p>
+ * {@link IngestProperties#getLyricsStorage()}({@code ingest.lyrics-storage})가 COMPRESSED이면 가사를 원문 대신 압축해
+ * {@code lyrics_blob}(content_hash PK)에 저장하고, track_lyrics는 {@code lyrics_hash}로 참조만 합니다.
+ * 같은 가사는 blob 하나를 공유하며, 이미 존재하는 blob은 다시 쓰지 않습니다.
  */
 @Component
 public class TrackLyricsRepo extends BatchSqlSupport {
@@ -20,27 +36,75 @@ public class TrackLyricsRepo extends BatchSqlSupport {
     /** LONGTEXT 저장 특성을 고려한 배치 크기 */
     private static final int CHUNK = 200; // LONGTEXT라 chunk를 작게 (SQL 길이/메모리 부담 감소)
 
+    /** 가사 저장 방식 */
+    public enum Storage {
+        /** track_lyrics.lyrics에 원문(LONGTEXT) 저장 */
+        RAW,
+        /** lyrics_blob에 압축 저장 후 track_lyrics.lyrics_hash로 참조 */
+        COMPRESSED
+    }
+
+    /** 현재 가사 저장 방식 */
+    private final Storage storage;
+
     /**
      * R2DBC {@link DatabaseClient}를 주입받아 배치 SQL 실행 기반을 초기화합니다.
      *
-     * @param db R2DBC DatabaseClient
+     * @param db         R2DBC DatabaseClient
+     * @param properties ingest 설정 (가사 저장 방식, 기본 RAW)
      */
-    public TrackLyricsRepo(DatabaseClient db) {
+    public TrackLyricsRepo(DatabaseClient db, IngestProperties properties) {
         super(db);
+        this.storage = properties.getLyricsStorage();
     }
 
     /**
      * 트랙 가사 목록을 배치로 upsert 합니다.
      * <p>
      * track_id 기준 중복 키가 발생하면 lyrics 컬럼을 최신 값으로 갱신합니다.
+     * COMPRESSED 모드에서는 누락된 blob만 삽입한 뒤 lyrics_hash 참조를 갱신합니다.
      *
      * @param rows upsert할 트랙 가사 목록
      * @return 영향을 받은 행 수(배치 합계)
      */
     public Mono<Long> upsert(List<TrackLyricsRow> rows) {
+        if (storage == Storage.COMPRESSED) {
+            return chunkedSum(rows, CHUNK, this::upsertCompressedOnce);
+        }
         return chunkedSum(rows, CHUNK, this::upsertOnce);
     }
 
+    /**
+     * track_id의 가사 원문을 조회합니다.
+     * <p>
+     * 저장 방식과 무관하게 원문(lyrics) 또는 blob(lyrics_hash)을 읽어 복원합니다.
+     *
+     * @param trackId 조회할 track id
+     * @return 가사 원문(행이 없거나 가사가 NULL이면 empty)
+     */
+    public Mono<String> findLyrics(long trackId) {
+        return db.sql("""
+                SELECT tl.lyrics, b.codec, b.raw_length, b.body
+                FROM track_lyrics tl
+                LEFT JOIN lyrics_blob b ON b.content_hash = tl.lyrics_hash
+                WHERE tl.track_id = :tid
+            """)
+                .bind("tid", trackId)
+                .map((row, meta) -> {
+                    String lyrics = row.get("lyrics", String.class);
+                    if (lyrics != null) return Optional.of(lyrics);
+
+                    byte[] body = row.get("body", byte[].class);
+                    if (body == null) return Optional.<String>empty();
+
+                    Integer rawLength = row.get("raw_length", Integer.class);
+                    return Optional.of(LyricsCodec.decompress(
+                            row.get("codec", String.class), body, rawLength == null ? 0 : rawLength));
+                })
+                .one()
+                .flatMap(Mono::justOrEmpty);
+    }
+
     /**
      * 주어진 rows를 단일 INSERT ... ON DUPLICATE KEY UPDATE로 실행합니다.
      *
@@ -61,7 +125,8 @@ public class TrackLyricsRepo extends BatchSqlSupport {
 
         sql.append("""
             ON DUPLICATE KEY UPDATE
-              lyrics = VALUES(lyrics)
+              lyrics = VALUES(lyrics),
+              lyrics_hash = NULL
         """);
 
         DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
@@ -73,4 +138,138 @@ public class TrackLyricsRepo extends BatchSqlSupport {
 
         return spec.fetch().rowsUpdated();
     }
+
+    /**
+     * COMPRESSED 모드의 chunk 단위 upsert입니다.
+     * <ol>
+     *   <li>가사 원문의 SHA-256으로 chunk 내 중복을 제거</li>
+     *   <li>이미 존재하는 blob hash를 조회</li>
+     *   <li>누락된 blob만 압축해 삽입</li>
+     *   <li>track_lyrics에는 lyrics=NULL, lyrics_hash만 기록</li>
+     * </ol>
+     *
+     * @param rows upsert할 트랙 가사 목록(비어있지 않음)
+     * @return 영향을 받은 행 수(blob 삽입 + 참조 upsert 합계)
+     */
+    private Mono<Long> upsertCompressedOnce(List<TrackLyricsRow> rows) {
+        if (rows.isEmpty()) return Mono.just(0L);
+
+        List<String> hashes = new ArrayList<>(rows.size());
+        Map<String, String> lyricsByHash = new LinkedHashMap<>();
+        for (TrackLyricsRow r : rows) {
+            String h = r.lyrics() == null ? null : sha256Hex(r.lyrics());
+            hashes.add(h);
+            if (h != null) lyricsByHash.putIfAbsent(h, r.lyrics());
+        }
+
+        return fetchExistingBlobHashes(lyricsByHash.keySet())
+                .flatMap(existing -> {
+                    List<Map.Entry<String, String>> missing = lyricsByHash.entrySet().stream()
+                            .filter(e -> !existing.contains(e.getKey()))
+                            .toList();
+
+                    return insertBlobs(missing)
+                            .flatMap(blobs -> upsertRefs(rows, hashes).map(refs -> blobs + refs));
+                });
+    }
+
+    /**
+     * 주어진 content_hash 중 lyrics_blob에 이미 존재하는 것을 조회합니다.
+     *
+     * @param hashes 조회할 content_hash 목록
+     * @return 존재하는 content_hash 집합
+     */
+    private Mono<Set<String>> fetchExistingBlobHashes(Collection<String> hashes) {
+        if (hashes.isEmpty()) return Mono.just(Set.of());
+
+        List<String> list = new ArrayList<>(hashes);
+
+        StringBuilder sql = new StringBuilder("SELECT content_hash FROM lyrics_blob WHERE content_hash IN (");
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append(":h").append(i);
+        }
+        sql.append(")");
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < list.size(); i++) {
+            spec = spec.bind("h" + i, list.get(i));
+        }
+
+        return spec.map((row, meta) -> row.get("content_hash", String.class))
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 누락된 가사를 압축해 lyrics_blob에 삽입합니다.
+     * <p>
+     * 동시에 같은 가사를 쓰는 배치가 있어도 실패하지 않도록 중복 키는 no-op으로 처리합니다.
+     *
+     * @param missing (content_hash, 가사 원문) 목록
+     * @return 삽입된 행 수
+     */
+    private Mono<Long> insertBlobs(List<Map.Entry<String, String>> missing) {
+        if (missing.isEmpty()) return Mono.just(0L);
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO lyrics_blob (content_hash, codec, raw_length, body) VALUES
+        """);
+
+        for (int i = 0; i < missing.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:h").append(i)
+                    .append(", :c").append(i)
+                    .append(", :len").append(i)
+                    .append(", :b").append(i).append(")");
+        }
+
+        sql.append("""
+            ON DUPLICATE KEY UPDATE
+              content_hash = content_hash
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < missing.size(); i++) {
+            Map.Entry<String, String> e = missing.get(i);
+            spec = spec.bind("h" + i, e.getKey())
+                    .bind("c" + i, LyricsCodec.DEFLATE)
+                    .bind("len" + i, e.getValue().getBytes(StandardCharsets.UTF_8).length)
+                    .bind("b" + i, LyricsCodec.compress(e.getValue()));
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * track_lyrics에 blob 참조(lyrics_hash)를 upsert 합니다. lyrics 원문 컬럼은 NULL로 둡니다.
+     *
+     * @param rows   upsert할 트랙 가사 목록
+     * @param hashes rows와 같은 순서의 content_hash(가사가 NULL이면 NULL)
+     * @return 영향을 받은 행 수
+     */
+    private Mono<Long> upsertRefs(List<TrackLyricsRow> rows, List<String> hashes) {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO track_lyrics (track_id, lyrics, lyrics_hash) VALUES
+        """);
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append("(:tid").append(i).append(", NULL, :lh").append(i).append(")");
+        }
+
+        sql.append("""
+            ON DUPLICATE KEY UPDATE
+              lyrics = NULL,
+              lyrics_hash = VALUES(lyrics_hash)
+        """);
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            spec = spec.bind("tid" + i, rows.get(i).trackId());
+            spec = bindOrNull(spec, "lh" + i, hashes.get(i), String.class);
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
 }
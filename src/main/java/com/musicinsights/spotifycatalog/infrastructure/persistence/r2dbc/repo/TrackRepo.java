@@ -2,10 +2,13 @@ package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackRow;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.BatchSqlSupport;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,6 +17,9 @@ import java.util.Objects;
  * track 테이블에 대한 배치 upsert 및 식별자 조회 기능을 제공하는 Repository입니다.
  * <p>
  * track_hash를 기준으로 트랙을 식별하며, 대량 입력 시 CHUNK 단위로 분할 처리합니다.
+ * <p>
+ * 재적재 시에는 {@link #upsertChanged(List)}로 content_fp가 달라진 row만 갱신해
+ * 변경 없는 row에 대한 redo/binlog 쓰기를 줄입니다.
  */
 @Component
 public class TrackRepo extends BatchSqlSupport {
@@ -42,6 +48,43 @@ public class TrackRepo extends BatchSqlSupport {
         return chunkedSum(rows, CHUNK, this::upsertOnce);
     }
 
+    /**
+     * 기존 content_fp와 비교해 새 row와 내용이 바뀐 row만 upsert 합니다.
+     * <p>
+     * 같은 track_hash가 여러 번 나오면 마지막 row를 사용합니다(일반 upsert의 최종 결과와 동일).
+     * fingerprint가 없는 기존 row(NULL)는 변경으로 분류되어 한 번 채워집니다.
+     *
+     * @param rows upsert할 트랙 목록
+     * @return inserted / changed / unchanged 분류 결과
+     */
+    public Mono<UpsertStats> upsertChanged(List<TrackRow> rows) {
+        if (rows == null || rows.isEmpty()) return Mono.just(UpsertStats.EMPTY);
+
+        Map<String, TrackRow> byHash = new LinkedHashMap<>();
+        for (TrackRow r : rows) byHash.put(r.trackHash(), r);
+
+        return fetchFingerprintsByHash(new ArrayList<>(byHash.keySet()))
+                .flatMap(existing -> {
+                    List<TrackRow> toWrite = new ArrayList<>();
+                    long inserted = 0, changed = 0, unchanged = 0;
+
+                    for (TrackRow r : byHash.values()) {
+                        String fp = existing.get(r.trackHash());
+                        if (fp == null) {
+                            inserted++;
+                            toWrite.add(r);
+                        } else if (r.contentFp() != null && r.contentFp().equals(fp)) {
+                            unchanged++;
+                        } else {
+                            changed++;
+                            toWrite.add(r);
+                        }
+                    }
+
+                    return upsert(toWrite).thenReturn(new UpsertStats(inserted, changed, unchanged));
+                });
+    }
+
     /**
      * 주어진 rows를 단일 INSERT ... ON DUPLICATE KEY UPDATE로 실행합니다.
      *
@@ -54,7 +97,7 @@ public class TrackRepo extends BatchSqlSupport {
         StringBuilder sql = new StringBuilder("""
             INSERT INTO track (
               track_hash, title, duration_ms, duration_str,
-              genre, emotion, explicit, popularity, album_id
+              genre, emotion, explicit, popularity, album_id, content_fp
             ) VALUES
         """);
 
@@ -62,8 +105,8 @@ public class TrackRepo extends BatchSqlSupport {
             if (i > 0) sql.append(",");
             sql.append("""
               (:h%d, :t%d, :dm%d, :ds%d,
-               :g%d, :e%d, :ex%d, :p%d, :aid%d)
-            """.formatted(i, i, i, i, i, i, i, i, i));
+               :g%d, :e%d, :ex%d, :p%d, :aid%d, :fp%d)
+            """.formatted(i, i, i, i, i, i, i, i, i, i));
         }
 
         sql.append("""
@@ -75,7 +118,8 @@ public class TrackRepo extends BatchSqlSupport {
               emotion = VALUES(emotion),
               explicit = VALUES(explicit),
               popularity = VALUES(popularity),
-              album_id = VALUES(album_id)
+              album_id = VALUES(album_id),
+              content_fp = VALUES(content_fp)
         """);
 
         DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
@@ -91,6 +135,7 @@ public class TrackRepo extends BatchSqlSupport {
             spec = bindOrNull(spec, "ex" + i, r.explicit(), Boolean.class);
             spec = bindOrNull(spec, "p" + i, r.popularity(), Integer.class);
             spec = bindOrNull(spec, "aid" + i, r.albumId(), Long.class);
+            spec = bindOrNull(spec, "fp" + i, r.contentFp(), String.class);
         }
 
         return spec.fetch().rowsUpdated();
@@ -141,4 +186,39 @@ public class TrackRepo extends BatchSqlSupport {
                 .all()
                 .collectMap(Map.Entry::getKey, Map.Entry::getValue);
     }
+
+    /**
+     * track_hash 목록으로 기존 row의 content_fp를 조회합니다.
+     * <p>
+     * fingerprint가 NULL인 기존 row는 빈 문자열로 매핑되어 "존재하지만 변경됨"으로 분류됩니다.
+     *
+     * @param hashes 조회할 track_hash 목록(중복 없음)
+     * @return track_hash -> content_fp (존재하지 않는 hash는 포함되지 않음)
+     */
+    private Mono<Map<String, String>> fetchFingerprintsByHash(List<String> hashes) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT track_hash, content_fp
+            FROM track
+            WHERE track_hash IN (
+        """);
+
+        for (int i = 0; i < hashes.size(); i++) {
+            if (i > 0) sql.append(",");
+            sql.append(":h").append(i);
+        }
+        sql.append(")");
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql.toString());
+        for (int i = 0; i < hashes.size(); i++) {
+            spec = spec.bind("h" + i, hashes.get(i));
+        }
+
+        return spec
+                .map((row, meta) -> {
+                    String fp = row.get("content_fp", String.class);
+                    return Map.entry(row.get("track_hash", String.class), fp == null ? "" : fp);
+                })
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
 }
@@ -1,9 +1,22 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
 /**
  * 앨범과 아티스트 간의 다대다(M:N) 관계를 나타내는 조인 테이블용 Row 객체입니다.
+ * <p>
+ * releaseYear는 아티스트별 앨범 목록을 인덱스 순서로 읽기 위해 album.release_year를 복사해 둔 값입니다.
  *
- * @param albumId  앨범의 고유 식별자
- * @param artistId 아티스트의 고유 식별자
+ * @param albumId     앨범의 고유 식별자
+ * @param artistId    아티스트의 고유 식별자
+ * @param releaseYear 앨범 발매 연도 (발매일이 없으면 null)
  */
-public record AlbumArtistRow(Long albumId, Long artistId) {}
+public record AlbumArtistRow(Long albumId, Long artistId, Integer releaseYear) {
 
+    /**
+     * 발매 연도 없이 매핑만 나타내는 Row를 생성합니다.
+     *
+     * @param albumId  앨범의 고유 식별자
+     * @param artistId 아티스트의 고유 식별자
+     */
+    public AlbumArtistRow(Long albumId, Long artistId) {
+        this(albumId, artistId, null);
+    }
+}
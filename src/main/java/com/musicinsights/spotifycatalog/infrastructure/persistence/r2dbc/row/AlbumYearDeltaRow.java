@@ -0,0 +1,8 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
+/**
+ * album_count_year에 더할 연도별 앨범 수 증분 Row 객체입니다.
+ *
+ * @param releaseYear 발매 연도 (발매일이 없으면 0)
+ * @param delta       새로 추가된 앨범 수
+ */
+public record AlbumYearDeltaRow(Integer releaseYear, Long delta) {}
@@ -0,0 +1,9 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
+/**
+ * artist_album_count_year에 더할 (연도, 아티스트)별 앨범 수 증분 Row 객체입니다.
+ *
+ * @param releaseYear 발매 연도
+ * @param artistId    아티스트의 고유 식별자
+ * @param delta       새로 추가된 album_artist 매핑 수
+ */
+public record ArtistYearDeltaRow(Integer releaseYear, Long artistId, Long delta) {}
@@ -15,6 +15,7 @@ package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
  * @param instrumentalness    보컬이 없는 정도
  * @param musicalKey          곡의 조성(Key)
  * @param timeSignature       박자(Time Signature)
+ * @param contentFp           track_id를 제외한 컬럼 값의 fingerprint(변경 감지용, Nullable)
  */
 public record AudioRow(
         Long trackId,
@@ -28,5 +29,19 @@ public record AudioRow(
         Integer acousticness,
         Integer instrumentalness,
         String musicalKey,
-        String timeSignature
-) {}
+        String timeSignature,
+        String contentFp
+) {
+    /**
+     * fingerprint 없이 생성합니다. (contentFp = null)
+     */
+    public AudioRow(
+            Long trackId, Double tempo, Double loudness,
+            Integer energy, Integer danceability, Integer positiveness, Integer speechiness,
+            Integer liveness, Integer acousticness, Integer instrumentalness,
+            String musicalKey, String timeSignature
+    ) {
+        this(trackId, tempo, loudness, energy, danceability, positiveness, speechiness,
+                liveness, acousticness, instrumentalness, musicalKey, timeSignature, null);
+    }
+}
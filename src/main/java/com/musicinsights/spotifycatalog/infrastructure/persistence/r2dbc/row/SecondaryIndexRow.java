@@ -0,0 +1,9 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
+/**
+ * 대량 적재 시 임시로 삭제/복구하는 보조 인덱스 정의 Row 객체입니다.
+ *
+ * @param tableName  인덱스가 속한 테이블명
+ * @param indexName  인덱스명
+ * @param columnsSql 인덱스 컬럼 정의(예: {@code `release_year`, `album_count` DESC})
+ */
+public record SecondaryIndexRow(String tableName, String indexName, String columnsSql) {}
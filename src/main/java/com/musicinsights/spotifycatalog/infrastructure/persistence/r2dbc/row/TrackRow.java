@@ -12,6 +12,7 @@ package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
  * @param explicit    노골적인 콘텐츠 포함 여부
  * @param popularity  트랙 인기도 지표
  * @param albumId     트랙이 속한 앨범의 고유 식별자
+ * @param contentFp   track_hash를 제외한 컬럼 값의 fingerprint(변경 감지용, Nullable)
  */
 public record TrackRow(
         String trackHash,
@@ -22,5 +23,16 @@ public record TrackRow(
         String emotion,
         Boolean explicit,
         Integer popularity,
-        Long albumId
-) {}
+        Long albumId,
+        String contentFp
+) {
+    /**
+     * fingerprint 없이 생성합니다. (contentFp = null)
+     */
+    public TrackRow(
+            String trackHash, String title, Integer durationMs, String durationStr,
+            String genre, String emotion, Boolean explicit, Integer popularity, Long albumId
+    ) {
+        this(trackHash, title, durationMs, durationStr, genre, emotion, explicit, popularity, albumId, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
+
+/**
+ * 발매 연도별 앨범 수를 나타내는 Row 객체입니다.
+ *
+ * @param releaseYear 발매 연도
+ * @param albumCount  해당 연도 앨범 수
+ */
+public record YearCountRow(int releaseYear, long albumCount) {}
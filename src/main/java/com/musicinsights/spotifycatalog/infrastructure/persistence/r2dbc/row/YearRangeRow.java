@@ -0,0 +1,9 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row;
+
+/**
+ * 발매 연도 구간 [minYear, maxYear]를 나타내는 Row 객체입니다. (양 끝 포함)
+ *
+ * @param minYear 시작 연도
+ * @param maxYear 끝 연도
+ */
+public record YearRangeRow(int minYear, int maxYear) {}
@@ -0,0 +1,22 @@
+-- V10__album_artist_release_year.sql
+-- 아티스트별 앨범 목록 조회용 release_year 비정규화
+-- 기존에는 album_artist ⋈ album 후 al.release_year로 정렬해야 해서, 앨범이 많은 아티스트는
+-- 모든 앨범 행을 읽고 filesort 한 뒤에야 LIMIT이 적용됐다.
+-- album.release_year는 album_key(이름 + 발매일)에서 정해지므로 매핑 행에 복사해도 바뀌지 않는다.
+-- (artist_id, release_year DESC, album_id) 인덱스 순서가 곧 목록 정렬 순서라 커서 페이지가 인덱스 범위 읽기로 끝난다.
+
+SET NAMES utf8mb4;
+
+ALTER TABLE album_artist
+    ADD COLUMN release_year SMALLINT NULL AFTER artist_id;
+
+UPDATE album_artist aa
+    JOIN album al ON al.id = aa.album_id
+SET aa.release_year = al.release_year;
+
+ALTER TABLE album_artist
+    ADD KEY idx_album_artist_artist_year (artist_id, release_year DESC, album_id);
+
+-- 새 인덱스가 artist_id FK 인덱스 역할을 대신하므로 (artist_id, album_id) 인덱스는 제거
+ALTER TABLE album_artist
+    DROP INDEX idx_album_artist_artist;
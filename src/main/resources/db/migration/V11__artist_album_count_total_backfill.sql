@@ -0,0 +1,21 @@
+-- V11__artist_album_count_total_backfill.sql
+-- V6에서 만든 artist_album_count_total은 다음 rebuild 전까지 비어 있어,
+-- 이미 연도별 집계가 있는 DB에서도 연도 미지정 통계가 빈 목록을 반환했다.
+-- 연도별 집계(artist_album_count_year)를 artist_id로 합산해 채운다. (rebuild와 같은 합산/순위 규칙)
+-- 이미 rebuild로 채워진 행은 같은 값으로 덮어쓰므로 다시 실행해도 결과가 같다.
+
+SET NAMES utf8mb4;
+
+INSERT INTO artist_album_count_total (artist_id, album_count, row_no, rank_no)
+SELECT e.artist_id, e.album_count,
+       ROW_NUMBER() OVER (ORDER BY e.album_count DESC, e.artist_id ASC) AS row_no,
+       DENSE_RANK() OVER (ORDER BY e.album_count DESC) AS rank_no
+FROM (
+         SELECT artist_id, SUM(album_count) AS album_count
+         FROM artist_album_count_year
+         GROUP BY artist_id
+     ) e
+ON DUPLICATE KEY UPDATE
+    album_count = VALUES(album_count),
+    row_no      = VALUES(row_no),
+    rank_no     = VALUES(rank_no);
@@ -0,0 +1,24 @@
+-- V12__aggregate_rank_backfill.sql
+-- V8에서 추가한 row_no/rank_no는 기본값 0으로만 채워져, 다음 rebuild 전까지
+-- 순위 기반 조회(페이지 이동/순위 응답)가 기존 집계 행에서 0을 읽었다.
+-- 현재 album_count 기준으로 순위를 계산해 채운다. (ArtistAlbumCountYearRepo/ArtistAlbumCountTotalRepo의 refreshRanks와 같은 SQL)
+
+SET NAMES utf8mb4;
+
+UPDATE artist_album_count_year s
+    JOIN (
+        SELECT release_year, artist_id,
+               ROW_NUMBER() OVER (PARTITION BY release_year ORDER BY album_count DESC, artist_id ASC) AS rn,
+               DENSE_RANK() OVER (PARTITION BY release_year ORDER BY album_count DESC) AS rk
+        FROM artist_album_count_year
+    ) r ON r.release_year = s.release_year AND r.artist_id = s.artist_id
+SET s.row_no = r.rn, s.rank_no = r.rk;
+
+UPDATE artist_album_count_total s
+    JOIN (
+        SELECT artist_id,
+               ROW_NUMBER() OVER (ORDER BY album_count DESC, artist_id ASC) AS rn,
+               DENSE_RANK() OVER (ORDER BY album_count DESC) AS rk
+        FROM artist_album_count_total
+    ) r ON r.artist_id = s.artist_id
+SET s.row_no = r.rn, s.rank_no = r.rk;
@@ -0,0 +1,19 @@
+-- V2__lyrics_blob.sql
+-- 가사 압축 + 내용 기반 중복 제거 저장소
+-- 같은 가사(리마스터/컴필레이션/중복 항목)는 content_hash 하나의 blob을 공유한다.
+
+SET NAMES utf8mb4;
+
+CREATE TABLE IF NOT EXISTS lyrics_blob (
+                                           content_hash CHAR(64)    NOT NULL PRIMARY KEY, -- SHA-256(원문 가사)
+                                           codec        VARCHAR(16) NOT NULL,             -- 압축 방식 (예: deflate)
+                                           raw_length   INT         NOT NULL,             -- 원문 UTF-8 바이트 수
+                                           body         MEDIUMBLOB  NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- COMPRESSED 모드에서는 lyrics를 NULL로 두고 lyrics_hash로 blob을 참조한다.
+ALTER TABLE track_lyrics
+    ADD COLUMN lyrics_hash CHAR(64) NULL AFTER lyrics,
+    ADD KEY idx_track_lyrics_hash (lyrics_hash),
+    ADD CONSTRAINT fk_track_lyrics_blob
+        FOREIGN KEY (lyrics_hash) REFERENCES lyrics_blob(content_hash);
@@ -0,0 +1,27 @@
+-- V3__bulk_load_indexes.sql
+-- 1) ingest마다 함께 유지되던 중복 보조 인덱스 제거
+-- 2) 대량 적재 모드에서 임시로 삭제한 인덱스 정의를 보관하는 테이블
+
+SET NAMES utf8mb4;
+
+-- uk_artist_name_key와 동일 컬럼
+ALTER TABLE artist DROP INDEX idx_artist_name_key;
+
+-- uk_album_album_key와 동일 컬럼
+-- idx_album_release_year는 idx_album_year_id(release_year, id)의 prefix
+-- idx_album_release_date를 쓰는 쿼리는 없음(연도 조회는 release_year 사용)
+ALTER TABLE album
+    DROP INDEX idx_album_album_key,
+    DROP INDEX idx_album_release_year,
+    DROP INDEX idx_album_release_date;
+
+-- ingest.manage-indexes=true일 때 cold load 전에 삭제한 인덱스 정의.
+-- 적재 도중 프로세스가 죽어도 다음 실행에서 이 정의로 복구한다.
+CREATE TABLE IF NOT EXISTS ingest_dropped_index (
+                                                    table_name  VARCHAR(64)   NOT NULL,
+                                                    index_name  VARCHAR(64)   NOT NULL,
+                                                    columns_sql VARCHAR(1024) NOT NULL, -- 예: `release_year`, `id`
+                                                    dropped_at  TIMESTAMP(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+                                                    PRIMARY KEY (table_name, index_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
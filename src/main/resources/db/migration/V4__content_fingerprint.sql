@@ -0,0 +1,11 @@
+-- V4__content_fingerprint.sql
+-- 재적재 시 내용이 바뀐 row만 갱신하기 위한 내용 fingerprint (SHA-256 hex)
+-- 기존 row는 NULL → 다음 적재에서 "changed"로 분류되어 한 번 채워진다.
+
+SET NAMES utf8mb4;
+
+ALTER TABLE track
+    ADD COLUMN content_fp CHAR(64) NULL AFTER album_id;
+
+ALTER TABLE audio_feature
+    ADD COLUMN content_fp CHAR(64) NULL;
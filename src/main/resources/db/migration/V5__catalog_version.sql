@@ -0,0 +1,15 @@
+-- V5__catalog_version.sql
+-- 집계 테이블 버전 정보
+-- rebuild(shadow swap 포함)가 끝날 때마다 version을 올리고 완료 시각/소요 시간을 기록한다.
+-- API 캐시는 (name, version)을 키에 포함해 집계가 바뀌면 자연스럽게 무효화된다.
+
+SET NAMES utf8mb4;
+
+CREATE TABLE IF NOT EXISTS catalog_version (
+                                               name       VARCHAR(64)  NOT NULL, -- 예: artist_album_count_year
+                                               version    BIGINT       NOT NULL,
+                                               rebuilt_at TIMESTAMP(3) NOT NULL,
+                                               rebuild_ms BIGINT       NOT NULL,
+
+                                               PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,18 @@
+-- V6__artist_album_count_total.sql
+-- 연도 미지정 통계(아티스트별 전체 발매 앨범 수)를 위한 집계 테이블
+-- artist_album_count_year를 artist_id로 합산해 rebuild 마다 함께 갱신한다.
+-- (album_count DESC, artist_id ASC) 인덱스로 keyset 페이지를 index range scan으로 읽는다.
+
+SET NAMES utf8mb4;
+
+CREATE TABLE IF NOT EXISTS artist_album_count_total (
+                                                        artist_id   BIGINT NOT NULL,
+                                                        album_count INT    NOT NULL,
+
+                                                        PRIMARY KEY (artist_id),
+
+    KEY idx_total_count_artist (album_count DESC, artist_id ASC),
+
+    CONSTRAINT fk_aact_artist
+    FOREIGN KEY (artist_id) REFERENCES artist(id) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,13 @@
+-- V7__album_count_year.sql
+-- 연도별 전체 앨범 수 요약 테이블 (통계 응답의 totalAlbums 용)
+-- release_year = 0 은 발매 연도가 없는(release_year IS NULL) 앨범 수이며,
+-- 전체 앨범 수는 모든 행의 합계이다. 집계 rebuild 마다 함께 갱신한다.
+
+SET NAMES utf8mb4;
+
+CREATE TABLE IF NOT EXISTS album_count_year (
+                                                release_year SMALLINT NOT NULL,
+                                                album_count  INT      NOT NULL,
+
+                                                PRIMARY KEY (release_year)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
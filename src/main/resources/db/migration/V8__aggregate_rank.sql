@@ -0,0 +1,17 @@
+-- V8__aggregate_rank.sql
+-- 집계 테이블에 순위 컬럼 추가 (rebuild 시 윈도 함수로 계산)
+--  row_no : (album_count DESC, artist_id ASC) 기준 1부터의 연속 위치 → 임의 페이지로 바로 이동
+--  rank_no: album_count 기준 dense rank → 동률은 같은 순위
+-- 증분 갱신으로 새로 생긴 행은 0으로 들어가며, 적재 후 순위 재계산에서 채워진다.
+
+SET NAMES utf8mb4;
+
+ALTER TABLE artist_album_count_year
+    ADD COLUMN row_no  INT NOT NULL DEFAULT 0,
+    ADD COLUMN rank_no INT NOT NULL DEFAULT 0,
+    ADD KEY idx_year_row (release_year, row_no);
+
+ALTER TABLE artist_album_count_total
+    ADD COLUMN row_no  INT NOT NULL DEFAULT 0,
+    ADD COLUMN rank_no INT NOT NULL DEFAULT 0,
+    ADD KEY idx_total_row (row_no);
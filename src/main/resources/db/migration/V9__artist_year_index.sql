@@ -0,0 +1,9 @@
+-- V9__artist_year_index.sql
+-- 아티스트 한 명의 연도별 앨범 수 조회용 인덱스
+-- PK가 (release_year, artist_id)라서 artist_id 단독 조건은 모든 연도를 훑게 된다.
+-- album_count까지 포함해 연도별 이력 조회가 인덱스만으로 끝나도록 한다. (FK 인덱스 역할도 겸함)
+
+SET NAMES utf8mb4;
+
+ALTER TABLE artist_album_count_year
+    ADD KEY idx_artist_year (artist_id, release_year, album_count);
@@ -1,7 +1,10 @@
 package com.musicinsights.spotifycatalog.application.album.controller;
 
+import com.musicinsights.spotifycatalog.application.album.dto.response.AlbumDetailResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumsResponse;
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistRankResponse;
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistYearHistoryResponse;
 import com.musicinsights.spotifycatalog.application.common.pagination.PageResult;
 import com.musicinsights.spotifycatalog.application.album.service.AlbumStatsService;
 import com.musicinsights.spotifycatalog.application.common.error.GlobalExceptionHandler;
@@ -17,6 +20,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -58,7 +62,7 @@ class AlbumStatsControllerTest {
                 page
         );
 
-        when(service.getArtistAlbumStats(isNull(), isNull(), eq(20)))
+        when(service.getArtistAlbumStats(isNull(), isNull(), eq(20), eq(true)))
                 .thenReturn(Mono.just(body));
 
         // when / then
@@ -77,7 +81,8 @@ class AlbumStatsControllerTest {
                 .jsonPath("$.page.hasNext").isEqualTo(true)
                 .jsonPath("$.page.nextCursor").isEqualTo("next-cursor");
 
-        verify(service).getArtistAlbumStats(null, null, 20);
+        verify(service).getArtistAlbumStats(null, null, 20, true);
+        verify(service).catalogVersion(); // ETag 계산
         verifyNoMoreInteractions(service);
     }
 
@@ -102,7 +107,7 @@ class AlbumStatsControllerTest {
                 page
         );
 
-        when(service.getArtistAlbumStats(eq(year), eq(cursor), eq(size)))
+        when(service.getArtistAlbumStats(eq(year), eq(cursor), eq(size), eq(true)))
                 .thenReturn(Mono.just(body));
 
         // when / then
@@ -122,10 +127,73 @@ class AlbumStatsControllerTest {
                 .jsonPath("$.page.items.length()").isEqualTo(1)
                 .jsonPath("$.page.hasNext").isEqualTo(false);
 
-        verify(service).getArtistAlbumStats(year, cursor, size);
+        verify(service).getArtistAlbumStats(year, cursor, size, true);
+        verify(service).catalogVersion(); // ETag 계산
         verifyNoMoreInteractions(service);
     }
 
+    /** includeName=false면 이름 제외로 서비스에 위임하고 JSON에서도 artistName이 빠지는지 검증한다. */
+    @Test
+    @DisplayName("includeName=false면 이름 없이 조회하고 artistName을 직렬화하지 않는다")
+    void ok_includeNameFalse_omitsArtistName() {
+        // given
+        var body = new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(
+                null,
+                10L,
+                new PageResult<>(
+                        List.of(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(7L, null, 3L)),
+                        false,
+                        null
+                )
+        );
+        when(service.getArtistAlbumStats(null, null, 20, false)).thenReturn(Mono.just(body));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist?includeName=false")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.page.items[0].artistId").isEqualTo(7)
+                .jsonPath("$.page.items[0].albumCount").isEqualTo(3)
+                .jsonPath("$.page.items[0].artistName").doesNotExist();
+
+        verify(service).getArtistAlbumStats(null, null, 20, false);
+    }
+
+    /** 이름 포함/제외 응답은 본문이 다르므로 ETag도 달라, 서로의 ETag로 304가 되지 않는지 검증한다. */
+    @Test
+    @DisplayName("includeName이 다르면 ETag가 달라 304가 되지 않는다")
+    void includeName_differentEtag_returnsOk() {
+        // given
+        var body = new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(
+                null,
+                10L,
+                new PageResult<>(List.of(), false, null)
+        );
+        when(service.catalogVersion()).thenReturn(5L);
+        when(service.getArtistAlbumStats(isNull(), isNull(), eq(20), anyBoolean())).thenReturn(Mono.just(body));
+
+        String etag = webTestClient.get()
+                .uri("/api/album/stats/artist")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist?includeName=false")
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(service).getArtistAlbumStats(null, null, 20, true);
+        verify(service).getArtistAlbumStats(null, null, 20, false);
+    }
+
     /** year 검증 실패 시 400 및 VALIDATION_ERROR 에러 바디를 검증한다. */
     @Test
     @DisplayName("연도 범위가 벗어나면 400 및 VALIDATION_ERROR 에러 바디 검증")
@@ -213,6 +281,7 @@ class AlbumStatsControllerTest {
                 .jsonPath("$.page.nextCursor").isEqualTo("next");
 
         verify(service).getArtistAlbums(artistId, null, null, 20);
+        verify(service).catalogVersion(); // ETag 계산
         verifyNoMoreInteractions(service);
     }
 
@@ -241,6 +310,7 @@ class AlbumStatsControllerTest {
                 .jsonPath("$.code").isEqualTo("artist not found");
 
         verify(service).getArtistAlbums(eq(artistId), isNull(), isNull(), eq(20));
+        verify(service).catalogVersion(); // ETag 계산
         verifyNoMoreInteractions(service);
     }
 
@@ -263,4 +333,324 @@ class AlbumStatsControllerTest {
 
         verifyNoInteractions(service);
     }
+
+    /** 순위 페이지 조회 시 page/size가 그대로 전달되고 rank/rowNo가 응답되는지 검증한다. */
+    @Test
+    @DisplayName("순위 페이지 조회 시 200 응답 및 rowNo/rank 필드 검증")
+    void ranking_ok_returnsRankPage() {
+        // given
+        var body = new ArtistRankResponse.ArtistRankPageResponse(
+                2024,
+                500L,
+                2,
+                List.of(
+                        new ArtistRankResponse.ArtistRankItemResponse(999L, 40L, 7L, "G", 3L),
+                        new ArtistRankResponse.ArtistRankItemResponse(1000L, 40L, 8L, "H", 3L)
+                )
+        );
+        when(service.getArtistRankPage(2024, 500L, 2)).thenReturn(Mono.just(body));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist/ranking?year=2024&page=500&size=2")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.year").isEqualTo(2024)
+                .jsonPath("$.page").isEqualTo(500)
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].rowNo").isEqualTo(999)
+                .jsonPath("$.items[0].rank").isEqualTo(40)
+                .jsonPath("$.items[1].artistName").isEqualTo("H");
+
+        verify(service).getArtistRankPage(2024, 500L, 2);
+        verifyNoMoreInteractions(service);
+    }
+
+    /** page가 1보다 작으면 400을 반환하고 서비스는 호출되지 않는지 검증한다. */
+    @Test
+    @DisplayName("순위 페이지 번호가 0이면 400 및 VALIDATION_ERROR 검증")
+    void ranking_badRequest_whenPageZero() {
+        webTestClient.get()
+                .uri("/api/album/stats/artist/ranking?page=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR");
+
+        verifyNoInteractions(service);
+    }
+
+    /** 아티스트 순위 조회 시 전체/연도별 순위가 응답되는지 검증한다. */
+    @Test
+    @DisplayName("아티스트 순위 조회 시 200 응답 및 total/years 구조 검증")
+    void artistRanks_ok_returnsTotalAndYears() {
+        // given
+        var body = new ArtistRankResponse.ArtistRanksResponse(
+                1L,
+                new ArtistRankResponse.ArtistYearRankResponse(null, 12L, 3L, 5L),
+                List.of(new ArtistRankResponse.ArtistYearRankResponse(2024, 2L, 1L, 1L))
+        );
+        when(service.getArtistRanks(1L)).thenReturn(Mono.just(body));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist/{artistId}/ranks", 1)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.artistId").isEqualTo(1)
+                .jsonPath("$.total.rank").isEqualTo(3)
+                .jsonPath("$.total.year").isEmpty()
+                .jsonPath("$.years[0].year").isEqualTo(2024)
+                .jsonPath("$.years[0].rowNo").isEqualTo(1);
+
+        verify(service).getArtistRanks(1L);
+    }
+
+    /** 연도별 이력 조회 시 연도 오름차순 목록과 합계가 응답되는지 검증한다. */
+    @Test
+    @DisplayName("연도별 이력 조회 시 200 응답 및 years/totalAlbums 검증")
+    void yearHistory_ok_returnsYears() {
+        // given
+        var body = new ArtistYearHistoryResponse.ArtistYearHistoryResultResponse(
+                1L,
+                3L,
+                List.of(
+                        new ArtistYearHistoryResponse.ArtistYearCountResponse(2019, 1L),
+                        new ArtistYearHistoryResponse.ArtistYearCountResponse(2020, 2L)
+                )
+        );
+        when(service.getArtistYearHistory(1L)).thenReturn(Mono.just(body));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist/{artistId}/years", 1)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.artistId").isEqualTo(1)
+                .jsonPath("$.totalAlbums").isEqualTo(3)
+                .jsonPath("$.years.length()").isEqualTo(2)
+                .jsonPath("$.years[1].year").isEqualTo(2020)
+                .jsonPath("$.years[1].albumCount").isEqualTo(2);
+
+        verify(service).getArtistYearHistory(1L);
+    }
+
+    /** 카탈로그 버전이 있으면 ETag/Cache-Control을 붙이고, 같은 ETag로 다시 요청하면 서비스 호출 없이 304를 반환한다. */
+    @Test
+    @DisplayName("ETag 일치 시 서비스 호출 없이 304 응답 검증")
+    void stats_ifNoneMatch_returnsNotModified_withoutServiceCall() {
+        // given
+        var body = new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(
+                2020,
+                1L,
+                new PageResult<>(List.of(), false, null)
+        );
+        when(service.catalogVersion()).thenReturn(5L);
+        when(service.getArtistAlbumStats(2020, null, 20, true)).thenReturn(Mono.just(body));
+
+        // when: 첫 요청은 200 + ETag
+        String etag = webTestClient.get()
+                .uri("/api/album/stats/artist?year=2020")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches("Cache-Control", ".*s-maxage=60.*")
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        assertThat(etag).startsWith("\"5-");
+
+        // then: 같은 ETag로 다시 요청하면 304
+        webTestClient.get()
+                .uri("/api/album/stats/artist?year=2020")
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag);
+
+        verify(service, times(1)).getArtistAlbumStats(2020, null, 20, true);
+    }
+
+    /** 카탈로그 버전이 오르면 이전 버전 ETag로는 304가 되지 않고, 새 본문과 새 ETag를 받는다. */
+    @Test
+    @DisplayName("버전이 바뀐 뒤 이전 ETag로 요청하면 200과 새 ETag 응답 검증")
+    void stats_ifNoneMatch_afterVersionChange_returnsOkWithNewEtag() {
+        // given
+        var oldBody = new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(
+                2020,
+                1L,
+                new PageResult<>(List.of(), false, null)
+        );
+        var newBody = new ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse(
+                2020,
+                2L,
+                new PageResult<>(List.of(), false, null)
+        );
+        when(service.catalogVersion()).thenReturn(5L, 6L);
+        when(service.getArtistAlbumStats(2020, null, 20, true)).thenReturn(Mono.just(oldBody), Mono.just(newBody));
+
+        String oldEtag = webTestClient.get()
+                .uri("/api/album/stats/artist?year=2020")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist?year=2020")
+                .header("If-None-Match", oldEtag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("ETag", etag -> assertThat(etag).startsWith("\"6-"))
+                .expectBody()
+                .jsonPath("$.totalAlbums").isEqualTo(2);
+
+        verify(service, times(2)).getArtistAlbumStats(2020, null, 20, true);
+    }
+
+    /** 파라미터가 다르면 ETag도 달라 304가 되지 않는다. */
+    @Test
+    @DisplayName("다른 파라미터의 ETag로는 304가 되지 않는지 검증")
+    void albums_ifNoneMatch_differentParams_returnsOk() {
+        // given
+        var body = new ArtistAlbumsResponse.ArtistAlbumsResultResponse(
+                1L,
+                null,
+                0L,
+                new PageResult<>(List.of(), false, null)
+        );
+        when(service.catalogVersion()).thenReturn(5L);
+        when(service.getArtistAlbums(eq(1L), isNull(), isNull(), anyInt())).thenReturn(Mono.just(body));
+
+        String etag = webTestClient.get()
+                .uri("/api/album/stats/artist/{artistId}?size=10", 1)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist/{artistId}?size=20", 1)
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(service, times(2)).getArtistAlbums(eq(1L), isNull(), isNull(), anyInt());
+    }
+
+    /** 여러 아티스트 일괄 조회 시 artistIds/year/size가 서비스로 전달되고 응답 구조가 맞는지 검증한다. */
+    @Test
+    @DisplayName("아티스트 앨범 일괄 조회 시 200 응답 및 아티스트별 페이지/missingArtistIds 검증")
+    void albumsBatch_ok_returnsBody() {
+        // given
+        var first = new ArtistAlbumsResponse.ArtistAlbumsResultResponse(
+                1L,
+                2020,
+                3L,
+                new PageResult<>(
+                        List.of(new ArtistAlbumsResponse.ArtistAlbumsItemResponse(100L, "AlbumA", 2020)),
+                        true,
+                        "c1"
+                )
+        );
+        var body = new ArtistAlbumsResponse.ArtistAlbumsBatchResultResponse(2020, List.of(first), List.of(9L));
+        when(service.getArtistAlbumsBatch(List.of(1L, 9L), 2020, 1)).thenReturn(Mono.just(body));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/stats/artist/albums?artistIds=1,9&year=2020&size=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.year").isEqualTo(2020)
+                .jsonPath("$.artists.length()").isEqualTo(1)
+                .jsonPath("$.artists[0].artistId").isEqualTo(1)
+                .jsonPath("$.artists[0].totalAlbums").isEqualTo(3)
+                .jsonPath("$.artists[0].page.items[0].albumId").isEqualTo(100)
+                .jsonPath("$.artists[0].page.nextCursor").isEqualTo("c1")
+                .jsonPath("$.missingArtistIds[0]").isEqualTo(9);
+
+        verify(service).getArtistAlbumsBatch(List.of(1L, 9L), 2020, 1);
+        verifyNoMoreInteractions(service);
+    }
+
+    /** artistIds가 50개를 넘으면 400 VALIDATION_ERROR를 반환하고 서비스를 호출하지 않는다. */
+    @Test
+    @DisplayName("아티스트 앨범 일괄 조회에서 artistIds가 50개를 넘으면 400 검증")
+    void albumsBatch_tooManyArtistIds_returnsBadRequest() {
+        String ids = String.join(",", LongStream.rangeClosed(1, 51).mapToObj(Long::toString).toList());
+
+        webTestClient.get()
+                .uri("/api/album/stats/artist/albums?artistIds=" + ids)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR");
+
+        verifyNoInteractions(service);
+    }
+
+    /** 앨범 상세 조회 시 트랙/아티스트/오디오 특성이 응답 바디에 담기는지 검증한다. */
+    @Test
+    @DisplayName("앨범 상세 조회 시 200 응답 및 tracks/artists/audioFeature 검증")
+    void albumDetail_ok() {
+        // given
+        var artist = new AlbumDetailResponse.AlbumDetailArtistResponse(2L, "B");
+        var feature = new AlbumDetailResponse.AudioFeatureResponse(
+                120.0, -5.0, 80, 70, 60, 5, 10, 20, 0, "C Maj", "4/4");
+        var track = new AlbumDetailResponse.AlbumDetailTrackResponse(
+                10L, "Song", 200000, "pop", "joy", false, 55, List.of(artist), feature);
+        var body = new AlbumDetailResponse.AlbumDetailResultResponse(
+                5L, "Album", null, 2020, List.of(artist), List.of(track));
+
+        when(service.getAlbumDetail(5L)).thenReturn(Mono.just(body));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/album/{albumId}", 5L)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.albumId").isEqualTo(5)
+                .jsonPath("$.artists[0].artistName").isEqualTo("B")
+                .jsonPath("$.tracks[0].trackId").isEqualTo(10)
+                .jsonPath("$.tracks[0].artists[0].artistId").isEqualTo(2)
+                .jsonPath("$.tracks[0].audioFeature.tempo").isEqualTo(120.0);
+
+        verify(service).getAlbumDetail(5L);
+        verify(service).catalogVersion(); // ETag 계산
+        verifyNoMoreInteractions(service);
+    }
+
+    /** 앨범이 없으면 404 및 ALBUM_NOT_FOUND 에러 바디를 반환하는지 검증한다. */
+    @Test
+    @DisplayName("앨범이 없으면 404 및 ALBUM_NOT_FOUND 에러 바디 검증")
+    void albumDetail_notFound() {
+        when(service.getAlbumDetail(999L))
+                .thenReturn(Mono.error(new NotFoundException("ALBUM_NOT_FOUND", "album not found")));
+
+        webTestClient.get()
+                .uri("/api/album/{albumId}", 999L)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("ALBUM_NOT_FOUND")
+                .jsonPath("$.code").isEqualTo("album not found");
+    }
 }
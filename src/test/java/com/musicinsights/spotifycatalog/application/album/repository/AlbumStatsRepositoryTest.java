@@ -1,6 +1,7 @@
 package com.musicinsights.spotifycatalog.application.album.repository;
 
 
+import com.musicinsights.spotifycatalog.application.album.dto.response.AlbumDetailResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumsResponse;
 import io.r2dbc.spi.Row;
@@ -15,10 +16,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.function.BiFunction;
 
 import static com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsSql.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -80,7 +84,7 @@ class AlbumStatsRepositoryTest {
 
         // when
         Flux<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> result =
-                repo.findArtistAlbumCounts(null, cursorAlbumCount, cursorArtistId, limit);
+                repo.findArtistAlbumCounts(null, cursorAlbumCount, cursorArtistId, limit, true);
 
         // then
         verify(db).sql(SQL_FIND_ALL);
@@ -136,7 +140,7 @@ class AlbumStatsRepositoryTest {
 
         // when
         Flux<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> result =
-                repo.findArtistAlbumCounts(year, cursorAlbumCount, cursorArtistId, limit);
+                repo.findArtistAlbumCounts(year, cursorAlbumCount, cursorArtistId, limit, true);
 
         // then
         verify(db).sql(SQL_FIND_BY_YEAR);
@@ -155,6 +159,55 @@ class AlbumStatsRepositoryTest {
                 .verifyComplete();
     }
 
+    /** 이름을 요청하지 않으면 artist JOIN 없는 SQL을 쓰고 artistName을 읽지 않는지 검증한다. */
+    @Test
+    @DisplayName("includeArtistName=false일 때 SQL_FIND_BY_YEAR_WITHOUT_NAME 사용 및 이름 미조회 검증")
+    void findArtistAlbumCounts_withoutName_skipsArtistJoin() {
+        // given
+        int year = 2020;
+        int limit = 2;
+
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+
+        @SuppressWarnings("unchecked")
+        RowsFetchSpec<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> fetch =
+                (RowsFetchSpec<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse>) mock(RowsFetchSpec.class);
+
+        when(db.sql(SQL_FIND_BY_YEAR_WITHOUT_NAME)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+
+        ArgumentCaptor<BiFunction<Row, RowMetadata, ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse>> mapperCaptor =
+                ArgumentCaptor.forClass((Class) BiFunction.class);
+
+        when(spec.map(mapperCaptor.capture())).thenReturn(fetch);
+
+        Row row = mock(Row.class);
+        when(fetch.all()).thenAnswer(inv -> {
+            when(row.get(eq("artistId"), eq(Number.class))).thenReturn(1L);
+            when(row.get(eq("albumCount"), eq(Number.class))).thenReturn(3L);
+            return Flux.just(mapperCaptor.getValue().apply(row, mock(RowMetadata.class)));
+        });
+
+        // when
+        Flux<ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse> result =
+                repo.findArtistAlbumCounts(year, Long.MAX_VALUE, 0L, limit, false);
+
+        // then
+        verify(db).sql(SQL_FIND_BY_YEAR_WITHOUT_NAME);
+        verify(db, never()).sql(SQL_FIND_BY_YEAR);
+        assertThat(SQL_FIND_BY_YEAR_WITHOUT_NAME).doesNotContain("JOIN artist");
+
+        StepVerifier.create(result)
+                .assertNext(item -> {
+                    assertThat(item.artistId()).isEqualTo(1L);
+                    assertThat(item.artistName()).isNull();
+                    assertThat(item.albumCount()).isEqualTo(3L);
+                })
+                .verifyComplete();
+
+        verify(row, never()).get(eq("artistName"), eq(String.class));
+    }
+
     /** year=null일 때 전체 앨범 수 집계 SQL을 사용하고 total 매핑이 올바른지 검증한다. */
     @Test
     @DisplayName("year=null일 때 SQL_COUNT_ALBUMS_ALL 사용 및 total 매핑 검증")
@@ -333,4 +386,211 @@ class AlbumStatsRepositoryTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    /** 통합 쿼리가 0행이면(아티스트 없음) empty, album 컬럼이 null인 1행이면 총 개수만 있는 빈 페이지인지 검증한다. */
+    @Test
+    @DisplayName("findArtistAlbumsWithTotal: 0행은 empty, null 앨범 행은 빈 페이지로 매핑 검증")
+    void findArtistAlbumsWithTotal_mapsMissingArtistAndEmptyPage() {
+        // given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+
+        @SuppressWarnings("unchecked")
+        RowsFetchSpec<Object> fetch = (RowsFetchSpec<Object>) mock(RowsFetchSpec.class);
+
+        when(db.sql(SQL_ARTIST_ALBUMS_WITH_TOTAL_BY_YEAR)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+
+        ArgumentCaptor<BiFunction<Row, RowMetadata, Object>> mapperCaptor =
+                ArgumentCaptor.forClass((Class) BiFunction.class);
+        when(spec.map(mapperCaptor.capture())).thenReturn((RowsFetchSpec) fetch);
+
+        when(fetch.all())
+                .thenReturn(Flux.empty())
+                .thenAnswer(inv -> {
+                    Row row = mock(Row.class);
+                    when(row.get(eq("total"), eq(Number.class))).thenReturn(0L);
+                    when(row.get(eq("albumId"), eq(Long.class))).thenReturn(null);
+                    return Flux.just(mapperCaptor.getValue().apply(row, mock(RowMetadata.class)));
+                });
+
+        // when / then: 아티스트 없음
+        StepVerifier.create(repo.findArtistAlbumsWithTotal(1L, 2020, null, null, 3))
+                .verifyComplete();
+
+        // when / then: 아티스트는 있지만 앨범 없음
+        StepVerifier.create(repo.findArtistAlbumsWithTotal(1L, 2020, null, null, 3))
+                .assertNext(page -> {
+                    assertThat(page.total()).isZero();
+                    assertThat(page.items()).isEmpty();
+                })
+                .verifyComplete();
+
+        verify(spec, times(2)).bind(0, 1L);
+        verify(spec, times(2)).bind(1, 2020);
+        verify(spec, times(2)).bind(4, 0L);
+        verify(spec, times(2)).bind(5, 3);
+        verify(spec, times(2)).bind(6, 1L);
+    }
+
+    /**
+     * 일괄 첫 페이지 조회가 IN 목록 자리표시자를 아티스트 수만큼 만들고
+     * (ids, year, limit, ids) 순서로 바인딩하며, 행을 아티스트별 페이지로 묶는지 검증한다.
+     */
+    @Test
+    @DisplayName("findArtistAlbumsFirstPages: IN 목록/바인딩 순서 및 아티스트별 그룹핑 검증")
+    void findArtistAlbumsFirstPages_bindsAndGroupsByArtist() {
+        // given
+        String expectedSql = SQL_ARTIST_ALBUMS_FIRST_PAGES_BY_YEAR.formatted("?, ?", "?, ?");
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+
+        @SuppressWarnings("unchecked")
+        RowsFetchSpec<Object> fetch = (RowsFetchSpec<Object>) mock(RowsFetchSpec.class);
+
+        when(db.sql(expectedSql)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+
+        ArgumentCaptor<BiFunction<Row, RowMetadata, Object>> mapperCaptor =
+                ArgumentCaptor.forClass((Class) BiFunction.class);
+        when(spec.map(mapperCaptor.capture())).thenReturn((RowsFetchSpec) fetch);
+
+        when(fetch.all()).thenAnswer(inv -> Flux.just(
+                mapperCaptor.getValue().apply(albumRow(1L, 2L, 10L, "A1"), mock(RowMetadata.class)),
+                mapperCaptor.getValue().apply(albumRow(1L, 2L, 11L, "A2"), mock(RowMetadata.class)),
+                mapperCaptor.getValue().apply(albumRow(2L, 0L, null, null), mock(RowMetadata.class))
+        ));
+
+        // when / then
+        StepVerifier.create(repo.findArtistAlbumsFirstPages(List.of(1L, 2L), 2020, 3))
+                .assertNext(pages -> {
+                    assertThat(pages).containsOnlyKeys(1L, 2L);
+                    assertThat(pages.get(1L).total()).isEqualTo(2L);
+                    assertThat(pages.get(1L).items())
+                            .extracting(ArtistAlbumsResponse.ArtistAlbumsItemResponse::albumId)
+                            .containsExactly(10L, 11L);
+                    assertThat(pages.get(2L).total()).isZero();
+                    assertThat(pages.get(2L).items()).isEmpty();
+                })
+                .verifyComplete();
+
+        verify(spec).bind(0, 1L);
+        verify(spec).bind(1, 2L);
+        verify(spec).bind(2, 2020);
+        verify(spec).bind(3, 3);
+        verify(spec).bind(4, 1L);
+        verify(spec).bind(5, 2L);
+    }
+
+    /**
+     * 앨범 상세 조회가 트랙 × 아티스트로 펼쳐진 행을 트랙별로 묶고,
+     * 오디오 특성이 없는 트랙은 audioFeature=null, 앨범 아티스트는 album_artist 행(part=1)에서만 모으는지 검증한다.
+     * 트랙 아티스트 리스트는 캐시에 보관되므로 불변이어야 한다.
+     */
+    @Test
+    @DisplayName("findAlbumDetail: 트랙별 그룹핑/오디오 특성/앨범 아티스트 검증")
+    void findAlbumDetail_groupsRowsByTrack() {
+        // given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+
+        @SuppressWarnings("unchecked")
+        RowsFetchSpec<Object> fetch = (RowsFetchSpec<Object>) mock(RowsFetchSpec.class);
+
+        when(db.sql(SQL_ALBUM_DETAIL)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+
+        ArgumentCaptor<BiFunction<Row, RowMetadata, Object>> mapperCaptor =
+                ArgumentCaptor.forClass((Class) BiFunction.class);
+        when(spec.map(mapperCaptor.capture())).thenReturn((RowsFetchSpec) fetch);
+
+        when(fetch.all()).thenAnswer(inv -> Flux.just(
+                mapperCaptor.getValue().apply(detailRow(10L, true, 2L, "B"), mock(RowMetadata.class)),
+                mapperCaptor.getValue().apply(detailRow(10L, true, 3L, "C"), mock(RowMetadata.class)),
+                mapperCaptor.getValue().apply(detailRow(11L, false, 2L, "B"), mock(RowMetadata.class)),
+                mapperCaptor.getValue().apply(albumArtistRow(2L, "B"), mock(RowMetadata.class))
+        ));
+
+        // when / then
+        StepVerifier.create(repo.findAlbumDetail(5L))
+                .assertNext(detail -> {
+                    assertThat(detail.albumId()).isEqualTo(5L);
+                    assertThat(detail.albumName()).isEqualTo("Album");
+                    assertThat(detail.releaseDate()).isEqualTo(LocalDate.of(2020, 3, 1));
+                    assertThat(detail.artists())
+                            .extracting(AlbumDetailResponse.AlbumDetailArtistResponse::artistId)
+                            .containsExactly(2L);
+                    assertThat(detail.tracks())
+                            .extracting(AlbumDetailResponse.AlbumDetailTrackResponse::trackId)
+                            .containsExactly(10L, 11L);
+                    assertThat(detail.tracks().get(0).artists()).hasSize(2);
+                    assertThat(detail.tracks().get(1).artists()).hasSize(1);
+                    assertThatThrownBy(() -> detail.tracks().get(0).artists().clear())
+                            .isInstanceOf(UnsupportedOperationException.class);
+                    assertThat(detail.tracks().get(0).audioFeature().tempo()).isEqualTo(120.0);
+                    assertThat(detail.tracks().get(1).audioFeature()).isNull();
+                })
+                .verifyComplete();
+
+        verify(spec).bind(0, 5L);
+        verify(spec).bind(1, 5L);
+    }
+
+    /** 앨범이 없으면(행 없음) empty를 반환하는지 검증한다. */
+    @Test
+    @DisplayName("findAlbumDetail: 앨범이 없으면 empty 반환 검증")
+    void findAlbumDetail_missingAlbum_returnsEmpty() {
+        // given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+
+        @SuppressWarnings("unchecked")
+        RowsFetchSpec<Object> fetch = (RowsFetchSpec<Object>) mock(RowsFetchSpec.class);
+
+        when(db.sql(SQL_ALBUM_DETAIL)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn((RowsFetchSpec) fetch);
+        when(fetch.all()).thenReturn(Flux.empty());
+
+        // when / then
+        StepVerifier.create(repo.findAlbumDetail(404L))
+                .verifyComplete();
+    }
+
+    private static Row detailRow(long trackId, boolean withFeature, long artistId, String artistName) {
+        Row row = mock(Row.class);
+        when(row.get(eq("part"), eq(Number.class))).thenReturn(0);
+        when(row.get(eq("albumId"), eq(Number.class))).thenReturn(5L);
+        when(row.get(eq("albumName"), eq(String.class))).thenReturn("Album");
+        when(row.get(eq("releaseDate"), eq(LocalDate.class))).thenReturn(LocalDate.of(2020, 3, 1));
+        when(row.get(eq("releaseYear"), eq(Number.class))).thenReturn(2020);
+        when(row.get(eq("trackId"), eq(Number.class))).thenReturn(trackId);
+        when(row.get(eq("title"), eq(String.class))).thenReturn("T" + trackId);
+        when(row.get(eq("explicit"), eq(Boolean.class))).thenReturn(false);
+        if (withFeature) {
+            when(row.get(eq("featureTrackId"), eq(Number.class))).thenReturn(trackId);
+            when(row.get(eq("tempo"), eq(Number.class))).thenReturn(120.0);
+        }
+        when(row.get(eq("artistId"), eq(Number.class))).thenReturn(artistId);
+        when(row.get(eq("artistName"), eq(String.class))).thenReturn(artistName);
+        return row;
+    }
+
+    private static Row albumArtistRow(long artistId, String artistName) {
+        Row row = mock(Row.class);
+        when(row.get(eq("part"), eq(Number.class))).thenReturn(1);
+        when(row.get(eq("albumId"), eq(Number.class))).thenReturn(5L);
+        when(row.get(eq("albumName"), eq(String.class))).thenReturn("Album");
+        when(row.get(eq("releaseDate"), eq(LocalDate.class))).thenReturn(LocalDate.of(2020, 3, 1));
+        when(row.get(eq("releaseYear"), eq(Number.class))).thenReturn(2020);
+        when(row.get(eq("artistId"), eq(Number.class))).thenReturn(artistId);
+        when(row.get(eq("artistName"), eq(String.class))).thenReturn(artistName);
+        return row;
+    }
+
+    private static Row albumRow(long artistId, long total, Long albumId, String albumName) {
+        Row row = mock(Row.class);
+        when(row.get(eq("artistId"), eq(Number.class))).thenReturn(artistId);
+        when(row.get(eq("total"), eq(Number.class))).thenReturn(total);
+        when(row.get(eq("albumId"), eq(Long.class))).thenReturn(albumId);
+        when(row.get(eq("albumName"), eq(String.class))).thenReturn(albumName);
+        when(row.get(eq("releaseYear"), eq(Integer.class))).thenReturn(albumId == null ? null : 2020);
+        return row;
+    }
+}
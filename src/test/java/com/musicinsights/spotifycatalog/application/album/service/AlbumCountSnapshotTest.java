@@ -0,0 +1,73 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AlbumCountSnapshot} 단위 테스트.
+ *
+ * <p>버전이 바뀔 때만 요약을 다시 읽는지, 연도/전체 앨범 수를 올바르게 돌려주는지 검증한다.</p>
+ */
+@DisplayName("album count snapshot 테스트")
+class AlbumCountSnapshotTest {
+
+    private AlbumStatsRepository repo;
+    private CatalogVersionService versions;
+    private AlbumCountSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        this.repo = mock(AlbumStatsRepository.class);
+        this.versions = mock(CatalogVersionService.class);
+        this.snapshot = new AlbumCountSnapshot(repo, versions, 5000L);
+    }
+
+    /** 로드 전에는 null을 반환해 호출 측이 COUNT 쿼리로 대체하게 한다. */
+    @Test
+    @DisplayName("로드 전에는 totalAlbums가 null을 반환한다")
+    void totalAlbums_beforeLoad_returnsNull() {
+        assertThat(snapshot.totalAlbums(2020)).isNull();
+        assertThat(snapshot.totalAlbums(null)).isNull();
+    }
+
+    /** 버전이 생기면 요약을 읽고, 같은 버전에서는 다시 읽지 않는다. */
+    @Test
+    @DisplayName("버전이 바뀔 때만 요약을 다시 읽고 연도/전체 앨범 수를 반환한다")
+    void refreshIfChanged_loadsOnlyOnVersionChange() {
+        // given
+        when(versions.currentVersion(AlbumCountSnapshot.VERSION_NAME)).thenReturn(Mono.just(3L));
+        when(repo.findAlbumCountsByYear()).thenReturn(Mono.just(Map.of(0, 5L, 2019, 10L, 2020, 20L)));
+
+        // when / then
+        StepVerifier.create(snapshot.refreshIfChanged()).expectNext(true).verifyComplete();
+        StepVerifier.create(snapshot.refreshIfChanged()).expectNext(false).verifyComplete();
+
+        assertThat(snapshot.totalAlbums(2019)).isEqualTo(10L);
+        assertThat(snapshot.totalAlbums(1999)).isEqualTo(0L);
+        assertThat(snapshot.totalAlbums(null)).isEqualTo(35L);
+
+        verify(repo, times(1)).findAlbumCountsByYear();
+    }
+
+    /** 아직 rebuild 기록이 없으면(버전 0) 로드하지 않는다. */
+    @Test
+    @DisplayName("버전이 0이면 요약을 읽지 않는다")
+    void refreshIfChanged_versionZero_doesNotLoad() {
+        when(versions.currentVersion(AlbumCountSnapshot.VERSION_NAME)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(snapshot.refreshIfChanged()).expectNext(false).verifyComplete();
+
+        verifyNoInteractions(repo);
+        assertThat(snapshot.totalAlbums(null)).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AlbumStatsResponseCache} 단위 테스트.
+ *
+ * <p>같은 카탈로그 버전에서는 loader를 한 번만 실행하고, 버전이 바뀌면 다시 읽는지 검증한다.
+ * 버전은 의존 모델(스냅샷/읽기 모델)이 새 집계를 읽은 뒤에만 올라가는지도 확인한다.</p>
+ */
+@DisplayName("album stats response cache 테스트")
+class AlbumStatsResponseCacheTest {
+
+    private static final AlbumStatsResponseCache.Key KEY =
+            new AlbumStatsResponseCache.Key("stats", null, 2020, null, 20);
+
+    private CatalogVersionService versions;
+    private AlbumCountSnapshot snapshot;
+    private ArtistYearStatsReadModel readModel;
+    private SimpleMeterRegistry registry;
+    private AlbumStatsResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.versions = mock(CatalogVersionService.class);
+        this.snapshot = mock(AlbumCountSnapshot.class);
+        this.readModel = mock(ArtistYearStatsReadModel.class);
+        this.registry = new SimpleMeterRegistry();
+        this.cache = new AlbumStatsResponseCache(versions, snapshot, readModel, registry, 100, 5000L);
+
+        when(snapshot.refreshIfChanged()).thenReturn(Mono.just(true));
+        when(readModel.refreshIfChanged()).thenReturn(Mono.just(true));
+    }
+
+    /** 버전 확인 전에는 캐시하지 않는다. */
+    @Test
+    @DisplayName("버전 0에서는 매번 loader를 실행한다")
+    void getOrLoad_beforeVersion_alwaysLoads() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(1).verifyComplete();
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(2).verifyComplete();
+    }
+
+    /** 같은 버전에서는 hit, 버전이 바뀌면 miss 후 다시 읽는다. */
+    @Test
+    @DisplayName("같은 버전은 캐시를 쓰고 버전이 바뀌면 다시 읽는다")
+    void getOrLoad_invalidatesOnVersionChange() {
+        AtomicInteger calls = new AtomicInteger();
+        when(versions.currentVersion(AlbumStatsResponseCache.VERSION_NAME)).thenReturn(Mono.just(1L), Mono.just(2L));
+
+        StepVerifier.create(cache.refreshVersion()).expectNext(true).verifyComplete();
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(1).verifyComplete();
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(1).verifyComplete();
+
+        StepVerifier.create(cache.refreshVersion()).expectNext(true).verifyComplete();
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(2).verifyComplete();
+
+        assertThat(registry.get("album.stats.response_cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("album.stats.response_cache").tag("result", "miss").counter().count()).isEqualTo(2.0);
+        verify(snapshot, times(2)).refreshIfChanged();
+        verify(readModel, times(2)).refreshIfChanged();
+    }
+
+    /** 의존 모델 갱신이 실패하면 버전을 올리지 않아, 이전 집계로 만든 응답이 새 버전으로 저장되지 않는다. */
+    @Test
+    @DisplayName("모델 갱신이 실패하면 캐시 버전을 올리지 않는다")
+    void refreshVersion_modelRefreshFails_keepsVersion() {
+        AtomicInteger calls = new AtomicInteger();
+        when(versions.currentVersion(AlbumStatsResponseCache.VERSION_NAME)).thenReturn(Mono.just(1L), Mono.just(2L));
+
+        StepVerifier.create(cache.refreshVersion()).expectNext(true).verifyComplete();
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(1).verifyComplete();
+
+        when(readModel.refreshIfChanged()).thenReturn(Mono.error(new IllegalStateException("db down")));
+        StepVerifier.create(cache.refreshVersion()).verifyError(IllegalStateException.class);
+
+        assertThat(cache.currentVersion()).isEqualTo(1L);
+        StepVerifier.create(cache.getOrLoad(KEY, () -> Mono.fromCallable(calls::incrementAndGet))).expectNext(1).verifyComplete();
+    }
+}
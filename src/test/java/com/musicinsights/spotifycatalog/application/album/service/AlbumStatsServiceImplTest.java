@@ -1,11 +1,17 @@
 package com.musicinsights.spotifycatalog.application.album.service;
 
+import com.musicinsights.spotifycatalog.application.album.dto.response.AlbumDetailResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
 import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumsResponse;
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistRankResponse;
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistYearHistoryResponse;
 import com.musicinsights.spotifycatalog.application.common.pagination.KeysetPageAssembler;
 import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.album.repository.ArtistAlbumsPageRow;
 import com.musicinsights.spotifycatalog.application.common.error.NotFoundException;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
 import com.musicinsights.spotifycatalog.application.common.pagination.CursorCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +19,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -23,12 +32,54 @@ import static org.mockito.Mockito.*;
 class AlbumStatsServiceImplTest {
 
     private AlbumStatsRepository repo;
+    private AlbumCountSnapshot snapshot;
+    private TopArtistYearHistoryCache historyCache;
+    private ArtistYearStatsReadModel readModel;
+    private CatalogVersionService versions;
+    private AlbumStatsResponseCache responseCache;
     private AlbumStatsServiceImpl service;
 
     @BeforeEach
     void setUp() {
         this.repo = mock(AlbumStatsRepository.class);
-        this.service = new AlbumStatsServiceImpl(repo);
+        this.snapshot = mock(AlbumCountSnapshot.class);
+        this.historyCache = mock(TopArtistYearHistoryCache.class);
+        this.readModel = mock(ArtistYearStatsReadModel.class);
+        this.versions = mock(CatalogVersionService.class);
+        // 버전 확인 전(버전 0) 응답 캐시는 항상 loader를 실행한다
+        this.responseCache = new AlbumStatsResponseCache(
+                versions, snapshot, readModel, new SimpleMeterRegistry(), 100, 5000L);
+        // 창 0: 모으지 않고 repo.existsArtist로 바로 확인
+        ArtistLookupLoader artistLookupLoader = new ArtistLookupLoader(repo, new SimpleMeterRegistry(), 0, 100);
+        // prefetch 꺼짐: 요청마다 바로 조회
+        ArtistAlbumStatsPrefetcher prefetcher = new ArtistAlbumStatsPrefetcher(new SimpleMeterRegistry(), false, 30_000L, 2, 100);
+        this.service = new AlbumStatsServiceImpl(
+                repo, snapshot, historyCache, readModel, responseCache, artistLookupLoader, prefetcher, new SimpleMeterRegistry());
+
+        // 기본은 캐시/읽기 모델 미적재 (mock의 List 기본값은 빈 리스트라 null로 명시)
+        when(historyCache.find(anyLong())).thenReturn(null);
+        when(readModel.page(anyInt(), anyLong(), anyLong(), anyInt())).thenReturn(null);
+    }
+
+    /** 스냅샷에 연도별 앨범 수가 있으면 COUNT 쿼리 없이 그 값을 totalAlbums로 쓰는지 검증한다. */
+    @Test
+    @DisplayName("스냅샷이 있으면 countAlbums를 호출하지 않고 스냅샷 값을 사용하는지 검증")
+    void albumStats_snapshotHit_skipsCountQuery() {
+        // given
+        Integer year = 2019;
+        int size = 2;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+
+        when(snapshot.totalAlbums(year)).thenReturn(1234L);
+        when(repo.findArtistAlbumCounts(year, Long.MAX_VALUE, 0L, fetchSize, true))
+                .thenReturn(Flux.just(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 10L)));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumStats(year, null, size, true))
+                .assertNext(res -> assertThat(res.totalAlbums()).isEqualTo(1234L))
+                .verifyComplete();
+
+        verify(repo, never()).countAlbums(any());
     }
 
     /** cursor가 없을 때 기본 커서(Long.MAX_VALUE/0)로 keyset 조회하는지 검증한다. */
@@ -43,7 +94,7 @@ class AlbumStatsServiceImplTest {
         int fetchSize = KeysetPageAssembler.fetchSize(size);
 
         when(repo.countAlbums(year)).thenReturn(Mono.just(50L));
-        when(repo.findArtistAlbumCounts(year, Long.MAX_VALUE, 0L, fetchSize))
+        when(repo.findArtistAlbumCounts(year, Long.MAX_VALUE, 0L, fetchSize, true))
                 .thenReturn(Flux.just(
                         new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 10L),
                         new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 9L)
@@ -51,7 +102,7 @@ class AlbumStatsServiceImplTest {
 
         // when
         Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> mono =
-                service.getArtistAlbumStats(year, cursor, size);
+                service.getArtistAlbumStats(year, cursor, size, true);
 
         // then
         StepVerifier.create(mono)
@@ -64,7 +115,7 @@ class AlbumStatsServiceImplTest {
                 .verifyComplete();
 
         verify(repo).countAlbums(year);
-        verify(repo).findArtistAlbumCounts(year, Long.MAX_VALUE, 0L, fetchSize);
+        verify(repo).findArtistAlbumCounts(year, Long.MAX_VALUE, 0L, fetchSize, true);
         verifyNoMoreInteractions(repo);
     }
 
@@ -77,18 +128,18 @@ class AlbumStatsServiceImplTest {
         int size = 3;
         int fetchSize = KeysetPageAssembler.fetchSize(size);
 
-        var decoded = new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(10L, 7L);
+        var decoded = new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(10L, 7L, null, null);
         String cursor = CursorCodec.encode(decoded);
 
         when(repo.countAlbums(year)).thenReturn(Mono.just(123L));
-        when(repo.findArtistAlbumCounts(year, 10L, 7L, fetchSize))
+        when(repo.findArtistAlbumCounts(year, 10L, 7L, fetchSize, true))
                 .thenReturn(Flux.just(
                         new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(7L, "X", 10L)
                 ));
 
         // when
         Mono<ArtistAlbumStatsResponse.ArtistAlbumStatsResultResponse> mono =
-                service.getArtistAlbumStats(year, cursor, size);
+                service.getArtistAlbumStats(year, cursor, size, true);
 
         // then
         StepVerifier.create(mono)
@@ -100,10 +151,43 @@ class AlbumStatsServiceImplTest {
                 .verifyComplete();
 
         verify(repo).countAlbums(year);
-        verify(repo).findArtistAlbumCounts(year, 10L, 7L, fetchSize);
+        verify(repo).findArtistAlbumCounts(year, 10L, 7L, fetchSize, true);
         verifyNoMoreInteractions(repo);
     }
 
+    /** 앨범 상세는 저장소의 단일 조회 결과를 그대로 반환하는지 검증한다. */
+    @Test
+    @DisplayName("앨범 상세 조회 시 findAlbumDetail 결과를 반환하는지 검증")
+    void albumDetail_returnsRepositoryResult() {
+        // given
+        var detail = new AlbumDetailResponse.AlbumDetailResultResponse(5L, "Album", null, null, List.of(), List.of());
+        when(repo.findAlbumDetail(5L)).thenReturn(Mono.just(detail));
+
+        // when / then
+        StepVerifier.create(service.getAlbumDetail(5L))
+                .expectNext(detail)
+                .verifyComplete();
+
+        verify(repo).findAlbumDetail(5L);
+        verifyNoMoreInteractions(repo);
+    }
+
+    /** 앨범이 없으면 {@link NotFoundException}(ALBUM_NOT_FOUND)이 발생하는지 검증한다. */
+    @Test
+    @DisplayName("앨범이 존재하지 않으면 NotFoundException 발생 검증")
+    void albumDetail_albumMissing_throwsNotFound() {
+        // given
+        when(repo.findAlbumDetail(404L)).thenReturn(Mono.empty());
+
+        // when / then
+        StepVerifier.create(service.getAlbumDetail(404L))
+                .expectErrorSatisfies(err -> {
+                    assertThat(err).isInstanceOf(NotFoundException.class);
+                    assertThat(err.getMessage()).isEqualTo("ALBUM_NOT_FOUND");
+                })
+                .verify();
+    }
+
     /** 존재하지 않는 artistId 요청 시 {@link NotFoundException}이 발생하는지 검증한다. */
     @Test
     @DisplayName("아티스트가 존재하지 않으면 NotFoundException 발생 검증")
@@ -114,12 +198,9 @@ class AlbumStatsServiceImplTest {
         String cursor = null;
         int size = 2;
 
-        // requireArtistExists에서 false
-        when(repo.existsArtist(artistId)).thenReturn(Mono.just(false));
-
-        when(repo.countArtistAlbums(eq(artistId), eq(year))).thenReturn(Mono.just(0L));
-        when(repo.findArtistAlbumsKeyset(eq(artistId), eq(year), any(), any(), anyInt()))
-                .thenReturn(Flux.empty());
+        // 통합 쿼리가 0행이면 아티스트 없음
+        when(repo.findArtistAlbumsWithTotal(eq(artistId), eq(year), any(), any(), anyInt()))
+                .thenReturn(Mono.empty());
 
         // when
         Mono<ArtistAlbumsResponse.ArtistAlbumsResultResponse> mono =
@@ -134,7 +215,8 @@ class AlbumStatsServiceImplTest {
                 .verify();
 
 
-        verify(repo).existsArtist(artistId);
+        verify(repo).findArtistAlbumsWithTotal(eq(artistId), eq(year), any(), any(), anyInt());
+        verify(repo, never()).existsArtist(any());
     }
 
     /** year 조건이 없을 때 cursor의 releaseYear/albumId가 그대로 전달되는지 검증한다. */
@@ -147,15 +229,14 @@ class AlbumStatsServiceImplTest {
         int size = 2;
         int fetchSize = KeysetPageAssembler.fetchSize(size);
 
-        var decoded = new ArtistAlbumsResponse.ArtistAlbumsCursor(2024, 100L);
+        var decoded = new ArtistAlbumsResponse.ArtistAlbumsCursor(2024, 100L, null, null);
         String cursor = CursorCodec.encode(decoded);
 
-        when(repo.existsArtist(artistId)).thenReturn(Mono.just(true));
-        when(repo.countArtistAlbums(artistId, year)).thenReturn(Mono.just(3L));
-        when(repo.findArtistAlbumsKeyset(artistId, year, 2024, 100L, fetchSize))
-                .thenReturn(Flux.just(
-                        new ArtistAlbumsResponse.ArtistAlbumsItemResponse(200L, "Album", 2020)
-                ));
+        when(repo.findArtistAlbumsWithTotal(artistId, year, 2024, 100L, fetchSize))
+                .thenReturn(Mono.just(new ArtistAlbumsPageRow(
+                        3L,
+                        List.of(new ArtistAlbumsResponse.ArtistAlbumsItemResponse(200L, "Album", 2020))
+                )));
 
         // when
         Mono<ArtistAlbumsResponse.ArtistAlbumsResultResponse> mono =
@@ -171,9 +252,424 @@ class AlbumStatsServiceImplTest {
                 })
                 .verifyComplete();
 
-        verify(repo).existsArtist(artistId);
-        verify(repo).countArtistAlbums(artistId, year);
-        verify(repo).findArtistAlbumsKeyset(artistId, year, 2024, 100L, fetchSize);
+        verify(repo).findArtistAlbumsWithTotal(artistId, year, 2024, 100L, fetchSize);
+        verifyNoMoreInteractions(repo);
+    }
+
+    /** page/size가 row_no 구간 [(page-1)*size+1, page*size]로 변환되는지 검증한다. */
+    @Test
+    @DisplayName("순위 페이지 조회 시 page/size가 row_no 구간으로 변환되는지 검증")
+    void rankPage_convertsPageToRowRange() {
+        // given
+        var item = new ArtistRankResponse.ArtistRankItemResponse(4001L, 120L, 9L, "I", 2L);
+        when(repo.findRankRange(2020, 4001L, 4020L)).thenReturn(Flux.just(item));
+
+        // when / then
+        StepVerifier.create(service.getArtistRankPage(2020, 201L, 20))
+                .assertNext(res -> {
+                    assertThat(res.year()).isEqualTo(2020);
+                    assertThat(res.page()).isEqualTo(201L);
+                    assertThat(res.items()).containsExactly(item);
+                })
+                .verifyComplete();
+
+        verify(repo).findRankRange(2020, 4001L, 4020L);
+        verifyNoMoreInteractions(repo);
+    }
+
+    /** 전체 기준 순위가 없으면 total은 null, 연도별 순위는 그대로 반환하는지 검증한다. */
+    @Test
+    @DisplayName("아티스트 순위 조회 시 전체 순위가 없으면 total=null 반환 검증")
+    void artistRanks_totalMissing_returnsNullTotal() {
+        // given
+        var yearRank = new ArtistRankResponse.ArtistYearRankResponse(2024, 1L, 7L, 30L);
+        when(repo.existsArtist(1L)).thenReturn(Mono.just(true));
+        when(repo.findArtistTotalRank(1L)).thenReturn(Mono.empty());
+        when(repo.findArtistYearRanks(1L)).thenReturn(Flux.just(yearRank));
+
+        // when / then
+        StepVerifier.create(service.getArtistRanks(1L))
+                .assertNext(res -> {
+                    assertThat(res.artistId()).isEqualTo(1L);
+                    assertThat(res.total()).isNull();
+                    assertThat(res.years()).containsExactly(yearRank);
+                })
+                .verifyComplete();
+    }
+
+    /** 상위 아티스트 캐시에 있으면 DB 조회 없이 이력과 합계를 반환하는지 검증한다. */
+    @Test
+    @DisplayName("연도별 이력 조회 시 캐시 적중이면 DB를 호출하지 않는지 검증")
+    void yearHistory_cacheHit_skipsRepo() {
+        // given
+        when(historyCache.find(1L)).thenReturn(List.of(
+                new ArtistYearHistoryResponse.ArtistYearCountResponse(2019, 2L),
+                new ArtistYearHistoryResponse.ArtistYearCountResponse(2020, 3L)
+        ));
+
+        // when / then
+        StepVerifier.create(service.getArtistYearHistory(1L))
+                .assertNext(res -> {
+                    assertThat(res.totalAlbums()).isEqualTo(5L);
+                    assertThat(res.years()).hasSize(2);
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(repo);
+    }
+
+    /** 캐시에 없으면 아티스트 존재 확인 후 DB에서 이력을 조회하는지 검증한다. */
+    @Test
+    @DisplayName("연도별 이력 조회 시 캐시 미스면 존재 확인 후 DB 조회 검증")
+    void yearHistory_cacheMiss_queriesRepo() {
+        // given
+        when(historyCache.find(2L)).thenReturn(null);
+        when(repo.existsArtist(2L)).thenReturn(Mono.just(true));
+        when(repo.findArtistYearHistory(2L)).thenReturn(Flux.just(
+                new ArtistYearHistoryResponse.ArtistYearCountResponse(2021, 1L)
+        ));
+
+        // when / then
+        StepVerifier.create(service.getArtistYearHistory(2L))
+                .assertNext(res -> {
+                    assertThat(res.artistId()).isEqualTo(2L);
+                    assertThat(res.totalAlbums()).isEqualTo(1L);
+                })
+                .verifyComplete();
+
+        verify(repo).existsArtist(2L);
+        verify(repo).findArtistYearHistory(2L);
+    }
+
+    /** 읽기 모델이 로드되어 있으면 연도 지정 통계 페이지를 DB 없이 만드는지 검증한다. */
+    @Test
+    @DisplayName("연도 지정 통계 조회 시 읽기 모델이 있으면 페이지 쿼리를 호출하지 않는지 검증")
+    void albumStats_readModelHit_skipsPageQuery() {
+        // given
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        when(snapshot.totalAlbums(2020)).thenReturn(7L);
+        when(readModel.page(2020, Long.MAX_VALUE, 0L, fetchSize)).thenReturn(List.of(
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 3L),
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 2L)
+        ));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumStats(2020, null, size, true))
+                .assertNext(res -> {
+                    assertThat(res.totalAlbums()).isEqualTo(7L);
+                    assertThat(res.page().items()).hasSize(1);
+                    assertThat(res.page().hasNext()).isTrue();
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(repo);
+    }
+
+    /** 이름을 요청하지 않으면 읽기 모델 항목에서도 이름을 빼는지 검증한다. */
+    @Test
+    @DisplayName("이름 제외 통계 조회 시 읽기 모델 항목의 artistName을 비우는지 검증")
+    void albumStats_withoutName_stripsReadModelNames() {
+        // given
+        int size = 2;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        when(snapshot.totalAlbums(2020)).thenReturn(5L);
+        when(readModel.page(2020, Long.MAX_VALUE, 0L, fetchSize)).thenReturn(List.of(
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 3L),
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 2L)
+        ));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumStats(2020, null, size, false))
+                .assertNext(res -> assertThat(res.page().items()).containsExactly(
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, null, 3L),
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, null, 2L)
+                ))
+                .verifyComplete();
+
+        verifyNoInteractions(repo);
+    }
+
+    /**
+     * 스냅샷이 없을 때 같은 버전 커서에 총 개수가 실려 있으면 COUNT 없이 그 값을 쓰고,
+     * 다음 커서에도 현재 버전과 함께 다시 싣는지 검증한다.
+     */
+    @Test
+    @DisplayName("후속 페이지는 같은 버전 커서의 총 개수를 사용하고 COUNT 쿼리를 생략하는지 검증")
+    void albumStats_cursorWithTotal_skipsCount() {
+        // given
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        useCatalogVersion(7L);
+        String cursor = CursorCodec.encode(new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(10L, 7L, 99L, 7L));
+
+        when(repo.findArtistAlbumCounts(null, 10L, 7L, fetchSize, true))
+                .thenReturn(Flux.just(
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(8L, "H", 9L),
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(9L, "I", 9L)
+                ));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumStats(null, cursor, size, true))
+                .assertNext(res -> {
+                    assertThat(res.totalAlbums()).isEqualTo(99L);
+                    var next = CursorCodec.decode(res.page().nextCursor(), ArtistAlbumStatsResponse.ArtistAlbumStatsCursor.class);
+                    assertThat(next.total()).isEqualTo(99L);
+                    assertThat(next.version()).isEqualTo(7L);
+                })
+                .verifyComplete();
+
+        verify(repo, never()).countAlbums(any());
+    }
+
+    /** 버전이 다른 커서의 총 개수는 쓰지 않고, 스냅샷이 없으면 다시 세는지 검증한다. */
+    @Test
+    @DisplayName("버전이 다른 통계 커서는 총 개수를 다시 계산하는지 검증")
+    void albumStats_cursorFromOldVersion_recountsTotal() {
+        // given: 버전 6에서 만든 커서(총 99), 현재 버전 7
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        useCatalogVersion(7L);
+        String cursor = CursorCodec.encode(new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(10L, 7L, 99L, 6L));
+
+        when(repo.countAlbums(null)).thenReturn(Mono.just(120L));
+        when(repo.findArtistAlbumCounts(null, 10L, 7L, fetchSize, true))
+                .thenReturn(Flux.just(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(8L, "H", 9L)));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumStats(null, cursor, size, true))
+                .assertNext(res -> assertThat(res.totalAlbums()).isEqualTo(120L))
+                .verifyComplete();
+
+        verify(repo).countAlbums(null);
+    }
+
+    /** 스냅샷에 총 개수가 있으면 커서에 실린 값보다 스냅샷을 우선하는지 검증한다. */
+    @Test
+    @DisplayName("스냅샷이 있으면 커서의 총 개수보다 스냅샷을 사용하는지 검증")
+    void albumStats_snapshotPreferredOverCursorTotal() {
+        // given: 같은 버전 커서라도 클라이언트가 고친 총 개수(1)는 쓰지 않는다
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        useCatalogVersion(7L);
+        String cursor = CursorCodec.encode(new ArtistAlbumStatsResponse.ArtistAlbumStatsCursor(10L, 7L, 1L, 7L));
+
+        when(snapshot.totalAlbums(null)).thenReturn(50L);
+        when(repo.findArtistAlbumCounts(null, 10L, 7L, fetchSize, true))
+                .thenReturn(Flux.just(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(8L, "H", 9L)));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumStats(null, cursor, size, true))
+                .assertNext(res -> assertThat(res.totalAlbums()).isEqualTo(50L))
+                .verifyComplete();
+
+        verify(repo, never()).countAlbums(any());
+    }
+
+    /** prefetch가 켜져 있으면 다음 페이지를 미리 읽고, 이어지는 nextCursor 요청은 다시 조회하지 않는지 검증한다. */
+    @Test
+    @DisplayName("prefetch 사용 시 nextCursor 요청은 미리 읽은 페이지로 응답하는지 검증")
+    void albumStats_prefetchEnabled_servesNextPageFromMemory() {
+        // given
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AlbumStatsServiceImpl prefetching = new AlbumStatsServiceImpl(
+                repo, snapshot, historyCache, readModel,
+                new AlbumStatsResponseCache(mock(CatalogVersionService.class), snapshot, readModel, registry, 100, 5000L),
+                new ArtistLookupLoader(repo, registry, 0, 100),
+                new ArtistAlbumStatsPrefetcher(registry, true, 30_000L, 2, 100),
+                registry
+        );
+
+        when(snapshot.totalAlbums(null)).thenReturn(10L);
+        when(repo.findArtistAlbumCounts(null, Long.MAX_VALUE, 0L, fetchSize, true))
+                .thenReturn(Flux.just(
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 5L),
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 4L)
+                ));
+        when(repo.findArtistAlbumCounts(null, 5L, 1L, fetchSize, true))
+                .thenReturn(Flux.just(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 4L)));
+
+        // when: 첫 페이지 응답 후 다음 페이지가 보관될 때까지 대기
+        String nextCursor = prefetching.getArtistAlbumStats(null, null, size, true).block().page().nextCursor();
+        verify(repo, timeout(1000)).findArtistAlbumCounts(null, 5L, 1L, fetchSize, true);
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (registry.get("keyset_prefetch.loads").tag("result", "parked").counter().count() < 1
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        // then
+        StepVerifier.create(prefetching.getArtistAlbumStats(null, nextCursor, size, true))
+                .assertNext(res -> {
+                    assertThat(res.page().items()).extracting(ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse::artistId)
+                            .containsExactly(2L);
+                    assertThat(res.page().hasNext()).isFalse();
+                })
+                .verifyComplete();
+
+        verify(repo, times(1)).findArtistAlbumCounts(null, 5L, 1L, fetchSize, true);
+        assertThat(registry.get("keyset_prefetch.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    /** 카탈로그 버전이 바뀌면 이전 버전에서 미리 읽은 페이지를 쓰지 않고 다시 조회하는지 검증한다. */
+    @Test
+    @DisplayName("버전이 바뀌면 이전 버전 prefetch 페이지를 쓰지 않는지 검증")
+    void albumStats_prefetchEnabled_versionChange_ignoresParkedPage() {
+        // given
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CatalogVersionService versions = mock(CatalogVersionService.class);
+        AlbumStatsResponseCache responseCache =
+                new AlbumStatsResponseCache(versions, snapshot, readModel, registry, 100, 5000L);
+        AlbumStatsServiceImpl prefetching = new AlbumStatsServiceImpl(
+                repo, snapshot, historyCache, readModel,
+                responseCache,
+                new ArtistLookupLoader(repo, registry, 0, 100),
+                new ArtistAlbumStatsPrefetcher(registry, true, 30_000L, 2, 100),
+                registry
+        );
+
+        when(versions.currentVersion(AlbumStatsResponseCache.VERSION_NAME)).thenReturn(Mono.just(1L), Mono.just(2L));
+        when(snapshot.refreshIfChanged()).thenReturn(Mono.just(false));
+        when(readModel.refreshIfChanged()).thenReturn(Mono.just(false));
+        when(snapshot.totalAlbums(null)).thenReturn(10L);
+        when(repo.findArtistAlbumCounts(null, Long.MAX_VALUE, 0L, fetchSize, true))
+                .thenReturn(Flux.just(
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 5L),
+                        new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 4L)
+                ));
+        when(repo.findArtistAlbumCounts(null, 5L, 1L, fetchSize, true))
+                .thenReturn(Flux.just(new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 4L)));
+
+        responseCache.refreshVersion().block();
+        String nextCursor = prefetching.getArtistAlbumStats(null, null, size, true).block().page().nextCursor();
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (registry.get("keyset_prefetch.loads").tag("result", "parked").counter().count() < 1
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        // when: 버전 1 → 2
+        responseCache.refreshVersion().block();
+
+        // then: 보관된 페이지 대신 다시 조회
+        StepVerifier.create(prefetching.getArtistAlbumStats(null, nextCursor, size, true))
+                .assertNext(res -> assertThat(res.page().items()).hasSize(1))
+                .verifyComplete();
+
+        verify(repo, times(2)).findArtistAlbumCounts(null, 5L, 1L, fetchSize, true);
+        assertThat(registry.get("keyset_prefetch.requests").tag("result", "hit").counter().count()).isZero();
+    }
+
+    /** 아티스트 앨범 후속 페이지는 존재 확인/COUNT 없이 페이지 쿼리 하나만 실행하는지 검증한다. */
+    @Test
+    @DisplayName("아티스트 앨범 후속 페이지는 페이지 쿼리만 실행하는지 검증")
+    void artistAlbums_cursorWithTotal_runsSingleQuery() {
+        // given: 커서의 버전이 현재 카탈로그 버전과 같음
+        int size = 2;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        useCatalogVersion(7L);
+        String cursor = CursorCodec.encode(new ArtistAlbumsResponse.ArtistAlbumsCursor(2024, 100L, 40L, 7L));
+
+        when(repo.findArtistAlbumsKeyset(1L, null, 2024, 100L, fetchSize))
+                .thenReturn(Flux.just(new ArtistAlbumsResponse.ArtistAlbumsItemResponse(101L, "A", 2024)));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbums(1L, null, cursor, size))
+                .assertNext(res -> assertThat(res.totalAlbums()).isEqualTo(40L))
+                .verifyComplete();
+
+        verify(repo).findArtistAlbumsKeyset(1L, null, 2024, 100L, fetchSize);
         verifyNoMoreInteractions(repo);
     }
+
+    /** 커서의 버전이 현재 카탈로그 버전과 다르면 커서의 총 개수를 쓰지 않고 다시 계산하는지 검증한다. */
+    @Test
+    @DisplayName("버전이 다른 커서는 총 개수를 다시 계산하는지 검증")
+    void artistAlbums_cursorFromOldVersion_recountsTotal() {
+        // given: 버전 6에서 만든 커서(총 40), 현재 버전 7
+        int size = 2;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+        useCatalogVersion(7L);
+        String cursor = CursorCodec.encode(new ArtistAlbumsResponse.ArtistAlbumsCursor(2024, 100L, 40L, 6L));
+
+        when(repo.findArtistAlbumsWithTotal(1L, null, 2024, 100L, fetchSize))
+                .thenReturn(Mono.just(new ArtistAlbumsPageRow(
+                        41L,
+                        List.of(
+                                new ArtistAlbumsResponse.ArtistAlbumsItemResponse(101L, "A", 2024),
+                                new ArtistAlbumsResponse.ArtistAlbumsItemResponse(102L, "B", 2023),
+                                new ArtistAlbumsResponse.ArtistAlbumsItemResponse(103L, "C", 2022)
+                        )
+                )));
+
+        // when / then: 다시 계산한 총 개수와 현재 버전이 다음 커서에 실린다
+        StepVerifier.create(service.getArtistAlbums(1L, null, cursor, size))
+                .assertNext(res -> {
+                    assertThat(res.totalAlbums()).isEqualTo(41L);
+                    assertThat(CursorCodec.decode(res.page().nextCursor(), ArtistAlbumsResponse.ArtistAlbumsCursor.class))
+                            .isEqualTo(new ArtistAlbumsResponse.ArtistAlbumsCursor(2023, 102L, 41L, 7L));
+                })
+                .verifyComplete();
+
+        verify(repo, never()).findArtistAlbumsKeyset(any(), any(), any(), any(), anyInt());
+    }
+
+    /**
+     * 일괄 조회가 중복 ID를 한 번만 조회하고, 요청 순서대로 아티스트별 페이지를 만들며
+     * 없는 아티스트는 missingArtistIds로 돌려주는지 검증한다.
+     * 다음 페이지 커서는 단건 조회와 같은 형식(총 개수 포함)이어야 한다.
+     */
+    @Test
+    @DisplayName("아티스트 일괄 조회 시 중복 제거, 요청 순서 유지, 없는 아티스트 분리, 단건 형식 커서 검증")
+    void artistAlbumsBatch_buildsPagesInRequestOrder() {
+        // given
+        int size = 1;
+        int fetchSize = KeysetPageAssembler.fetchSize(size);
+
+        when(repo.findArtistAlbumsFirstPages(List.of(2L, 1L, 9L), null, fetchSize))
+                .thenReturn(Mono.just(Map.of(
+                        1L, new ArtistAlbumsPageRow(0L, List.of()),
+                        2L, new ArtistAlbumsPageRow(5L, List.of(
+                                new ArtistAlbumsResponse.ArtistAlbumsItemResponse(300L, "New", 2021),
+                                new ArtistAlbumsResponse.ArtistAlbumsItemResponse(200L, "Old", 2019)
+                        ))
+                )));
+
+        // when / then
+        StepVerifier.create(service.getArtistAlbumsBatch(List.of(2L, 1L, 2L, 9L), null, size))
+                .assertNext(res -> {
+                    assertThat(res.year()).isNull();
+                    assertThat(res.missingArtistIds()).containsExactly(9L);
+                    assertThat(res.artists()).extracting(ArtistAlbumsResponse.ArtistAlbumsResultResponse::artistId)
+                            .containsExactly(2L, 1L);
+
+                    var first = res.artists().get(0);
+                    assertThat(first.totalAlbums()).isEqualTo(5L);
+                    assertThat(first.page().items()).hasSize(1);
+                    assertThat(first.page().hasNext()).isTrue();
+                    assertThat(CursorCodec.decode(first.page().nextCursor(), ArtistAlbumsResponse.ArtistAlbumsCursor.class))
+                            .isEqualTo(new ArtistAlbumsResponse.ArtistAlbumsCursor(2021, 300L, 5L, 0L));
+
+                    var empty = res.artists().get(1);
+                    assertThat(empty.totalAlbums()).isZero();
+                    assertThat(empty.page().items()).isEmpty();
+                    assertThat(empty.page().hasNext()).isFalse();
+                })
+                .verifyComplete();
+
+        verify(repo).findArtistAlbumsFirstPages(List.of(2L, 1L, 9L), null, fetchSize);
+        verifyNoMoreInteractions(repo);
+    }
+
+    /** 응답 캐시(=ETag/커서 기준)의 카탈로그 버전을 지정한 값으로 올린다. */
+    private void useCatalogVersion(long version) {
+        when(versions.currentVersion(AlbumStatsResponseCache.VERSION_NAME)).thenReturn(Mono.just(version));
+        when(snapshot.refreshIfChanged()).thenReturn(Mono.just(false));
+        when(readModel.refreshIfChanged()).thenReturn(Mono.just(false));
+        responseCache.refreshVersion().block();
+    }
 }
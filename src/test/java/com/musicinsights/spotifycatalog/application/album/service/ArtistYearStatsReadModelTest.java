@@ -0,0 +1,90 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistAlbumStatsResponse;
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.album.repository.ArtistYearStatRow;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ArtistYearStatsReadModel} 단위 테스트.
+ *
+ * <p>버전 단위로 다시 읽는지, 커서 이진 탐색이 SQL keyset 조건과 같은 페이지를 만드는지 검증한다.</p>
+ */
+@DisplayName("year stats read model 테스트")
+class ArtistYearStatsReadModelTest {
+
+    private AlbumStatsRepository repo;
+    private CatalogVersionService versions;
+    private SimpleMeterRegistry registry;
+    private ArtistYearStatsReadModel model;
+
+    @BeforeEach
+    void setUp() {
+        this.repo = mock(AlbumStatsRepository.class);
+        this.versions = mock(CatalogVersionService.class);
+        this.registry = new SimpleMeterRegistry();
+        this.model = new ArtistYearStatsReadModel(repo, versions, registry, true, 5000L);
+
+        when(versions.currentVersion(ArtistYearStatsReadModel.VERSION_NAME)).thenReturn(Mono.just(1L));
+        when(repo.streamAllYearStats()).thenReturn(Flux.just(
+                new ArtistYearStatRow(2019, 9L, "Z", 1L),
+                new ArtistYearStatRow(2020, 3L, "C", 5L),
+                new ArtistYearStatRow(2020, 1L, "A", 2L),
+                new ArtistYearStatRow(2020, 2L, "B", 2L),
+                new ArtistYearStatRow(2020, 4L, "D", 1L)
+        ));
+    }
+
+    /** 로드 전에는 null을 반환해 호출 측이 DB로 대체하게 한다. */
+    @Test
+    @DisplayName("로드 전에는 page가 null을 반환한다")
+    void page_beforeLoad_returnsNull() {
+        assertThat(model.page(2020, Long.MAX_VALUE, 0L, 10)).isNull();
+    }
+
+    /** 첫 페이지와 커서 이후 페이지가 (albumCount DESC, artistId ASC) 순서로 이어지는지 검증한다. */
+    @Test
+    @DisplayName("커서 다음 위치부터 keyset 순서대로 페이지를 만든다")
+    void page_afterLoad_followsKeysetOrder() {
+        StepVerifier.create(model.refreshIfChanged()).expectNext(true).verifyComplete();
+        StepVerifier.create(model.refreshIfChanged()).expectNext(false).verifyComplete();
+
+        assertThat(model.page(2020, Long.MAX_VALUE, 0L, 2)).containsExactly(
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(3L, "C", 5L),
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(1L, "A", 2L)
+        );
+
+        // 커서 (2, 1) 다음: 같은 albumCount의 더 큰 artistId부터
+        assertThat(model.page(2020, 2L, 1L, 10)).containsExactly(
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(2L, "B", 2L),
+                new ArtistAlbumStatsResponse.ArtistAlbumStatsItemResponse(4L, "D", 1L)
+        );
+
+        assertThat(model.page(2020, 1L, 4L, 10)).isEmpty();
+        assertThat(model.page(1999, Long.MAX_VALUE, 0L, 10)).isEmpty();
+
+        verify(repo, times(1)).streamAllYearStats();
+    }
+
+    /** 로드 후 메모리 사용량/행 수 게이지가 채워지는지 검증한다. */
+    @Test
+    @DisplayName("로드 후 read model 게이지가 0보다 크다")
+    void gauges_reportFootprint() {
+        assertThat(registry.get("album.stats.read_model.bytes").gauge().value()).isZero();
+
+        StepVerifier.create(model.refreshIfChanged()).expectNext(true).verifyComplete();
+
+        assertThat(registry.get("album.stats.read_model.bytes").gauge().value()).isPositive();
+        assertThat(registry.get("album.stats.read_model.rows").gauge().value()).isEqualTo(5.0);
+    }
+}
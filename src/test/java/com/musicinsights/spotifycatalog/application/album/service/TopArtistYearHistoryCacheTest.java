@@ -0,0 +1,68 @@
+package com.musicinsights.spotifycatalog.application.album.service;
+
+import com.musicinsights.spotifycatalog.application.album.dto.response.ArtistYearHistoryResponse;
+import com.musicinsights.spotifycatalog.application.album.repository.AlbumStatsRepository;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link TopArtistYearHistoryCache} 단위 테스트.
+ *
+ * <p>버전이 바뀔 때만 상위 아티스트 이력을 다시 읽는지, 캐시에 없는 아티스트는 null을 돌려주는지 검증한다.</p>
+ */
+@DisplayName("top artist year history cache 테스트")
+class TopArtistYearHistoryCacheTest {
+
+    private AlbumStatsRepository repo;
+    private CatalogVersionService versions;
+    private TopArtistYearHistoryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.repo = mock(AlbumStatsRepository.class);
+        this.versions = mock(CatalogVersionService.class);
+        this.cache = new TopArtistYearHistoryCache(repo, versions, 100, 5000L);
+    }
+
+    /** 버전이 생기면 상위 N명 이력을 읽고, 같은 버전에서는 다시 읽지 않는다. */
+    @Test
+    @DisplayName("버전이 바뀔 때만 상위 아티스트 이력을 다시 읽는다")
+    void refreshIfChanged_loadsOnlyOnVersionChange() {
+        // given
+        var years = List.of(new ArtistYearHistoryResponse.ArtistYearCountResponse(2020, 4L));
+        when(versions.currentVersion(TopArtistYearHistoryCache.VERSION_NAME)).thenReturn(Mono.just(2L));
+        when(repo.findTopArtistYearHistory(100)).thenReturn(Mono.just(Map.of(7L, years)));
+
+        // when / then
+        assertThat(cache.find(7L)).isNull();
+
+        StepVerifier.create(cache.refreshIfChanged()).expectNext(true).verifyComplete();
+        StepVerifier.create(cache.refreshIfChanged()).expectNext(false).verifyComplete();
+
+        assertThat(cache.find(7L)).isEqualTo(years);
+        assertThat(cache.find(8L)).isNull();
+
+        verify(repo, times(1)).findTopArtistYearHistory(100);
+    }
+
+    /** 크기가 0이면 캐시를 쓰지 않는다. */
+    @Test
+    @DisplayName("캐시 크기가 0이면 아무것도 읽지 않는다")
+    void refreshIfChanged_disabled_doesNotLoad() {
+        TopArtistYearHistoryCache disabled = new TopArtistYearHistoryCache(repo, versions, 0, 5000L);
+
+        StepVerifier.create(disabled.refreshIfChanged()).expectNext(false).verifyComplete();
+
+        verifyNoInteractions(repo, versions);
+    }
+}
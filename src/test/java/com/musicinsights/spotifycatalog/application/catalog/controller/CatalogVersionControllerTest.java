@@ -0,0 +1,56 @@
+package com.musicinsights.spotifycatalog.application.catalog.controller;
+
+import com.musicinsights.spotifycatalog.application.catalog.dto.response.CatalogVersionResponse;
+import com.musicinsights.spotifycatalog.application.catalog.service.CatalogVersionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webflux.test.autoconfigure.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link CatalogVersionController} WebFlux 슬라이스 테스트.
+ *
+ * <p>서비스 호출 위임과 응답 바디 매핑을 검증한다.</p>
+ */
+@WebFluxTest(controllers = CatalogVersionController.class)
+@DisplayName("catalog version controller 테스트")
+class CatalogVersionControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @MockitoBean
+    CatalogVersionService catalogVersionService;
+
+    /**
+     * 버전 조회 API가 서비스 결과를 그대로 배열로 반환하는지 검증한다.
+     */
+    @Test
+    @DisplayName("버전 조회 요청 시 집계별 버전/완료 시각/소요 시간이 반환되는지 검증")
+    void versions_ok() {
+        // given
+        when(catalogVersionService.getVersions()).thenReturn(Flux.just(
+                new CatalogVersionResponse("artist_album_count_year", 3L, LocalDateTime.of(2026, 1, 1, 12, 0), 1500L)
+        ));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/catalog/versions")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("artist_album_count_year")
+                .jsonPath("$[0].version").isEqualTo(3)
+                .jsonPath("$[0].rebuildMs").isEqualTo(1500);
+
+        Mockito.verify(catalogVersionService).getVersions();
+    }
+}
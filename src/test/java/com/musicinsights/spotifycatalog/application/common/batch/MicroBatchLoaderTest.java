@@ -0,0 +1,131 @@
+package com.musicinsights.spotifycatalog.application.common.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MicroBatchLoader} 단위 테스트.
+ *
+ * <p>창 안에 들어온 키가 한 번의 일괄 조회로 합쳐지는지, 배치가 차면 창을 기다리지 않는지,
+ * 결과/에러가 키별 요청으로 나눠지는지 가상 시간으로 검증한다.</p>
+ */
+@DisplayName("micro batch loader 테스트")
+class MicroBatchLoaderTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualTimeScheduler scheduler;
+    private List<List<Long>> batches;
+    private MicroBatchLoader<Long, String> loader;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.scheduler = VirtualTimeScheduler.create();
+        this.batches = new ArrayList<>();
+        this.loader = new MicroBatchLoader<>(
+                "test",
+                Duration.ofMillis(2),
+                3,
+                keys -> {
+                    batches.add(keys);
+                    Map<Long, String> found = new HashMap<>();
+                    keys.stream().filter(k -> k < 100).forEach(k -> found.put(k, "name-" + k));
+                    return Mono.just(found);
+                },
+                registry,
+                scheduler
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    /** 창 안에 들어온 키(중복 포함)는 창이 끝날 때 한 번에 조회되고, 없는 키는 empty로 끝난다. */
+    @Test
+    @DisplayName("창 안의 키는 한 번의 일괄 조회로 합쳐지고 결과가 키별로 나눠진다")
+    void load_withinWindow_issuesSingleBatch() {
+        // given
+        CompletableFuture<String> a = loader.load(1L).toFuture();
+        CompletableFuture<String> b = loader.load(2L).toFuture();
+        CompletableFuture<String> a2 = loader.load(1L).toFuture();
+        CompletableFuture<String> missing = loader.load(500L).toFuture();
+
+        // 배치가 3개 키로 차서 즉시 조회됨 (1, 2, 500)
+        assertThat(batches).containsExactly(List.of(1L, 2L, 500L));
+
+        // then
+        assertThat(a.join()).isEqualTo("name-1");
+        assertThat(a2.join()).isEqualTo("name-1");
+        assertThat(b.join()).isEqualTo("name-2");
+        assertThat(missing.join()).isNull();
+        assertThat(registry.get("micro_batch.flushes").tag("trigger", "full").counter().count()).isEqualTo(1.0);
+    }
+
+    /** 배치가 차지 않으면 창이 끝날 때까지 기다렸다가 조회한다. */
+    @Test
+    @DisplayName("배치가 차지 않으면 창 종료 시점에 조회된다")
+    void load_partialBatch_flushesAfterWindow() {
+        // given
+        CompletableFuture<String> a = loader.load(1L).toFuture();
+        CompletableFuture<String> b = loader.load(2L).toFuture();
+
+        // when: 창 이전에는 조회하지 않음
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+        assertThat(batches).isEmpty();
+        assertThat(loader.pendingCount()).isEqualTo(2);
+
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+
+        // then
+        assertThat(batches).containsExactly(List.of(1L, 2L));
+        assertThat(a.join()).isEqualTo("name-1");
+        assertThat(b.join()).isEqualTo("name-2");
+        assertThat(loader.pendingCount()).isZero();
+
+        var fill = registry.get("micro_batch.fill_ratio").summary();
+        assertThat(fill.count()).isEqualTo(1L);
+        assertThat(fill.totalAmount()).isEqualTo(2.0 / 3.0);
+        assertThat(registry.get("micro_batch.flushes").tag("trigger", "window").counter().count()).isEqualTo(1.0);
+    }
+
+    /** 일괄 조회가 실패하면 배치의 모든 요청이 같은 에러로 끝난다. */
+    @Test
+    @DisplayName("일괄 조회 실패 시 배치의 모든 요청에 에러가 전달된다")
+    void load_batchFailure_propagatesToAll() {
+        // given
+        MicroBatchLoader<Long, String> failing = new MicroBatchLoader<>(
+                "failing",
+                Duration.ofMillis(2),
+                10,
+                keys -> Mono.error(new IllegalStateException("db down")),
+                registry,
+                scheduler
+        );
+
+        CompletableFuture<String> a = failing.load(1L).toFuture();
+        CompletableFuture<String> b = failing.load(2L).toFuture();
+
+        // when
+        scheduler.advanceTimeBy(Duration.ofMillis(2));
+
+        // then
+        assertThat(a).isCompletedExceptionally();
+        assertThat(b).isCompletedExceptionally();
+    }
+}
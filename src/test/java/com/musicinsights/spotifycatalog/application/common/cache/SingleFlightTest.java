@@ -0,0 +1,76 @@
+package com.musicinsights.spotifycatalog.application.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SingleFlight} 단위 테스트.
+ *
+ * <p>진행 중인 같은 키의 조회는 한 번만 실행되고, 끝난 뒤에는 다시 실행되는지 검증한다.</p>
+ */
+@DisplayName("single flight 테스트")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private SingleFlight<String, Integer> flight;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.flight = new SingleFlight<>("test", registry);
+    }
+
+    /** 진행 중인 조회에 합류한 호출은 loader를 실행하지 않고 같은 결과를 받는다. */
+    @Test
+    @DisplayName("동시에 들어온 같은 키 조회는 loader를 한 번만 실행한다")
+    void execute_concurrentSameKey_runsLoaderOnce() {
+        // given: 완료를 직접 제어하는 loader
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<Integer> result = Sinks.one();
+
+        Mono<Integer> first = flight.execute("k", () -> {
+            calls.incrementAndGet();
+            return result.asMono();
+        });
+        Mono<Integer> second = flight.execute("k", () -> {
+            calls.incrementAndGet();
+            return Mono.just(-1);
+        });
+
+        // when: 둘 다 구독한 뒤 결과 방출
+        var r1 = first.toFuture();
+        var r2 = second.toFuture();
+        assertThat(flight.inFlightCount()).isEqualTo(1);
+        result.tryEmitValue(7);
+
+        // then
+        assertThat(r1.join()).isEqualTo(7);
+        assertThat(r2.join()).isEqualTo(7);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(flight.inFlightCount()).isZero();
+
+        assertThat(registry.get("single_flight.calls").tag("result", "executed").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("single_flight.calls").tag("result", "shared").counter().count()).isEqualTo(1.0);
+    }
+
+    /** 조회가 끝난 뒤의 호출은 결과를 재사용하지 않고 다시 실행한다. */
+    @Test
+    @DisplayName("끝난 조회는 보관하지 않고 다음 호출에서 다시 실행한다")
+    void execute_afterCompletion_runsAgain() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(flight.execute("k", () -> Mono.fromCallable(calls::incrementAndGet)))
+                .expectNext(1).verifyComplete();
+        StepVerifier.create(flight.execute("k", () -> Mono.fromCallable(calls::incrementAndGet)))
+                .expectNext(2).verifyComplete();
+    }
+}
@@ -0,0 +1,50 @@
+package com.musicinsights.spotifycatalog.application.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link VersionedLruCache} 단위 테스트.
+ *
+ * <p>버전이 다르면 절대 반환하지 않는지, 최대 항목 수를 넘으면 LRU 순서로 제거하는지 검증한다.</p>
+ */
+@DisplayName("versioned LRU cache 테스트")
+class VersionedLruCacheTest {
+
+    /** 새 버전으로 넘어가면 이전 버전 항목은 조회되지 않고 비워진다. */
+    @Test
+    @DisplayName("버전이 바뀌면 이전 버전 항목을 반환하지 않는다")
+    void get_differentVersion_returnsNull() {
+        VersionedLruCache<String, String> cache = new VersionedLruCache<>(10);
+        cache.put(1, "k", "v1");
+
+        assertThat(cache.get(1, "k")).isEqualTo("v1");
+        assertThat(cache.get(2, "k")).isNull();
+
+        cache.advanceTo(2);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1, "k")).isNull();
+
+        // 지난 버전으로 읽은 값은 저장하지 않는다
+        cache.put(1, "k", "late");
+        assertThat(cache.size()).isZero();
+    }
+
+    /** 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다. */
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 LRU 항목을 제거한다")
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        VersionedLruCache<String, Integer> cache = new VersionedLruCache<>(2);
+        cache.put(1, "a", 1);
+        cache.put(1, "b", 2);
+        cache.get(1, "a");       // a를 최근 사용으로
+        cache.put(1, "c", 3);    // b 제거
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(1, "a")).isEqualTo(1);
+        assertThat(cache.get(1, "b")).isNull();
+        assertThat(cache.get(1, "c")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,120 @@
+package com.musicinsights.spotifycatalog.application.common.pagination;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link KeysetPagePrefetcher} 단위 테스트.
+ *
+ * <p>미리 읽은 페이지가 다음 요청에 쓰이는지, TTL이 지나면 버려지는지,
+ * 동시 prefetch 수가 제한되는지 가상 시간으로 검증한다.</p>
+ */
+@DisplayName("keyset page prefetcher 테스트")
+class KeysetPagePrefetcherTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualTimeScheduler scheduler;
+    private KeysetPagePrefetcher<String, String> prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.scheduler = VirtualTimeScheduler.create();
+        this.prefetcher = new KeysetPagePrefetcher<>("test", Duration.ofSeconds(30), 1, 10, registry, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    /** 미리 읽은 페이지는 다음 요청에서 loader 없이 반환되고, 한 번 쓰이면 비워진다. */
+    @Test
+    @DisplayName("prefetch한 페이지는 다음 요청에서 조회 없이 반환된다")
+    void prefetch_thenGetOrLoad_hitsWithoutLoading() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        prefetcher.prefetch("c1", () -> Mono.fromSupplier(() -> "page-" + loads.incrementAndGet()));
+        scheduler.advanceTime();
+        assertThat(prefetcher.parkedCount()).isEqualTo(1);
+
+        // when / then
+        StepVerifier.create(prefetcher.getOrLoad("c1", () -> Mono.just("fresh")))
+                .expectNext("page-1")
+                .verifyComplete();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(prefetcher.parkedCount()).isZero();
+        assertThat(registry.get("keyset_prefetch.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("keyset_prefetch.hit_ratio").gauge().value()).isEqualTo(1.0);
+    }
+
+    /** TTL이 지난 페이지는 쓰지 않고 다시 조회한다. */
+    @Test
+    @DisplayName("TTL이 지나면 미리 읽은 페이지를 버리고 다시 조회한다")
+    void getOrLoad_afterTtl_loadsAgain() {
+        // given
+        prefetcher.prefetch("c1", () -> Mono.just("stale"));
+        scheduler.advanceTime();
+
+        // when
+        scheduler.advanceTimeBy(Duration.ofSeconds(31));
+
+        // then
+        StepVerifier.create(prefetcher.getOrLoad("c1", () -> Mono.just("fresh")))
+                .expectNext("fresh")
+                .verifyComplete();
+        assertThat(registry.get("keyset_prefetch.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    /** 진행 중인 prefetch가 한도에 이르면 새 prefetch는 조회하지 않고 건너뛴다. */
+    @Test
+    @DisplayName("동시 prefetch 한도를 넘으면 건너뛴다")
+    void prefetch_overConcurrency_isSkipped() {
+        // given: 한도 1, 끝나지 않는 prefetch 하나가 자리를 차지
+        AtomicInteger loads = new AtomicInteger();
+        prefetcher.prefetch("c1", () -> {
+            loads.incrementAndGet();
+            return Mono.never();
+        });
+        scheduler.advanceTime();
+
+        // when
+        prefetcher.prefetch("c2", () -> {
+            loads.incrementAndGet();
+            return Mono.just("page");
+        });
+        scheduler.advanceTime();
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(prefetcher.parkedCount()).isZero();
+        assertThat(registry.get("keyset_prefetch.loads").tag("result", "skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    /** prefetch가 실패해도 보관하지 않고 다음 요청이 직접 조회한다. */
+    @Test
+    @DisplayName("prefetch 실패 시 다음 요청은 직접 조회한다")
+    void prefetch_failure_fallsBackToLoader() {
+        // given
+        prefetcher.prefetch("c1", () -> Mono.error(new IllegalStateException("db down")));
+        scheduler.advanceTime();
+
+        // then
+        assertThat(registry.get("keyset_prefetch.loads").tag("result", "failed").counter().count()).isEqualTo(1.0);
+        StepVerifier.create(prefetcher.getOrLoad("c1", () -> Mono.just("fresh")))
+                .expectNext("fresh")
+                .verifyComplete();
+    }
+}
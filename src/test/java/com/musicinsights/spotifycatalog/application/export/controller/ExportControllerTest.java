@@ -0,0 +1,101 @@
+package com.musicinsights.spotifycatalog.application.export.controller;
+
+import com.musicinsights.spotifycatalog.application.common.error.GlobalExceptionHandler;
+import com.musicinsights.spotifycatalog.application.export.dto.response.ExportResponse;
+import com.musicinsights.spotifycatalog.application.export.service.ExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webflux.test.autoconfigure.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ExportController} WebFlux 슬라이스 테스트.
+ *
+ * <p>NDJSON 미디어 타입으로 행이 한 줄씩 스트리밍되는지와 파라미터 검증을 확인한다.</p>
+ */
+@DisplayName("export controller 테스트")
+@WebFluxTest(controllers = ExportController.class)
+@Import(GlobalExceptionHandler.class)
+class ExportControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @MockitoBean
+    ExportService service;
+
+    /** 앨범 내보내기가 application/x-ndjson으로 행마다 JSON 한 줄을 쓰는지 검증한다. */
+    @Test
+    @DisplayName("앨범 내보내기 시 NDJSON으로 행이 한 줄씩 스트리밍되는지 검증")
+    void albums_streamsNdjson() {
+        // given
+        when(service.exportAlbums()).thenReturn(Flux.just(
+                new ExportResponse.AlbumExportRow(1L, "A", LocalDate.of(2020, 1, 2), 2020),
+                new ExportResponse.AlbumExportRow(2L, "B", null, null)
+        ));
+
+        // when
+        Flux<ExportResponse.AlbumExportRow> body = webTestClient.get()
+                .uri("/api/export/albums")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ExportResponse.AlbumExportRow.class)
+                .getResponseBody();
+
+        // then
+        StepVerifier.create(body)
+                .expectNext(new ExportResponse.AlbumExportRow(1L, "A", LocalDate.of(2020, 1, 2), 2020))
+                .expectNext(new ExportResponse.AlbumExportRow(2L, "B", null, null))
+                .verifyComplete();
+
+        verify(service).exportAlbums();
+    }
+
+    /** 연도별 앨범 수 내보내기에 year가 전달되는지 검증한다. */
+    @Test
+    @DisplayName("연도별 앨범 수 내보내기 시 year가 서비스로 전달되는지 검증")
+    void artistYearCounts_passesYear() {
+        // given
+        when(service.exportArtistYearCounts(2020)).thenReturn(Flux.just(
+                new ExportResponse.ArtistYearCountExportRow(2020, 1L, "IU", 3L)
+        ));
+
+        // when / then
+        webTestClient.get()
+                .uri("/api/export/stats/artist-year-counts?year=2020")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(s -> assertThat(s.trim())
+                        .isEqualTo("{\"releaseYear\":2020,\"artistId\":1,\"artistName\":\"IU\",\"albumCount\":3}"));
+
+        verify(service).exportArtistYearCounts(2020);
+    }
+
+    /** year 범위를 벗어나면 400을 반환하고 서비스를 호출하지 않는다. */
+    @Test
+    @DisplayName("연도 범위가 벗어나면 400 검증")
+    void artistYearCounts_yearOutOfRange_returnsBadRequest() {
+        webTestClient.get()
+                .uri("/api/export/stats/artist-year-counts?year=1800")
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(service);
+    }
+}
@@ -0,0 +1,100 @@
+package com.musicinsights.spotifycatalog.application.export.repository;
+
+import com.musicinsights.spotifycatalog.application.export.dto.response.ExportResponse;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.r2dbc.core.StatementFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.function.BiFunction;
+
+import static com.musicinsights.spotifycatalog.application.export.repository.ExportSql.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ExportRepository} 단위 테스트.
+ *
+ * <p>DatabaseClient fluent 체인을 모킹해 SQL 분기, fetch size 필터 적용, row → DTO 매핑(null 포함)을 검증한다.</p>
+ */
+@DisplayName("export repo 테스트")
+class ExportRepositoryTest {
+    private DatabaseClient db;
+    private ExportRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        this.db = mock(DatabaseClient.class, RETURNS_DEEP_STUBS);
+        this.repo = new ExportRepository(db, 500);
+    }
+
+    /** 오디오 특성이 없는 트랙은 해당 값이 null로, 나머지는 숫자 타입에 맞게 매핑되는지 검증한다. */
+    @Test
+    @DisplayName("트랙 내보내기: fetch size 필터 적용 및 오디오 특성 null 매핑 검증")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void streamTracks_appliesFetchSize_andMapsNulls() {
+        // given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+        RowsFetchSpec<ExportResponse.TrackExportRow> fetch = (RowsFetchSpec<ExportResponse.TrackExportRow>) mock(RowsFetchSpec.class);
+
+        when(db.sql(SQL_EXPORT_TRACKS)).thenReturn(spec);
+        when(spec.filter(any(StatementFilterFunction.class))).thenReturn(spec);
+
+        ArgumentCaptor<BiFunction<Row, RowMetadata, ExportResponse.TrackExportRow>> mapperCaptor =
+                ArgumentCaptor.forClass((Class) BiFunction.class);
+        when(spec.map(mapperCaptor.capture())).thenReturn(fetch);
+
+        when(fetch.all()).thenAnswer(inv -> {
+            Row row = mock(Row.class);
+            when(row.get(eq("trackId"), eq(Number.class))).thenReturn(7L);
+            when(row.get(eq("title"), eq(String.class))).thenReturn("Song");
+            when(row.get(eq("durationMs"), eq(Number.class))).thenReturn(200_000);
+            when(row.get(eq("explicit"), eq(Boolean.class))).thenReturn(true);
+            when(row.get(eq("tempo"), eq(Number.class))).thenReturn(120.5);
+            return Flux.just(mapperCaptor.getValue().apply(row, mock(RowMetadata.class)));
+        });
+
+        // when / then
+        StepVerifier.create(repo.streamTracks())
+                .assertNext(t -> {
+                    assertThat(t.trackId()).isEqualTo(7L);
+                    assertThat(t.title()).isEqualTo("Song");
+                    assertThat(t.albumId()).isNull();
+                    assertThat(t.durationMs()).isEqualTo(200_000);
+                    assertThat(t.explicit()).isTrue();
+                    assertThat(t.tempo()).isEqualTo(120.5);
+                    assertThat(t.energy()).isNull();
+                    assertThat(t.musicalKey()).isNull();
+                })
+                .verifyComplete();
+
+        verify(spec).filter(any(StatementFilterFunction.class));
+    }
+
+    /** year가 있으면 연도 전용 SQL에 year를 바인딩하는지 검증한다. */
+    @Test
+    @DisplayName("연도별 앨범 수 내보내기: year 지정 시 연도 SQL 사용 및 bind 검증")
+    void streamArtistYearCounts_withYear_usesYearSql() {
+        // given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_DEEP_STUBS);
+        when(db.sql(SQL_EXPORT_ARTIST_YEAR_COUNTS_BY_YEAR)).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.filter(any(StatementFilterFunction.class))).thenReturn(spec);
+
+        // when
+        repo.streamArtistYearCounts(2020);
+
+        // then
+        verify(db).sql(SQL_EXPORT_ARTIST_YEAR_COUNTS_BY_YEAR);
+        verify(spec).bind(0, 2020);
+        verify(db, never()).sql(SQL_EXPORT_ARTIST_YEAR_COUNTS);
+    }
+}
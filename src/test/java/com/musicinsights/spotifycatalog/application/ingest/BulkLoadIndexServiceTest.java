@@ -0,0 +1,121 @@
+package com.musicinsights.spotifycatalog.application.ingest;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.SecondaryIndexRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.SecondaryIndexRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link BulkLoadIndexService} 단위 테스트.
+ *
+ * <p>cold load에서만 인덱스를 내리고, 적재 후 테이블별로 한 번에 복구하는지,
+ * 모드가 꺼져 있으면 DB를 건드리지 않는지 검증한다.</p>
+ */
+@DisplayName("대량 적재 인덱스 관리 서비스 테스트")
+class BulkLoadIndexServiceTest {
+
+    private SecondaryIndexRepo repo;
+    private IngestProperties props;
+    private BulkLoadIndexService service;
+
+    private final SecondaryIndexRow trackTitle = new SecondaryIndexRow("track", "idx_track_title", "`title`");
+    private final SecondaryIndexRow trackPop = new SecondaryIndexRow("track", "idx_track_popularity", "`popularity`");
+    private final SecondaryIndexRow albumName = new SecondaryIndexRow("album", "idx_album_name", "`name`");
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(SecondaryIndexRepo.class);
+        props = new IngestProperties();
+        props.setManageIndexes(true);
+        service = new BulkLoadIndexService(repo, props);
+
+        when(repo.fetchIndexSizes(anyList())).thenReturn(Mono.just(Map.of("track.idx_track_title", 16384L)));
+    }
+
+    @Test
+    @DisplayName("모드가 꺼져 있으면 DB를 호출하지 않는지 검증")
+    void disabled_noop() {
+        props.setManageIndexes(false);
+
+        StepVerifier.create(service.beforeLoad()).verifyComplete();
+        StepVerifier.create(service.afterLoad()).verifyComplete();
+
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    @DisplayName("cold load이면 정의를 보관한 뒤 테이블별로 인덱스를 삭제하는지 검증")
+    void beforeLoad_coldLoad_savesAndDropsPerTable() {
+        when(repo.findDropped()).thenReturn(Flux.empty());
+        when(repo.isTrackEmpty()).thenReturn(Mono.just(true));
+        when(repo.findDroppableIndexes(BulkLoadIndexService.TABLES))
+                .thenReturn(Flux.just(albumName, trackTitle, trackPop));
+        when(repo.saveDropped(anyList())).thenReturn(Mono.just(3L));
+        when(repo.dropIndexes(anyString(), anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.beforeLoad()).verifyComplete();
+
+        var inOrder = inOrder(repo);
+        inOrder.verify(repo).saveDropped(List.of(albumName, trackTitle, trackPop));
+        inOrder.verify(repo).dropIndexes("album", List.of(albumName));
+        inOrder.verify(repo).dropIndexes("track", List.of(trackTitle, trackPop));
+    }
+
+    @Test
+    @DisplayName("이미 데이터가 있으면(warm load) 인덱스를 유지하는지 검증")
+    void beforeLoad_warmLoad_keepsIndexes() {
+        when(repo.findDropped()).thenReturn(Flux.empty());
+        when(repo.isTrackEmpty()).thenReturn(Mono.just(false));
+
+        StepVerifier.create(service.beforeLoad()).verifyComplete();
+
+        verify(repo, never()).findDroppableIndexes(anyList());
+        verify(repo, never()).dropIndexes(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 복구되지 않은 정의가 있으면 추가로 삭제하지 않는지 검증")
+    void beforeLoad_leftover_skipsDrop() {
+        when(repo.findDropped()).thenReturn(Flux.just(trackTitle));
+
+        StepVerifier.create(service.beforeLoad()).verifyComplete();
+
+        verify(repo, never()).isTrackEmpty();
+        verify(repo, never()).dropIndexes(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("적재 후 보관된 정의로 테이블별 1회씩 인덱스를 복구하는지 검증")
+    void afterLoad_restoresPerTable() {
+        when(repo.findDropped()).thenReturn(Flux.just(albumName, trackTitle, trackPop));
+        when(repo.addIndexes(anyString(), anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.afterLoad()).verifyComplete();
+
+        verify(repo).addIndexes("album", List.of(albumName));
+        verify(repo).addIndexes("track", List.of(trackTitle, trackPop));
+        verify(repo).fetchIndexSizes(BulkLoadIndexService.TABLES);
+    }
+
+    @Test
+    @DisplayName("인덱스 크기 조회가 실패해도 복구는 성공으로 끝나는지 검증")
+    void afterLoad_sizeReportFailure_isIgnored() {
+        when(repo.findDropped()).thenReturn(Flux.just(trackTitle));
+        when(repo.addIndexes(anyString(), anyList())).thenReturn(Mono.empty());
+        when(repo.fetchIndexSizes(anyList())).thenReturn(Mono.error(new RuntimeException("no privilege")));
+
+        StepVerifier.create(service.afterLoad()).verifyComplete();
+
+        verify(repo).addIndexes("track", List.of(trackTitle));
+    }
+}
@@ -0,0 +1,118 @@
+package com.musicinsights.spotifycatalog.application.ingest;
+
+import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.NdjsonLineReader;
+import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRaw;
+import com.musicinsights.spotifycatalog.infrastructure.mapper.TrackRawBatchMapper;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.*;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackLyricsRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link LyricsBackfillService} 단위 테스트.
+ *
+ * <p>데이터셋 라인의 가사를 track_hash → track_id로 매핑해 track_lyrics에 upsert 하는지,
+ * 아직 적재되지 않은 track과 가사가 없는 라인은 건너뛰는지 검증한다.</p>
+ */
+@DisplayName("가사 backfill 서비스 테스트")
+class LyricsBackfillServiceTest {
+
+    private static final String PATH = "dataset/900k Definitive Spotify Dataset.json";
+
+    private NdjsonLineReader lineReader;
+    private ObjectMapper om;
+    private TrackRepo trackRepo;
+    private TrackLyricsRepo trackLyricsRepo;
+    private LyricsBackfillService service;
+
+    private final TrackRawBatchMapper mapper = new TrackRawBatchMapper();
+
+    @BeforeEach
+    void setUp() {
+        lineReader = mock(NdjsonLineReader.class);
+        om = mock(ObjectMapper.class);
+        trackRepo = mock(TrackRepo.class);
+        trackLyricsRepo = mock(TrackLyricsRepo.class);
+
+        IngestFacade ingestDb = new IngestFacade(
+                mock(ArtistRepo.class), mock(AlbumRepo.class), mock(AlbumArtistRepo.class),
+                trackRepo, mock(TrackArtistRepo.class),
+                trackLyricsRepo, mock(AudioRepo.class), mock(ArtistAlbumCountYearRepo.class),
+                mock(ArtistAlbumCountTotalRepo.class), mock(AlbumCountYearRepo.class)
+        );
+
+        IngestProperties props = new IngestProperties();
+        props.setLyricsBackfillPauseMs(0);
+
+        service = new LyricsBackfillService(lineReader, om, mapper, ingestDb, props);
+    }
+
+    /**
+     * 가사가 있는 라인만 hash로 track_id를 찾고,
+     * track_id가 존재하는 경우에만 track_lyrics row를 만든다.
+     */
+    @Test
+    @DisplayName("가사가 있고 적재된 track만 track_lyrics에 upsert 되는지 검증")
+    void backfill_upsertsLyrics_onlyForKnownTracksWithText() {
+        // given
+        TrackRaw withLyrics = raw("Song1", "IU", " hello ");
+        TrackRaw notLoaded = raw("Song2", "IU", "bye");
+        TrackRaw noLyrics = raw("Song3", "IU", "  ");
+
+        when(lineReader.readLines(PATH)).thenReturn(Flux.just("l1", "l2", "", "l3"));
+        when(om.readValue("l1", TrackRaw.class)).thenReturn(withLyrics);
+        when(om.readValue("l2", TrackRaw.class)).thenReturn(notLoaded);
+        when(om.readValue("l3", TrackRaw.class)).thenReturn(noLyrics);
+
+        Map<String, String> lyricsByHash = mapper.buildLyricsByHash(List.of(withLyrics));
+        String knownHash = lyricsByHash.keySet().iterator().next();
+
+        when(trackRepo.fetchTrackIdsByHash(anyList())).thenReturn(Mono.just(Map.of(knownHash, 1000L)));
+        when(trackLyricsRepo.upsert(anyList())).thenReturn(Mono.just(1L));
+
+        // when / then
+        StepVerifier.create(service.backfill(PATH))
+                .expectNext(1L)
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> hashes = ArgumentCaptor.forClass(List.class);
+        verify(trackRepo).fetchTrackIdsByHash(hashes.capture());
+        assertEquals(2, hashes.getValue().size());
+
+        verify(trackLyricsRepo).upsert(List.of(new TrackLyricsRow(1000L, "hello")));
+    }
+
+    /** 배치에 가사가 하나도 없으면 DB를 호출하지 않는다. */
+    @Test
+    @DisplayName("가사가 없는 배치는 DB 호출 없이 0을 반환하는지 검증")
+    void backfillBatch_noLyrics_skipsDb() {
+        StepVerifier.create(service.backfillBatch(List.of(raw("Song", "IU", null))))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verifyNoInteractions(trackRepo, trackLyricsRepo);
+    }
+
+    private static TrackRaw raw(String song, String artists, String text) {
+        TrackRaw r = new TrackRaw();
+        r.song = song;
+        r.artists = artists;
+        r.album = "AlbumA";
+        r.releaseDate = "2020-01-01";
+        r.text = text;
+        return r;
+    }
+}
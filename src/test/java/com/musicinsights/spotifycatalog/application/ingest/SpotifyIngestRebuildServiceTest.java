@@ -1,18 +1,35 @@
 package com.musicinsights.spotifycatalog.application.ingest;
 
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.AlbumCountYearRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.ArtistAlbumCountTotalRepo;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.ArtistAlbumCountYearRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.CatalogVersionRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.TrackLyricsRepo;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.YearCountRow;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.YearRangeRow;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import static org.mockito.Mockito.*;
 
 /**
  * {@link SpotifyIngestRebuildService} 단위 테스트.
  *
  * <p>rebuild가 {@link ArtistAlbumCountYearRepo#rebuild()}를 위임 호출하고,
- * 결과/에러를 그대로 전파하는지 검증한다.</p>
+ * 결과/에러를 그대로 전파하는지, 완료 시 catalog_version을 갱신하는지 검증한다.</p>
  */
 @DisplayName("spotify ingest rebuild 서비스 테스트")
 class SpotifyIngestRebuildServiceTest {
@@ -26,7 +43,7 @@ class SpotifyIngestRebuildServiceTest {
     void rebuild_delegatesToRepo_andReturnsValue() {
         // given
         ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
-        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totalRepo(), albumCountRepo(), versionRepo(), new IngestProperties());
 
         when(repo.rebuild()).thenReturn(Mono.just(42L));
 
@@ -48,7 +65,7 @@ class SpotifyIngestRebuildServiceTest {
     void rebuild_propagatesError() {
         // given
         ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
-        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totalRepo(), albumCountRepo(), versionRepo(), new IngestProperties());
 
         when(repo.rebuild()).thenReturn(Mono.error(new RuntimeException("boom")));
 
@@ -60,4 +77,331 @@ class SpotifyIngestRebuildServiceTest {
         verify(repo, times(1)).rebuild();
         verifyNoMoreInteractions(repo);
     }
+
+    /**
+     * incremental-stats 모드에서 검증을 켜지 않으면 비교 쿼리 없이 순위만 다시 계산하고,
+     * 전체 합계/연도 요약도 rebuild 하지 않고 버전만 올리는지 검증한다.
+     */
+    @Test
+    @DisplayName("증분 모드(검증 꺼짐)는 비교/rebuild 없이 순위만 재계산하고 버전을 올린다")
+    void rebuild_incremental_withoutVerify_refreshesRanksOnly() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        ArtistAlbumCountTotalRepo totals = totalRepo();
+        AlbumCountYearRepo albumCounts = albumCountRepo();
+        CatalogVersionRepo versions = versionRepo();
+        IngestProperties props = new IngestProperties();
+        props.setIncrementalStats(true);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totals, albumCounts, versions, props);
+
+        when(repo.refreshRanks()).thenReturn(Mono.just(5L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repo, never()).countMismatches();
+        verify(repo, never()).rebuild();
+        verify(repo).refreshRanks();
+        verify(totals).refreshRanks();
+        verify(totals, never()).rebuild();
+        verify(albumCounts, never()).rebuild();
+        verify(versions).recordRebuild(eq(CatalogVersionRepo.ARTIST_ALBUM_COUNT_YEAR), anyLong());
+        verify(versions).recordRebuild(eq(CatalogVersionRepo.ARTIST_ALBUM_COUNT_TOTAL), anyLong());
+        verify(versions).recordRebuild(eq(CatalogVersionRepo.ALBUM_COUNT_YEAR), anyLong());
+        verify(versions).recordRebuild(eq(CatalogVersionRepo.CATALOG), anyLong());
+    }
+
+    /**
+     * 검증을 켠 증분 모드에서 검증 결과가 일치하면 rebuild 하지 않고 순위만 다시 계산하는지 검증한다.
+     */
+    @Test
+    @DisplayName("증분 모드에서 불일치가 없으면 rebuild 없이 0을 반환한다")
+    void rebuild_incremental_verifiedWithoutRebuild() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        IngestProperties props = new IngestProperties();
+        props.setIncrementalStats(true);
+        props.setVerifyIncrementalStats(true);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totalRepo(), albumCountRepo(), versionRepo(), props);
+
+        when(repo.countMismatches()).thenReturn(Mono.just(0L));
+        when(repo.refreshRanks()).thenReturn(Mono.just(5L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repo, never()).rebuild();
+        verify(repo).refreshRanks();
+    }
+
+    /**
+     * 검증을 켠 증분 모드에서 불일치가 있으면 세 집계를 모두 rebuild로 복구하는지 검증한다.
+     */
+    @Test
+    @DisplayName("증분 모드에서 불일치가 있으면 rebuild로 복구한다")
+    void rebuild_incremental_repairsOnMismatch() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        ArtistAlbumCountTotalRepo totals = totalRepo();
+        AlbumCountYearRepo albumCounts = albumCountRepo();
+        IngestProperties props = new IngestProperties();
+        props.setIncrementalStats(true);
+        props.setVerifyIncrementalStats(true);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totals, albumCounts, versionRepo(), props);
+
+        when(repo.countMismatches()).thenReturn(Mono.just(3L));
+        when(repo.rebuild()).thenReturn(Mono.just(42L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(42L)
+                .verifyComplete();
+
+        verify(repo, times(1)).rebuild();
+        verify(totals, times(1)).rebuild();
+        verify(albumCounts, times(1)).rebuild();
+    }
+
+    /**
+     * 연도별 집계는 일치해도 album_count_year가 어긋나 있으면 세 집계를 모두 rebuild로 복구하는지 검증한다.
+     */
+    @Test
+    @DisplayName("증분 모드에서 연도 요약만 어긋나도 rebuild로 복구한다")
+    void rebuild_incremental_repairsOnAlbumCountMismatch() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        ArtistAlbumCountTotalRepo totals = totalRepo();
+        AlbumCountYearRepo albumCounts = albumCountRepo();
+        IngestProperties props = new IngestProperties();
+        props.setIncrementalStats(true);
+        props.setVerifyIncrementalStats(true);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totals, albumCounts, versionRepo(), props);
+
+        when(repo.countMismatches()).thenReturn(Mono.just(0L));
+        when(albumCounts.countMismatches()).thenReturn(Mono.just(1L));
+        when(repo.rebuild()).thenReturn(Mono.just(42L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(42L)
+                .verifyComplete();
+
+        verify(totals).countMismatches();
+        verify(repo, never()).refreshRanks();
+        verify(repo, times(1)).rebuild();
+        verify(totals, times(1)).rebuild();
+        verify(albumCounts, times(1)).rebuild();
+    }
+
+    /**
+     * 병렬 모드와 증분 집계를 함께 켜면 증분이 조용히 무시되지 않고 시작 시 실패하는지 검증한다.
+     */
+    @Test
+    @DisplayName("incremental-stats와 parallel-relations를 함께 켜면 시작 시 실패한다")
+    void properties_incrementalWithParallel_failsFast() {
+        IngestProperties props = new IngestProperties();
+        props.setIncrementalStats(true);
+        props.setParallelRelations(true);
+
+        assertThrows(IllegalStateException.class, props::afterPropertiesSet);
+    }
+
+    /**
+     * 알 수 없는 lyrics-storage 값은 기본값(RAW)으로 넘어가지 않고 바인딩 단계에서 실패하는지 검증한다.
+     */
+    @Test
+    @DisplayName("알 수 없는 lyrics-storage 값은 바인딩 시 실패한다")
+    void properties_unknownLyricsStorage_failsBinding() {
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of("ingest.lyrics-storage", "GZIP")));
+
+        assertThrows(BindException.class, () -> binder.bind("ingest", IngestProperties.class));
+        assertEquals(TrackLyricsRepo.Storage.COMPRESSED,
+                new Binder(new MapConfigurationPropertySource(Map.of("ingest.lyrics-storage", "COMPRESSED")))
+                        .bind("ingest", IngestProperties.class).get().getLyricsStorage());
+    }
+
+    /**
+     * swap-rebuild 모드에서 TRUNCATE 기반 rebuild 대신 shadow swap을 사용하고,
+     * 완료 후 catalog_version을 갱신하는지 검증한다.
+     */
+    @Test
+    @DisplayName("swap 모드에서는 rebuildWithSwap을 호출하고 집계 버전을 기록한다")
+    void rebuild_swapMode_usesShadowSwap_andRecordsVersion() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        CatalogVersionRepo versions = versionRepo();
+        IngestProperties props = new IngestProperties();
+        props.setSwapRebuild(true);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totalRepo(), albumCountRepo(), versions, props);
+
+        when(repo.rebuildWithSwap()).thenReturn(Mono.just(7L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(7L)
+                .verifyComplete();
+
+        verify(repo, never()).rebuild();
+        verify(versions, times(1)).recordRebuild(eq(CatalogVersionRepo.ARTIST_ALBUM_COUNT_YEAR), anyLong());
+    }
+
+    /**
+     * rebuild가 실패하면 catalog_version을 올리지 않는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuild 실패 시 집계 버전을 기록하지 않는다")
+    void rebuild_failure_doesNotRecordVersion() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        CatalogVersionRepo versions = versionRepo();
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totalRepo(), albumCountRepo(), versions, new IngestProperties());
+
+        when(repo.rebuild()).thenReturn(Mono.error(new RuntimeException("boom")));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectErrorMessage("boom")
+                .verify();
+
+        verifyNoInteractions(versions);
+    }
+
+    /**
+     * rebuild-partitions가 2 이상이면 TRUNCATE 후 발매 연도 구간별 INSERT를 실행하고,
+     * 구간별 결과를 합산하는지 검증한다.
+     */
+    @Test
+    @DisplayName("구간 분할 모드에서 TRUNCATE 후 연도 구간별로 INSERT 하고 결과를 합산한다")
+    void rebuild_partitioned_insertsEachYearRange() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        IngestProperties props = new IngestProperties();
+        props.setRebuildPartitions(2);
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totalRepo(), albumCountRepo(), versionRepo(), props);
+
+        when(repo.truncate()).thenReturn(Mono.empty());
+        when(repo.findReleaseYearCounts()).thenReturn(Flux.range(2000, 10).map(y -> new YearCountRow(y, 10L)));
+        when(repo.insertYearRange(2000, 2004)).thenReturn(Mono.just(3L));
+        when(repo.insertYearRange(2005, 2009)).thenReturn(Mono.just(4L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(7L)
+                .verifyComplete();
+
+        verify(repo).truncate();
+        verify(repo).insertYearRange(2000, 2004);
+        verify(repo).insertYearRange(2005, 2009);
+        verify(repo, never()).rebuild();
+    }
+
+    /**
+     * splitYears가 같은 연도 폭이 아니라 누적 앨범 수 기준으로 구간을 끊어,
+     * 앨범이 몰린 최근 연도를 여러 구간으로 나누고 빈 연도까지 빈틈없이 덮는지 검증한다.
+     */
+    @Test
+    @DisplayName("splitYears는 누적 앨범 수 기준으로 연도 구간을 나눈다")
+    void splitYears_balancesByCumulativeCount() {
+        List<YearCountRow> skewed = List.of(
+                new YearCountRow(1990, 5L),
+                new YearCountRow(1995, 5L),
+                new YearCountRow(2018, 30L),
+                new YearCountRow(2019, 10L),
+                new YearCountRow(2020, 30L),
+                new YearCountRow(2021, 40L)
+        );
+
+        assertEquals(
+                List.of(new YearRangeRow(1990, 2018), new YearRangeRow(2019, 2020), new YearRangeRow(2021, 2021)),
+                SpotifyIngestRebuildService.splitYears(skewed, 3)
+        );
+    }
+
+    /**
+     * 한 연도에 앨범이 몰려 있어도 연도 수만큼은 나누고, 연도 수보다 많이 나누지 않는지 검증한다.
+     */
+    @Test
+    @DisplayName("splitYears는 연도 수보다 많이 나누지 않고 빈 구간을 만들지 않는다")
+    void splitYears_neverExceedsYearCount() {
+        assertEquals(
+                List.of(new YearRangeRow(2000, 2000), new YearRangeRow(2001, 2001), new YearRangeRow(2002, 2002)),
+                SpotifyIngestRebuildService.splitYears(List.of(
+                        new YearCountRow(2000, 100L),
+                        new YearCountRow(2001, 1L),
+                        new YearCountRow(2002, 1L)
+                ), 3)
+        );
+
+        assertEquals(
+                List.of(new YearRangeRow(2020, 2020), new YearRangeRow(2021, 2021)),
+                SpotifyIngestRebuildService.splitYears(List.of(
+                        new YearCountRow(2020, 3L),
+                        new YearCountRow(2021, 4L)
+                ), 8)
+        );
+    }
+
+    /**
+     * 연도별 집계 rebuild가 끝나면 artist_album_count_total, album_count_year도 다시 만들고
+     * 각 집계의 버전을 기록하는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuild 후 전체 앨범 수 집계/연도별 앨범 수 요약을 갱신하고 각 버전을 기록한다")
+    void rebuild_alsoRebuildsTotal_andRecordsBothVersions() {
+        // given
+        ArtistAlbumCountYearRepo repo = mock(ArtistAlbumCountYearRepo.class);
+        ArtistAlbumCountTotalRepo totals = totalRepo();
+        CatalogVersionRepo versions = versionRepo();
+        SpotifyIngestRebuildService service = new SpotifyIngestRebuildService(repo, totals, albumCountRepo(), versions, new IngestProperties());
+
+        when(repo.rebuild()).thenReturn(Mono.just(42L));
+
+        // when / then
+        StepVerifier.create(service.rebuild())
+                .expectNext(42L)
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(repo, totals, versions);
+        inOrder.verify(repo).rebuild();
+        inOrder.verify(versions).recordRebuild(eq(CatalogVersionRepo.ARTIST_ALBUM_COUNT_YEAR), anyLong());
+        inOrder.verify(totals).rebuild();
+        inOrder.verify(versions).recordRebuild(eq(CatalogVersionRepo.ARTIST_ALBUM_COUNT_TOTAL), anyLong());
+        inOrder.verify(versions).recordRebuild(eq(CatalogVersionRepo.ALBUM_COUNT_YEAR), anyLong());
+        inOrder.verify(versions).recordRebuild(eq(CatalogVersionRepo.CATALOG), anyLong());
+    }
+
+    /**
+     * rebuild가 5행을 돌려주는 AlbumCountYearRepo mock을 만든다.
+     */
+    private static AlbumCountYearRepo albumCountRepo() {
+        AlbumCountYearRepo albumCounts = mock(AlbumCountYearRepo.class);
+        when(albumCounts.rebuild()).thenReturn(Mono.just(5L));
+        when(albumCounts.countMismatches()).thenReturn(Mono.just(0L));
+        return albumCounts;
+    }
+
+    /**
+     * rebuild/refreshRanks가 10행, countMismatches가 0을 돌려주는 ArtistAlbumCountTotalRepo mock을 만든다.
+     */
+    private static ArtistAlbumCountTotalRepo totalRepo() {
+        ArtistAlbumCountTotalRepo totals = mock(ArtistAlbumCountTotalRepo.class);
+        when(totals.rebuild()).thenReturn(Mono.just(10L));
+        when(totals.rebuildWithSwap()).thenReturn(Mono.just(10L));
+        when(totals.refreshRanks()).thenReturn(Mono.just(10L));
+        when(totals.countMismatches()).thenReturn(Mono.just(0L));
+        return totals;
+    }
+
+    /**
+     * recordRebuild가 version 1을 돌려주는 CatalogVersionRepo mock을 만든다.
+     */
+    private static CatalogVersionRepo versionRepo() {
+        CatalogVersionRepo versions = mock(CatalogVersionRepo.class);
+        when(versions.recordRebuild(anyString(), anyLong())).thenReturn(Mono.just(1L));
+        return versions;
+    }
 }
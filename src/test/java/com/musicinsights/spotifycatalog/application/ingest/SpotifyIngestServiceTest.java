@@ -3,8 +3,10 @@ package com.musicinsights.spotifycatalog.application.ingest;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.IngestSeeds;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRaw;
 import com.musicinsights.spotifycatalog.infrastructure.mapper.TrackRawBatchMapper;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.*;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -15,6 +17,7 @@ import reactor.test.StepVerifier;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -50,13 +53,14 @@ class SpotifyIngestServiceTest {
         IngestFacade ingestDb = new IngestFacade(
                 artistRepo, albumRepo, albumArtistRepo,
                 trackRepo, trackArtistRepo,
-                trackLyricsRepo, audioRepo
+                trackLyricsRepo, audioRepo, mock(ArtistAlbumCountYearRepo.class),
+                mock(ArtistAlbumCountTotalRepo.class), mock(AlbumCountYearRepo.class)
         );
 
         TransactionalOperator tx = mock(TransactionalOperator.class);
         TrackRawBatchMapper mapper = mock(TrackRawBatchMapper.class);
 
-        SpotifyIngestService service = new SpotifyIngestService(ingestDb, tx, mapper);
+        SpotifyIngestService service = new SpotifyIngestService(ingestDb, tx, mapper, new IngestProperties(), new SimpleMeterRegistry());
 
         List<TrackRaw> batch = List.of(new TrackRaw(), new TrackRaw());
 
@@ -114,12 +118,12 @@ class SpotifyIngestServiceTest {
 
         when(albumArtistRepo.insertIgnore(aaRows)).thenReturn(Mono.just(1L));
 
-        when(trackRepo.upsert(trackRows)).thenReturn(Mono.just(2L));
+        when(trackRepo.upsertChanged(trackRows)).thenReturn(Mono.just(new UpsertStats(1, 0, 1)));
         when(trackRepo.fetchTrackIdsByHash(hashes)).thenReturn(Mono.just(trackIdMap));
 
         when(trackArtistRepo.insertIgnore(taRows)).thenReturn(Mono.just(1L));
         when(trackLyricsRepo.upsert(lyricRows)).thenReturn(Mono.just(1L));
-        when(audioRepo.upsertAudioFeatures(audioRows)).thenReturn(Mono.just(1L));
+        when(audioRepo.upsertChanged(audioRows)).thenReturn(Mono.just(new UpsertStats(0, 1, 0)));
 
         // transactional passthrough
         when(tx.transactional(any(Mono.class)))
@@ -156,14 +160,18 @@ class SpotifyIngestServiceTest {
         inOrder.verify(albumArtistRepo).insertIgnore(aaRows);
 
         inOrder.verify(mapper).buildTrackRows(batch, albumIdByKey);
-        inOrder.verify(trackRepo).upsert(trackRows);
+        inOrder.verify(trackRepo).upsertChanged(trackRows);
         inOrder.verify(trackRepo).fetchTrackIdsByHash(hashes);
 
         inOrder.verify(mapper).buildTrackRelations(batch, trackRows, trackIdMap, artistIdByKey);
 
         inOrder.verify(trackArtistRepo).insertIgnore(taRows);
         inOrder.verify(trackLyricsRepo).upsert(lyricRows);
-        inOrder.verify(audioRepo).upsertAudioFeatures(audioRows);
+        inOrder.verify(audioRepo).upsertChanged(audioRows);
+
+        // fingerprint 분류 결과가 summary에 누적
+        assertEquals(new UpsertStats(1, 0, 1), service.summary().get("track"));
+        assertEquals(new UpsertStats(0, 1, 0), service.summary().get("audio_feature"));
     }
 
     /**
@@ -188,13 +196,14 @@ class SpotifyIngestServiceTest {
         IngestFacade ingestDb = new IngestFacade(
                 artistRepo, albumRepo, albumArtistRepo,
                 trackRepo, trackArtistRepo,
-                trackLyricsRepo, audioRepo
+                trackLyricsRepo, audioRepo, mock(ArtistAlbumCountYearRepo.class),
+                mock(ArtistAlbumCountTotalRepo.class), mock(AlbumCountYearRepo.class)
         );
 
         TransactionalOperator tx = mock(TransactionalOperator.class);
         TrackRawBatchMapper mapper = mock(TrackRawBatchMapper.class);
 
-        SpotifyIngestService service = new SpotifyIngestService(ingestDb, tx, mapper);
+        SpotifyIngestService service = new SpotifyIngestService(ingestDb, tx, mapper, new IngestProperties(), new SimpleMeterRegistry());
 
         List<TrackRaw> batch = List.of(new TrackRaw());
 
@@ -216,4 +225,197 @@ class SpotifyIngestServiceTest {
         // downstream은 호출되면 안 됨
         verifyNoInteractions(albumRepo, albumArtistRepo, trackRepo, trackArtistRepo, trackLyricsRepo, audioRepo);
     }
+
+    /**
+     * parallel-relations 모드에서:
+     * <ul>
+     *   <li>artist/album id 확보 단계만 transactional로 감싼다.</li>
+     *   <li>album_artist/track_artist/lyrics/audio 쓰기가 모두 실행되고 결과가 합산된다.</li>
+     *   <li>배치 wall time이 mode=parallel 타이머에 기록된다.</li>
+     * </ul>
+     */
+    @DisplayName("병렬 모드에서 관계 쓰기가 모두 실행되고 배치 시간이 기록되는지 검증")
+    @Test
+    void ingestBatch_parallelMode_runsAllRelationWrites_andRecordsTimer() {
+        // given
+        ArtistRepo artistRepo = mock(ArtistRepo.class);
+        AlbumRepo albumRepo = mock(AlbumRepo.class);
+        AlbumArtistRepo albumArtistRepo = mock(AlbumArtistRepo.class);
+        TrackRepo trackRepo = mock(TrackRepo.class);
+        TrackArtistRepo trackArtistRepo = mock(TrackArtistRepo.class);
+        TrackLyricsRepo trackLyricsRepo = mock(TrackLyricsRepo.class);
+        AudioRepo audioRepo = mock(AudioRepo.class);
+
+        IngestFacade ingestDb = new IngestFacade(
+                artistRepo, albumRepo, albumArtistRepo,
+                trackRepo, trackArtistRepo,
+                trackLyricsRepo, audioRepo, mock(ArtistAlbumCountYearRepo.class),
+                mock(ArtistAlbumCountTotalRepo.class), mock(AlbumCountYearRepo.class)
+        );
+
+        TransactionalOperator tx = mock(TransactionalOperator.class);
+        TrackRawBatchMapper mapper = mock(TrackRawBatchMapper.class);
+
+        IngestProperties props = new IngestProperties();
+        props.setParallelRelations(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        SpotifyIngestService service = new SpotifyIngestService(ingestDb, tx, mapper, props, registry);
+
+        List<TrackRaw> batch = List.of(new TrackRaw());
+
+        var artistSeeds = List.of(new IngestSeeds.ArtistSeed("kIU", "IU"));
+        var albumSeeds = List.of(new IngestSeeds.AlbumSeed("akA", new AlbumRow("AlbumA", LocalDate.of(2020, 1, 1))));
+        TrackRawBatchMapper.BatchExtract ex = new TrackRawBatchMapper.BatchExtract(artistSeeds, albumSeeds);
+        when(mapper.extract(batch)).thenReturn(ex);
+
+        Map<String, Long> artistIdByKey = Map.of("kIU", 10L);
+        Map<String, Long> albumIdByKey = Map.of("akA", 100L);
+
+        List<AlbumArtistRow> aaRows = List.of(new AlbumArtistRow(100L, 10L));
+        when(mapper.buildAlbumArtistRows(batch, artistIdByKey, albumIdByKey)).thenReturn(aaRows);
+
+        List<TrackRow> trackRows = List.of(new TrackRow("h1", "t1", null, null, null, null, false, null, 100L));
+        List<String> hashes = List.of("h1");
+        when(mapper.buildTrackRows(batch, albumIdByKey)).thenReturn(new TrackRawBatchMapper.TrackBuild(trackRows, hashes));
+
+        Map<String, Long> trackIdMap = Map.of("h1", 1000L);
+        List<TrackArtistRow> taRows = List.of(new TrackArtistRow(1000L, 10L));
+        List<TrackLyricsRow> lyricRows = List.of(new TrackLyricsRow(1000L, "ly"));
+        List<AudioRow> audioRows = List.of(
+                new AudioRow(1000L, null, null, null, null, null, null, null, null, null, null, null)
+        );
+        when(mapper.buildTrackRelations(batch, trackRows, trackIdMap, artistIdByKey))
+                .thenReturn(new TrackRawBatchMapper.TrackRelations(taRows, lyricRows, audioRows));
+
+        when(artistRepo.insertIgnoreByKey(artistSeeds)).thenReturn(Mono.just(1L));
+        when(artistRepo.fetchArtistIdsByKey(ex.artistKeys())).thenReturn(Mono.just(artistIdByKey));
+        when(albumRepo.upsertByKey(albumSeeds)).thenReturn(Mono.just(1L));
+        when(albumRepo.fetchAlbumIdsByKey(ex.albumKeys())).thenReturn(Mono.just(albumIdByKey));
+
+        when(albumArtistRepo.insertIgnore(aaRows)).thenReturn(Mono.just(1L));
+        when(trackRepo.upsertChanged(trackRows)).thenReturn(Mono.just(new UpsertStats(1, 0, 0)));
+        when(trackRepo.fetchTrackIdsByHash(hashes)).thenReturn(Mono.just(trackIdMap));
+        when(trackArtistRepo.insertIgnore(taRows)).thenReturn(Mono.just(1L));
+        when(trackLyricsRepo.upsert(lyricRows)).thenReturn(Mono.just(1L));
+        when(audioRepo.upsertChanged(audioRows)).thenReturn(Mono.just(new UpsertStats(0, 1, 0)));
+
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when / then: album_artist(1) + track_artist(1) + lyrics(1) + audio(1)
+        StepVerifier.create(service.ingestBatch(batch))
+                .expectNext(4L)
+                .verifyComplete();
+
+        verify(tx, times(1)).transactional(any(Mono.class));
+        verify(albumArtistRepo).insertIgnore(aaRows);
+        verify(trackArtistRepo).insertIgnore(taRows);
+        verify(trackLyricsRepo).upsert(lyricRows);
+        verify(audioRepo).upsertChanged(audioRows);
+
+        assertEquals(1L, registry.get("ingest.batch").tag("mode", "parallel").timer().count());
+    }
+
+    /**
+     * incremental-stats 모드에서:
+     * <ul>
+     *   <li>이미 존재하는 album_artist 매핑은 제외하고 새 매핑만 저장한다.</li>
+     *   <li>새 매핑으로 계산한 (연도, 아티스트) 증분을 같은 트랜잭션에서 집계 테이블에 더한다.</li>
+     *   <li>album_count_year 증분은 album upsert 전에 없던 album_key 기준으로 계산한다.</li>
+     * </ul>
+     */
+    @DisplayName("incremental-stats 모드에서 새 album_artist 매핑만 저장하고 집계 증분을 적용하는지 검증")
+    @Test
+    void ingestBatch_incrementalStats_appliesDeltasForNewPairsOnly() {
+        // given
+        ArtistRepo artistRepo = mock(ArtistRepo.class);
+        AlbumRepo albumRepo = mock(AlbumRepo.class);
+        AlbumArtistRepo albumArtistRepo = mock(AlbumArtistRepo.class);
+        TrackRepo trackRepo = mock(TrackRepo.class);
+        TrackArtistRepo trackArtistRepo = mock(TrackArtistRepo.class);
+        TrackLyricsRepo trackLyricsRepo = mock(TrackLyricsRepo.class);
+        AudioRepo audioRepo = mock(AudioRepo.class);
+        ArtistAlbumCountYearRepo statsRepo = mock(ArtistAlbumCountYearRepo.class);
+        ArtistAlbumCountTotalRepo totalRepo = mock(ArtistAlbumCountTotalRepo.class);
+        AlbumCountYearRepo albumCountRepo = mock(AlbumCountYearRepo.class);
+
+        IngestFacade ingestDb = new IngestFacade(
+                artistRepo, albumRepo, albumArtistRepo,
+                trackRepo, trackArtistRepo,
+                trackLyricsRepo, audioRepo, statsRepo, totalRepo, albumCountRepo
+        );
+
+        TransactionalOperator tx = mock(TransactionalOperator.class);
+        TrackRawBatchMapper mapper = mock(TrackRawBatchMapper.class);
+
+        IngestProperties props = new IngestProperties();
+        props.setIncrementalStats(true);
+
+        SpotifyIngestService service = new SpotifyIngestService(ingestDb, tx, mapper, props, new SimpleMeterRegistry());
+
+        List<TrackRaw> batch = List.of(new TrackRaw());
+
+        var artistSeeds = List.of(new IngestSeeds.ArtistSeed("kIU", "IU"), new IngestSeeds.ArtistSeed("kBTS", "BTS"));
+        var albumSeeds = List.of(new IngestSeeds.AlbumSeed("akA", new AlbumRow("AlbumA", LocalDate.of(2020, 1, 1))));
+        TrackRawBatchMapper.BatchExtract ex = new TrackRawBatchMapper.BatchExtract(artistSeeds, albumSeeds);
+        when(mapper.extract(batch)).thenReturn(ex);
+
+        Map<String, Long> artistIdByKey = Map.of("kIU", 10L, "kBTS", 11L);
+        Map<String, Long> albumIdByKey = Map.of("akA", 100L);
+
+        AlbumArtistRow existingPair = new AlbumArtistRow(100L, 10L, 2020);
+        AlbumArtistRow newPair = new AlbumArtistRow(100L, 11L, 2020);
+        List<AlbumArtistRow> aaRows = List.of(existingPair, newPair, newPair);
+        when(mapper.buildAlbumArtistRows(batch, artistIdByKey, albumIdByKey)).thenReturn(aaRows);
+
+        List<ArtistYearDeltaRow> deltas = List.of(new ArtistYearDeltaRow(2020, 11L, 1L));
+        when(mapper.buildYearDeltas(List.of(newPair), ex, albumIdByKey)).thenReturn(deltas);
+        List<AlbumYearDeltaRow> albumDeltas = List.of(new AlbumYearDeltaRow(2020, 1L));
+        when(mapper.buildAlbumYearDeltas(Set.of(), ex, albumIdByKey)).thenReturn(albumDeltas);
+
+        when(mapper.buildTrackRows(batch, albumIdByKey))
+                .thenReturn(new TrackRawBatchMapper.TrackBuild(List.of(), List.of()));
+        when(mapper.buildTrackRelations(eq(batch), anyList(), anyMap(), eq(artistIdByKey)))
+                .thenReturn(new TrackRawBatchMapper.TrackRelations(List.of(), List.of(), List.of()));
+
+        when(artistRepo.insertIgnoreByKey(artistSeeds)).thenReturn(Mono.just(2L));
+        when(artistRepo.fetchArtistIdsByKey(ex.artistKeys())).thenReturn(Mono.just(artistIdByKey));
+        when(albumRepo.upsertByKey(albumSeeds)).thenReturn(Mono.just(1L));
+        // upsert 전에는 없던 앨범 → upsert 후 id 확보
+        when(albumRepo.fetchAlbumIdsByKey(ex.albumKeys())).thenReturn(Mono.just(Map.of()), Mono.just(albumIdByKey));
+
+        // 저장된 매핑은 이전 발매 연도를 담고 있어도 같은 (album_id, artist_id)면 기존 매핑으로 본다
+        when(albumArtistRepo.findExisting(aaRows)).thenReturn(Mono.just(Set.of(new AlbumArtistRow(100L, 10L, 2019))));
+        when(albumArtistRepo.insertIgnore(List.of(newPair))).thenReturn(Mono.just(1L));
+        when(statsRepo.applyDeltas(deltas)).thenReturn(Mono.just(1L));
+        when(totalRepo.applyDeltas(deltas)).thenReturn(Mono.just(1L));
+        when(albumCountRepo.applyDeltas(albumDeltas)).thenReturn(Mono.just(1L));
+
+        when(trackRepo.upsertChanged(anyList())).thenReturn(Mono.just(UpsertStats.EMPTY));
+        when(trackRepo.fetchTrackIdsByHash(anyList())).thenReturn(Mono.just(Map.of()));
+        when(trackArtistRepo.insertIgnore(anyList())).thenReturn(Mono.just(0L));
+        when(trackLyricsRepo.upsert(anyList())).thenReturn(Mono.just(0L));
+        when(audioRepo.upsertChanged(anyList())).thenReturn(Mono.just(UpsertStats.EMPTY));
+
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        StepVerifier.create(service.ingestBatch(batch))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then: 새 매핑만 저장 → 그 매핑에 대한 증분을 세 집계에 적용 (하나의 트랜잭션)
+        InOrder inOrder = inOrder(albumRepo, albumArtistRepo, statsRepo, totalRepo, albumCountRepo, trackRepo);
+        inOrder.verify(albumRepo).fetchAlbumIdsByKey(ex.albumKeys());
+        inOrder.verify(albumRepo).upsertByKey(albumSeeds);
+        inOrder.verify(albumRepo).fetchAlbumIdsByKey(ex.albumKeys());
+        inOrder.verify(albumArtistRepo).findExisting(aaRows);
+        inOrder.verify(albumArtistRepo).insertIgnore(List.of(newPair));
+        inOrder.verify(statsRepo).applyDeltas(deltas);
+        inOrder.verify(totalRepo).applyDeltas(deltas);
+        inOrder.verify(albumCountRepo).applyDeltas(albumDeltas);
+        inOrder.verify(trackRepo).upsertChanged(anyList());
+
+        verify(tx, times(1)).transactional(any(Mono.class));
+    }
 }
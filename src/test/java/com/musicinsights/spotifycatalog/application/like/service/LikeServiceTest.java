@@ -4,6 +4,7 @@ import com.musicinsights.spotifycatalog.application.like.dto.response.LikeRespon
 import com.musicinsights.spotifycatalog.application.like.dto.response.TopLikeResponse;
 import com.musicinsights.spotifycatalog.application.like.repository.LikeCounterRepository;
 import com.musicinsights.spotifycatalog.application.like.repository.LikeEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,7 +40,7 @@ class LikeServiceTest {
         this.eventRepo = mock(LikeEventRepository.class);
         this.tx = mock(TransactionalOperator.class);
 
-        this.service = new LikeServiceImpl(counterRepo, eventRepo, tx);
+        this.service = new LikeServiceImpl(counterRepo, eventRepo, tx, new SimpleMeterRegistry());
     }
 
     /**
@@ -1,9 +1,14 @@
 package com.musicinsights.spotifycatalog.bootstrap;
 
+import com.musicinsights.spotifycatalog.application.ingest.BulkLoadIndexService;
+import com.musicinsights.spotifycatalog.application.ingest.IngestProperties;
+import com.musicinsights.spotifycatalog.application.ingest.LyricsBackfillService;
 import com.musicinsights.spotifycatalog.application.ingest.SpotifyIngestRebuildService;
 import com.musicinsights.spotifycatalog.application.ingest.SpotifyIngestService;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.NdjsonLineReader;
 import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRaw;
+import com.musicinsights.spotifycatalog.infrastructure.input.ndjson.TrackRawWithoutLyrics;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo.SecondaryIndexRepo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -44,7 +49,8 @@ class SpotifyNdjsonIngestRunnerTest {
         SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
 
         SpotifyNdjsonIngestRunner runner =
-                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService);
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService,
+                        new IngestProperties(), mock(LyricsBackfillService.class), disabledIndexService());
 
         List<String> lines = Flux.range(0, 801)
                 .map(i -> i == 0 ? "   " : "{\"song\":\"s" + i + "\"}") // 0번은 blank
@@ -94,7 +100,8 @@ class SpotifyNdjsonIngestRunnerTest {
         SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
 
         SpotifyNdjsonIngestRunner runner =
-                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService);
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService,
+                        new IngestProperties(), mock(LyricsBackfillService.class), disabledIndexService());
 
         List<String> lines = Flux.range(1, 1601)
                 .map(i -> "{\"song\":\"s" + i + "\"}")
@@ -137,7 +144,8 @@ class SpotifyNdjsonIngestRunnerTest {
         SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
 
         SpotifyNdjsonIngestRunner runner =
-                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService);
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService,
+                        new IngestProperties(), mock(LyricsBackfillService.class), disabledIndexService());
 
         when(lineReader.readLines(PATH)).thenReturn(Flux.just("{bad-json}"));
         when(om.readValue(anyString(), eq(TrackRaw.class))).thenThrow(new RuntimeException("boom"));
@@ -164,7 +172,8 @@ class SpotifyNdjsonIngestRunnerTest {
         SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
 
         SpotifyNdjsonIngestRunner runner =
-                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService);
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService,
+                        new IngestProperties(), mock(LyricsBackfillService.class), disabledIndexService());
 
         when(lineReader.readLines(PATH)).thenReturn(Flux.just("{\"song\":\"s1\"}"));
         when(om.readValue(anyString(), eq(TrackRaw.class))).thenReturn(new TrackRaw());
@@ -178,4 +187,117 @@ class SpotifyNdjsonIngestRunnerTest {
 
         verify(rebuildService, never()).rebuild();
     }
+
+    /**
+     * defer-lyrics 모드에서는 가사를 건너뛰는 타입({@link TrackRawWithoutLyrics})으로 파싱하고,
+     * rebuild 이후 가사 backfill을 시작하는지 검증한다.
+     */
+    @DisplayName("defer-lyrics 모드에서 가사 없이 파싱하고 rebuild 후 backfill을 시작하는지 검증")
+    @Test
+    void run_deferLyrics_skipsLyricsOnParse_andStartsBackfillAfterRebuild() throws Exception {
+        // given
+        NdjsonLineReader lineReader = mock(NdjsonLineReader.class);
+        ObjectMapper om = mock(ObjectMapper.class);
+        SpotifyIngestService ingestService = mock(SpotifyIngestService.class);
+        SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
+        LyricsBackfillService backfillService = mock(LyricsBackfillService.class);
+
+        IngestProperties props = new IngestProperties();
+        props.setDeferLyrics(true);
+
+        SpotifyNdjsonIngestRunner runner =
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService, props, backfillService,
+                        disabledIndexService());
+
+        when(lineReader.readLines(PATH)).thenReturn(Flux.just("{\"song\":\"s1\"}"));
+        when(om.readValue(anyString(), eq(TrackRawWithoutLyrics.class))).thenReturn(new TrackRawWithoutLyrics());
+        when(ingestService.ingestBatch(anyList())).thenReturn(Mono.just(1L));
+        when(rebuildService.rebuild()).thenReturn(Mono.just(1L));
+        when(backfillService.backfill(PATH)).thenReturn(Mono.just(1L));
+
+        // when
+        runner.run();
+
+        // then
+        verify(om, times(1)).readValue(anyString(), eq(TrackRawWithoutLyrics.class));
+        verify(om, never()).readValue(anyString(), eq(TrackRaw.class));
+
+        var inOrder = inOrder(rebuildService, backfillService);
+        inOrder.verify(rebuildService).rebuild();
+        inOrder.verify(backfillService).backfill(PATH);
+    }
+
+    /**
+     * manage-indexes 모드에서는 적재 전에 인덱스를 내리고,
+     * 적재 후(rebuild 전) 다시 만드는지 순서를 검증한다.
+     */
+    @DisplayName("manage-indexes 모드에서 적재 전후로 인덱스 삭제/복구가 호출되는지 검증")
+    @Test
+    void run_manageIndexes_dropsBeforeLoad_andRestoresBeforeRebuild() throws Exception {
+        // given
+        NdjsonLineReader lineReader = mock(NdjsonLineReader.class);
+        ObjectMapper om = mock(ObjectMapper.class);
+        SpotifyIngestService ingestService = mock(SpotifyIngestService.class);
+        SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
+        BulkLoadIndexService indexService = mock(BulkLoadIndexService.class);
+
+        SpotifyNdjsonIngestRunner runner =
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService,
+                        new IngestProperties(), mock(LyricsBackfillService.class), indexService);
+
+        when(lineReader.readLines(PATH)).thenReturn(Flux.just("{\"song\":\"s1\"}"));
+        when(om.readValue(anyString(), eq(TrackRaw.class))).thenReturn(new TrackRaw());
+        when(ingestService.ingestBatch(anyList())).thenReturn(Mono.just(1L));
+        when(rebuildService.rebuild()).thenReturn(Mono.just(1L));
+        when(indexService.beforeLoad()).thenReturn(Mono.empty());
+        when(indexService.afterLoad()).thenReturn(Mono.empty());
+
+        // when
+        runner.run();
+
+        // then
+        var inOrder = inOrder(indexService, ingestService, rebuildService);
+        inOrder.verify(indexService).beforeLoad();
+        inOrder.verify(ingestService).ingestBatch(anyList());
+        inOrder.verify(indexService).afterLoad();
+        inOrder.verify(rebuildService).rebuild();
+    }
+
+    /**
+     * 적재가 실패해도 삭제한 인덱스는 복구를 시도하고, 원래 예외를 전파하는지 검증한다.
+     */
+    @DisplayName("적재 실패 시에도 인덱스 복구 후 예외를 전파하는지 검증")
+    @Test
+    void run_restoresIndexes_whenIngestFails() throws Exception {
+        // given
+        NdjsonLineReader lineReader = mock(NdjsonLineReader.class);
+        ObjectMapper om = mock(ObjectMapper.class);
+        SpotifyIngestService ingestService = mock(SpotifyIngestService.class);
+        SpotifyIngestRebuildService rebuildService = mock(SpotifyIngestRebuildService.class);
+        BulkLoadIndexService indexService = mock(BulkLoadIndexService.class);
+
+        SpotifyNdjsonIngestRunner runner =
+                new SpotifyNdjsonIngestRunner(lineReader, om, ingestService, rebuildService,
+                        new IngestProperties(), mock(LyricsBackfillService.class), indexService);
+
+        when(lineReader.readLines(PATH)).thenReturn(Flux.just("{\"song\":\"s1\"}"));
+        when(om.readValue(anyString(), eq(TrackRaw.class))).thenReturn(new TrackRaw());
+        when(ingestService.ingestBatch(anyList())).thenReturn(Mono.error(new RuntimeException("db down")));
+        when(indexService.beforeLoad()).thenReturn(Mono.empty());
+        when(indexService.afterLoad()).thenReturn(Mono.empty());
+
+        // when / then
+        RuntimeException ex = assertThrows(RuntimeException.class, runner::run);
+        assertTrue(ex.getMessage().contains("db down"));
+
+        verify(indexService, times(1)).afterLoad();
+        verify(rebuildService, never()).rebuild();
+    }
+
+    /**
+     * 인덱스 관리가 꺼진(기본값) 서비스를 만든다.
+     */
+    private static BulkLoadIndexService disabledIndexService() {
+        return new BulkLoadIndexService(mock(SecondaryIndexRepo.class), new IngestProperties());
+    }
 }
@@ -180,6 +180,19 @@ class NormalizeUtilsTest {
         assertTrue(h.matches("[0-9a-f]{64}"));
     }
 
+    /**
+     * fingerprint는 값 순서와 null/빈 문자열을 구분해야 한다.
+     */
+    @DisplayName("fingerprint가 값 순서와 null/빈 문자열을 구분하는지 검증")
+    @Test
+    void fingerprint_distinguishesOrderAndNull() {
+        assertEquals(NormalizeUtils.fingerprint("a", 1, null), NormalizeUtils.fingerprint("a", 1, null));
+        assertNotEquals(NormalizeUtils.fingerprint("a", null), NormalizeUtils.fingerprint("a", ""));
+        assertNotEquals(NormalizeUtils.fingerprint("a", "b"), NormalizeUtils.fingerprint("b", "a"));
+        assertNotEquals(NormalizeUtils.fingerprint("ab", "c"), NormalizeUtils.fingerprint("a", "bc"));
+        assertTrue(NormalizeUtils.fingerprint("x").matches("[0-9a-f]{64}"));
+    }
+
     /**
      * simplify는 null 입력에 대해 null을 반환해야 한다.
      */
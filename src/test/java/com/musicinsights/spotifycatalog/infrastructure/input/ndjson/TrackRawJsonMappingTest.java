@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * {@link TrackRaw} JSON 매핑 단위 테스트.
@@ -84,4 +85,25 @@ public class TrackRawJsonMappingTest {
         assertEquals(11, r.acousticness);
         assertEquals(0, r.instrumentalness);
     }
+
+    /**
+     * {@link TrackRawWithoutLyrics}로 매핑하면 가사(text)는 건너뛰고
+     * 나머지 필드는 그대로 매핑되는지 검증한다.
+     *
+     * @throws Exception JSON 파싱/매핑 실패 시
+     */
+    @DisplayName("가사 제외 타입으로 매핑하면 text만 건너뛰는지 검증")
+    @Test
+    void jsonLine_mapsTo_TrackRawWithoutLyrics_skipsText() throws Exception {
+        String json = """
+        {"Artist(s)":"!!!","song":"Even When the Waters Cold","text":"Friends told her","Album":"Thr!!!er","Unknown":"x"}
+        """;
+
+        TrackRaw r = om.readValue(json, TrackRawWithoutLyrics.class);
+
+        assertNull(r.text);
+        assertEquals("!!!", r.artists);
+        assertEquals("Even When the Waters Cold", r.song);
+        assertEquals("Thr!!!er", r.album);
+    }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -106,10 +107,69 @@ class TrackRawBatchMapperTest {
         // when
         List<AlbumArtistRow> rows = mapper.buildAlbumArtistRows(batch, artistIdByKey, albumIdByKey);
 
-        // then: IU, BTS만 들어가야 함
+        // then: IU, BTS만 들어가야 함 (발매 연도 포함)
         assertEquals(2, rows.size());
-        assertTrue(rows.contains(new AlbumArtistRow(100L, 10L)));
-        assertTrue(rows.contains(new AlbumArtistRow(100L, 11L)));
+        assertTrue(rows.contains(new AlbumArtistRow(100L, 10L, 2020)));
+        assertTrue(rows.contains(new AlbumArtistRow(100L, 11L, 2020)));
+    }
+
+    /**
+     * buildYearDeltas가 새 album_artist 매핑을 album seed의 발매 연도 기준으로
+     * (연도, 아티스트)별 개수로 합산하고, 발매일이 없는 앨범은 제외하는지 검증한다.
+     */
+    @DisplayName("buildYearDeltas가 새 매핑을 (연도, 아티스트)별로 합산하고 발매일 없는 앨범은 제외한다")
+    @Test
+    void buildYearDeltas_aggregatesByYearAndArtist_andSkipsNullReleaseDate() {
+        // given
+        var albumSeeds = List.of(
+                new IngestSeeds.AlbumSeed("akA", new AlbumRow("AlbumA", LocalDate.of(2020, 1, 1))),
+                new IngestSeeds.AlbumSeed("akB", new AlbumRow("AlbumB", LocalDate.of(2020, 6, 1))),
+                new IngestSeeds.AlbumSeed("akN", new AlbumRow("AlbumN", null))
+        );
+        TrackRawBatchMapper.BatchExtract ex = new TrackRawBatchMapper.BatchExtract(List.of(), albumSeeds);
+        Map<String, Long> albumIdByKey = Map.of("akA", 100L, "akB", 101L, "akN", 102L);
+
+        List<AlbumArtistRow> newPairs = List.of(
+                new AlbumArtistRow(100L, 10L),
+                new AlbumArtistRow(101L, 10L),
+                new AlbumArtistRow(100L, 11L),
+                new AlbumArtistRow(102L, 10L)
+        );
+
+        // when
+        List<ArtistYearDeltaRow> deltas = mapper.buildYearDeltas(newPairs, ex, albumIdByKey);
+
+        // then
+        assertEquals(2, deltas.size());
+        assertTrue(deltas.contains(new ArtistYearDeltaRow(2020, 10L, 2L)));
+        assertTrue(deltas.contains(new ArtistYearDeltaRow(2020, 11L, 1L)));
+    }
+
+    /**
+     * buildAlbumYearDeltas가 upsert 전에 없던 album_key만 새 앨범으로 세고,
+     * 발매일이 없는 앨범은 연도 0으로 모으는지 검증한다.
+     * (이미 있던 앨범에 다른 아티스트 매핑이 새로 생겨도 앨범 수는 늘지 않는다)
+     */
+    @DisplayName("buildAlbumYearDeltas가 새 album 행만 연도별로 세고 발매일 없는 앨범은 0년으로 모은다")
+    @Test
+    void buildAlbumYearDeltas_countsOnlyNewAlbums() {
+        // given
+        var albumSeeds = List.of(
+                new IngestSeeds.AlbumSeed("akA", new AlbumRow("AlbumA", LocalDate.of(2020, 1, 1))),
+                new IngestSeeds.AlbumSeed("akB", new AlbumRow("AlbumB", LocalDate.of(2020, 6, 1))),
+                new IngestSeeds.AlbumSeed("akN", new AlbumRow("AlbumN", null))
+        );
+        TrackRawBatchMapper.BatchExtract ex = new TrackRawBatchMapper.BatchExtract(List.of(), albumSeeds);
+        Map<String, Long> albumIdByKey = Map.of("akA", 100L, "akB", 101L, "akN", 102L);
+
+        // akA는 이전 배치에서 이미 만들어진 앨범, akB/akN은 이번 배치에서 새로 생긴 앨범
+        Set<String> knownAlbumKeys = Set.of("akA");
+
+        // when
+        List<AlbumYearDeltaRow> deltas = mapper.buildAlbumYearDeltas(knownAlbumKeys, ex, albumIdByKey);
+
+        // then
+        assertEquals(List.of(new AlbumYearDeltaRow(2020, 1L), new AlbumYearDeltaRow(0, 1L)), deltas);
     }
 
     /**
@@ -176,6 +236,29 @@ class TrackRawBatchMapperTest {
         assertEquals(100L, tr.albumId());          // mapped
         assertEquals("03:47", tr.durationStr());   // 원본 보존
         assertTrue(tr.explicit());                 // Yes -> true
+        assertNotNull(tr.contentFp());             // 변경 감지용 fingerprint
+    }
+
+    /**
+     * 같은 입력은 같은 fingerprint를, 내용(hash에 포함되지 않는 컬럼)이 바뀌면 다른 fingerprint를 만드는지 검증한다.
+     */
+    @DisplayName("buildTrackRows: 내용이 바뀌면 track_hash는 같고 fingerprint만 달라지는지 검증")
+    @Test
+    void buildTrackRows_fingerprintChangesWithContent() {
+        TrackRaw v1 = raw().song("Song").artists("IU").album("AlbumA").releaseDate("2020-01-01")
+                .genre("pop").popularity(55).build();
+        TrackRaw v1Again = raw().song("Song").artists("IU").album("AlbumA").releaseDate("2020-01-01")
+                .genre("pop").popularity(55).build();
+        TrackRaw v2 = raw().song("Song").artists("IU").album("AlbumA").releaseDate("2020-01-01")
+                .genre("pop").popularity(56).build();
+
+        Map<String, Long> albumIdByKey = Map.of(NormalizeUtils.albumKey("AlbumA", LocalDate.of(2020, 1, 1)), 100L);
+
+        List<TrackRow> rows = mapper.buildTrackRows(List.of(v1, v1Again, v2), albumIdByKey).trackRows();
+
+        assertEquals(rows.get(0).trackHash(), rows.get(2).trackHash());
+        assertEquals(rows.get(0).contentFp(), rows.get(1).contentFp());
+        assertNotEquals(rows.get(0).contentFp(), rows.get(2).contentFp());
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link LyricsCodec} 단위 테스트.
+ *
+ * <p>압축/해제 왕복과 손상·미지원 codec 처리(예외)를 검증한다.</p>
+ */
+@DisplayName("가사 압축 codec 테스트")
+class LyricsCodecTest {
+
+    /** 반복이 많은 가사는 원문보다 작게 압축되고, 해제 시 원문과 동일해야 한다. */
+    @Test
+    @DisplayName("압축 후 해제하면 원문과 동일한지 검증")
+    void compress_thenDecompress_roundTrips() {
+        String lyrics = "사랑해 I love you\n".repeat(200);
+        int rawLength = lyrics.getBytes(StandardCharsets.UTF_8).length;
+
+        byte[] body = LyricsCodec.compress(lyrics);
+
+        assertTrue(body.length < rawLength);
+        assertEquals(lyrics, LyricsCodec.decompress(LyricsCodec.DEFLATE, body, rawLength));
+    }
+
+    @Test
+    @DisplayName("빈 문자열도 왕복되는지 검증")
+    void compress_empty() {
+        byte[] body = LyricsCodec.compress("");
+        assertEquals("", LyricsCodec.decompress(LyricsCodec.DEFLATE, body, 0));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 codec이면 예외가 발생하는지 검증")
+    void decompress_unknownCodec_throws() {
+        assertThrows(IllegalStateException.class,
+                () -> LyricsCodec.decompress("zstd", new byte[]{1, 2, 3}, 3));
+    }
+
+    @Test
+    @DisplayName("원문 길이가 맞지 않으면 손상으로 판단해 예외가 발생하는지 검증")
+    void decompress_lengthMismatch_throws() {
+        byte[] body = LyricsCodec.compress("hello");
+        assertThrows(IllegalStateException.class,
+                () -> LyricsCodec.decompress(LyricsCodec.DEFLATE, body, 10));
+    }
+}
@@ -13,6 +13,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -121,6 +122,57 @@ class AlbumArtistRepoTest {
                 .verifyComplete();
     }
 
+    /**
+     * findExisting이 이미 저장된 (album_id, artist_id) 페어만 돌려주는지 검증한다.
+     */
+    @Test
+    @DisplayName("findExisting은 이미 저장된 매핑만 반환한다")
+    void findExisting_returnsOnlyStoredPairs() {
+        long artistId1 = seedArtist("kIU", "IU");
+        long artistId2 = seedArtist("kBTS", "BTS");
+        long albumId   = seedAlbum("akA", "AlbumA", LocalDate.of(2020, 1, 1));
+
+        AlbumArtistRow stored = new AlbumArtistRow(albumId, artistId1);
+        AlbumArtistRow fresh  = new AlbumArtistRow(albumId, artistId2);
+
+        StepVerifier.create(repo.insertIgnore(List.of(stored)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(repo.findExisting(List.of(stored, fresh)))
+                .assertNext(existing -> Assertions.assertEquals(Set.of(stored), existing))
+                .verifyComplete();
+    }
+
+    /**
+     * insertIgnore가 매핑과 함께 release_year를 저장하고,
+     * findExisting이 저장된 연도를 담아 입력 Row와 같게 돌려주는지 검증한다.
+     */
+    @Test
+    @DisplayName("insertIgnore는 release_year를 함께 저장하고 findExisting은 연도를 포함해 반환한다")
+    void insertIgnore_storesReleaseYear() {
+        long artistId = seedArtist("kIU", "IU");
+        long albumId  = seedAlbum("akA", "AlbumA", LocalDate.of(2020, 1, 1));
+
+        AlbumArtistRow row = new AlbumArtistRow(albumId, artistId, 2020);
+
+        StepVerifier.create(repo.insertIgnore(List.of(row)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(db.sql("SELECT release_year FROM album_artist WHERE album_id = :alb AND artist_id = :art")
+                        .bind("alb", albumId)
+                        .bind("art", artistId)
+                        .map((r, meta) -> r.get("release_year", Integer.class))
+                        .one())
+                .expectNext(2020)
+                .verifyComplete();
+
+        StepVerifier.create(repo.findExisting(List.of(row)))
+                .assertNext(existing -> Assertions.assertEquals(Set.of(row), existing))
+                .verifyComplete();
+    }
+
     /**
      * null albumId/artistId가 포함된 row는 저장 대상에서 제외되고
      * 유효한 row만 삽입되는지 검증한다.
@@ -0,0 +1,144 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.AlbumYearDeltaRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link AlbumCountYearRepo} 통합 테스트.
+ *
+ * <p>album 기준 연도별 앨범 수를 계산하고(발매 연도 없음 = 0),
+ * 더 이상 없는 연도 행은 지우는지, 증분을 연도별로 더하는지 검증한다.</p>
+ */
+@SpringBootTest
+@DisplayName("album_count_year repo 테스트")
+class AlbumCountYearRepoTest {
+
+    @Autowired
+    AlbumCountYearRepo repo;
+
+    @Autowired
+    DatabaseClient db;
+
+    @BeforeEach
+    void clean() {
+        StepVerifier.create(db.sql("DELETE FROM album_count_year").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(db.sql("DELETE FROM album").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+    }
+
+    /**
+     * rebuild가 연도별 앨범 수를 만들고, 발매일 없는 앨범은 0년 행으로 모으며,
+     * album에 없는 연도의 기존 행은 삭제하는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuild는 연도별 앨범 수를 갱신하고 사라진 연도 행은 지운다")
+    void rebuild_countsPerYear_andRemovesStaleYears() {
+        // given: 사라져야 할 이전 연도 행
+        StepVerifier.create(db.sql("INSERT INTO album_count_year(release_year, album_count) VALUES(1999, 9)")
+                        .fetch().rowsUpdated())
+                .expectNext(1L).verifyComplete();
+
+        seedAlbum("ak-2020-a", LocalDate.of(2020, 1, 1));
+        seedAlbum("ak-2020-b", LocalDate.of(2020, 5, 1));
+        seedAlbum("ak-null", null);
+
+        // when
+        StepVerifier.create(repo.rebuild())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(getCount(2020)).expectNext(2L).verifyComplete();
+        StepVerifier.create(getCount(0)).expectNext(1L).verifyComplete();
+        StepVerifier.create(getCount(1999)).expectNext(0L).verifyComplete();
+    }
+
+    /**
+     * applyDeltas가 기존 연도 행에는 더하고, 없던 연도 행은 삽입하는지 검증한다.
+     */
+    @Test
+    @DisplayName("applyDeltas는 연도별 새 앨범 수를 더한다")
+    void applyDeltas_addsPerYear() {
+        // given
+        StepVerifier.create(db.sql("INSERT INTO album_count_year(release_year, album_count) VALUES(2020, 2)")
+                        .fetch().rowsUpdated())
+                .expectNext(1L).verifyComplete();
+
+        // when
+        StepVerifier.create(repo.applyDeltas(List.of(
+                        new AlbumYearDeltaRow(2020, 3L),
+                        new AlbumYearDeltaRow(0, 1L)
+                )))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(getCount(2020)).expectNext(5L).verifyComplete();
+        StepVerifier.create(getCount(0)).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * countMismatches가 rebuild 직후에는 0을, 요약 테이블이 album과 어긋나면 불일치 연도 수를 반환하는지 검증한다.
+     */
+    @Test
+    @DisplayName("countMismatches는 rebuild 직후 0, 요약이 어긋나면 불일치 연도 수를 반환한다")
+    void countMismatches_detectsDrift() {
+        // given
+        seedAlbum("ak-2020", LocalDate.of(2020, 1, 1));
+        seedAlbum("ak-null", null);
+        StepVerifier.create(repo.rebuild()).expectNextCount(1).verifyComplete();
+
+        // then: 일치
+        StepVerifier.create(repo.countMismatches()).expectNext(0L).verifyComplete();
+
+        // when: 2020년 값을 틀어지게 하고, album에 없는 연도 행을 추가한다
+        StepVerifier.create(repo.applyDeltas(List.of(
+                        new AlbumYearDeltaRow(2020, 1L),
+                        new AlbumYearDeltaRow(1999, 1L)
+                )))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(repo.countMismatches()).expectNext(2L).verifyComplete();
+    }
+
+    /**
+     * 특정 연도의 앨범 수를 조회한다. (행이 없으면 0)
+     */
+    private Mono<Long> getCount(int year) {
+        return db.sql("SELECT COALESCE(MAX(album_count), 0) AS c FROM album_count_year WHERE release_year = ?")
+                .bind(0, year)
+                .map((row, meta) -> row.get("c", Long.class))
+                .one();
+    }
+
+    /**
+     * album 테이블에 1건을 삽입한다. (releaseDate가 null이면 bindNull)
+     */
+    private void seedAlbum(String albumKey, LocalDate releaseDate) {
+        DatabaseClient.GenericExecuteSpec spec =
+                db.sql("INSERT INTO album(album_key, name, release_date) VALUES(?, ?, ?)")
+                        .bind(0, albumKey)
+                        .bind(1, albumKey);
+
+        if (releaseDate == null) spec = spec.bindNull(2, LocalDate.class);
+        else spec = spec.bind(2, releaseDate);
+
+        StepVerifier.create(spec.fetch().rowsUpdated())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+}
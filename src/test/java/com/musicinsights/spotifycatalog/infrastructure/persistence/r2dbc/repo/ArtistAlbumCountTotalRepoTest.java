@@ -0,0 +1,252 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.ArtistYearDeltaRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * {@link ArtistAlbumCountTotalRepo} 통합 테스트.
+ *
+ * <p>artist_album_count_year를 artist_id로 합산해 artist_album_count_total을 만드는지,
+ * swap 방식도 같은 결과를 만드는지, 증분을 아티스트별로 더하고 순위를 다시 계산하는지 검증한다.</p>
+ */
+@SpringBootTest
+@DisplayName("artist_album_count_total repo 테스트")
+class ArtistAlbumCountTotalRepoTest {
+
+    @Autowired
+    ArtistAlbumCountTotalRepo repo;
+
+    @Autowired
+    DatabaseClient db;
+
+    @BeforeEach
+    void clean() {
+        StepVerifier.create(db.sql("DELETE FROM artist_album_count_total").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(db.sql("DELETE FROM artist_album_count_year").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(db.sql("DELETE FROM artist").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+    }
+
+    /**
+     * rebuild가 연도별 album_count를 아티스트별로 합산하고, 기존 행은 제거하는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuild는 연도별 집계를 아티스트별로 합산한다")
+    void rebuild_sumsYearlyCounts() {
+        // given
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        seedYear(2019, a1, 2);
+        seedYear(2020, a1, 3);
+        seedYear(2020, a2, 1);
+
+        // when
+        StepVerifier.create(repo.rebuild())
+                .expectNext(2L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(getTotal(a1)).expectNext(5L).verifyComplete();
+        StepVerifier.create(getTotal(a2)).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * rebuildWithSwap이 rebuild와 같은 결과를 live 테이블에 남기는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuildWithSwap은 shadow 테이블을 교체해 같은 합계를 만든다")
+    void rebuildWithSwap_sumsYearlyCounts() {
+        // given
+        long a1 = seedArtist("IU");
+        seedYear(2019, a1, 2);
+        seedYear(2021, a1, 4);
+
+        // when
+        StepVerifier.create(repo.rebuildWithSwap())
+                .expectNext(1L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(getTotal(a1)).expectNext(6L).verifyComplete();
+    }
+
+    /**
+     * rebuildWithSwap을 여러 번 실행해도 live 테이블의 artist FK(fk_aact_artist)가 마이그레이션과 같이 유지되는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuildWithSwap 후에도 artist FK가 유지된다")
+    void rebuildWithSwap_keepsArtistForeignKey() {
+        // given
+        long a1 = seedArtist("IU");
+        seedYear(2020, a1, 1);
+
+        // when: 두 번 교체
+        StepVerifier.create(repo.rebuildWithSwap().then(repo.rebuildWithSwap()))
+                .expectNext(1L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(
+                db.sql("""
+                        SELECT COUNT(*) AS c
+                        FROM information_schema.TABLE_CONSTRAINTS
+                        WHERE CONSTRAINT_SCHEMA = DATABASE()
+                          AND TABLE_NAME = 'artist_album_count_total'
+                          AND CONSTRAINT_NAME = 'fk_aact_artist'
+                          AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+                        """)
+                        .map((row, meta) -> row.get("c", Long.class))
+                        .one()
+        ).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * applyDeltas가 연도별 증분을 아티스트별로 합산해 기존 합계에 더하고, 없던 아티스트는 삽입하는지 검증한다.
+     */
+    @Test
+    @DisplayName("applyDeltas는 연도별 증분을 아티스트별로 합산해 더한다")
+    void applyDeltas_sumsPerArtist() {
+        // given
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        seedYear(2019, a1, 2);
+        StepVerifier.create(repo.rebuild()).expectNext(1L).verifyComplete();
+
+        // when
+        StepVerifier.create(repo.applyDeltas(List.of(
+                        new ArtistYearDeltaRow(2019, a1, 1L),
+                        new ArtistYearDeltaRow(2020, a1, 2L),
+                        new ArtistYearDeltaRow(2020, a2, 1L)
+                )))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(getTotal(a1)).expectNext(5L).verifyComplete();
+        StepVerifier.create(getTotal(a2)).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * countMismatches가 rebuild 직후에는 0을,
+     * 합계가 연도별 집계 합산과 어긋나면 불일치 아티스트 수를 반환하는지 검증한다.
+     */
+    @Test
+    @DisplayName("countMismatches는 rebuild 직후 0, 합계가 어긋나면 불일치 아티스트 수를 반환한다")
+    void countMismatches_detectsDrift() {
+        // given
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        seedYear(2019, a1, 2);
+        seedYear(2020, a1, 1);
+        seedYear(2020, a2, 1);
+        StepVerifier.create(repo.rebuild()).expectNext(2L).verifyComplete();
+
+        // then: 일치
+        StepVerifier.create(repo.countMismatches()).expectNext(0L).verifyComplete();
+
+        // when: a2 합계만 틀어지게 만든다
+        StepVerifier.create(repo.applyDeltas(List.of(new ArtistYearDeltaRow(2020, a2, 1L))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(repo.countMismatches()).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * refreshRanks가 증분 이후의 album_count로 row_no/rank_no를 다시 매기는지 검증한다.
+     */
+    @Test
+    @DisplayName("refreshRanks는 증분 이후 합계로 순위를 다시 계산한다")
+    void refreshRanks_afterDeltas() {
+        // given: a1(2) > a2(1) 순위로 rebuild 후 a2에 +3
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        seedYear(2019, a1, 2);
+        seedYear(2019, a2, 1);
+        StepVerifier.create(repo.rebuild()).expectNext(2L).verifyComplete();
+        StepVerifier.create(repo.applyDeltas(List.of(new ArtistYearDeltaRow(2020, a2, 3L))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(repo.refreshRanks()).expectNextCount(1).verifyComplete();
+
+        // then
+        StepVerifier.create(getRowNo(a2)).expectNext(1L).verifyComplete();
+        StepVerifier.create(getRowNo(a1)).expectNext(2L).verifyComplete();
+    }
+
+    /**
+     * 특정 아티스트의 row_no를 조회한다.
+     */
+    private Mono<Long> getRowNo(long artistId) {
+        return db.sql("SELECT row_no FROM artist_album_count_total WHERE artist_id = ?")
+                .bind(0, artistId)
+                .map((row, meta) -> row.get("row_no", Long.class))
+                .one();
+    }
+
+    /**
+     * 특정 아티스트의 전체 앨범 수를 조회한다. (없으면 0)
+     */
+    private Mono<Long> getTotal(long artistId) {
+        return db.sql("SELECT COALESCE(MAX(album_count), 0) AS c FROM artist_album_count_total WHERE artist_id = ?")
+                .bind(0, artistId)
+                .map((row, meta) -> row.get("c", Long.class))
+                .one();
+    }
+
+    /**
+     * artist_album_count_year에 집계 행 1건을 삽입한다.
+     */
+    private void seedYear(int year, long artistId, long count) {
+        StepVerifier.create(
+                db.sql("INSERT INTO artist_album_count_year(release_year, artist_id, album_count) VALUES(?, ?, ?)")
+                        .bind(0, year)
+                        .bind(1, artistId)
+                        .bind(2, count)
+                        .fetch()
+                        .rowsUpdated()
+        ).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * artist 테이블에 1건을 삽입하고 생성된 id를 반환한다.
+     */
+    private long seedArtist(String name) {
+        String key = com.musicinsights.spotifycatalog.infrastructure.input.ndjson.NormalizeUtils.artistKey(name);
+
+        StepVerifier.create(
+                db.sql("INSERT INTO artist(name, name_key) VALUES(?, ?)")
+                        .bind(0, name)
+                        .bind(1, key)
+                        .fetch()
+                        .rowsUpdated()
+        ).expectNext(1L).verifyComplete();
+
+        Long id = db.sql("SELECT id FROM artist WHERE name_key=?")
+                .bind(0, key)
+                .map((row, meta) -> row.get("id", Long.class))
+                .one()
+                .block();
+
+        assertNotNull(id);
+        return id;
+    }
+}
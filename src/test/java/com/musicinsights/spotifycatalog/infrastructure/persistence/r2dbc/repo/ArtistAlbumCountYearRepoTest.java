@@ -1,5 +1,7 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.ArtistYearDeltaRow;
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.YearCountRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,13 +12,15 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * {@link ArtistAlbumCountYearRepo} 통합 테스트.
  *
- * <p>artist_album_count_year 집계 테이블에 대해 rebuild 동작을 검증한다.</p>
+ * <p>artist_album_count_year 집계 테이블에 대해 rebuild, 증분 적용(applyDeltas),
+ * 원천 데이터와의 불일치 검증(countMismatches) 동작을 검증한다.</p>
  */
 @SpringBootTest
 @DisplayName("artist_album_count_year repo 테스트")
@@ -140,6 +144,236 @@ class ArtistAlbumCountYearRepoTest {
                 .verifyComplete();
     }
 
+    /**
+     * rebuildWithSwap 실행 시 shadow 테이블에 새 집계를 만든 뒤 live 테이블과 교체하여,
+     * 기존 행은 사라지고 새 집계만 남으며 shadow/old 테이블은 남지 않는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuildWithSwap은 shadow 테이블을 만든 뒤 live 테이블과 교체한다")
+    void rebuildWithSwap_replacesLiveTable() {
+        // given: 오래된 집계 1행
+        long dummyArtistId = seedArtist("DUMMY");
+        StepVerifier.create(
+                db.sql("INSERT INTO artist_album_count_year(release_year, artist_id, album_count) VALUES(?, ?, ?)")
+                        .bind(0, 1999)
+                        .bind(1, dummyArtistId)
+                        .bind(2, 777L)
+                        .fetch()
+                        .rowsUpdated()
+        ).expectNext(1L).verifyComplete();
+
+        long artistId = seedArtist("IU");
+        long albumId  = seedAlbum("ak-2020", "Album2020", LocalDate.of(2020, 1, 1));
+        seedAlbumArtist(albumId, artistId);
+
+        // when
+        StepVerifier.create(repo.rebuildWithSwap())
+                .expectNext(1L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(countAggRows()).expectNext(1L).verifyComplete();
+        StepVerifier.create(getAlbumCount(2020, artistId)).expectNext(1L).verifyComplete();
+        StepVerifier.create(getAlbumCount(1999, dummyArtistId)).expectNext(0L).verifyComplete();
+
+        StepVerifier.create(
+                db.sql("""
+                        SELECT COUNT(*) AS c
+                        FROM information_schema.TABLES
+                        WHERE TABLE_SCHEMA = DATABASE()
+                          AND TABLE_NAME IN ('artist_album_count_year_shadow', 'artist_album_count_year_old')
+                        """)
+                        .map((row, meta) -> row.get("c", Long.class))
+                        .one()
+        ).expectNext(0L).verifyComplete();
+    }
+
+    /**
+     * rebuildWithSwap을 여러 번 실행해도 live 테이블의 artist FK(fk_aacy_artist)가 마이그레이션과 같이 유지되는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuildWithSwap 후에도 artist FK가 유지된다")
+    void rebuildWithSwap_keepsArtistForeignKey() {
+        // given
+        long artistId = seedArtist("IU");
+        long albumId  = seedAlbum("ak-2020", "Album2020", LocalDate.of(2020, 1, 1));
+        seedAlbumArtist(albumId, artistId);
+
+        // when: 두 번 교체
+        StepVerifier.create(repo.rebuildWithSwap().then(repo.rebuildWithSwap()))
+                .expectNext(1L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(
+                db.sql("""
+                        SELECT COUNT(*) AS c
+                        FROM information_schema.TABLE_CONSTRAINTS
+                        WHERE CONSTRAINT_SCHEMA = DATABASE()
+                          AND TABLE_NAME = 'artist_album_count_year'
+                          AND CONSTRAINT_NAME = 'fk_aacy_artist'
+                          AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+                        """)
+                        .map((row, meta) -> row.get("c", Long.class))
+                        .one()
+        ).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * 연도 구간별 INSERT를 나눠 실행한 결과가 단일 rebuild와 같은지,
+     * 발매 연도별 앨범 수 조회가 release_year null 앨범을 무시하는지 검증한다.
+     */
+    @Test
+    @DisplayName("연도 구간별 insertYearRange 결과는 단일 rebuild 결과와 같다")
+    void insertYearRange_partitionsMatchFullRebuild() {
+        // given
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        long al2019 = seedAlbum("ak-2019", "Album2019", LocalDate.of(2019, 1, 1));
+        long al2021 = seedAlbum("ak-2021", "Album2021", LocalDate.of(2021, 1, 1));
+        long alNull = seedAlbum("ak-null", "AlbumNull", null);
+        seedAlbumArtist(al2019, a1);
+        seedAlbumArtist(al2021, a1);
+        seedAlbumArtist(al2021, a2);
+        seedAlbumArtist(alNull, a2);
+
+        StepVerifier.create(repo.findReleaseYearCounts())
+                .expectNext(new YearCountRow(2019, 1L), new YearCountRow(2021, 1L))
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(repo.truncate()
+                        .then(repo.insertYearRange(2019, 2020))
+                        .zipWith(repo.insertYearRange(2021, 2021), Long::sum))
+                .expectNext(3L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(repo.countMismatches()).expectNext(0L).verifyComplete();
+        StepVerifier.create(getAlbumCount(2021, a2)).expectNext(1L).verifyComplete();
+    }
+
+    /**
+     * applyDeltas 실행 시 없는 (연도, 아티스트) 행은 새로 만들고,
+     * 이미 있는 행은 album_count에 증분을 더하는지 검증한다.
+     */
+    @Test
+    @DisplayName("applyDeltas는 기존 집계에 증분을 누적하고 없는 행은 새로 만든다")
+    void applyDeltas_accumulatesIntoExistingRows() {
+        // given
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+
+        // when: 두 번 나눠서 적용
+        StepVerifier.create(repo.applyDeltas(List.of(new ArtistYearDeltaRow(2020, a1, 2L))))
+                .assertNext(updated -> assertTrue(updated >= 1))
+                .verifyComplete();
+
+        StepVerifier.create(repo.applyDeltas(List.of(
+                        new ArtistYearDeltaRow(2020, a1, 1L),
+                        new ArtistYearDeltaRow(2021, a2, 1L)
+                )))
+                .assertNext(updated -> assertTrue(updated >= 2))
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(getAlbumCount(2020, a1)).expectNext(3L).verifyComplete();
+        StepVerifier.create(getAlbumCount(2021, a2)).expectNext(1L).verifyComplete();
+        StepVerifier.create(countAggRows()).expectNext(2L).verifyComplete();
+    }
+
+    /**
+     * 빈 증분 목록은 DB를 호출하지 않고 0을 반환한다.
+     */
+    @Test
+    @DisplayName("applyDeltas는 빈 목록이면 0을 반환한다")
+    void applyDeltas_empty_returnsZero() {
+        StepVerifier.create(repo.applyDeltas(List.of()))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    /**
+     * countMismatches가 rebuild 직후에는 0을,
+     * 집계 테이블이 원천 데이터와 어긋나면 0보다 큰 값을 반환하는지 검증한다.
+     */
+    @Test
+    @DisplayName("countMismatches는 rebuild 직후 0, 집계가 어긋나면 불일치 행 수를 반환한다")
+    void countMismatches_detectsDrift() {
+        // given
+        long a1 = seedArtist("IU");
+        long al = seedAlbum("ak-2020", "Album2020", LocalDate.of(2020, 1, 1));
+        seedAlbumArtist(al, a1);
+
+        StepVerifier.create(repo.rebuild()).expectNextCount(1).verifyComplete();
+
+        // then: 일치
+        StepVerifier.create(repo.countMismatches()).expectNext(0L).verifyComplete();
+
+        // when: 집계값을 틀어지게 만든다
+        StepVerifier.create(
+                db.sql("UPDATE artist_album_count_year SET album_count = album_count + 1")
+                        .fetch()
+                        .rowsUpdated()
+        ).expectNext(1L).verifyComplete();
+
+        // then: 불일치 감지
+        StepVerifier.create(repo.countMismatches())
+                .assertNext(n -> assertTrue(n > 0))
+                .verifyComplete();
+    }
+
+    /**
+     * rebuild 시 연도별로 (album_count DESC, artist_id ASC) 순서의 row_no와
+     * album_count 기준 dense rank(rank_no)가 함께 계산되는지 검증한다.
+     */
+    @Test
+    @DisplayName("rebuild는 연도별 row_no/rank_no를 함께 계산한다")
+    void rebuild_computesRowAndRank() {
+        // given: 2020년 IU=2, BTS=1, AKMU=1
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        long a3 = seedArtist("AKMU");
+        long al1 = seedAlbum("ak-r-1", "R1", LocalDate.of(2020, 1, 1));
+        long al2 = seedAlbum("ak-r-2", "R2", LocalDate.of(2020, 2, 1));
+        seedAlbumArtist(al1, a1);
+        seedAlbumArtist(al2, a1);
+        seedAlbumArtist(al1, a2);
+        seedAlbumArtist(al2, a3);
+
+        // when
+        StepVerifier.create(repo.rebuild()).expectNextCount(1).verifyComplete();
+
+        // then: 동률(BTS, AKMU)은 같은 rank, row_no는 artist_id 순
+        StepVerifier.create(getRowAndRank(2020, a1)).expectNext("1/1").verifyComplete();
+        StepVerifier.create(getRowAndRank(2020, Math.min(a2, a3))).expectNext("2/2").verifyComplete();
+        StepVerifier.create(getRowAndRank(2020, Math.max(a2, a3))).expectNext("3/2").verifyComplete();
+    }
+
+    /**
+     * 증분(applyDeltas)으로 album_count가 바뀐 뒤 refreshRanks가 순위를 다시 맞추는지 검증한다.
+     */
+    @Test
+    @DisplayName("refreshRanks는 증분 반영 후 row_no/rank_no를 다시 계산한다")
+    void refreshRanks_afterDeltas_reordersRows() {
+        // given
+        long a1 = seedArtist("IU");
+        long a2 = seedArtist("BTS");
+        StepVerifier.create(repo.applyDeltas(List.of(
+                        new ArtistYearDeltaRow(2020, a1, 1L),
+                        new ArtistYearDeltaRow(2020, a2, 3L)
+                )))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(repo.refreshRanks()).expectNextCount(1).verifyComplete();
+
+        // then
+        StepVerifier.create(getRowAndRank(2020, a2)).expectNext("1/1").verifyComplete();
+        StepVerifier.create(getRowAndRank(2020, a1)).expectNext("2/2").verifyComplete();
+    }
+
     /**
      * artist_album_count_year 테이블의 총 row 수를 조회한다.
      *
@@ -184,6 +418,26 @@ class ArtistAlbumCountYearRepoTest {
                 .one();
     }
 
+    /**
+     * 특정 연도/아티스트 집계 행의 "row_no/rank_no"를 조회한다.
+     *
+     * @param year     release_year
+     * @param artistId artist_id
+     * @return "row_no/rank_no" 문자열
+     */
+    private Mono<String> getRowAndRank(int year, long artistId) {
+        return db.sql("""
+                SELECT row_no, rank_no
+                FROM artist_album_count_year
+                WHERE release_year = ? AND artist_id = ?
+                """)
+                .bind(0, year)
+                .bind(1, artistId)
+                .map((row, meta) -> row.get("row_no", Number.class).longValue()
+                        + "/" + row.get("rank_no", Number.class).longValue())
+                .one();
+    }
+
     /**
      * artist 테이블에 1건을 삽입하고 생성된 id를 조회해 반환한다.
      *
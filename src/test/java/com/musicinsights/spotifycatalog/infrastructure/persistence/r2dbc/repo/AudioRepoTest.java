@@ -1,5 +1,6 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.AudioRow;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -215,6 +216,33 @@ class AudioRepoTest {
                 .verifyComplete();
     }
 
+    /**
+     * upsertChanged가 fingerprint가 같은 row는 건너뛰고, 달라진 row만 갱신하는지 검증한다.
+     */
+    @DisplayName("upsertChanged가 fingerprint가 달라진 row만 갱신하는지 검증")
+    @Test
+    void upsertChanged_writesOnlyChangedRows() {
+        seedTrack(1L);
+        seedTrack(2L);
+
+        AudioRow a = new AudioRow(1L, 100.0, -10.0, 10, 20, 30, 1, 2, 3, 4, "C", "4/4", "fp-a");
+        AudioRow b = new AudioRow(2L, 110.0, -9.0, 10, 20, 30, 1, 2, 3, 4, "D", "3/4", "fp-b");
+
+        StepVerifier.create(repo.upsertChanged(List.of(a, b)))
+                .expectNext(new UpsertStats(2, 0, 0))
+                .verifyComplete();
+
+        AudioRow b2 = new AudioRow(2L, 150.0, -9.0, 10, 20, 30, 1, 2, 3, 4, "D", "3/4", "fp-b2");
+
+        StepVerifier.create(repo.upsertChanged(List.of(a, b2)))
+                .expectNext(new UpsertStats(0, 1, 1))
+                .verifyComplete();
+
+        StepVerifier.create(fetchAudioByTrackId(2L))
+                .assertNext(r -> Assertions.assertEquals(150.0, r.tempo()))
+                .verifyComplete();
+    }
+
     /**
      * 테스트용 track 레코드를 1건 삽입한다.
      *
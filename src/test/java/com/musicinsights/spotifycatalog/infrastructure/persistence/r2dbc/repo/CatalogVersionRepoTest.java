@@ -0,0 +1,52 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+/**
+ * {@link CatalogVersionRepo} 통합 테스트.
+ *
+ * <p>rebuild 완료 기록 시 버전이 생성/증가하고 소요 시간이 갱신되는지 검증한다.</p>
+ */
+@SpringBootTest
+@DisplayName("catalog_version repo 테스트")
+class CatalogVersionRepoTest {
+
+    @Autowired
+    CatalogVersionRepo repo;
+
+    @Autowired
+    DatabaseClient db;
+
+    @BeforeEach
+    void clean() {
+        StepVerifier.create(db.sql("DELETE FROM catalog_version").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+    }
+
+    /**
+     * 처음 기록하면 version 1, 이후 기록마다 1씩 증가하고 마지막 소요 시간이 남는지 검증한다.
+     */
+    @Test
+    @DisplayName("recordRebuild는 처음엔 1, 이후 호출마다 버전을 1씩 올린다")
+    void recordRebuild_incrementsVersion() {
+        StepVerifier.create(repo.recordRebuild("agg", 100L))
+                .expectNext(1L)
+                .verifyComplete();
+
+        StepVerifier.create(repo.recordRebuild("agg", 250L))
+                .expectNext(2L)
+                .verifyComplete();
+
+        StepVerifier.create(
+                db.sql("SELECT rebuild_ms FROM catalog_version WHERE name = 'agg'")
+                        .map((row, meta) -> row.get("rebuild_ms", Long.class))
+                        .one()
+        ).expectNext(250L).verifyComplete();
+    }
+}
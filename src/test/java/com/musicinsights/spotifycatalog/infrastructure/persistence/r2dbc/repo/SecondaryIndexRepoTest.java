@@ -0,0 +1,97 @@
+package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
+
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.SecondaryIndexRow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+/**
+ * {@link SecondaryIndexRepo} 통합 테스트.
+ *
+ * <p>삭제 가능한 보조 인덱스 판별(UNIQUE/FK 인덱스 제외)과
+ * 삭제 → 정의 보관 → 복구 왕복을 실제 MySQL 스키마로 검증한다.</p>
+ */
+@SpringBootTest
+@DisplayName("secondary index repo 테스트")
+class SecondaryIndexRepoTest {
+
+    @Autowired
+    SecondaryIndexRepo repo;
+    @Autowired
+    DatabaseClient db;
+
+    @BeforeEach
+    void clean() {
+        StepVerifier.create(db.sql("DELETE FROM ingest_dropped_index").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+    }
+
+    /**
+     * 일반 보조 인덱스는 포함하고, UNIQUE 인덱스와 FK가 의존하는 인덱스는 제외하는지 검증한다.
+     */
+    @DisplayName("UNIQUE/FK 인덱스를 제외한 보조 인덱스만 삭제 대상으로 조회되는지 검증")
+    @Test
+    void findDroppableIndexes_excludesUniqueAndFkIndexes() {
+        StepVerifier.create(repo.findDroppableIndexes(List.of("track")).collectList())
+                .assertNext(rows -> {
+                    List<String> names = rows.stream().map(SecondaryIndexRow::indexName).toList();
+                    Assertions.assertTrue(names.contains("idx_track_title"));
+                    Assertions.assertTrue(names.contains("idx_track_popularity"));
+                    Assertions.assertFalse(names.contains("uk_track_hash"));
+                    Assertions.assertFalse(names.contains("idx_track_album")); // fk_track_album
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * 인덱스를 삭제한 뒤 보관된 정의로 다시 생성하면 원래 상태로 돌아오는지 검증한다.
+     */
+    @DisplayName("삭제한 인덱스가 보관된 정의로 복구되는지 검증")
+    @Test
+    void dropAndRestore_roundTrip() {
+        SecondaryIndexRow title = new SecondaryIndexRow("track", "idx_track_title", "`title`");
+
+        StepVerifier.create(repo.saveDropped(List.of(title))
+                        .then(repo.dropIndexes("track", List.of(title)))
+                        .then(indexExists("track", "idx_track_title")))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(repo.findDropped().collectList())
+                .expectNext(List.of(title))
+                .verifyComplete();
+
+        StepVerifier.create(repo.addIndexes("track", List.of(title))
+                        .then(indexExists("track", "idx_track_title")))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(repo.findDropped().collectList())
+                .expectNext(List.of())
+                .verifyComplete();
+    }
+
+    /**
+     * information_schema 기준으로 인덱스 존재 여부를 반환한다.
+     */
+    private Mono<Boolean> indexExists(String table, String index) {
+        return db.sql("""
+                SELECT COUNT(*) AS c
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+            """)
+                .bind(0, table)
+                .bind(1, index)
+                .map((row, meta) -> row.get("c", Long.class))
+                .one()
+                .map(c -> c > 0);
+    }
+}
@@ -1,5 +1,6 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
+import com.musicinsights.spotifycatalog.application.ingest.IngestProperties;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackLyricsRow;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +41,9 @@ class TrackLyricsRepoTest {
         StepVerifier.create(db.sql("DELETE FROM track_lyrics").fetch().rowsUpdated())
                 .expectNextCount(1).verifyComplete();
 
+        StepVerifier.create(db.sql("DELETE FROM lyrics_blob").fetch().rowsUpdated())
+                .expectNextCount(1).verifyComplete();
+
         StepVerifier.create(db.sql("DELETE FROM track").fetch().rowsUpdated())
                 .expectNextCount(1).verifyComplete();
     }
@@ -166,6 +170,63 @@ class TrackLyricsRepoTest {
                 .verifyComplete();
     }
 
+    /**
+     * COMPRESSED 모드에서 같은 가사는 blob 하나를 공유하고, 이미 있는 blob은 다시 쓰지 않는지 검증한다.
+     *
+     * <p>track_lyrics.lyrics는 NULL로 남고, {@link TrackLyricsRepo#findLyrics(long)}로 원문이 복원되어야 한다.</p>
+     */
+    @DisplayName("COMPRESSED 모드에서 같은 가사는 blob 하나로 중복 제거되는지 검증")
+    @Test
+    void upsert_compressed_dedupesBlobs() {
+        IngestProperties properties = new IngestProperties();
+        properties.setLyricsStorage(TrackLyricsRepo.Storage.COMPRESSED);
+        TrackLyricsRepo compressed = new TrackLyricsRepo(db, properties);
+        seedTrack(1L);
+        seedTrack(2L);
+        seedTrack(3L);
+
+        StepVerifier.create(compressed.upsert(List.of(
+                        new TrackLyricsRow(1L, "same lyrics"),
+                        new TrackLyricsRow(2L, "same lyrics"))))
+                .expectNextCount(1).verifyComplete();
+
+        // 다음 배치: 이미 존재하는 blob은 건너뛰고 참조만 추가
+        StepVerifier.create(compressed.upsert(List.of(new TrackLyricsRow(3L, "same lyrics"))))
+                .expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(countBlobs())
+                .expectNext(1L)
+                .verifyComplete();
+
+        StepVerifier.create(countLyrics())
+                .expectNext(3L)
+                .verifyComplete();
+
+        StepVerifier.create(isLyricsNull(3L))
+                .assertNext(Assertions::assertTrue)
+                .verifyComplete();
+
+        StepVerifier.create(compressed.findLyrics(3L))
+                .expectNext("same lyrics")
+                .verifyComplete();
+    }
+
+    /**
+     * RAW 모드로 저장된 가사도 {@link TrackLyricsRepo#findLyrics(long)}로 조회되는지 검증한다.
+     */
+    @DisplayName("RAW 모드로 저장된 가사도 findLyrics로 조회되는지 검증")
+    @Test
+    void findLyrics_rawStorage() {
+        seedTrack(1L);
+
+        StepVerifier.create(repo.upsert(List.of(new TrackLyricsRow(1L, "raw lyrics"))))
+                .expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(repo.findLyrics(1L))
+                .expectNext("raw lyrics")
+                .verifyComplete();
+    }
+
     /**
      * 테스트용 track 레코드를 1건 삽입한다.
      *
@@ -200,6 +261,17 @@ class TrackLyricsRepoTest {
                 .one();
     }
 
+    /**
+     * lyrics_blob 테이블의 총 행 수를 반환한다.
+     *
+     * @return lyrics_blob 전체 건수
+     */
+    private Mono<Long> countBlobs() {
+        return db.sql("SELECT COUNT(*) AS c FROM lyrics_blob")
+                .map((row, meta) -> row.get("c", Long.class))
+                .one();
+    }
+
     /**
      * track_id 기준으로 lyrics 문자열을 단건 조회한다.
      *
@@ -1,5 +1,6 @@
 package com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.repo;
 
+import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.UpsertStats;
 import com.musicinsights.spotifycatalog.infrastructure.persistence.r2dbc.row.TrackRow;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -229,6 +230,58 @@ class TrackRepoTest {
                 .verifyComplete();
     }
 
+    /**
+     * upsertChanged가 fingerprint를 비교해 신규/변경/동일 row를 분류하고,
+     * 동일 row는 쓰지 않는지 검증한다.
+     */
+    @DisplayName("upsertChanged가 fingerprint로 신규/변경/동일 row를 분류하는지 검증")
+    @Test
+    void upsertChanged_classifiesByFingerprint() {
+        TrackRow a = new TrackRow("h-1", "t-1", null, null, null, null, false, null, null, "fp-a");
+        TrackRow b = new TrackRow("h-2", "t-2", null, null, null, null, false, null, null, "fp-b");
+
+        StepVerifier.create(repo.upsertChanged(List.of(a, b)))
+                .expectNext(new UpsertStats(2, 0, 0))
+                .verifyComplete();
+
+        // a는 그대로, b는 제목 변경, c는 신규
+        TrackRow b2 = new TrackRow("h-2", "t-2-new", null, null, null, null, false, null, null, "fp-b2");
+        TrackRow c = new TrackRow("h-3", "t-3", null, null, null, null, false, null, null, "fp-c");
+
+        StepVerifier.create(repo.upsertChanged(List.of(a, b2, c)))
+                .expectNext(new UpsertStats(1, 1, 1))
+                .verifyComplete();
+
+        StepVerifier.create(fetchTrackSnapshotByHash("h-2"))
+                .assertNext(snap -> Assertions.assertEquals("t-2-new", snap.title))
+                .verifyComplete();
+
+        StepVerifier.create(countTrack())
+                .expectNext(3L)
+                .verifyComplete();
+    }
+
+    /**
+     * fingerprint가 없는(NULL) 기존 row는 변경으로 분류되어 fingerprint가 채워지는지 검증한다.
+     */
+    @DisplayName("fingerprint가 없는 기존 row는 변경으로 분류되는지 검증")
+    @Test
+    void upsertChanged_existingWithoutFingerprint_countsAsChanged() {
+        StepVerifier.create(repo.upsert(List.of(
+                        new TrackRow("h-1", "t-1", null, null, null, null, false, null, null))))
+                .expectNextCount(1).verifyComplete();
+
+        TrackRow withFp = new TrackRow("h-1", "t-1", null, null, null, null, false, null, null, "fp-1");
+
+        StepVerifier.create(repo.upsertChanged(List.of(withFp)))
+                .expectNext(new UpsertStats(0, 1, 0))
+                .verifyComplete();
+
+        StepVerifier.create(repo.upsertChanged(List.of(withFp)))
+                .expectNext(new UpsertStats(0, 0, 1))
+                .verifyComplete();
+    }
+
     /**
      * track 테이블의 총 행 수를 반환한다.
      *